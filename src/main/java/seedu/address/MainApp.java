@@ -1,8 +1,11 @@
 package seedu.address;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -30,13 +33,21 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleAccountDataUtil;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AccountListStorage;
+import seedu.address.storage.ArchivingTaskBookStorage;
+import seedu.address.storage.BackupManager;
+import seedu.address.storage.FormatDetectingTaskBookStorage;
+import seedu.address.storage.JournaledTaskBookStorage;
 import seedu.address.storage.JsonAccountListStorage;
-import seedu.address.storage.JsonTaskBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedTaskBookStorage;
+import seedu.address.storage.SegmentedTaskBookStorage;
+import seedu.address.storage.SqlTaskBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TaskBookFormat;
 import seedu.address.storage.TaskBookStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindTaskBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -58,6 +69,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ArchivingTaskBookStorage archivingTaskBookStorage;
+    protected BackupManager backupManager;
 
     @Override
     public void init() throws Exception {
@@ -69,9 +82,25 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskBookStorage taskBookStorage = new JsonTaskBookStorage(userPrefs.getTaskBookFilePath());
+        TaskBookStorage taskBookStorage;
+        archivingTaskBookStorage = createArchivingStorage(userPrefs.getTaskBookFilePath());
+        if (archivingTaskBookStorage != null) {
+            // Task books read in part are saved directly, as a save only writes the tasks that changed,
+            // and tasks loaded later must not be saved over by a save queued before they were loaded.
+            taskBookStorage = archivingTaskBookStorage;
+        } else {
+            taskBookStorage = new FormatDetectingTaskBookStorage(userPrefs.getTaskBookFilePath());
+            if (config.isTaskBookJournalEnabled()) {
+                taskBookStorage = new JournaledTaskBookStorage(taskBookStorage);
+            }
+            taskBookStorage = new WriteBehindTaskBookStorage(taskBookStorage, config.getMaxSaveStalenessMillis());
+        }
         AccountListStorage accountListStorage = new JsonAccountListStorage(userPrefs.getAccountListFilePath());
-        storage = new StorageManager(taskBookStorage, userPrefsStorage, accountListStorage);
+        if (config.getBackupIntervalMinutes() > 0) {
+            backupManager = new BackupManager(BackupManager.getBackupDirectory(userPrefs.getTaskBookFilePath()),
+                    TimeUnit.MINUTES.toMillis(config.getBackupIntervalMinutes()));
+        }
+        storage = new StorageManager(taskBookStorage, userPrefsStorage, accountListStorage, backupManager);
 
         initLogging(config);
 
@@ -95,7 +124,9 @@ public class MainApp extends Application {
         ReadOnlyAccountList initialAccountData;
 
         try {
-            taskBookOptional = storage.readTaskBook();
+            taskBookOptional = archivingTaskBookStorage == null
+                    ? storage.readTaskBook()
+                    : readRecentMonths(archivingTaskBookStorage);
             if (!taskBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Tasketch");
             }
@@ -122,7 +153,43 @@ public class MainApp extends Application {
             initialAccountData = new AccountList();
         }
 
-        return new ModelManager(initialData, userPrefs, initialAccountData);
+        return new ModelManager(initialData, userPrefs, initialAccountData, archivingTaskBookStorage);
+    }
+
+    /**
+     * Returns a storage that reads the task book at {@code filePath} in part, or null if the task book is in a
+     * format that is read whole.
+     */
+    private ArchivingTaskBookStorage createArchivingStorage(Path filePath) {
+        TaskBookFormat format;
+        try {
+            format = TaskBookFormat.of(filePath);
+        } catch (IOException e) {
+            logger.warning("Problem while detecting the format of " + filePath + ": " + e.getMessage());
+            return null;
+        }
+        switch (format) {
+        case SEGMENTED:
+            return new SegmentedTaskBookStorage(filePath);
+        case MAPPED:
+            return new MappedTaskBookStorage(filePath);
+        case SQL:
+            return new SqlTaskBookStorage(filePath);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Reads the tasks of the previous, current and next months from {@code storage}.
+     * The other tasks are loaded when a command needs them.
+     */
+    private Optional<ReadOnlyTaskBook> readRecentMonths(ArchivingTaskBookStorage storage)
+            throws DataConversionException, IOException {
+        YearMonth currentMonth = YearMonth.now();
+        int fromDay = (int) currentMonth.minusMonths(1).atDay(1).toEpochDay();
+        int toDay = (int) currentMonth.plusMonths(1).atEndOfMonth().toEpochDay();
+        return storage.readTaskBookTouching(fromDay, toDay);
     }
 
     private void initLogging(Config config) {
@@ -204,20 +271,48 @@ public class MainApp extends Application {
     }
 
     @Override
-    public void stop() {
+    public void stop() throws IOException {
         logger.info("============================ [ Stopping Tasketch ] =============================");
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        IOException taskBookSaveFailure = null;
+        if (config.isFlushOnExit()) {
+            try {
+                storage.flushTaskBook();
+            } catch (IOException e) {
+                logger.severe("Failed to save task book " + StringUtil.getDetails(e));
+                taskBookSaveFailure = e;
+            }
+        }
+        if (backupManager != null) {
+            backupManager.close();
+        }
+        if (archivingTaskBookStorage instanceof Closeable) {
+            try {
+                ((Closeable) archivingTaskBookStorage).close();
+            } catch (IOException e) {
+                logger.warning("Failed to close task book file " + StringUtil.getDetails(e));
+            }
+        }
         Platform.exit();
+        if (taskBookSaveFailure != null) {
+            // the changes that were not saved are lost, which the exception reports rather than a normal exit
+            throw taskBookSaveFailure;
+        }
         System.exit(0);
     }
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        try {
+            stop();
+        } catch (IOException e) {
+            // stop() has logged the failure
+            System.exit(1);
+        }
     }
 
     public static void main(String[] args) {
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveStalenessMillis = 1000;
+    private boolean flushOnExit = true;
+    private boolean taskBookJournalEnabled = false;
+    private long backupIntervalMinutes = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the longest time, in milliseconds, that a change to the task book may go unsaved.
+     */
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    /**
+     * Returns true if the app waits for unsaved changes to the task book to be saved when it exits.
+     */
+    public boolean isFlushOnExit() {
+        return flushOnExit;
+    }
+
+    public void setFlushOnExit(boolean flushOnExit) {
+        this.flushOnExit = flushOnExit;
+    }
+
+    /**
+     * Returns true if changes to the task book are appended to a journal instead of rewriting the whole file.
+     */
+    public boolean isTaskBookJournalEnabled() {
+        return taskBookJournalEnabled;
+    }
+
+    public void setTaskBookJournalEnabled(boolean taskBookJournalEnabled) {
+        this.taskBookJournalEnabled = taskBookJournalEnabled;
+    }
+
+    /**
+     * Returns how often, in minutes, the task book is backed up if it changed, or 0 if it is never backed up.
+     */
+    public long getBackupIntervalMinutes() {
+        return backupIntervalMinutes;
+    }
+
+    public void setBackupIntervalMinutes(long backupIntervalMinutes) {
+        this.backupIntervalMinutes = backupIntervalMinutes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +92,17 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && maxSaveStalenessMillis == o.maxSaveStalenessMillis
+                && flushOnExit == o.flushOnExit
+                && taskBookJournalEnabled == o.taskBookJournalEnabled
+                && backupIntervalMinutes == o.backupIntervalMinutes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveStalenessMillis, flushOnExit, taskBookJournalEnabled,
+                backupIntervalMinutes);
     }
 
     @Override
@@ -57,6 +110,10 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMaximum save staleness : " + maxSaveStalenessMillis + "ms");
+        sb.append("\nFlush on exit : " + flushOnExit);
+        sb.append("\nTask book journal enabled : " + taskBookJournalEnabled);
+        sb.append("\nBackup interval : " + backupIntervalMinutes + "min");
         return sb.toString();
     }
 
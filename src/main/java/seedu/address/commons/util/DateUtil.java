@@ -0,0 +1,146 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Converts the {@code dd-MM-yy} dates and {@code HH.mm} times used by Tasketch into compact primitives,
+ * so that they can be compared without parsing strings again.
+ */
+public class DateUtil {
+
+    private static final int CENTURY = 2000;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MONTH_LENGTH = "MM-yy".length();
+    private static final int DAYS_PER_MONTH = 31;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * Returns the epoch day of {@code date}, which must be a {@code dd-MM-yy} date with a valid month.
+     * A day of month past the end of the month (e.g. 31-02-19) rolls over into the next month.
+     */
+    public static int toEpochDay(String date) {
+        requireNonNull(date);
+        int day = parseTwoDigits(date, 0);
+        int month = parseTwoDigits(date, 3);
+        int year = CENTURY + parseTwoDigits(date, 6);
+        return (int) LocalDate.of(year, month, 1).toEpochDay() + day - 1;
+    }
+
+    /**
+     * Returns the epoch day of the first day covered by {@code dateOrMonth},
+     * which is either a {@code dd-MM-yy} date or a {@code MM-yy} month.
+     */
+    public static int toFirstEpochDay(String dateOrMonth) {
+        requireNonNull(dateOrMonth);
+        if (isMonth(dateOrMonth)) {
+            return (int) toYearMonth(dateOrMonth).atDay(1).toEpochDay();
+        }
+        return toEpochDay(dateOrMonth);
+    }
+
+    /**
+     * Returns the epoch day of the last day covered by {@code dateOrMonth},
+     * which is either a {@code dd-MM-yy} date or a {@code MM-yy} month.
+     * A month covers the dates written past its end too, up to its 31st, which roll over into the next month.
+     */
+    public static int toLastEpochDay(String dateOrMonth) {
+        requireNonNull(dateOrMonth);
+        if (isMonth(dateOrMonth)) {
+            return toEpochDay(DAYS_PER_MONTH + "-" + dateOrMonth);
+        }
+        return toEpochDay(dateOrMonth);
+    }
+
+    /**
+     * Returns true if {@code date}, a {@code dd-MM-yy} date, is {@code dateOrMonth} or falls in it, going by the
+     * fields as written. A date past the end of its month (e.g. 31-02-19) is only in the month it is written in.
+     */
+    public static boolean isWithin(String date, String dateOrMonth) {
+        requireNonNull(date);
+        requireNonNull(dateOrMonth);
+        if (isMonth(dateOrMonth)) {
+            return date.substring(date.length() - MONTH_LENGTH).equals(dateOrMonth);
+        }
+        return date.equals(dateOrMonth);
+    }
+
+    /**
+     * Returns true if the day of {@code date}, a {@code dd-MM-yy} date with a valid month, is within its month,
+     * so that the date does not roll over into the next month.
+     */
+    public static boolean isRealDate(String date) {
+        requireNonNull(date);
+        int day = parseTwoDigits(date, 0);
+        return day >= 1 && day <= toYearMonth(date.substring(3)).lengthOfMonth();
+    }
+
+    /**
+     * Returns true if {@code dateOrMonth} is a {@code MM-yy} month rather than a {@code dd-MM-yy} date.
+     */
+    public static boolean isMonth(String dateOrMonth) {
+        return dateOrMonth.length() == MONTH_LENGTH;
+    }
+
+    /**
+     * Returns the minutes since midnight of {@code time}, which must be in {@code HH.mm} form.
+     */
+    public static int toMinuteOfDay(String time) {
+        requireNonNull(time);
+        return parseTwoDigits(time, 0) * MINUTES_PER_HOUR + parseTwoDigits(time, 3);
+    }
+
+    /**
+     * Returns a number that keeps every field of {@code date}, which must be a {@code dd-MM-yy} date.
+     * Unlike its epoch day, the number tells apart a day past the end of its month (e.g. 31-02-19)
+     * from the day it rolls over to, and orders dates the same way.
+     */
+    public static int toDateOrdinal(String date) {
+        requireNonNull(date);
+        int day = parseTwoDigits(date, 0);
+        int month = parseTwoDigits(date, 3);
+        int year = parseTwoDigits(date, 6);
+        return (year * MONTHS_PER_YEAR + month - 1) * DAYS_PER_MONTH + day - 1;
+    }
+
+    /**
+     * Returns the {@code dd-MM-yy} date of {@code dateOrdinal}, the reverse of {@link #toDateOrdinal(String)}.
+     */
+    public static String fromDateOrdinal(int dateOrdinal) {
+        int day = dateOrdinal % DAYS_PER_MONTH + 1;
+        int month = dateOrdinal / DAYS_PER_MONTH % MONTHS_PER_YEAR + 1;
+        int year = dateOrdinal / DAYS_PER_MONTH / MONTHS_PER_YEAR;
+        return toTwoDigits(day) + "-" + toTwoDigits(month) + "-" + toTwoDigits(year);
+    }
+
+    /**
+     * Returns the {@code HH.mm} time of {@code minuteOfDay}, the reverse of {@link #toMinuteOfDay(String)}.
+     */
+    public static String fromMinuteOfDay(int minuteOfDay) {
+        return toTwoDigits(minuteOfDay / MINUTES_PER_HOUR) + "." + toTwoDigits(minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Returns the epoch day of today.
+     */
+    public static int today() {
+        return (int) LocalDate.now().toEpochDay();
+    }
+
+    private static YearMonth toYearMonth(String monthAndYear) {
+        return YearMonth.of(CENTURY + parseTwoDigits(monthAndYear, 3), parseTwoDigits(monthAndYear, 0));
+    }
+
+    private static int parseTwoDigits(String text, int from) {
+        return (text.charAt(from) - '0') * 10 + (text.charAt(from + 1) - '0');
+    }
+
+    /**
+     * Returns {@code value} as two digits, or more if it does not fit.
+     */
+    private static String toTwoDigits(int value) {
+        return value >= 0 && value < 10 ? "0" + value : String.valueOf(value);
+    }
+}
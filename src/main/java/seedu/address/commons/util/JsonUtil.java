@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +15,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +97,44 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a generator that writes JSON to {@code filePath} in the same format as {@link #saveJsonFile},
+     * as values are given to it rather than all at once. Values can be written with
+     * {@link JsonGenerator#writeObject(Object)}. The generator must be closed to finish the file.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     */
+    public static JsonGenerator createJsonFileGenerator(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createJsonGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)));
+    }
+
+    /**
+     * Returns a generator like {@link #createJsonFileGenerator(Path)} that writes to {@code out} instead,
+     * and closes it when the generator is closed.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a parser that reads the JSON in {@code filePath} token by token.
+     * Values can be read with {@link JsonParser#readValueAs(Class)}. The parser must be closed after use.
+     */
+    public static JsonParser createJsonFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createJsonParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a parser like {@link #createJsonFileParser(Path)} that reads from {@code in} instead,
+     * and closes it when the parser is closed.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +154,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,154 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Replaces the contents of a list with as few changes as possible, so that observers of the list
+ * only see the elements that really changed.
+ *
+ * Elements are matched by identity. The shortest edit script between the old and new contents is found with
+ * Myers' difference algorithm, and every run of differing elements is then applied as a single replacement,
+ * removal or insertion.
+ */
+public class ListDiffUtil {
+
+    /** Beyond this many insertions and removals, the differing part of the list is replaced as a whole. */
+    private static final int MAX_EDITS = 1000;
+
+    /**
+     * Makes {@code list} hold the same elements as {@code replacement}, in the same order.
+     * Elements of {@code list} that are also in {@code replacement} are kept where possible.
+     */
+    public static <T> void setAll(List<T> list, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+
+        int prefix = 0;
+        int oldEnd = list.size();
+        int newEnd = replacement.size();
+        while (prefix < oldEnd && prefix < newEnd && list.get(prefix) == replacement.get(prefix)) {
+            prefix++;
+        }
+        while (oldEnd > prefix && newEnd > prefix && list.get(oldEnd - 1) == replacement.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (prefix == oldEnd && prefix == newEnd) {
+            return;
+        }
+
+        List<T> oldElements = new ArrayList<>(list.subList(prefix, oldEnd));
+        List<T> newElements = new ArrayList<>(replacement.subList(prefix, newEnd));
+        int[] matches = findMatches(oldElements, newElements);
+
+        // Apply the runs between matched elements from the back, so that the earlier indices stay valid.
+        int oldTo = oldElements.size();
+        int newTo = newElements.size();
+        for (int i = matches.length - 2; i >= -2; i -= 2) {
+            int oldFrom = i < 0 ? 0 : matches[i] + 1;
+            int newFrom = i < 0 ? 0 : matches[i + 1] + 1;
+            replaceRange(list, prefix + oldFrom, oldTo - oldFrom, newElements.subList(newFrom, newTo));
+            if (i >= 0) {
+                oldTo = matches[i];
+                newTo = matches[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns the positions of the elements common to {@code oldElements} and {@code newElements}
+     * as consecutive pairs of indices into each list, in increasing order.
+     * Returns no matches if the lists differ by more than {@link #MAX_EDITS} edits.
+     */
+    private static <T> int[] findMatches(List<T> oldElements, List<T> newElements) {
+        int n = oldElements.size();
+        int m = newElements.size();
+        int maxEdits = Math.min(n + m, MAX_EDITS);
+        int offset = maxEdits + 1;
+        int[] furthestX = new int[2 * offset + 1];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= maxEdits; d++) {
+            trace.add(Arrays.copyOfRange(furthestX, offset - d, offset + d + 1));
+            for (int k = -d; k <= d; k += 2) {
+                int x = isDownward(furthestX, offset, k, d) ? furthestX[offset + k + 1] : furthestX[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && oldElements.get(x) == newElements.get(y)) {
+                    x++;
+                    y++;
+                }
+                furthestX[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m);
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * Follows the furthest reaching paths in {@code trace} back from {@code (n, m)}, collecting the matched
+     * elements along the way.
+     */
+    private static int[] backtrack(List<int[]> trace, int n, int m) {
+        List<Integer> reversedMatches = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            int[] previousX = trace.get(d);
+            int k = x - y;
+            int previousK;
+            int snakeStartX;
+            if (d == 0) {
+                previousK = 0;
+                snakeStartX = 0;
+            } else {
+                previousK = isDownward(previousX, d, k, d) ? k + 1 : k - 1;
+                snakeStartX = previousK == k + 1 ? previousX[d + previousK] : previousX[d + previousK] + 1;
+            }
+            while (x > snakeStartX) {
+                x--;
+                y--;
+                reversedMatches.add(y);
+                reversedMatches.add(x);
+            }
+            x = d == 0 ? 0 : previousX[d + previousK];
+            y = x - previousK;
+        }
+
+        int[] matches = new int[reversedMatches.size()];
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] = reversedMatches.get(matches.length - 1 - i);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns true if the furthest path on diagonal {@code k} after {@code d} edits comes from diagonal
+     * {@code k + 1}, that is, if its last edit is an insertion.
+     */
+    private static boolean isDownward(int[] furthestX, int offset, int k, int d) {
+        return k == -d || (k != d && furthestX[offset + k - 1] < furthestX[offset + k + 1]);
+    }
+
+    /**
+     * Replaces the {@code length} elements of {@code list} from {@code from} with {@code elements}.
+     */
+    private static <T> void replaceRange(List<T> list, int from, int length, List<T> elements) {
+        if (length == elements.size()) {
+            for (int i = 0; i < length; i++) {
+                list.set(from + i, elements.get(i));
+            }
+            return;
+        }
+        if (length > 0) {
+            list.subList(from, from + length).clear();
+        }
+        if (!elements.isEmpty()) {
+            list.addAll(from, elements);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.export;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes tasks to and reads tasks from CSV files as described by RFC 4180, one task per record after a header
+ * record naming the columns. Tags are separated by semicolons within their column.
+ */
+final class CsvTaskFile {
+
+    public static final String MESSAGE_MISSING_COLUMN = "The header has no \"%1$s\" column";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "The record has %1$d fields instead of %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+
+    static final List<String> COLUMNS = Arrays.asList("name", "start date", "start time", "end date", "end time",
+            "description", "category", "tags");
+
+    private static final String TAG_SEPARATOR = ";";
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private CsvTaskFile() {}
+
+    /**
+     * Writes a header and {@code tasks} to {@code out}, one record at a time.
+     */
+    static void write(List<Task> tasks, Writer out) throws IOException {
+        writeRecord(COLUMNS, out);
+        for (Task task : tasks) {
+            String tags = task.getTags().stream().map(tag -> tag.tagName).sorted()
+                    .collect(Collectors.joining(TAG_SEPARATOR));
+            writeRecord(Arrays.asList(task.getName().fullName, task.getStartDate().value, task.getStartTime().value,
+                    task.getEndDate().value, task.getEndTime().value, task.getDescription().value,
+                    task.getCategories().value, tags), out);
+        }
+    }
+
+    private static void writeRecord(List<String> fields, Writer out) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(quoteIfNeeded(fields.get(i)));
+        }
+        out.write(RECORD_SEPARATOR);
+    }
+
+    private static String quoteIfNeeded(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+                && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads the tasks in the CSV file read by {@code in}, one record at a time. The columns are found by the names
+     * in the header, in any order, and the tags column may be left out.
+     *
+     * @throws IllegalValueException if the file is not a valid CSV file of tasks. Its message lists every problem.
+     */
+    static ReadOnlyTaskBook read(BufferedReader in) throws IOException, IllegalValueException {
+        LineCountingReader reader = new LineCountingReader(in);
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return new ImportedTaskCollector().toTaskBook();
+        }
+        int[] columnIndexes = findColumns(header);
+
+        ImportedTaskCollector collector = new ImportedTaskCollector();
+        int line = reader.getLineNumber() + 1;
+        for (List<String> record = readRecord(reader); record != null; record = readRecord(reader)) {
+            boolean isBlankLine = record.size() == 1 && record.get(0).isEmpty();
+            if (!isBlankLine && record.size() != header.size()) {
+                collector.addProblem(line, String.format(MESSAGE_WRONG_FIELD_COUNT, record.size(), header.size()));
+            } else if (!isBlankLine) {
+                collect(collector, line, record, columnIndexes);
+            }
+            line = reader.getLineNumber() + 1;
+        }
+        return collector.toTaskBook();
+    }
+
+    /**
+     * Returns the index in {@code header} of each of the {@link #COLUMNS}, or -1 for a tags column left out.
+     */
+    private static int[] findColumns(List<String> header) throws IllegalValueException {
+        List<String> columnNames = header.stream().map(name -> name.trim().toLowerCase())
+                .collect(Collectors.toList());
+        int[] columnIndexes = new int[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            columnIndexes[i] = columnNames.indexOf(COLUMNS.get(i));
+            boolean isTagsColumn = i == COLUMNS.size() - 1;
+            if (columnIndexes[i] < 0 && !isTagsColumn) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, COLUMNS.get(i)));
+            }
+        }
+        return columnIndexes;
+    }
+
+    private static void collect(ImportedTaskCollector collector, int line, List<String> record,
+            int[] columnIndexes) {
+        int tagsIndex = columnIndexes[COLUMNS.size() - 1];
+        String tags = tagsIndex < 0 ? "" : record.get(tagsIndex).trim();
+        List<String> tagNames = new ArrayList<>();
+        if (!tags.isEmpty()) {
+            for (String tagName : tags.split(TAG_SEPARATOR)) {
+                tagNames.add(tagName.trim());
+            }
+        }
+        collector.add(line, record.get(columnIndexes[0]), record.get(columnIndexes[1]), record.get(columnIndexes[2]),
+                record.get(columnIndexes[3]), record.get(columnIndexes[4]), record.get(columnIndexes[5]),
+                record.get(columnIndexes[6]), tagNames);
+    }
+
+    /**
+     * Reads the next record, which spans more than one line if a quoted field has line breaks in it.
+     *
+     * @return the fields of the record, or null at the end of the file.
+     * @throws IllegalValueException if the file ends inside a quoted field.
+     */
+    private static List<String> readRecord(LineCountingReader reader) throws IOException, IllegalValueException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Reads lines and counts them, so that problems can be reported by line.
+     */
+    private static class LineCountingReader {
+        private final BufferedReader in;
+        private int lineNumber = 0;
+
+        LineCountingReader(BufferedReader in) {
+            this.in = in;
+        }
+
+        String readLine() throws IOException {
+            String line = in.readLine();
+            if (line != null) {
+                lineNumber++;
+            }
+            return line;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+    }
+}
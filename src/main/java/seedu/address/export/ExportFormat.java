@@ -0,0 +1,36 @@
+package seedu.address.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * The file formats tasks can be exported to and imported from.
+ */
+public enum ExportFormat {
+    JSON(".json"),
+    CSV(".csv"),
+    ICS(".ics");
+
+    public final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the format named by the extension of {@code filename}, ignoring case, if it has a name before the
+     * extension and the extension is one of the formats.
+     */
+    public static Optional<ExportFormat> ofFilename(String filename) {
+        requireNonNull(filename);
+        String lowercaseFilename = filename.toLowerCase();
+        for (ExportFormat format : values()) {
+            if (lowercaseFilename.length() > format.extension.length()
+                    && lowercaseFilename.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
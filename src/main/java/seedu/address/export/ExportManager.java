@@ -2,7 +2,10 @@ package seedu.address.export;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -72,13 +75,30 @@ public class ExportManager implements Export {
             throw new IllegalValueException(MESSAGE_NOTHING_TO_EXPORT);
         }
 
+        ExportFormat format = ExportFormat.ofFilename(filePath.getFileName().toString()).orElse(ExportFormat.JSON);
+        if (format == ExportFormat.ICS) {
+            IcsTaskFile.checkDates(filteredTasks);
+        }
+
         if (FileUtil.isFileExists(filePath)) {
             logger.fine("File exists. Overwriting output file: " + filePath.toString());
         } else {
             logger.fine("Initializing output file: " + filePath.toString());
             FileUtil.createIfMissing(filePath);
         }
-        JsonFileStorage.saveDataToFile(filePath, new JsonSerializableTaskBook(filteredTasks));
+        if (format == ExportFormat.JSON) {
+            JsonFileStorage.saveDataToFile(filePath, new JsonSerializableTaskBook(filteredTasks));
+            return;
+        }
+        // CSV and iCalendar files are written one task at a time, so that exporting takes the same memory
+        // however many tasks there are
+        try (BufferedWriter out = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            if (format == ExportFormat.CSV) {
+                CsvTaskFile.write(filteredTasks, out);
+            } else {
+                IcsTaskFile.write(filteredTasks, out);
+            }
+        }
     }
 
     @Override
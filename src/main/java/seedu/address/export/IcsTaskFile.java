@@ -0,0 +1,345 @@
+package seedu.address.export;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes tasks to and reads tasks from iCalendar files as described by RFC 5545, one VEVENT per task.
+ * The category of a task is kept in an {@code X-TASKETCH-CATEGORY} property and its tags in {@code CATEGORIES}.
+ * Events from other calendars are read too: an event without a description, or with a blank one, takes its summary
+ * as its description, and one without a Tasketch category is filed under other.
+ *
+ * A task that takes up whole days, from 00.00 on its start date to 23.59 on its end date, is written as an all-day
+ * event. The DTEND date of an all-day event is the day after its last day, as RFC 5545 has it, and is read back so.
+ */
+final class IcsTaskFile {
+
+    public static final String MESSAGE_INVALID_DATE_TIME = "The %1$s \"%2$s\" is not a valid date and time";
+    public static final String MESSAGE_DATE_OUT_OF_RANGE = "Tasketch only keeps dates in the years 2000 to 2099";
+    public static final String MESSAGE_MISSING_PROPERTY = "The event has no %1$s";
+    public static final String MESSAGE_DATE_NOT_IN_CALENDAR = "Task %1$s has the date %2$s, which is not in the "
+            + "calendar. Change it before exporting to a calendar file";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String CATEGORY_PROPERTY = "X-TASKETCH-CATEGORY";
+    private static final int LAST_MINUTE_OF_DAY = 23 * 60 + 59;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TASK_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yy");
+    private static final DateTimeFormatter TASK_TIME_FORMAT = DateTimeFormatter.ofPattern("HH.mm");
+
+    private IcsTaskFile() {}
+
+    /**
+     * Checks that every date of {@code tasks} is in the calendar, unlike a date such as 31-02-19,
+     * which an event cannot start or end on.
+     *
+     * @throws IllegalValueException if any date is not. Its message lists every such date, one per line.
+     */
+    static void checkDates(List<Task> tasks) throws IllegalValueException {
+        List<String> problems = new ArrayList<>();
+        for (Task task : tasks) {
+            for (String date : new String[] {task.getStartDate().value, task.getEndDate().value}) {
+                if (!DateUtil.isRealDate(date)) {
+                    problems.add(String.format(MESSAGE_DATE_NOT_IN_CALENDAR, task.getName(), date));
+                }
+            }
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", problems));
+        }
+    }
+
+    /**
+     * Writes a calendar of {@code tasks}, whose dates must pass {@link #checkDates(List)}, to {@code out},
+     * one event at a time.
+     */
+    static void write(List<Task> tasks, Writer out) throws IOException {
+        String timeStamp = DATE_TIME_FORMAT.format(LocalDateTime.now(ZoneOffset.UTC)) + "Z";
+        writeLine("BEGIN:VCALENDAR", out);
+        writeLine("VERSION:2.0", out);
+        writeLine("PRODID:-//Tasketch//Tasketch//EN", out);
+        for (Task task : tasks) {
+            String name = task.getName().fullName;
+            writeLine("BEGIN:VEVENT", out);
+            writeLine("UID:" + UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)) + "@tasketch", out);
+            writeLine("DTSTAMP:" + timeStamp, out);
+            LocalDateTime start = toDateTime(task.getStartDate().value, task.getStartTime().getMinuteOfDay());
+            LocalDateTime end = toDateTime(task.getEndDate().value, task.getEndTime().getMinuteOfDay());
+            if (task.getStartTime().getMinuteOfDay() == 0 && task.getEndTime().getMinuteOfDay() == LAST_MINUTE_OF_DAY
+                    && !end.isBefore(start)) {
+                writeLine("DTSTART;VALUE=DATE:" + DATE_FORMAT.format(start), out);
+                writeLine("DTEND;VALUE=DATE:" + DATE_FORMAT.format(end.toLocalDate().plusDays(1)), out);
+            } else {
+                writeLine("DTSTART:" + DATE_TIME_FORMAT.format(start), out);
+                writeLine("DTEND:" + DATE_TIME_FORMAT.format(end), out);
+            }
+            writeLine("SUMMARY:" + escape(name), out);
+            writeLine("DESCRIPTION:" + escape(task.getDescription().value), out);
+            writeLine(CATEGORY_PROPERTY + ":" + task.getCategories().value, out);
+            if (!task.getTags().isEmpty()) {
+                List<String> tagNames = new ArrayList<>();
+                task.getTags().forEach(tag -> tagNames.add(escape(tag.tagName)));
+                tagNames.sort(null);
+                writeLine("CATEGORIES:" + String.join(",", tagNames), out);
+            }
+            writeLine("END:VEVENT", out);
+        }
+        writeLine("END:VCALENDAR", out);
+    }
+
+    private static LocalDateTime toDateTime(String taskDate, int minuteOfDay) {
+        return LocalDate.ofEpochDay(DateUtil.toEpochDay(taskDate)).atStartOfDay().plusMinutes(minuteOfDay);
+    }
+
+    /**
+     * Writes {@code line}, folded into lines of at most {@link #MAX_LINE_OCTETS} octets in UTF-8.
+     */
+    private static void writeLine(String line, Writer out) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int charOctets = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (octets + charOctets > MAX_LINE_OCTETS) {
+                out.write(LINE_SEPARATOR);
+                out.write(' ');
+                octets = 1;
+            }
+            out.write(c);
+            if (Character.isHighSurrogate(c) && i + 1 < line.length()) {
+                out.write(line.charAt(++i));
+            }
+            octets += charOctets;
+        }
+        out.write(LINE_SEPARATOR);
+    }
+
+    private static String escape(String text) {
+        // a line break of any kind is written as the one escaped line break that iCalendar has
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\r\n", "\\n")
+                .replace("\r", "\\n").replace("\n", "\\n");
+    }
+
+    private static String unescape(String text) {
+        StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * Reads the tasks in the events of the iCalendar file read by {@code in}, one line at a time.
+     *
+     * @throws IllegalValueException if any event is not a valid task. Its message lists every problem.
+     */
+    static ReadOnlyTaskBook read(BufferedReader in) throws IOException, IllegalValueException {
+        ImportedTaskCollector collector = new ImportedTaskCollector();
+        Map<String, Property> event = null;
+        int eventLine = 0;
+        int lineNumber = 0;
+        String line = in.readLine();
+        while (line != null) {
+            int contentLineNumber = ++lineNumber;
+            StringBuilder contentLine = new StringBuilder(line);
+            line = in.readLine();
+            while (line != null && !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                contentLine.append(line, 1, line.length());
+                lineNumber++;
+                line = in.readLine();
+            }
+
+            Property property = Property.parse(contentLine.toString());
+            if (property == null) {
+                continue;
+            }
+            if (property.name.equals("BEGIN") && property.value.equalsIgnoreCase("VEVENT")) {
+                event = new HashMap<>();
+                eventLine = contentLineNumber;
+            } else if (property.name.equals("END") && property.value.equalsIgnoreCase("VEVENT") && event != null) {
+                collect(collector, eventLine, event);
+                event = null;
+            } else if (event != null && property.name.equals("CATEGORIES") && event.containsKey("CATEGORIES")) {
+                // an event may have many CATEGORIES properties, whose values all count
+                event.put(property.name, new Property(property.name, property.parameters,
+                        event.get(property.name).value + "," + property.value));
+            } else if (event != null && !property.name.equals("BEGIN") && !property.name.equals("END")) {
+                event.putIfAbsent(property.name, property);
+            }
+        }
+        return collector.toTaskBook();
+    }
+
+    private static void collect(ImportedTaskCollector collector, int line, Map<String, Property> event) {
+        try {
+            Property summary = event.get("SUMMARY");
+            Property start = event.get("DTSTART");
+            if (summary == null || start == null) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_PROPERTY,
+                        summary == null ? "SUMMARY" : "DTSTART"));
+            }
+            String name = unescape(summary.value).trim();
+            LocalDateTime startDateTime = toLocalDateTime(start);
+            LocalDateTime endDateTime = event.containsKey("DTEND") ? toLocalDateTime(event.get("DTEND"))
+                    : startDateTime;
+            if (isDate(start) && (!event.containsKey("DTEND") || endDateTime.isBefore(startDateTime))) {
+                // an all-day event without a later end takes up the one day it starts on
+                endDateTime = startDateTime.plusDays(1).minusMinutes(1);
+            }
+            String description = event.containsKey("DESCRIPTION")
+                    ? unescape(event.get("DESCRIPTION").value).trim() : "";
+            if (description.isEmpty()) {
+                description = name;
+            }
+            String category = event.containsKey(CATEGORY_PROPERTY)
+                    ? event.get(CATEGORY_PROPERTY).value.trim() : Categories.CAT_OTHER;
+            List<String> tagNames = new ArrayList<>();
+            if (event.containsKey("CATEGORIES")) {
+                for (String tagName : splitList(event.get("CATEGORIES").value)) {
+                    if (!tagName.isEmpty()) {
+                        tagNames.add(tagName);
+                    }
+                }
+            }
+            collector.add(line, name, TASK_DATE_FORMAT.format(startDateTime), TASK_TIME_FORMAT.format(startDateTime),
+                    TASK_DATE_FORMAT.format(endDateTime), TASK_TIME_FORMAT.format(endDateTime), description, category,
+                    tagNames);
+        } catch (IllegalValueException ive) {
+            collector.addProblem(line, ive.getMessage());
+        }
+    }
+
+    /**
+     * Splits a list of text values at the commas that are not escaped, unescaping each value.
+     */
+    private static List<String> splitList(String values) {
+        List<String> splitValues = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < values.length(); i++) {
+            if (values.charAt(i) == '\\') {
+                i++;
+            } else if (values.charAt(i) == ',') {
+                splitValues.add(unescape(values.substring(start, i)).trim());
+                start = i + 1;
+            }
+        }
+        splitValues.add(unescape(values.substring(start)).trim());
+        return splitValues;
+    }
+
+    /**
+     * Returns the local date and time of a DTSTART or DTEND {@code property}, converting times in UTC or in the time
+     * zone of its TZID parameter to the time zone of this computer. A DTSTART date without a time is taken to start
+     * the day, and a DTEND date without a time, which is the day after an all-day event ends, to end the day before.
+     */
+    private static LocalDateTime toLocalDateTime(Property property) throws IllegalValueException {
+        String value = property.value.trim();
+        LocalDateTime dateTime;
+        try {
+            if (isDate(property)) {
+                dateTime = LocalDate.parse(value, DATE_FORMAT).atStartOfDay();
+                if (property.name.equals("DTEND")) {
+                    dateTime = dateTime.minusMinutes(1);
+                }
+            } else if (value.endsWith("Z")) {
+                dateTime = LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMAT)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } else if (property.parameters.containsKey("TZID")) {
+                dateTime = LocalDateTime.parse(value, DATE_TIME_FORMAT)
+                        .atZone(ZoneId.of(property.parameters.get("TZID")))
+                        .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } else {
+                dateTime = LocalDateTime.parse(value, DATE_TIME_FORMAT);
+            }
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DATE_TIME, property.name, value));
+        }
+        if (dateTime.getYear() < 2000 || dateTime.getYear() > 2099) {
+            throw new IllegalValueException(MESSAGE_DATE_OUT_OF_RANGE);
+        }
+        return dateTime;
+    }
+
+    /**
+     * Returns true if the value of {@code property} is a date without a time.
+     */
+    private static boolean isDate(Property property) {
+        return !property.value.contains("T");
+    }
+
+    /**
+     * A content line of an iCalendar file: a property name with its parameters and value.
+     */
+    private static class Property {
+        private final String name;
+        private final Map<String, String> parameters;
+        private final String value;
+
+        Property(String name, Map<String, String> parameters, String value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+
+        /**
+         * Parses {@code contentLine}, or returns null if it is not a property, such as a blank line.
+         */
+        static Property parse(String contentLine) {
+            int valueStart = -1;
+            boolean isQuoted = false;
+            List<String> parts = new ArrayList<>();
+            int partStart = 0;
+            for (int i = 0; i < contentLine.length() && valueStart < 0; i++) {
+                char c = contentLine.charAt(i);
+                if (c == '"') {
+                    isQuoted = !isQuoted;
+                } else if (!isQuoted && (c == ';' || c == ':')) {
+                    parts.add(contentLine.substring(partStart, i));
+                    partStart = i + 1;
+                    if (c == ':') {
+                        valueStart = i + 1;
+                    }
+                }
+            }
+            if (valueStart < 0 || parts.get(0).isEmpty()) {
+                return null;
+            }
+
+            Map<String, String> parameters = new HashMap<>();
+            for (String parameter : parts.subList(1, parts.size())) {
+                int equals = parameter.indexOf('=');
+                if (equals > 0) {
+                    parameters.put(parameter.substring(0, equals).toUpperCase(),
+                            parameter.substring(equals + 1).replace("\"", ""));
+                }
+            }
+            return new Property(parts.get(0).trim().toUpperCase(), parameters, contentLine.substring(valueStart));
+        }
+    }
+}
@@ -2,11 +2,25 @@ package seedu.address.export;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -23,6 +37,8 @@ import seedu.address.storage.JsonSerializableTaskBook;
  */
 public class ImportManager implements Import {
 
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found";
+
     private static final Logger logger = LogsCenter.getLogger(ImportManager.class);
 
     private Path importPath;
@@ -50,6 +66,11 @@ public class ImportManager implements Import {
             return Optional.empty();
         }
 
+        ExportFormat format = ExportFormat.ofFilename(filePath.getFileName().toString()).orElse(ExportFormat.JSON);
+        if (format != ExportFormat.JSON) {
+            return Optional.of(readTaskBookLineByLine(filePath, format));
+        }
+
         Optional<JsonSerializableTaskBook> jsonTaskBook = JsonFileStorage.loadDataFromSaveFile(filePath);
         try {
             if (jsonTaskBook.isPresent()) {
@@ -63,6 +84,114 @@ public class ImportManager implements Import {
         }
     }
 
+    /**
+     * Reads the CSV or iCalendar file at {@code filePath} one line at a time.
+     */
+    private static ReadOnlyTaskBook readTaskBookLineByLine(Path filePath, ExportFormat format)
+            throws DataConversionException {
+        try (BufferedReader in = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return format == ExportFormat.CSV ? CsvTaskFile.read(in) : IcsTaskFile.read(in);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the files to import for {@code importPath}, sorted by path: every json, CSV and iCalendar file in it if
+     * it is a directory, or else the files in its parent directory whose names match its file name as a glob
+     * pattern, such as {@code *.json}.
+     */
+    public static List<Path> findImportFiles(Path importPath) throws IOException {
+        requireNonNull(importPath);
+
+        Path directory;
+        String glob;
+        if (Files.isDirectory(importPath)) {
+            directory = importPath;
+            glob = "*";
+        } else {
+            directory = importPath.getParent() == null ? Paths.get("") : importPath.getParent();
+            glob = importPath.getFileName().toString();
+        }
+
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> matches = Files.newDirectoryStream(directory, glob)) {
+            for (Path match : matches) {
+                if (Files.isRegularFile(match) && ExportFormat.ofFilename(match.getFileName().toString()).isPresent()) {
+                    files.add(match);
+                }
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Reads and validates the task books in {@code filePaths} concurrently, on at most one thread per processor,
+     * logging each file as it is done. A file that cannot be read does not stop the others from being read.
+     *
+     * @return the outcome of reading each file, in the order of {@code filePaths}.
+     */
+    public static List<ImportedFile> readTaskBooks(List<Path> filePaths) {
+        requireNonNull(filePaths);
+        if (filePaths.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int threadCount = Math.min(filePaths.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CompletionService<ImportedFile> completionService = new ExecutorCompletionService<>(executor);
+            for (Path filePath : filePaths) {
+                completionService.submit(() -> readImportedFile(filePath));
+            }
+
+            Map<Path, ImportedFile> importedFiles = new HashMap<>();
+            for (int done = 1; done <= filePaths.size(); done++) {
+                ImportedFile importedFile = takeImportedFile(completionService);
+                importedFiles.put(importedFile.getPath(), importedFile);
+                logger.info(String.format("Import %d/%d: %s %s", done, filePaths.size(), importedFile.getPath(),
+                        importedFile.getError().orElse("read")));
+            }
+
+            List<ImportedFile> orderedFiles = new ArrayList<>();
+            filePaths.forEach(filePath -> orderedFiles.add(importedFiles.get(filePath)));
+            return orderedFiles;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ImportedFile readImportedFile(Path filePath) {
+        try {
+            Optional<ReadOnlyTaskBook> taskBook = new ImportManager(filePath).readTaskBook();
+            if (!taskBook.isPresent()) {
+                return ImportedFile.failed(filePath, MESSAGE_FILE_NOT_FOUND);
+            }
+            return ImportedFile.read(filePath, taskBook.get());
+        } catch (DataConversionException | IOException e) {
+            return ImportedFile.failed(filePath, e.getMessage());
+        }
+    }
+
+    private static ImportedFile takeImportedFile(CompletionService<ImportedFile> completionService) {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            // readImportedFile reports every failure it expects in the ImportedFile it returns
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     @Override
     public Optional<ReadOnlyAccountList> readAccountList() throws DataConversionException, IOException {
         return readAccountList(importPath);
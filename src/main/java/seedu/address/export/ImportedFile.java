@@ -0,0 +1,55 @@
+package seedu.address.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.model.ReadOnlyTaskBook;
+
+/**
+ * Represents the outcome of reading one of the files of a multi-file import:
+ * either the task book read from it, or why it could not be read.
+ * Guarantees: immutable.
+ */
+public class ImportedFile {
+
+    private final Path path;
+    private final ReadOnlyTaskBook taskBook;
+    private final String error;
+
+    private ImportedFile(Path path, ReadOnlyTaskBook taskBook, String error) {
+        requireNonNull(path);
+        this.path = path;
+        this.taskBook = taskBook;
+        this.error = error;
+    }
+
+    /**
+     * Returns the outcome of reading {@code taskBook} from the file at {@code path}.
+     */
+    public static ImportedFile read(Path path, ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        return new ImportedFile(path, taskBook, null);
+    }
+
+    /**
+     * Returns the outcome of failing to read the file at {@code path} because of {@code error}.
+     */
+    public static ImportedFile failed(Path path, String error) {
+        requireNonNull(error);
+        return new ImportedFile(path, null, error);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public Optional<ReadOnlyTaskBook> getTaskBook() {
+        return Optional.ofNullable(taskBook);
+    }
+
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.export;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+import seedu.address.storage.JsonSerializableTaskBook;
+
+/**
+ * Collects the tasks read one by one from a file being imported, and the problems with the ones that are invalid,
+ * so that every problem in the file is reported at once. Valid tasks go straight into the task book that is
+ * imported, rather than into a list copied into it at the end.
+ */
+class ImportedTaskCollector {
+
+    public static final String MESSAGE_INVALID_TASK_AT_LINE = "Line %1$d: %2$s";
+
+    private final TaskBook taskBook = new TaskBook();
+    private final List<String> problems = new ArrayList<>();
+
+    /**
+     * Validates the task with the given fields read from {@code line} of the file, counting from 1, and collects it.
+     */
+    void add(int line, String name, String startDate, String startTime, String endDate, String endTime,
+            String description, String category, List<String> tagNames) {
+        try {
+            Task task = toTask(name, startDate, startTime, endDate, endTime, description, category, tagNames);
+            if (taskBook.hasTask(task)) {
+                addProblem(line, JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+            } else {
+                taskBook.addTask(task);
+            }
+        } catch (IllegalValueException ive) {
+            addProblem(line, ive.getMessage());
+        }
+    }
+
+    private static Task toTask(String name, String startDate, String startTime, String endDate, String endTime,
+            String description, String category, List<String> tagNames) throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        if (!StartDate.isValidStartDate(startDate)) {
+            throw new IllegalValueException(StartDate.MESSAGE_CONSTRAINTS);
+        }
+        if (!StartTime.isValidStartTime(startTime)) {
+            throw new IllegalValueException(StartTime.MESSAGE_CONSTRAINTS);
+        }
+        if (!EndDate.isValidEndDate(endDate)) {
+            throw new IllegalValueException(EndDate.MESSAGE_CONSTRAINTS);
+        }
+        if (!EndTime.isValidEndTime(endTime)) {
+            throw new IllegalValueException(EndTime.MESSAGE_CONSTRAINTS);
+        }
+        if (!Description.isValidDescription(description)) {
+            throw new IllegalValueException(Description.MESSAGE_CONSTRAINTS);
+        }
+        if (!Categories.isValidCategories(category)) {
+            throw new IllegalValueException(Categories.MESSAGE_CONSTRAINTS);
+        }
+        return new Task(new Name(name), new StartDate(startDate), new StartTime(startTime), new EndDate(endDate),
+                new EndTime(endTime), new Description(description), new Categories(category), tags);
+    }
+
+    /**
+     * Records that the record at {@code line} of the file, counting from 1, has the problem {@code message}.
+     */
+    void addProblem(int line, String message) {
+        problems.add(String.format(MESSAGE_INVALID_TASK_AT_LINE, line, message));
+    }
+
+    /**
+     * Returns a task book of the tasks collected, in the order they were read.
+     *
+     * @throws IllegalValueException if any task was invalid. Its message lists every problem, one per line.
+     */
+    ReadOnlyTaskBook toTaskBook() throws IllegalValueException {
+        if (!problems.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", problems));
+        }
+        return taskBook;
+    }
+}
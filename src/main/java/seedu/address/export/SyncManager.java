@@ -0,0 +1,559 @@
+package seedu.address.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.SyncResult;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.storage.JsonAdaptedSyncRecord;
+import seedu.address.storage.JsonSerializableSyncState;
+
+/**
+ * Syncs a task book with a sync folder shared by the copies of Tasketch on several computers,
+ * such as a folder on a network drive.
+ *
+ * Every change to a task is appended to the change log in the folder, as a record of the task with its content
+ * hash and version vector. Each copy keeps the last synced version of every task and how far it has read the log
+ * next to its task book, so a sync only reads the changes made elsewhere since the last sync and only writes the
+ * tasks changed here since then. The sync state is kept as a log too: each sync appends the versions it changed,
+ * and the log is only rewritten whole once it holds more than twice as many entries as there are tasks.
+ * A change made elsewhere is applied if its version follows the version here.
+ * Changes made both here and elsewhere are merged if they are the same, and are conflicts otherwise, which are
+ * resolved without losing either edit.
+ */
+public class SyncManager {
+
+    public static final String CHANGE_LOG_FILE_NAME = "taskbook.changes";
+
+    public static final String MESSAGE_INVALID_CHANGE = "Change at byte %1$d: %2$s";
+    public static final String MESSAGE_INVALID_STATE = "Sync state at byte %1$d: %2$s";
+    public static final String MESSAGE_FOLDER_LOCKED = "%1$s is still locked by another sync, try again later";
+    public static final String MESSAGE_MISSING_TASK = "The task is missing";
+    public static final String MESSAGE_CONFLICT_COPIED = "%1$s was edited here and elsewhere, "
+            + "the other version was added as %2$s";
+    public static final String MESSAGE_CONFLICT_DELETED_HERE = "%1$s was deleted here but edited elsewhere, "
+            + "the edit was kept";
+    public static final String MESSAGE_CONFLICT_DELETED_ELSEWHERE = "%1$s was edited here but deleted elsewhere, "
+            + "the edit was kept";
+
+    private static final long DEFAULT_LOCK_TIMEOUT_MILLIS = 10000;
+    private static final long LOCK_RETRY_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(SyncManager.class);
+
+    private final Path statePath;
+    private final Path syncFolder;
+    private final Path changeLogPath;
+    private final long lockTimeoutMillis;
+
+    // The state of the sync in progress
+    private String replicaId;
+    private final Map<String, Long> readOffsets = new TreeMap<>();
+    private final Map<Name, SyncedVersion> versions = new LinkedHashMap<>();
+    /** The tasks whose versions changed since the sync state was read, to be appended to the sync state. */
+    private final Set<Name> changedVersions = new LinkedHashSet<>();
+    /** The offset after the last complete entry of the sync state, and the number of entries and versions in it. */
+    private long stateEnd = 0;
+    private long stateSize = 0;
+    /** The task book being synced. */
+    private TaskBook taskBook;
+    /** The tasks to put into the task book, or to delete from it if empty. */
+    private final Map<Name, Optional<Task>> receivedTasks = new LinkedHashMap<>();
+    /** The tasks whose versions are to be written to the change log. */
+    private final Set<Name> changedTasks = new LinkedHashSet<>();
+    private final List<String> conflicts = new ArrayList<>();
+    private boolean isStateChanged = false;
+
+    /**
+     * Creates a {@code SyncManager} that syncs the task book saved at {@code taskBookFilePath} with the sync folder
+     * {@code syncFolder}.
+     */
+    public SyncManager(Path taskBookFilePath, Path syncFolder) {
+        this(taskBookFilePath, syncFolder, DEFAULT_LOCK_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a {@code SyncManager} that gives up a sync if the change log stays locked by another sync for
+     * {@code lockTimeoutMillis}.
+     */
+    SyncManager(Path taskBookFilePath, Path syncFolder, long lockTimeoutMillis) {
+        requireAllNonNull(taskBookFilePath, syncFolder);
+        this.statePath = getStatePath(taskBookFilePath);
+        this.syncFolder = syncFolder;
+        this.changeLogPath = syncFolder.resolve(CHANGE_LOG_FILE_NAME);
+        this.lockTimeoutMillis = lockTimeoutMillis;
+    }
+
+    /**
+     * Returns the path of the sync state kept next to the task book at {@code taskBookFilePath}.
+     */
+    public static Path getStatePath(Path taskBookFilePath) {
+        String fileName = taskBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return taskBookFilePath.resolveSibling(baseName + ".sync");
+    }
+
+    /**
+     * Syncs {@code taskBook}, which must hold all its tasks, with the sync folder, finding the changes made here by
+     * comparing the content hash of every task with the hash it was last synced with.
+     *
+     * @see #sync(TaskBook, Collection)
+     */
+    public SyncResult sync(TaskBook taskBook) throws IOException, DataConversionException {
+        requireNonNull(taskBook);
+        readState();
+        Set<Name> names = new LinkedHashSet<>(versions.keySet());
+        taskBook.getTaskList().forEach(task -> names.add(task.getName()));
+        return syncChanges(taskBook, names);
+    }
+
+    /**
+     * Syncs {@code taskBook}, which must hold all its tasks, with the sync folder. Only the tasks named in
+     * {@code changedNames} are taken to have been added, edited or deleted here since the sync state was last saved.
+     * The changes made elsewhere since the last sync are applied to it in a single change, and the changes made
+     * here are written to the folder.
+     * The change log is locked during the sync, so copies that sync at the same time take turns.
+     * The sync state is not saved until {@link #saveState()} is called, once the task book has been saved.
+     *
+     * @throws IOException if the change log stays locked by another sync for too long.
+     * @throws DataConversionException if the sync state or a change in the change log cannot be read,
+     *     in which case neither the task book nor the folder is changed.
+     */
+    public SyncResult sync(TaskBook taskBook, Collection<Name> changedNames)
+            throws IOException, DataConversionException {
+        requireAllNonNull(taskBook, changedNames);
+        readState();
+        return syncChanges(taskBook, changedNames);
+    }
+
+    private SyncResult syncChanges(TaskBook taskBook, Collection<Name> changedNames)
+            throws IOException, DataConversionException {
+        this.taskBook = taskBook;
+        findChangesMadeHere(changedNames);
+
+        String folderKey = syncFolder.toAbsolutePath().normalize().toString();
+        Files.createDirectories(syncFolder);
+        try (FileChannel changeLog = FileChannel.open(changeLogPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+                FileLock lock = lock(changeLog)) {
+            long readOffset = readOffsets.getOrDefault(folderKey, 0L);
+            if (readOffset > changeLog.size()) {
+                logger.warning("Change log " + changeLogPath + " is shorter than when last read, reading it again");
+                readOffset = 0;
+            }
+            long readEnd = readChangesMadeElsewhere(changeLog, readOffset);
+
+            int receivedCount = applyReceivedTasks(taskBook);
+            long writeEnd = writeChangesMadeHere(changeLog, readEnd);
+            readOffsets.put(folderKey, writeEnd);
+            isStateChanged = writeEnd != readOffset || !changedVersions.isEmpty() || !Files.exists(statePath);
+
+            SyncResult result = new SyncResult(receivedCount, changedTasks.size(), conflicts);
+            logger.info("Synced with " + syncFolder + ": " + result);
+            return result;
+        }
+    }
+
+    /**
+     * Locks {@code changeLog}, waiting for another sync that holds the lock for at most the lock timeout.
+     *
+     * @throws IOException if the change log is still locked after the timeout.
+     */
+    private FileLock lock(FileChannel changeLog) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockTimeoutMillis);
+        while (true) {
+            try {
+                FileLock lock = changeLog.tryLock();
+                if (lock != null) {
+                    return lock;
+                }
+            } catch (OverlappingFileLockException ofle) {
+                // another sync in this program holds the lock
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                logger.warning("Gave up waiting for the lock on " + changeLogPath);
+                throw new IOException(String.format(MESSAGE_FOLDER_LOCKED, changeLogPath));
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the lock on " + changeLogPath);
+            }
+        }
+    }
+
+    /**
+     * Reads the sync state of the task book, or starts a new one for a task book that was never synced.
+     * The state is a log of entries, one per line, where later entries override earlier ones.
+     * An incomplete last entry, left by a save that did not finish, is ignored and replaced by the next save.
+     */
+    private void readState() throws IOException, DataConversionException {
+        readOffsets.clear();
+        versions.clear();
+        changedVersions.clear();
+        receivedTasks.clear();
+        changedTasks.clear();
+        conflicts.clear();
+        isStateChanged = false;
+        replicaId = null;
+        stateEnd = 0;
+        stateSize = 0;
+
+        byte[] bytes = Files.exists(statePath) ? Files.readAllBytes(statePath) : new byte[0];
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            if (!line.trim().isEmpty()) {
+                try {
+                    mergeStateEntry(JsonUtil.fromJsonString(line, JsonSerializableSyncState.class));
+                } catch (IOException | IllegalValueException e) {
+                    String problem = String.format(MESSAGE_INVALID_STATE, lineStart, e.getMessage());
+                    logger.info("Illegal values found in " + statePath + ": " + problem);
+                    throw new DataConversionException(new IllegalValueException(problem));
+                }
+            }
+            lineStart = i + 1;
+        }
+        stateEnd = lineStart;
+
+        if (replicaId == null) {
+            replicaId = UUID.randomUUID().toString();
+        }
+    }
+
+    private void mergeStateEntry(JsonSerializableSyncState entry) throws IllegalValueException {
+        if (entry.getReplicaId() != null) {
+            replicaId = entry.getReplicaId();
+        }
+        readOffsets.putAll(entry.getReadOffsets());
+        for (JsonAdaptedSyncRecord record : entry.getTasks()) {
+            versions.put(record.getName(), new SyncedVersion(new VersionVector(record.getVersions()),
+                    record.getHash().orElse(null)));
+        }
+        stateSize += 1 + entry.getTasks().size();
+    }
+
+    /**
+     * Saves the sync state of the last sync, if it changed, by appending the versions it changed to the sync state.
+     * The whole state is written again instead once the log holds more than twice as many entries and versions as
+     * there are tasks. This must only be called once the task book with the
+     * tasks received by that sync has been saved: otherwise a lost save would leave the sync state ahead of the
+     * task book file, and the next sync would take the received tasks missing from it to be deleted here.
+     */
+    public void saveState() throws IOException {
+        if (!isStateChanged) {
+            return;
+        }
+        Files.createDirectories(statePath.toAbsolutePath().getParent());
+        if (stateSize + 1 + changedVersions.size() > 2 * (1 + versions.size())) {
+            rewriteState();
+        } else {
+            appendState();
+        }
+        changedVersions.clear();
+        isStateChanged = false;
+    }
+
+    private void appendState() throws IOException {
+        byte[] entry = toStateEntry(changedVersions);
+        try (FileChannel state = FileChannel.open(statePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (state.size() > stateEnd) {
+                logger.warning("Replacing incomplete entry at byte " + stateEnd + " of " + statePath);
+                state.truncate(stateEnd);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                state.write(buffer, stateEnd + buffer.position());
+            }
+            state.force(false);
+        }
+        stateEnd += entry.length;
+        stateSize += 1 + changedVersions.size();
+    }
+
+    private void rewriteState() throws IOException {
+        byte[] entry = toStateEntry(versions.keySet());
+        Path temporaryPath = statePath.resolveSibling(statePath.getFileName() + ".tmp");
+        Files.write(temporaryPath, entry, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(temporaryPath, statePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        stateEnd = entry.length;
+        stateSize = 1 + versions.size();
+    }
+
+    /**
+     * Returns a line of the sync state holding the read offsets and the versions of the tasks named {@code names}.
+     */
+    private byte[] toStateEntry(Collection<Name> names) throws IOException {
+        List<JsonAdaptedSyncRecord> records = new ArrayList<>();
+        for (Name name : names) {
+            SyncedVersion version = versions.get(name);
+            records.add(JsonAdaptedSyncRecord.version(name, version.vector.toMap(), version.hash));
+        }
+        String line = JsonUtil.toCompactJsonString(new JsonSerializableSyncState(replicaId, readOffsets, records));
+        return (line + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gives every task named in {@code names} that was added, edited or deleted here since the last sync a new
+     * version, found by comparing its content hash with the hash it was last synced with.
+     */
+    private void findChangesMadeHere(Collection<Name> names) {
+        for (Name name : names) {
+            String hash = taskBook.getTask(name).map(SyncManager::hashOf).orElse(null);
+            SyncedVersion syncedVersion = versions.getOrDefault(name, SyncedVersion.NONE);
+            if (!Objects.equals(hash, syncedVersion.hash)) {
+                setVersion(name, new SyncedVersion(syncedVersion.vector.increment(replicaId), hash));
+                changedTasks.add(name);
+            }
+        }
+    }
+
+    private void setVersion(Name name, SyncedVersion version) {
+        versions.put(name, version);
+        changedVersions.add(name);
+    }
+
+    /**
+     * Reads and merges the complete records of the change log from {@code offset} on.
+     * An incomplete last record is left for the copy that is writing it, or else for the next write to replace.
+     * Returns the offset after the last complete record.
+     *
+     * @throws DataConversionException if any complete record cannot be read. Its message lists every such record.
+     */
+    private long readChangesMadeElsewhere(FileChannel changeLog, long offset)
+            throws IOException, DataConversionException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(changeLog.size() - offset));
+        while (buffer.hasRemaining() && changeLog.read(buffer, offset + buffer.position()) >= 0) {
+            // keeps reading until the buffer is full
+        }
+
+        byte[] bytes = buffer.array();
+        List<String> problems = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < buffer.position(); i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            if (!line.trim().isEmpty()) {
+                try {
+                    mergeChangeMadeElsewhere(JsonUtil.fromJsonString(line, JsonAdaptedSyncRecord.class));
+                } catch (IOException | IllegalValueException e) {
+                    problems.add(String.format(MESSAGE_INVALID_CHANGE, offset + lineStart, e.getMessage()));
+                }
+            }
+            lineStart = i + 1;
+        }
+
+        if (!problems.isEmpty()) {
+            logger.info("Illegal values found in " + changeLogPath + ": " + problems);
+            throw new DataConversionException(new IllegalValueException(String.join("\n", problems)));
+        }
+        return offset + lineStart;
+    }
+
+    /**
+     * Merges the version of a task in {@code record} into the versions here.
+     */
+    private void mergeChangeMadeElsewhere(JsonAdaptedSyncRecord record) throws IllegalValueException {
+        Name name = record.getName();
+        Optional<Task> task = record.toModelTask();
+        if (record.getHash().isPresent() && !task.isPresent()) {
+            throw new IllegalValueException(MESSAGE_MISSING_TASK);
+        }
+        // The hash is worked out again rather than trusted, in case another copy works it out differently
+        String hash = task.map(SyncManager::hashOf).orElse(null);
+        VersionVector vector = new VersionVector(record.getVersions());
+        SyncedVersion syncedVersion = versions.getOrDefault(name, SyncedVersion.NONE);
+
+        switch (vector.compareTo(syncedVersion.vector)) {
+        case EQUAL:
+        case BEFORE:
+            return;
+        case AFTER:
+            setVersion(name, new SyncedVersion(vector, hash));
+            receivedTasks.put(name, task);
+            changedTasks.remove(name);
+            return;
+        default:
+            break;
+        }
+
+        VersionVector mergedVector = syncedVersion.vector.merge(vector);
+        if (Objects.equals(syncedVersion.hash, hash)) {
+            // the same change was made here and elsewhere, so only the merged version is written back
+            setVersion(name, new SyncedVersion(mergedVector, hash));
+        } else if (syncedVersion.hash == null) {
+            setVersion(name, new SyncedVersion(mergedVector.increment(replicaId), hash));
+            receivedTasks.put(name, task);
+            conflicts.add(String.format(MESSAGE_CONFLICT_DELETED_HERE, name));
+        } else if (hash == null) {
+            setVersion(name, new SyncedVersion(mergedVector.increment(replicaId), syncedVersion.hash));
+            conflicts.add(String.format(MESSAGE_CONFLICT_DELETED_ELSEWHERE, name));
+        } else {
+            setVersion(name, new SyncedVersion(mergedVector.increment(replicaId), syncedVersion.hash));
+            Task copy = withUnusedName(task.get());
+            setVersion(copy.getName(), new SyncedVersion(VersionVector.EMPTY.increment(replicaId), hashOf(copy)));
+            receivedTasks.put(copy.getName(), Optional.of(copy));
+            changedTasks.add(copy.getName());
+            conflicts.add(String.format(MESSAGE_CONFLICT_COPIED, name, copy.getName()));
+        }
+        changedTasks.add(name);
+    }
+
+    /**
+     * Returns the task named {@code name} in the task book with the changes received so far, if any.
+     */
+    private Optional<Task> getCurrentTask(Name name) {
+        return receivedTasks.containsKey(name) ? receivedTasks.get(name) : taskBook.getTask(name);
+    }
+
+    /**
+     * Returns a copy of {@code task} named after it with the lowest number from 2 up that makes its name unused,
+     * by a task here or by a task deleted since it was synced.
+     */
+    private Task withUnusedName(Task task) {
+        Name name;
+        int number = 2;
+        do {
+            name = new Name(task.getName() + " " + number++);
+        } while (getCurrentTask(name).isPresent() || versions.containsKey(name));
+        return new Task(name, task.getStartDate(), task.getStartTime(), task.getEndDate(), task.getEndTime(),
+                task.getDescription(), task.getCategories(), task.getTags());
+    }
+
+    /**
+     * Applies the received tasks to {@code taskBook} in a single change.
+     * Returns the number of tasks that were added, edited or deleted.
+     */
+    private int applyReceivedTasks(TaskBook taskBook) {
+        AtomicInteger receivedCount = new AtomicInteger();
+        taskBook.batch(transaction -> receivedTasks.forEach((name, task) -> {
+            Optional<Task> existingTask = transaction.getTask(name);
+            if (task.isPresent() && existingTask.isPresent()) {
+                if (!existingTask.get().hasSameDetails(task.get())) {
+                    transaction.setTask(existingTask.get(), task.get());
+                    receivedCount.incrementAndGet();
+                }
+            } else if (task.isPresent()) {
+                transaction.addTask(task.get());
+                receivedCount.incrementAndGet();
+            } else if (existingTask.isPresent()) {
+                transaction.removeTask(existingTask.get());
+                receivedCount.incrementAndGet();
+            }
+        }));
+        return receivedCount.get();
+    }
+
+    /**
+     * Writes a record of every task changed here to the change log at {@code offset}, replacing any incomplete
+     * record left there. Returns the offset after the records.
+     */
+    private long writeChangesMadeHere(FileChannel changeLog, long offset) throws IOException {
+        if (changeLog.size() > offset) {
+            logger.warning("Replacing incomplete change at byte " + offset + " of " + changeLogPath);
+            changeLog.truncate(offset);
+        }
+        if (changedTasks.isEmpty()) {
+            return offset;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (Name name : changedTasks) {
+            SyncedVersion version = versions.get(name);
+            Task task = getCurrentTask(name).orElse(null);
+            JsonAdaptedSyncRecord record = task == null
+                    ? JsonAdaptedSyncRecord.remove(name, version.vector.toMap())
+                    : JsonAdaptedSyncRecord.put(task, version.vector.toMap(), version.hash);
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += changeLog.write(buffer, position);
+        }
+        changeLog.force(false);
+        return position;
+    }
+
+    /**
+     * Returns a hash of every field of {@code task} that is the same on every computer.
+     */
+    static String hashOf(Task task) {
+        List<String> tagNames = task.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.toList());
+        List<Object> fields = Arrays.asList(task.getName().fullName, task.getStartDate().value,
+                task.getStartTime().value, task.getEndDate().value, task.getEndTime().value,
+                task.getDescription().value, task.getCategories().value, tagNames);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    digest.digest(JsonUtil.toCompactJsonString(fields).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            // every Java platform has SHA-256, and a list of strings can always be written as JSON
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The last synced version of a task, with its content hash, or none if the task is deleted.
+     */
+    private static class SyncedVersion {
+        static final SyncedVersion NONE = new SyncedVersion(VersionVector.EMPTY, null);
+
+        final VersionVector vector;
+        final String hash;
+
+        SyncedVersion(VersionVector vector, String hash) {
+            this.vector = vector;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Counts the changes each copy of Tasketch has made to one task, so that two versions of the task can be told
+ * apart as one following the other or as made concurrently.
+ * Guarantees: immutable.
+ */
+final class VersionVector {
+
+    /** How a version vector relates to another. */
+    enum Order { EQUAL, BEFORE, AFTER, CONCURRENT }
+
+    static final VersionVector EMPTY = new VersionVector(Collections.emptyMap());
+
+    /** The number of changes made by each replica, leaving out replicas that made none. */
+    private final Map<String, Long> counters;
+
+    VersionVector(Map<String, Long> counters) {
+        requireNonNull(counters);
+        Map<String, Long> nonZeroCounters = new TreeMap<>();
+        counters.forEach((replicaId, counter) -> {
+            if (counter != null && counter > 0) {
+                nonZeroCounters.put(replicaId, counter);
+            }
+        });
+        this.counters = Collections.unmodifiableMap(nonZeroCounters);
+    }
+
+    /**
+     * Returns the version that follows this one after one more change by {@code replicaId}.
+     */
+    VersionVector increment(String replicaId) {
+        requireNonNull(replicaId);
+        Map<String, Long> incremented = new TreeMap<>(counters);
+        incremented.merge(replicaId, 1L, Long::sum);
+        return new VersionVector(incremented);
+    }
+
+    /**
+     * Returns the earliest version that follows or equals both this version and {@code other}.
+     */
+    VersionVector merge(VersionVector other) {
+        requireNonNull(other);
+        Map<String, Long> merged = new TreeMap<>(counters);
+        other.counters.forEach((replicaId, counter) -> merged.merge(replicaId, counter, Math::max));
+        return new VersionVector(merged);
+    }
+
+    /**
+     * Returns whether this version is equal to {@code other}, comes before it, comes after it,
+     * or was made concurrently with it.
+     */
+    Order compareTo(VersionVector other) {
+        requireNonNull(other);
+        boolean isAnyBefore = false;
+        boolean isAnyAfter = false;
+        Set<String> replicaIds = new HashSet<>(counters.keySet());
+        replicaIds.addAll(other.counters.keySet());
+        for (String replicaId : replicaIds) {
+            long counter = counters.getOrDefault(replicaId, 0L);
+            long otherCounter = other.counters.getOrDefault(replicaId, 0L);
+            isAnyBefore |= counter < otherCounter;
+            isAnyAfter |= counter > otherCounter;
+        }
+
+        if (isAnyBefore && isAnyAfter) {
+            return Order.CONCURRENT;
+        } else if (isAnyBefore) {
+            return Order.BEFORE;
+        } else if (isAnyAfter) {
+            return Order.AFTER;
+        }
+        return Order.EQUAL;
+    }
+
+    Map<String, Long> toMap() {
+        return counters;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VersionVector // instanceof handles nulls
+                && counters.equals(((VersionVector) other).counters));
+    }
+
+    @Override
+    public int hashCode() {
+        return counters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return counters.toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -40,6 +41,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of tasks */
     ObservableList<Task> getFilteredTaskList();
 
+    /** Returns the tasks that start on {@code date}, a date in dd-MM-yy form */
+    List<Task> getTasksStartingOn(String date);
+
     /** Returns an unmodifiable view of the list of tasks */
     ObservableList<Task> getRemindTaskList();
 
@@ -2,7 +2,10 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -10,6 +13,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,6 +21,7 @@ import seedu.address.logic.parser.TaskBookParser;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.day.Day;
+import seedu.address.model.task.StartDate;
 import seedu.address.model.task.Task;
 import seedu.address.storage.Storage;
 
@@ -66,6 +71,16 @@ public class LogicManager implements Logic {
             }
         }
 
+        // A sync's state must not get ahead of the task book file, so it is saved after the file is
+        if (model.hasUnsavedSyncState()) {
+            try {
+                storage.flushTaskBook();
+                model.saveSyncState();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+        }
+
         return commandResult;
     }
 
@@ -79,6 +94,18 @@ public class LogicManager implements Logic {
         return model.getFilteredTaskList();
     }
 
+    @Override
+    public List<Task> getTasksStartingOn(String date) {
+        // The timeline accepts dates that no task can start on, such as 011-1-19
+        if (!StartDate.isValidStartDate(date)) {
+            return Collections.emptyList();
+        }
+        // A date past the end of its month shares its epoch day with the date it rolls over to
+        int epochDay = DateUtil.toEpochDay(date);
+        return model.getTasksStartingBetween(epochDay, epochDay).stream()
+                .filter(task -> task.getStartDate().value.equals(date)).collect(Collectors.toList());
+    }
+
     @Override
     public ObservableList<Task> getRemindTaskList() {
         return model.getRemindTaskList();
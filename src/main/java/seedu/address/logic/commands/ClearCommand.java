@@ -6,8 +6,11 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -46,29 +49,6 @@ public class ClearCommand extends Command {
         this.specificDate = specificDate;
     }
 
-    /**
-     * Boolean function that help predicate to select specific tasks.
-     */
-
-    public boolean checkDate(String checkingDate, String dateInTask) {
-        final String[] specificDateList = checkingDate.split("-");
-        if (specificDateList.length == 3) {
-            if (checkingDate.equals(dateInTask)) {
-                return true;
-            } else {
-                return false;
-            }
-        } else if (specificDateList.length == 2) {
-            final String[] startDateInString = dateInTask.split("-");
-            if (specificDateList[0].equals(startDateInString[1]) && specificDateList[1].equals(startDateInString[2])) {
-                return true;
-            } else {
-                return false;
-            }
-        }
-        return false;
-    }
-
     /**
      * check whether is numberic
      * @param str
@@ -130,35 +110,10 @@ public class ClearCommand extends Command {
     }
 
     /**
-     * Boolean function that checks whether the task is ended before today.
+     * Returns the currently listed tasks that match {@code predicate}.
      */
-    public boolean checkBeforeDate(String checkingDate, String dateInTask) {
-
-        final String[] specificDateList = checkingDate.split("-");
-        final String[] taskDateList = dateInTask.split("-");
-
-        final Integer day = Integer.parseInt(taskDateList[0]);
-        final Integer month = Integer.parseInt(taskDateList[1]);
-        final Integer year = Integer.parseInt(taskDateList[2]);
-
-        final Integer specificYear = Integer.parseInt(specificDateList[2]);
-        final Integer specificMonth = Integer.parseInt(specificDateList[1]);
-        final Integer specificDay = Integer.parseInt(specificDateList[0]);
-
-        if ((specificYear > year)
-                || (specificMonth > month && specificYear == year)
-                || (specificDay >= day && specificYear == year && specificMonth == month)) {
-            return true;
-        } else {
-            return false;
-        }
-    }
-    /**
-     * Boolean function that checks whether the task starts from that specific day.
-     */
-    public boolean checkStartDate(Task task) {
-        final String startDate = task.getStartDate().value;
-        return checkDate(this.specificDate, startDate);
+    private static List<Task> getListedTasks(Model model, Predicate<Task> predicate) {
+        return model.getFilteredTaskList().stream().filter(predicate).collect(Collectors.toList());
     }
 
     @Override
@@ -183,13 +138,10 @@ public class ClearCommand extends Command {
             calendar.set(Calendar.HOUR_OF_DAY, -24);
             this.specificDate = formatter.format(calendar.getTime());
 
-            List<Task> lastShownList = model.getFilteredTaskList();
-            for (Task task : lastShownList) {
-                if (checkBeforeDate(this.specificDate, task.getEndDate().value)) {
-                    count++;
-                    tasksToBeDeleted.add(task);
-                }
-            }
+            final int today = DateUtil.today();
+            model.loadTasksTouching(Integer.MIN_VALUE, today - 1);
+            tasksToBeDeleted = getListedTasks(model, task -> task.getEndDate().getEpochDay() < today);
+            count = tasksToBeDeleted.size();
             model.deleteTaskList(tasksToBeDeleted);
             model.commitTaskBook();
             return new CommandResult(String.format(MESSAGE_CLEARYD_SUCCESS, count, specificDate));
@@ -197,13 +149,10 @@ public class ClearCommand extends Command {
         } else if (isValidDate(this.specificDate)) {
 
             if (isValidDate(this.specificDate)) {
-                List<Task> lastShownList = model.getFilteredTaskList();
-                for (Task task : lastShownList) {
-                    if (checkStartDate(task)) {
-                        count++;
-                        tasksToBeDeleted.add(task);
-                    }
-                }
+                model.loadTasksTouching(DateUtil.toFirstEpochDay(specificDate), DateUtil.toLastEpochDay(specificDate));
+                tasksToBeDeleted = getListedTasks(model,
+                        task -> DateUtil.isWithin(task.getStartDate().value, specificDate));
+                count = tasksToBeDeleted.size();
                 model.deleteTaskList(tasksToBeDeleted);
                 model.commitTaskBook();
                 return new CommandResult(String.format(MESSAGE_CLEARDATE_SUCCESS, count, specificDate));
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.FileUtil.isFileExists;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.TaskBookFormat;
+
+/**
+ * Converts a task book file between the formats in {@code TaskBookFormat}.
+ */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+    public static final String COMMAND_PARAMETERS = "Parameters: SOURCE_FILENAME TARGET_FILENAME "
+            + "(each must end with .json, .bin, .tasks, .db or .segments)\n";
+    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " tasks.json tasks.bin";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Converts a task book file into the format named "
+            + "by the extension of the target file.\n" + COMMAND_PARAMETERS + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_CONVERT_SUCCESS = "Converted %1$s to %2$s (%3$s)";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found!";
+    public static final String MESSAGE_TARGET_IN_USE = "Cannot convert into the task book file in use!";
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    private static final String MESSAGE_FAILURE = "Convert failed! Error: %1$s";
+
+    private final Path sourcePath;
+    private final Path targetPath;
+
+    public ConvertCommand(Path sourcePath, Path targetPath) {
+        requireNonNull(sourcePath);
+        requireNonNull(targetPath);
+
+        this.sourcePath = sourcePath;
+        this.targetPath = targetPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+        if (!isFileExists(sourcePath)) {
+            throw new CommandException(MESSAGE_FILE_NOT_FOUND);
+        }
+        if (targetPath.toAbsolutePath().normalize().equals(model.getTaskBookFilePath().toAbsolutePath().normalize())) {
+            throw new CommandException(MESSAGE_TARGET_IN_USE);
+        }
+
+        TaskBookFormat targetFormat;
+        try {
+            targetFormat = TaskBookFormat.convert(sourcePath, targetPath);
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e));
+        }
+
+        return new CommandResult(String.format(MESSAGE_CONVERT_SUCCESS, sourcePath, targetPath, targetFormat));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                && sourcePath.equals(((ConvertCommand) other).sourcePath)
+                && targetPath.equals(((ConvertCommand) other).targetPath));
+    }
+}
@@ -13,12 +13,13 @@ import seedu.address.model.Model;
 import seedu.address.model.task.Task;
 
 /**
- * Exports the listed tasks in the taskbook to a json file.
+ * Exports the listed tasks in the taskbook to a json, CSV or iCalendar file.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
-    public static final String COMMAND_PARAMETERS = "Parameters: FILENAME (must end with .json) [CATEGORY]\n";
+    public static final String COMMAND_PARAMETERS = "Parameters: FILENAME (must end with .json, .csv or .ics) "
+            + "[CATEGORY]\n";
     public static final String COMMAND_EXAMPLE = "Example: 1. " + COMMAND_WORD + " export.json\n"
             + "2. " + COMMAND_WORD + " academic.json a\n";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Export the tasks listed "
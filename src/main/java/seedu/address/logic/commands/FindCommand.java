@@ -42,6 +42,7 @@ public class FindCommand extends Command {
         if (!model.getLoginStatus()) {
             throw new CommandException(MESSAGE_LOGIN);
         }
+        model.loadAllTasks();
         model.updateFilteredTaskList(predicate); // Updates the shown list
         return new CommandResult(
                 String.format(Messages.MESSAGE_TASK_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
@@ -2,17 +2,22 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.FileUtil.isFileExists;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.export.ImportManager;
+import seedu.address.export.ImportedFile;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ImportPolicy;
+import seedu.address.model.ImportResult;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskBook;
-import seedu.address.model.task.Task;
 
 /**
  * Import the tasks to the task book.
@@ -20,24 +25,36 @@ import seedu.address.model.task.Task;
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
-    public static final String COMMAND_PARAMETERS = "Parameters: FILENAME (must end with .json)\n";
-    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " import.json";
+    public static final String COMMAND_PARAMETERS = "Parameters: FILENAME (must end with .json, .csv or .ics, "
+            + "may be a pattern such as exports/*.json, or a folder ending with /) "
+            + "[skip|overwrite|rename] (what to do with tasks of the same name as a different task, skip by default)\n";
+    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " import.json rename";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Import the tasks in the file specified to "
             + "Tasketch.\n" + COMMAND_PARAMETERS + COMMAND_EXAMPLE;
 
     public static final String MESSAGE_IMPORT_SUCCESS = "Imported %1$s task(s).";
+    public static final String MESSAGE_IMPORT_DETAILS = " %1$s identical task(s) skipped, "
+            + "%2$s conflicting task(s) %3$s.";
+    public static final String MESSAGE_FILE_READ = "\n%1$s: %2$s task(s)";
+    public static final String MESSAGE_FILE_FAILED = "\n%1$s: not imported, %2$s";
     public static final String MESSAGE_LOGIN = "Please login first";
 
     private static final String MESSAGE_FAILURE = "Import failed! Error: %1$s";
-    private static final String MESSAGE_INVALID_LIST_SIZE = "Invalid list size.";
     private static final String MESSAGE_FILE_NOT_FOUND = "File not found!";
 
     private final Path filePath;
+    private final ImportPolicy policy;
 
     public ImportCommand(Path filePath) {
+        this(filePath, ImportPolicy.SKIP);
+    }
+
+    public ImportCommand(Path filePath, ImportPolicy policy) {
         requireNonNull(filePath);
+        requireNonNull(policy);
 
         this.filePath = filePath;
+        this.policy = policy;
     }
 
     @Override
@@ -48,46 +65,82 @@ public class ImportCommand extends Command {
             throw new CommandException(MESSAGE_LOGIN);
         }
 
-        ReadOnlyTaskBook readOnlyTasksBook = model.getTaskBook();
-        ObservableList<Task> taskList = readOnlyTasksBook.getTaskList();
-        int initialNumberOfPersons = taskList.size();
-
         if (!isFileExists(filePath)) {
-            throw new CommandException(MESSAGE_FILE_NOT_FOUND);
+            return importFiles(model);
         }
 
+        ImportResult result;
         try {
-            model.importTasksFromTaskBook(filePath);
+            result = model.importTasksFromTaskBook(filePath, policy);
         } catch (IOException ioe) {
             throw new CommandException(String.format(MESSAGE_FAILURE, ioe));
         } catch (DataConversionException dce) {
             throw new CommandException(String.format(MESSAGE_FAILURE, dce));
         }
 
-        int finalNumberOfTasks = taskList.size();
-        int tasksImported = calculateImportedEntries(initialNumberOfPersons, finalNumberOfTasks);
-
         model.commitTaskBook();
-        return new CommandResult(String.format(MESSAGE_IMPORT_SUCCESS, tasksImported));
+        return new CommandResult(getMessage(result));
     }
 
     /**
-     * Returns the number of entries imported to the address book.
-     * @throws CommandException If an error occurs during command execution.
+     * Imports every file that {@code filePath} names as a folder or a pattern, reading them concurrently.
+     * The tasks of the files that can be read are imported in a single change, and every file is reported.
      */
-    private static int calculateImportedEntries(int initialListSize, int finalListSize) throws CommandException {
-        requireNonNull(initialListSize);
-        requireNonNull(finalListSize);
+    private CommandResult importFiles(Model model) throws CommandException {
+        List<Path> filePaths;
+        try {
+            filePaths = ImportManager.findImportFiles(filePath);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, ioe));
+        }
+        if (filePaths.isEmpty()) {
+            throw new CommandException(MESSAGE_FILE_NOT_FOUND);
+        }
 
-        int importedEntries = finalListSize - initialListSize;
-        if (!isValidSize(importedEntries)) {
-            throw new CommandException(String.format(MESSAGE_FAILURE, MESSAGE_INVALID_LIST_SIZE));
+        List<ImportedFile> importedFiles = ImportManager.readTaskBooks(filePaths);
+        List<ReadOnlyTaskBook> taskBooks = new ArrayList<>();
+        StringBuilder fileReport = new StringBuilder();
+        for (ImportedFile importedFile : importedFiles) {
+            Path fileName = importedFile.getPath().getFileName();
+            if (importedFile.getTaskBook().isPresent()) {
+                taskBooks.add(importedFile.getTaskBook().get());
+                fileReport.append(String.format(MESSAGE_FILE_READ, fileName,
+                        importedFile.getTaskBook().get().getTaskList().size()));
+            } else {
+                fileReport.append(String.format(MESSAGE_FILE_FAILED, fileName, importedFile.getError().get()));
+            }
         }
-        return importedEntries;
+
+        ImportResult result = model.addTasksToTaskBook(taskBooks, policy);
+        if (result.getImportedCount() > 0) {
+            model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        }
+        model.commitTaskBook();
+        return new CommandResult(getMessage(result) + fileReport);
     }
 
-    private static boolean isValidSize(int size) {
-        return size >= 0;
+    /**
+     * Returns the message that reports {@code result}, which only mentions the tasks that were not new if there
+     * were any.
+     */
+    private static String getMessage(ImportResult result) {
+        String message = String.format(MESSAGE_IMPORT_SUCCESS, result.getImportedCount());
+        if (result.getIdenticalCount() == 0 && result.getConflictingCount() == 0) {
+            return message;
+        }
+        String outcome;
+        switch (result.getPolicy()) {
+        case OVERWRITE:
+            outcome = "overwritten";
+            break;
+        case RENAME:
+            outcome = "renamed";
+            break;
+        default:
+            outcome = "skipped";
+        }
+        return message + String.format(MESSAGE_IMPORT_DETAILS, result.getIdenticalCount(),
+                result.getConflictingCount(), outcome);
     }
 
     @Override
@@ -104,6 +157,7 @@ public class ImportCommand extends Command {
 
         // checks state
         ImportCommand e = (ImportCommand) other;
-        return filePath.equals(e.filePath);
+        return filePath.equals(e.filePath)
+                && policy == e.policy;
     }
 }
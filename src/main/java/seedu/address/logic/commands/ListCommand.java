@@ -8,6 +8,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -40,6 +41,7 @@ public class ListCommand extends Command {
             + "4. category: list a      list all tasks of academic category";
     private String[] arguments;
     private String specifiedDate;
+    private String today;
     private String specifiedCategory;
 
     public ListCommand(String[] arguments) {
@@ -56,10 +58,13 @@ public class ListCommand extends Command {
 
         if (arguments[0].equals("")) {
 
+            model.loadAllTasks();
             model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
             return new CommandResult(MESSAGE_SUCCESS1);
         } else if (arguments[0].equals("td")) {
 
+            today = new SimpleDateFormat("dd-MM-YY").format(new Date());
+
             Predicate<Task> predicate = task -> meetRequirementTd(task);
             model.updateFilteredTaskList(predicate);
             //ObservableList<Task> test = model.getFilteredTaskList();
@@ -67,14 +72,17 @@ public class ListCommand extends Command {
         } else if (isCategory(arguments[0])) {
 
             specifiedCategory = arguments[0];
+            model.loadAllTasks();
             Predicate<Task> predicate = task -> meetRequirementCategory(task);
             model.updateFilteredTaskList(predicate);
             return new CommandResult(String.format(MESSAGE_SUCCESS4, categoryString(specifiedCategory)));
         } else if (ClearCommand.isValidDate(arguments[0])) {
 
             specifiedDate = arguments[0];
-            Predicate<Task> predicate = task -> meetRequirementDate(task);
-            model.updateFilteredTaskList(predicate);
+            int fromDay = DateUtil.toFirstEpochDay(specifiedDate);
+            int toDay = DateUtil.toLastEpochDay(specifiedDate);
+            model.loadTasksTouching(fromDay, toDay);
+            model.updateFilteredTaskList(task -> DateUtil.isWithin(task.getStartDate().value, specifiedDate));
             return new CommandResult(String.format(MESSAGE_SUCCESS3, specifiedDate));
         } else {
 
@@ -87,16 +95,7 @@ public class ListCommand extends Command {
      * A boolean function used to decide predicate for list td command.
      */
     private boolean meetRequirementTd(Task task) {
-
-        Date currentDate = new Date();
-        SimpleDateFormat formatter = new SimpleDateFormat("dd-MM-YY");
-        String dateInString = formatter.format(currentDate);
-
-        final String taskDate = task.getStartDate().value;
-        if (taskDate.equals(dateInString)) {
-            return true;
-        }
-        return false;
+        return task.getStartDate().value.equals(today);
     }
 
     /**
@@ -127,34 +126,6 @@ public class ListCommand extends Command {
         }
     }
 
-    /**
-     * A boolean function used to decide predicate for list DATE command.
-     */
-    private boolean meetRequirementDate(Task task) {
-
-        String[] dateInfo = specifiedDate.split("-");
-        if (dateInfo.length == 3) {
-
-            final String taskDate = task.getStartDate().value;
-            if (taskDate.equals(specifiedDate)) {
-                return true;
-            } else {
-                return false;
-            }
-        } else if (dateInfo.length == 2) {
-
-            final String taskDate = task.getStartDate().value;
-            String[] splitDate = taskDate.split("-");
-
-            if (splitDate[1].equals(dateInfo[0]) && splitDate[2].equals(dateInfo[1])) {
-                return true;
-            } else {
-                return false;
-            }
-        }
-        return false;
-    }
-
     /**
      * A boolean function used to decide predicate for list category command.
      */
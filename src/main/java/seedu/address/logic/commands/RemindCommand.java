@@ -111,8 +111,6 @@ public class RemindCommand extends Command {
                 model.sortRemindListByEnd();
             }
 
-            model.commitTaskBook();
-
         } else if (splitedInput.length == 2) {
 
             if (!isValidCategory(splitedInput[0]) || !isValidTime(splitedInput[1])) {
@@ -129,8 +127,6 @@ public class RemindCommand extends Command {
                 }
             }
 
-            model.commitTaskBook();
-
         } else {
 
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RemindCommand.MESSAGE_USAGE));
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.storage.BackupManager;
+
+/**
+ * Lists the backups of the task book, or replaces the task book with one of them.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+    public static final String COMMAND_PARAMETERS = "Parameters: [INDEX] (must be a positive integer)\n";
+    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the backups of the task book, newest first, "
+            + "or restores the backup at the index given.\n" + COMMAND_PARAMETERS + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_LIST_BACKUPS = "Backups, newest first:\n%1$s";
+    public static final String MESSAGE_NO_BACKUPS = "There are no backups yet.";
+    public static final String MESSAGE_RESTORE_SUCCESS = "Restored %1$s task(s) from the backup taken at %2$s.";
+    public static final String MESSAGE_INVALID_BACKUP_INDEX = "The backup index provided is invalid";
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    private static final String MESSAGE_FAILURE = "Restore failed! Error: %1$s";
+    private static final DateTimeFormatter BACKUP_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yy HH.mm.ss");
+
+    /** The backup to restore, or null to list the backups. */
+    private final Index index;
+
+    /**
+     * Creates a {@code RestoreCommand} that lists the backups.
+     */
+    public RestoreCommand() {
+        this.index = null;
+    }
+
+    /**
+     * Creates a {@code RestoreCommand} that restores the backup at {@code index} of the list of backups.
+     */
+    public RestoreCommand(Index index) {
+        requireNonNull(index);
+        this.index = index;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+
+        List<Path> backups;
+        try {
+            backups = BackupManager.listBackups(BackupManager.getBackupDirectory(model.getTaskBookFilePath()));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e));
+        }
+
+        if (index == null) {
+            if (backups.isEmpty()) {
+                return new CommandResult(MESSAGE_NO_BACKUPS);
+            }
+            StringBuilder backupList = new StringBuilder();
+            for (int i = 0; i < backups.size(); i++) {
+                backupList.append(i + 1).append(". ").append(formatBackupTime(backups.get(i))).append('\n');
+            }
+            return new CommandResult(String.format(MESSAGE_LIST_BACKUPS, backupList.toString().trim()));
+        }
+
+        if (index.getZeroBased() >= backups.size()) {
+            throw new CommandException(MESSAGE_INVALID_BACKUP_INDEX);
+        }
+        Path backup = backups.get(index.getZeroBased());
+        ReadOnlyTaskBook backedUpTaskBook;
+        try {
+            backedUpTaskBook = BackupManager.readBackup(backup);
+        } catch (IOException | DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e));
+        }
+        model.setTaskBook(backedUpTaskBook);
+        model.commitTaskBook();
+        return new CommandResult(String.format(MESSAGE_RESTORE_SUCCESS, backedUpTaskBook.getTaskList().size(),
+                formatBackupTime(backup)));
+    }
+
+    private static String formatBackupTime(Path backup) {
+        return BACKUP_TIME_FORMAT.format(BackupManager.getBackupTime(backup));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+        Index otherIndex = ((RestoreCommand) other).index;
+        return index == null ? otherIndex == null : index.equals(otherIndex);
+    }
+}
@@ -5,9 +5,11 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DAYS;
 
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.DateUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 
 /**
@@ -29,6 +31,8 @@ public class ShowTimeCommand extends Command {
             + "1. no parameters: showtime        show all days\n"
             + "2. DATE: showtime 25-03-19    "
             + "show the day 25th March, 2019\n";
+    private static final String FIRST_DAY = "01-";
+    private static final String LAST_DAY = "31-";
     private String[] arguments;
     private String specifiedDate;
 
@@ -37,31 +41,18 @@ public class ShowTimeCommand extends Command {
     }
 
     /**
-     * A boolean function used to decide predicate for list DATE command.
+     * Returns a predicate for the days covered by {@code specifiedDate}, which is either a date or a month,
+     * after loading the tasks of those days.
      */
-    private boolean meetRequirementDate(Day day) {
-
-        String[] dateInfo = specifiedDate.split("-");
-        if (dateInfo.length == 3) {
-
-            final String taskDate = day.getDate().value;
-            if (taskDate.equals(specifiedDate)) {
-                return true;
-            } else {
-                return false;
-            }
-        } else if (dateInfo.length == 2) {
-
-            final String taskDate = day.getDate().value;
-            String[] splitDate = taskDate.split("-");
-
-            if (splitDate[0].equals(dateInfo[0]) && splitDate[1].equals(dateInfo[1])) {
-                return true;
-            } else {
-                return false;
-            }
+    private Predicate<Day> getSpecifiedDaysPredicate(Model model) {
+        if (!ClearCommand.isValidDate(specifiedDate)) {
+            return day -> false;
         }
-        return false;
+        boolean isMonth = DateUtil.isMonth(specifiedDate);
+        Date fromDate = new Date(isMonth ? FIRST_DAY + specifiedDate : specifiedDate);
+        Date toDate = new Date(isMonth ? LAST_DAY + specifiedDate : specifiedDate);
+        model.loadTasksTouching(DateUtil.toFirstEpochDay(specifiedDate), DateUtil.toLastEpochDay(specifiedDate));
+        return day -> fromDate.compareTo(day.getDate()) <= 0 && day.getDate().compareTo(toDate) <= 0;
     }
 
     @Override
@@ -79,8 +70,7 @@ public class ShowTimeCommand extends Command {
         } else {
 
             specifiedDate = arguments[0];
-            Predicate<Day> predicate = day -> meetRequirementDate(day);
-            model.updateFilteredDayList(predicate);
+            model.updateFilteredDayList(getSpecifiedDaysPredicate(model));
             return new CommandResult(String.format(MESSAGE_SUCCESS2, specifiedDate));
         }
     }
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.SyncResult;
+
+/**
+ * Syncs the task book with a folder shared with Tasketch on other computers.
+ */
+public class SyncCommand extends Command {
+
+    public static final String COMMAND_WORD = "sync";
+    public static final String COMMAND_PARAMETERS = "Parameters: FOLDER (a folder that Tasketch on other computers "
+            + "syncs with too, such as a folder on a network drive)\n";
+    public static final String COMMAND_EXAMPLE = "Example: " + COMMAND_WORD + " /media/usb/tasketch";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exchanges the tasks changed since the last sync "
+            + "with the folder specified, and merges the changes made on other computers.\n" + COMMAND_PARAMETERS
+            + COMMAND_EXAMPLE;
+
+    public static final String MESSAGE_SYNC_SUCCESS = "Synced with %1$s: %2$s task(s) changed here, "
+            + "%3$s change(s) sent.";
+    public static final String MESSAGE_CONFLICT = "\nConflict: %1$s";
+    public static final String MESSAGE_LOGIN = "Please login first";
+
+    private static final String MESSAGE_FAILURE = "Sync failed! Error: %1$s";
+
+    private final Path syncFolder;
+
+    public SyncCommand(Path syncFolder) {
+        requireNonNull(syncFolder);
+        this.syncFolder = syncFolder;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.getLoginStatus()) {
+            throw new CommandException(MESSAGE_LOGIN);
+        }
+
+        SyncResult result;
+        try {
+            result = model.syncTaskBook(syncFolder);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, ioe));
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, dce));
+        }
+
+        if (result.getReceivedCount() > 0) {
+            model.commitTaskBook();
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SYNC_SUCCESS, syncFolder,
+                result.getReceivedCount(), result.getSentCount()));
+        result.getConflicts().forEach(conflict -> message.append(String.format(MESSAGE_CONFLICT, conflict)));
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncCommand // instanceof handles nulls
+                && syncFolder.equals(((SyncCommand) other).syncFolder));
+    }
+}
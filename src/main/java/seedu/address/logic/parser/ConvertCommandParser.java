@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ConvertCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    /**
+     * Parses the given {@code args} of arguments in the context of the {@code ConvertCommand}
+     * and returns a {@code ConvertCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ConvertCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String[] filenames = args.trim().split("\\s+");
+        if (filenames.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ConvertCommand(ParserUtil.parseTaskBookFilename(filenames[0]),
+                    ParserUtil.parseTaskBookFilename(filenames[1]));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -4,9 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.nio.file.Path;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import seedu.address.export.ExportFormat;
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -68,13 +67,9 @@ public class ExportCommandParser implements Parser<ExportCommand> {
         }
     }
     /**
-     * Check whether the file type is json
+     * Check whether the file type is json, CSV or iCalendar
      */
-
     public boolean isValidFileType(String input) {
-        Pattern p = Pattern.compile(".*json.*");
-        Matcher m = p.matcher(input);
-        boolean isValid = m.matches();
-        return isValid;
+        return ExportFormat.ofFilename(input).isPresent();
     }
 }
@@ -22,9 +22,17 @@ public class ImportCommandParser implements Parser<ImportCommand> {
     public ImportCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
+        String[] arguments = args.trim().split("\\s+");
+        if (arguments.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
         try {
-            Path filePath = ParserUtil.parseFilename(args);
-            return new ImportCommand(filePath);
+            Path filePath = ParserUtil.parseImportFilename(arguments[0]);
+            if (arguments.length == 1) {
+                return new ImportCommand(filePath);
+            }
+            return new ImportCommand(filePath, ParserUtil.parseImportPolicy(arguments[1]));
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), pe);
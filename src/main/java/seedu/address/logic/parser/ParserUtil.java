@@ -2,7 +2,6 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.FileUtil.isValidPath;
-import static seedu.address.commons.util.FileUtil.isValidXmlFilename;
 import static seedu.address.model.Filetype.isValidFiletype;
 
 import java.nio.file.Path;
@@ -13,8 +12,10 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.export.ExportFormat;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Filetype;
+import seedu.address.model.ImportPolicy;
 import seedu.address.model.account.Password;
 import seedu.address.model.account.Username;
 import seedu.address.model.tag.Tag;
@@ -25,6 +26,7 @@ import seedu.address.model.task.EndTime;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.StartDate;
 import seedu.address.model.task.StartTime;
+import seedu.address.storage.TaskBookFormat;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -33,7 +35,11 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_FILENAME = "Filename is invalid.";
-    public static final String MESSAGE_INVALID_EXTENSION = "Filename must end with \".json\".";
+    public static final String MESSAGE_INVALID_EXTENSION = "Filename must end with \".json\", \".csv\" or \".ics\".";
+    public static final String MESSAGE_INVALID_TASK_BOOK_EXTENSION =
+            "Filename must end with \".json\", \".bin\", \".tasks\", \".db\" or \".segments\".";
+    public static final String MESSAGE_INVALID_FOLDER = "Folder name is invalid.";
+    public static final String MESSAGE_INVALID_IMPORT_POLICY = "Import policy must be skip, overwrite or rename.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -206,7 +212,7 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String filename} into a {@code Path}.
+     * Parses a {@code String filename} of a json, CSV or iCalendar file into a {@code Path}.
      * Leading and trailing whitespaces will be trimmed.
      *
      * @throws ParseException if the given {@code filename} is invalid.
@@ -218,12 +224,89 @@ public class ParserUtil {
         if (!isValidPath(trimmedFilename)) {
             throw new ParseException(MESSAGE_INVALID_FILENAME);
         }
-        if (!isValidXmlFilename(trimmedFilename)) {
+        if (!ExportFormat.ofFilename(trimmedFilename).isPresent()) {
             throw new ParseException(MESSAGE_INVALID_EXTENSION);
         }
         return Paths.get("data", trimmedFilename);
     }
 
+    /**
+     * Parses a {@code String filename} of the files to import into a {@code Path}: a json, CSV or iCalendar
+     * filename, which may be a pattern such as {@code exports/*.json}, or a folder name ending with a slash.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filename} is invalid.
+     */
+    public static Path parseImportFilename(String filename) throws ParseException {
+        requireNonNull(filename);
+
+        String trimmedFilename = filename.trim();
+        if (trimmedFilename.length() > 1 && (trimmedFilename.endsWith("/") || trimmedFilename.endsWith("\\"))) {
+            if (!isValidPath(trimmedFilename)) {
+                throw new ParseException(MESSAGE_INVALID_FILENAME);
+            }
+            return Paths.get("data", trimmedFilename);
+        }
+        return parseFilename(trimmedFilename);
+    }
+
+    /**
+     * Parses a {@code String filename} of a task book file in any {@code TaskBookFormat} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filename} is invalid.
+     */
+    public static Path parseTaskBookFilename(String filename) throws ParseException {
+        requireNonNull(filename);
+
+        String trimmedFilename = filename.trim();
+        if (!isValidPath(trimmedFilename)) {
+            throw new ParseException(MESSAGE_INVALID_FILENAME);
+        }
+        String lowercaseFilename = trimmedFilename.toLowerCase();
+        for (TaskBookFormat format : TaskBookFormat.values()) {
+            if (lowercaseFilename.length() > format.extension.length()
+                    && lowercaseFilename.endsWith(format.extension)) {
+                return Paths.get("data", trimmedFilename);
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_TASK_BOOK_EXTENSION);
+    }
+
+    /**
+     * Parses a {@code String folder} into a {@code Path}, which is taken to be in the data folder unless it is
+     * absolute. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code folder} is empty or invalid.
+     */
+    public static Path parseFolder(String folder) throws ParseException {
+        requireNonNull(folder);
+
+        String trimmedFolder = folder.trim();
+        if (trimmedFolder.isEmpty() || !isValidPath(trimmedFolder)) {
+            throw new ParseException(MESSAGE_INVALID_FOLDER);
+        }
+        Path folderPath = Paths.get(trimmedFolder);
+        return folderPath.isAbsolute() ? folderPath : Paths.get("data").resolve(folderPath);
+    }
+
+    /**
+     * Parses a {@code String policy} into an {@code ImportPolicy}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code policy} is not the name of an import policy.
+     */
+    public static ImportPolicy parseImportPolicy(String policy) throws ParseException {
+        requireNonNull(policy);
+        String trimmedPolicy = policy.trim();
+        for (ImportPolicy importPolicy : ImportPolicy.values()) {
+            if (importPolicy.name().equalsIgnoreCase(trimmedPolicy)) {
+                return importPolicy;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_IMPORT_POLICY);
+    }
+
     /**
      * Parses a {@code String username} into a {@code Password}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SyncCommand object
+ */
+public class SyncCommandParser implements Parser<SyncCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SyncCommand
+     * and returns a SyncCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SyncCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        try {
+            Path syncFolder = ParserUtil.parseFolder(args);
+            return new SyncCommand(syncFolder);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
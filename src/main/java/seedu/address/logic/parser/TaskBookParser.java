@@ -12,6 +12,7 @@ import seedu.address.logic.commands.AddAccountCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteAccountCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditAccountCommand;
@@ -31,7 +32,9 @@ import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.ShowTimeCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.TimelineCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -159,6 +162,15 @@ public class TaskBookParser {
         case ExportCommand.COMMAND_WORD:
             return new ExportCommandParser().parse(arguments);
 
+        case ConvertCommand.COMMAND_WORD:
+            return new ConvertCommandParser().parse(arguments);
+
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser().parse(arguments);
+
+        case SyncCommand.COMMAND_WORD:
+            return new SyncCommandParser().parse(arguments);
+
         default:
             List<String> listOfCommands = new WrongCommandSuggestion().getSuggestions(commandWord);
             if (listOfCommands == null) {
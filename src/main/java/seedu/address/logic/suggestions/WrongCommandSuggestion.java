@@ -6,6 +6,7 @@ import java.util.List;
 import seedu.address.logic.commands.AddAccountCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteAccountCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditAccountCommand;
@@ -25,7 +26,9 @@ import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.ShowTimeCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.TimelineCommand;
 import seedu.address.logic.commands.UndoCommand;
 
@@ -46,6 +49,7 @@ public class WrongCommandSuggestion implements Suggestion {
             AddCommand.COMMAND_WORD,
             AddAccountCommand.COMMAND_WORD,
             ClearCommand.COMMAND_WORD,
+            ConvertCommand.COMMAND_WORD,
             DeleteCommand.COMMAND_WORD,
             DeleteAccountCommand.COMMAND_WORD,
             EditCommand.COMMAND_WORD,
@@ -65,7 +69,9 @@ public class WrongCommandSuggestion implements Suggestion {
             MonthCommand.COMMAND_WORD,
             RedoCommand.COMMAND_WORD,
             RemindCommand.COMMAND_WORD,
+            RestoreCommand.COMMAND_WORD,
             ShowTimeCommand.COMMAND_WORD,
+            SyncCommand.COMMAND_WORD,
             TimelineCommand.COMMAND_WORD,
             UndoCommand.COMMAND_WORD,
         };
@@ -84,6 +84,21 @@ public class AccountList implements ReadOnlyAccountList {
         accounts.add(p);
     }
 
+    /**
+     * Adds an account to the account list at {@code index}.
+     * The account must not already exist in the account list.
+     */
+    public void addAccount(int index, Account p) {
+        accounts.add(index, p);
+    }
+
+    /**
+     * Returns the position of the equivalent account in the account list, or -1 if there is none.
+     */
+    public int indexOfAccount(Account account) {
+        return accounts.indexOf(account);
+    }
+
 
     /**
      * Replaces the given account {@code target} in the list with {@code editedAccount}.
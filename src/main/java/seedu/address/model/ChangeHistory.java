@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the changes made to a {@code T} by every commit, so that commits can be undone and redone
+ * by reverting and applying only what they changed.
+ * At most {@code limit} commits are kept; older commits can no longer be undone.
+ */
+class ChangeHistory<T> {
+
+    /**
+     * A change to a {@code T} that can be applied again after it has been reverted.
+     */
+    interface Change<T> {
+        void apply(T target);
+
+        void revert(T target);
+    }
+
+    private final Deque<List<Change<T>>> undoableCommits = new ArrayDeque<>();
+    private final Deque<List<Change<T>>> redoableCommits = new ArrayDeque<>();
+    private final int limit;
+    private List<Change<T>> uncommittedChanges = new ArrayList<>();
+    private boolean isReplaying = false;
+
+    ChangeHistory(int limit) {
+        checkArgument(limit >= 0, "History limit must not be negative.");
+        this.limit = limit;
+    }
+
+    /**
+     * Records {@code change} as part of the next commit.
+     * Changes made while a commit is being undone or redone are not recorded.
+     */
+    void record(Change<T> change) {
+        if (!isReplaying) {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    /**
+     * Ends the current commit. Undone commits can no longer be redone.
+     */
+    void commit() {
+        redoableCommits.clear();
+        undoableCommits.push(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        if (undoableCommits.size() > limit) {
+            undoableCommits.removeLast();
+        }
+    }
+
+    /**
+     * Forgets the uncommitted changes without reverting them, such as changes that cancel each other out.
+     */
+    void discardUncommittedChanges() {
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    boolean hasUncommittedChanges() {
+        return !uncommittedChanges.isEmpty();
+    }
+
+    /**
+     * Reverts the uncommitted changes on {@code target}, which is not the target they were recorded on,
+     * and keeps them uncommitted.
+     */
+    void revertUncommittedChangesOn(T target) {
+        revert(uncommittedChanges, target);
+    }
+
+    boolean canUndo() {
+        return !undoableCommits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoableCommits.isEmpty();
+    }
+
+    /**
+     * Reverts the uncommitted changes and the last commit on {@code target}.
+     * There must be a commit to undo.
+     */
+    void undo(T target) {
+        revertUncommittedChanges(target);
+        List<Change<T>> changes = undoableCommits.pop();
+        revert(changes, target);
+        redoableCommits.push(changes);
+    }
+
+    /**
+     * Reverts the uncommitted changes and applies the last undone commit on {@code target} again.
+     * There must be a commit to redo.
+     */
+    void redo(T target) {
+        revertUncommittedChanges(target);
+        List<Change<T>> changes = redoableCommits.pop();
+        isReplaying = true;
+        try {
+            changes.forEach(change -> change.apply(target));
+        } finally {
+            isReplaying = false;
+        }
+        undoableCommits.push(changes);
+    }
+
+    /**
+     * Performs {@code action} on every change kept, whether committed, undone or not committed yet.
+     */
+    void forEachChange(Consumer<Change<T>> action) {
+        undoableCommits.forEach(changes -> changes.forEach(action));
+        redoableCommits.forEach(changes -> changes.forEach(action));
+        uncommittedChanges.forEach(action);
+    }
+
+    private void revertUncommittedChanges(T target) {
+        revert(uncommittedChanges, target);
+        uncommittedChanges = new ArrayList<>();
+    }
+
+    private void revert(List<Change<T>> changes, T target) {
+        isReplaying = true;
+        try {
+            ListIterator<Change<T>> iterator = changes.listIterator(changes.size());
+            while (iterator.hasPrevious()) {
+                iterator.previous().revert(target);
+            }
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Returns true if both histories can undo and redo the same number of commits.
+     * The changes themselves are not compared, as different changes can lead to the same states.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ChangeHistory)) {
+            return false;
+        }
+
+        ChangeHistory<?> otherHistory = (ChangeHistory<?>) other;
+        return limit == otherHistory.limit
+                && undoableCommits.size() == otherHistory.undoableCommits.size()
+                && redoableCommits.size() == otherHistory.redoableCommits.size();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, undoableCommits.size(), redoableCommits.size());
+    }
+}
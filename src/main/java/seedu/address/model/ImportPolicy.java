@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * Represents how an imported task that has the same identity as a different task in the task book is handled.
+ */
+public enum ImportPolicy {
+    /** Keeps the task in the task book and leaves out the imported task. */
+    SKIP,
+    /** Replaces the task in the task book with the imported task. */
+    OVERWRITE,
+    /** Adds the imported task under a name that no other task has. */
+    RENAME
+}
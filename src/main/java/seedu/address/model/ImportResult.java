@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the outcome of importing tasks into the task book.
+ * Every imported task is either new, identical to a task in the task book, or conflicting with one:
+ * it has the same identity but different details.
+ * Guarantees: immutable.
+ */
+public class ImportResult {
+
+    private final int newCount;
+    private final int identicalCount;
+    private final int conflictingCount;
+    private final ImportPolicy policy;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ImportResult(int newCount, int identicalCount, int conflictingCount, ImportPolicy policy) {
+        requireNonNull(policy);
+        this.newCount = newCount;
+        this.identicalCount = identicalCount;
+        this.conflictingCount = conflictingCount;
+        this.policy = policy;
+    }
+
+    public int getNewCount() {
+        return newCount;
+    }
+
+    public int getIdenticalCount() {
+        return identicalCount;
+    }
+
+    public int getConflictingCount() {
+        return conflictingCount;
+    }
+
+    public ImportPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of imported tasks that were added to the task book or replaced a task in it.
+     */
+    public int getImportedCount() {
+        return policy == ImportPolicy.SKIP ? newCount : newCount + conflictingCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImportResult)) {
+            return false;
+        }
+        ImportResult otherResult = (ImportResult) other;
+        return newCount == otherResult.newCount
+                && identicalCount == otherResult.identicalCount
+                && conflictingCount == otherResult.conflictingCount
+                && policy == otherResult.policy;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(newCount, identicalCount, conflictingCount, policy);
+    }
+
+    @Override
+    public String toString() {
+        return newCount + " new, " + identicalCount + " identical, " + conflictingCount + " conflicting ("
+                + policy + ")";
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -27,6 +28,10 @@ public interface Model {
     Predicate<Day> PREDICATE_SHOW_ALL_DAYS = unused -> true;
 
     Predicate<Account> PREDICATE_SHOW_ALL_ACCOUNTS = unused -> true;
+
+    /** The most tasks the remind list shows. */
+    int REMINDER_LIMIT = 20;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -67,29 +72,73 @@ public interface Model {
      */
     ReadOnlyTaskBook getTaskBook();
 
+    /**
+     * Loads every task that was left in storage until a command needs it, so that the task book holds all of them.
+     * Commands that show or search the whole task book call this first.
+     */
+    void loadAllTasks();
+
+    /**
+     * Loads the tasks left in storage that might start, end or last from {@code fromDay} to {@code toDay},
+     * both epoch days. Commands that show the tasks of some days through a predicate call this first.
+     */
+    void loadTasksTouching(int fromDay, int toDay);
+
     /**
      * Returns true if a task with the same identity as {@code task} exists in the task book.
      */
     boolean hasTask(Task task);
 
+    /**
+     * Returns the tasks in the task book that start from {@code fromDay} to {@code toDay}, both inclusive.
+     * Both days are epoch days, as given by {@link seedu.address.model.task.StartDate#getEpochDay()}.
+     */
+    List<Task> getTasksStartingBetween(int fromDay, int toDay);
+
     /**
      * Deletes the given task.
      * The task must exist in the task book.
      */
     void deleteTask(Task target);
 
+    /**
+     * Deletes the given tasks.
+     * The tasks must exist in the task book.
+     */
     void deleteTaskList(List<Task> targets);
 
+    /**
+     * Makes the changes of {@code changes} to the task book all at once.
+     * The task book is unchanged if any of the changes is invalid.
+     * Returns true if a change was made.
+     */
+    boolean batch(Consumer<TaskBookTransaction> changes);
+
+    /**
+     * Shows the first tasks of every category by start time in the remind list.
+     */
     void sortRemindListByStart();
 
+    /**
+     * Shows the first tasks of every category by deadline in the remind list.
+     */
     void sortRemindListByEnd();
 
     void setRemindList(ObservableList<Task> remindList);
 
+    /**
+     * Shows only the first tasks of {@code str} category in the remind list, in the current order.
+     */
     void filterRemindList(String str);
 
+    /**
+     * Shows the first tasks of every category by start time in the remind list.
+     */
     void reinitializeRemindList();
 
+    /**
+     * Returns the first {@code REMINDER_LIMIT} tasks to remind of, which are kept up to date as tasks change.
+     */
     ObservableList<Task> getRemindTaskList();
 
     ObservableList<Task> getAllTaskList();
@@ -195,16 +244,43 @@ public interface Model {
     //=========== Import/ Export ==============================================================================
 
     /**
-     * Imports the persons from a xml at {@code importFilePath}.
+     * Imports the tasks from the json file at {@code importFilePath}, handling the tasks that conflict with
+     * tasks in the task book by {@code policy}.
      */
-    void importTasksFromTaskBook(Path importFilePath) throws IOException, DataConversionException;
+    ImportResult importTasksFromTaskBook(Path importFilePath, ImportPolicy policy)
+            throws IOException, DataConversionException;
 
     /**
-     * Adds all the persons in {@code addressBookImported} to the current address book.
-     *
-     * @return hasChanged is true if the addressBook is modified, returns false otherwise.
+     * Adds all the tasks in {@code taskBookImported} to the current task book in a single change.
+     * Tasks identical to a task in the task book are left out, and tasks with the same identity as a task in the
+     * task book but different details are handled by {@code policy}.
+     */
+    ImportResult addTasksToTaskBook(ReadOnlyTaskBook taskBookImported, ImportPolicy policy);
+
+    /**
+     * Adds all the tasks in {@code taskBooksImported}, in order, to the current task book in a single change, as
+     * {@link #addTasksToTaskBook(ReadOnlyTaskBook, ImportPolicy)} does for one task book. A task is compared with
+     * the tasks added from the task books before it too.
+     */
+    ImportResult addTasksToTaskBook(List<ReadOnlyTaskBook> taskBooksImported, ImportPolicy policy);
+
+    /**
+     * Syncs the task book with the sync folder {@code syncFolder} shared with the copies of Tasketch on other
+     * computers: applies the tasks changed elsewhere since the last sync in a single change, and writes the tasks
+     * changed here to the folder.
+     */
+    SyncResult syncTaskBook(Path syncFolder) throws IOException, DataConversionException;
+
+    /**
+     * Returns true if the sync state of the last sync has yet to be saved.
+     */
+    boolean hasUnsavedSyncState();
+
+    /**
+     * Saves the sync state of the last sync, if it has yet to be saved.
+     * Must only be called once the task book has been saved, with the tasks that sync received.
      */
-    boolean addTasksToTaskBook(ReadOnlyTaskBook addressBookToImported);
+    void saveSyncState() throws IOException;
 
     /**
      * Exports the current filtered person list to a xml file at {@code exportFilePath}.
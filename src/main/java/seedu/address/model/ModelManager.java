@@ -5,10 +5,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,16 +28,21 @@ import seedu.address.commons.events.model.AccountListChangedEvent;
 import seedu.address.commons.events.model.TaskBookChangedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ListDiffUtil;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.export.Export;
 import seedu.address.export.ExportManager;
 import seedu.address.export.Import;
 import seedu.address.export.ImportManager;
+import seedu.address.export.SyncManager;
 import seedu.address.model.account.Account;
 import seedu.address.model.account.LoggedInAccount;
 import seedu.address.model.account.Username;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.exceptions.DayNotFoundException;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskReminderIndex;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
 /**
@@ -48,77 +57,52 @@ public class ModelManager implements Model {
     private final FilteredList<Day> filteredDays;
     private final SimpleObjectProperty<Task> selectedTask = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Day> selectedDay = new SimpleObjectProperty<>();
-    private ObservableList<Task> remindList = FXCollections.observableArrayList();
+    private final ObservableList<Task> remindList = FXCollections.observableArrayList();
+    private TaskReminderIndex.Order remindOrder = TaskReminderIndex.Order.START;
+    private String remindCategory = null;
 
     private final VersionedAccountList versionedAccountList;
     private final FilteredList<Account> filteredAccounts;
     private final LoggedInAccount loggedInAccount;
 
-    private Comparator<Task> startComparator = new Comparator<Task>() {
-        @Override
-        public int compare(Task o1, Task o2) {
+    /** The tasks of the task book that are left in storage until needed, or null if every task is loaded. */
+    private final TaskArchive taskArchive;
 
-            String sdO1 = o1.getStartDate().toString();
-            String sd02 = o2.getStartDate().toString();
-            String[] dateInfo1 = sdO1.split("-");
-            String[] dateInfo2 = sd02.split("-");
-            String finalDate1 = dateInfo1[2] + dateInfo1[1] + dateInfo1[0];
-            String finalDate2 = dateInfo2[2] + dateInfo2[1] + dateInfo2[0];
-
-            if (finalDate1.compareTo(finalDate2) != 0) {
-
-                return finalDate1.compareTo(finalDate2);
-            } else {
-
-                return o1.getStartTime().toString().compareTo(o2.getStartTime().toString());
-            }
-        }
-    };
-
-    private Comparator<Task> endComparator = new Comparator<Task>() {
-        @Override
-        public int compare(Task o1, Task o2) {
-
-            String sdO1 = o1.getEndDate().toString();
-            String sd02 = o2.getEndDate().toString();
-            String[] dateInfo1 = sdO1.split("-");
-            String[] dateInfo2 = sd02.split("-");
-            String finalDate1 = dateInfo1[2] + dateInfo1[1] + dateInfo1[0];
-            String finalDate2 = dateInfo2[2] + dateInfo2[1] + dateInfo2[0];
-
-            if (finalDate1.compareTo(finalDate2) != 0) {
-
-                return finalDate1.compareTo(finalDate2);
-            } else {
-
-                return o1.getStartTime().toString().compareTo(o2.getStartTime().toString());
-            }
-        }
-    };
+    /** The last sync, if its sync state has yet to be saved. */
+    private SyncManager unsavedSync;
 
     /**
      * Initializes a ModelManager with the given taskBook, userPrefs and accountList.
      */
     public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs, ReadOnlyAccountList accountList) {
+        this(taskBook, userPrefs, accountList, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskBook, userPrefs and accountList, where the tasks of
+     * {@code taskArchive} are loaded into the task book when a command needs them.
+     */
+    public ModelManager(ReadOnlyTaskBook taskBook, ReadOnlyUserPrefs userPrefs, ReadOnlyAccountList accountList,
+            TaskArchive taskArchive) {
         super();
         requireAllNonNull(taskBook, userPrefs, accountList);
+        this.taskArchive = taskArchive;
 
         logger.fine("Initializing with task book: " + taskBook
                 + " and user prefs " + userPrefs + " and accounts" + accountList);
 
-        versionedAccountList = new VersionedAccountList(accountList);
+        versionedAccountList = new VersionedAccountList(accountList, userPrefs.getUndoHistoryLimit());
         filteredAccounts = new FilteredList<>(versionedAccountList.getAccountList());
         loggedInAccount = new LoggedInAccount();
 
-        versionedTaskBook = new VersionedTaskBook(taskBook);
+        versionedTaskBook = new VersionedTaskBook(taskBook, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTasks = new FilteredList<>(versionedTaskBook.getTaskList());
         filteredTasks.addListener(this::ensureSelectedTaskIsValid);
         filteredDays = new FilteredList<>(versionedTaskBook.getDayList());
         filteredDays.addListener(this::ensureSelectedDayIsValid);
-        for (Task task : versionedTaskBook.getTaskList()) {
-            remindList.add(task);
-        }
+        versionedTaskBook.addListener(observable -> refreshRemindList());
+        refreshRemindList();
     }
 
 
@@ -159,12 +143,15 @@ public class ModelManager implements Model {
     public void setTaskBookFilePath(Path taskBookFilePath) {
         requireNonNull(taskBookFilePath);
         userPrefs.setTaskBookFilePath(taskBookFilePath);
+        // the sync state kept next to the new file may be of other changes
+        versionedTaskBook.stopRecordingChangedTasks();
     }
 
     //=========== TaskBook ================================================================================
 
     @Override
     public void setTaskBook(ReadOnlyTaskBook taskBook) {
+        loadAllTasks();
         versionedTaskBook.resetData(taskBook);
     }
 
@@ -176,12 +163,70 @@ public class ModelManager implements Model {
     private void indicateTaskBookChanged() {
         new TaskBookChangedEvent(versionedTaskBook);
     }
+
+    @Override
+    public void loadAllTasks() {
+        loadArchivedTasks(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void loadTasksTouching(int fromDay, int toDay) {
+        loadArchivedTasks(fromDay, toDay);
+    }
+
+    /**
+     * Loads the tasks left in the task archive that might start, end or last from {@code fromDay} to {@code toDay}.
+     * Tasks that cannot be loaded are left in the archive.
+     */
+    private void loadArchivedTasks(int fromDay, int toDay) {
+        if (fromDay <= toDay) {
+            loadArchivedTasks(archive -> archive.loadTasksTouching(fromDay, toDay));
+        }
+    }
+
+    /**
+     * Loads the tasks that {@code query} returns from the task archive, if some tasks are still left in it.
+     * Tasks that cannot be loaded are left in the archive.
+     */
+    private void loadArchivedTasks(ArchiveQuery query) {
+        if (taskArchive == null || taskArchive.isFullyLoaded()) {
+            return;
+        }
+        try {
+            List<Task> tasks = query.load(taskArchive);
+            tasks.removeIf(versionedTaskBook::hasTask);
+            versionedTaskBook.addArchivedTasks(tasks);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to load archived tasks: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Loads the tasks left in the task archive that are stored together with tasks on the days of {@code task}.
+     */
+    private void loadArchivedTasksAround(Task task) {
+        int startDay = task.getStartDate().getEpochDay();
+        int endDay = task.getEndDate().getEpochDay();
+        loadArchivedTasks(Math.min(startDay, endDay), Math.max(startDay, endDay));
+    }
+
     @Override
     public boolean hasTask(Task task) {
         requireNonNull(task);
+        if (versionedTaskBook.hasTask(task)) {
+            return true;
+        }
+        // Task names are unique across the whole task book, so a task of the same name is loaded if it is stored.
+        loadArchivedTasks(archive -> archive.loadTasksNamed(task.getName()));
         return versionedTaskBook.hasTask(task);
     }
 
+    @Override
+    public List<Task> getTasksStartingBetween(int fromDay, int toDay) {
+        loadArchivedTasks(fromDay, toDay);
+        return versionedTaskBook.getTasksStartingBetween(fromDay, toDay);
+    }
+
     @Override
     public void deleteTask(Task target) {
         versionedTaskBook.removeTask(target);
@@ -189,33 +234,39 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteTaskList(List<Task> targets) {
-        for (Task target : targets) {
-            versionedTaskBook.removeTask(target);
-        }
+        requireNonNull(targets);
+        batch(transaction -> targets.forEach(transaction::removeTask));
+    }
+
+    @Override
+    public boolean batch(Consumer<TaskBookTransaction> changes) {
+        return versionedTaskBook.batch(changes);
     }
 
     @Override
     public void sortRemindListByStart() {
-        FXCollections.sort(remindList, startComparator);
+        remindOrder = TaskReminderIndex.Order.START;
+        remindCategory = null;
+        refreshRemindList();
     }
 
     @Override
     public void sortRemindListByEnd() {
-        FXCollections.sort(remindList, endComparator);
-
+        remindOrder = TaskReminderIndex.Order.DEADLINE;
+        remindCategory = null;
+        refreshRemindList();
     }
 
     @Override
     public void reinitializeRemindList() {
-        remindList = FXCollections.observableArrayList();
-        for (Task task : versionedTaskBook.getTaskList()) {
-            remindList.add(task);
-        }
+        remindOrder = TaskReminderIndex.Order.START;
+        remindCategory = null;
+        refreshRemindList();
     }
 
     @Override
     public void setRemindList(ObservableList<Task> remindList) {
-        this.remindList = remindList;
+        this.remindList.setAll(remindList);
     }
 
     @Override
@@ -225,8 +276,16 @@ public class ModelManager implements Model {
 
     @Override
     public void filterRemindList(String str) {
-        Predicate<Task> predicate = task -> meetRequirement(task, str);
-        remindList = remindList.filtered(predicate);
+        remindCategory = str;
+        refreshRemindList();
+    }
+
+    /**
+     * Replaces the remind list with the first {@code REMINDER_LIMIT} tasks of the remind category
+     * in the remind order.
+     */
+    private void refreshRemindList() {
+        ListDiffUtil.setAll(remindList, versionedTaskBook.getFirstTasks(remindOrder, remindCategory, REMINDER_LIMIT));
     }
 
     @Override
@@ -236,6 +295,7 @@ public class ModelManager implements Model {
 
     @Override
     public void addTask(Task task) {
+        loadArchivedTasksAround(task);
         versionedTaskBook.addTask(task);
         updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
         updateFilteredDayList(PREDICATE_SHOW_ALL_DAYS);
@@ -245,10 +305,13 @@ public class ModelManager implements Model {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
+        loadArchivedTasksAround(editedTask);
         versionedTaskBook.setTask(target, editedTask);
     }
+
     @Override
     public void resetData(ReadOnlyTaskBook newData) {
+        loadAllTasks();
         versionedTaskBook.resetData(newData);
     }
 
@@ -381,41 +444,103 @@ public class ModelManager implements Model {
         }
     }
 
-    /**
-     * Determine the predicate
-     */
-    private boolean meetRequirement(Task task, String givenCategory) {
-        if (task.getCategories().value.equals(givenCategory)) {
-
-            return true;
-        } else {
-
-            return false;
-        }
-    }
     //=========== Import/ Export ==============================================================================
     @Override
-    public void importTasksFromTaskBook(Path importFilePath) throws IOException, DataConversionException {
+    public ImportResult importTasksFromTaskBook(Path importFilePath, ImportPolicy policy)
+            throws IOException, DataConversionException {
         Import importManager = new ImportManager(importFilePath);
         ReadOnlyTaskBook taskBookImported = importManager.readTaskBook().orElseThrow(IOException::new);
-        boolean hasChanged = addTasksToTaskBook(taskBookImported);
+        ImportResult result = addTasksToTaskBook(taskBookImported, policy);
 
-        if (hasChanged) {
+        if (result.getImportedCount() > 0) {
             updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
             indicateTaskBookChanged();
         }
-    }
-    @Override
-    public boolean addTasksToTaskBook(ReadOnlyTaskBook addressBookImported) {
-        ObservableList<Task> tasks = addressBookImported.getTaskList();
-        AtomicBoolean hasChanged = new AtomicBoolean(false);
-        tasks.forEach((task) -> {
-            if (!hasTask(task)) {
-                hasChanged.set(true);
-                versionedTaskBook.addTask(task);
+        return result;
+    }
+
+    @Override
+    public ImportResult addTasksToTaskBook(ReadOnlyTaskBook taskBookImported, ImportPolicy policy) {
+        requireNonNull(taskBookImported);
+        return addTasksToTaskBook(Collections.singletonList(taskBookImported), policy);
+    }
+
+    @Override
+    public ImportResult addTasksToTaskBook(List<ReadOnlyTaskBook> taskBooksImported, ImportPolicy policy) {
+        requireAllNonNull(taskBooksImported, policy);
+        loadAllTasks();
+        AtomicInteger newCount = new AtomicInteger();
+        AtomicInteger identicalCount = new AtomicInteger();
+        AtomicInteger conflictingCount = new AtomicInteger();
+        batch(transaction -> {
+            for (ReadOnlyTaskBook taskBookImported : taskBooksImported) {
+                for (Task task : taskBookImported.getTaskList()) {
+                    Optional<Task> existingTask = transaction.getTask(task.getName());
+                    if (!existingTask.isPresent()) {
+                        transaction.addTask(task);
+                        newCount.incrementAndGet();
+                    } else if (existingTask.get().hasSameDetails(task)) {
+                        identicalCount.incrementAndGet();
+                    } else {
+                        conflictingCount.incrementAndGet();
+                        if (policy == ImportPolicy.OVERWRITE) {
+                            transaction.setTask(existingTask.get(), task);
+                        } else if (policy == ImportPolicy.RENAME) {
+                            transaction.addTask(withUnusedName(task, transaction));
+                        }
+                    }
+                }
             }
         });
-        return hasChanged.get();
+        return new ImportResult(newCount.get(), identicalCount.get(), conflictingCount.get(), policy);
+    }
+
+    /**
+     * Returns a copy of {@code task} named after it with the lowest number from 2 up that makes its name unused
+     * in {@code transaction}.
+     */
+    private static Task withUnusedName(Task task, TaskBookTransaction transaction) {
+        Name name;
+        int number = 2;
+        do {
+            name = new Name(task.getName() + " " + number++);
+        } while (transaction.getTask(name).isPresent());
+        return new Task(name, task.getStartDate(), task.getStartTime(), task.getEndDate(), task.getEndTime(),
+                task.getDescription(), task.getCategories(), task.getTags());
+    }
+
+    @Override
+    public SyncResult syncTaskBook(Path syncFolder) throws IOException, DataConversionException {
+        requireNonNull(syncFolder);
+        loadAllTasks();
+        SyncManager syncManager = new SyncManager(getTaskBookFilePath(), syncFolder);
+        // The tasks received by the sync are not changes made here, and the changes made here are only known again
+        // once its sync state is saved. Until then, and before the first sync since Tasketch started, every task is
+        // compared with its last synced version instead.
+        Optional<Set<Name>> changedNames = versionedTaskBook.stopRecordingChangedTasks();
+        SyncResult result = changedNames.isPresent()
+                ? syncManager.sync(versionedTaskBook, changedNames.get())
+                : syncManager.sync(versionedTaskBook);
+        unsavedSync = syncManager;
+
+        if (result.getReceivedCount() > 0) {
+            updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasUnsavedSyncState() {
+        return unsavedSync != null;
+    }
+
+    @Override
+    public void saveSyncState() throws IOException {
+        if (unsavedSync != null) {
+            unsavedSync.saveState();
+            unsavedSync = null;
+            versionedTaskBook.startRecordingChangedTasks();
+        }
     }
 
     @Override
@@ -587,4 +712,12 @@ public class ModelManager implements Model {
         });
         return hasChanged.get();
     }
+
+    /**
+     * Reads some of the tasks left in a task archive.
+     */
+    @FunctionalInterface
+    private interface ArchiveQuery {
+        List<Task> load(TaskArchive archive) throws DataConversionException, IOException;
+    }
 }
@@ -16,4 +16,10 @@ public interface ReadOnlyTaskBook extends Observable {
      */
     ObservableList<Task> getTaskList();
     ObservableList<Day> getDayList();
+
+    /**
+     * Returns a hash of the tasks that does not depend on their order.
+     * Task books with different fingerprints have different tasks.
+     */
+    long getFingerprint();
 }
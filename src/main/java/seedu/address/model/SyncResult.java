@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the outcome of syncing the task book with a shared folder: how many task changes were received from
+ * the folder and sent to it, and the tasks that were changed both here and elsewhere in ways that could not be
+ * merged.
+ * Guarantees: immutable.
+ */
+public class SyncResult {
+
+    private final int receivedCount;
+    private final int sentCount;
+    private final List<String> conflicts;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public SyncResult(int receivedCount, int sentCount, List<String> conflicts) {
+        requireNonNull(conflicts);
+        this.receivedCount = receivedCount;
+        this.sentCount = sentCount;
+        this.conflicts = Collections.unmodifiableList(new ArrayList<>(conflicts));
+    }
+
+    /**
+     * Returns the number of tasks that were added, edited or deleted in the task book by the sync.
+     */
+    public int getReceivedCount() {
+        return receivedCount;
+    }
+
+    /**
+     * Returns the number of task changes written to the shared folder.
+     */
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * Returns a description of every conflict, and how it was resolved, in the order they were found.
+     */
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SyncResult)) {
+            return false;
+        }
+        SyncResult otherResult = (SyncResult) other;
+        return receivedCount == otherResult.receivedCount
+                && sentCount == otherResult.sentCount
+                && conflicts.equals(otherResult.conflicts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(receivedCount, sentCount, conflicts);
+    }
+
+    @Override
+    public String toString() {
+        return receivedCount + " received, " + sentCount + " sent, " + conflicts.size() + " conflicting";
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+
+/**
+ * The tasks of a task book that are left in storage until a command needs them.
+ */
+public interface TaskArchive {
+
+    /**
+     * Returns true if every task has been loaded.
+     */
+    boolean isFullyLoaded();
+
+    /**
+     * Loads and returns the tasks not loaded yet that might start, end or last from {@code fromDay} to {@code toDay},
+     * as epoch days. Other tasks stored together with them may be returned too.
+     *
+     * @throws DataConversionException if the stored tasks are not in the correct format.
+     */
+    List<Task> loadTasksTouching(int fromDay, int toDay) throws DataConversionException, IOException;
+
+    /**
+     * Loads and returns the task not loaded yet that is named {@code name}, if there is one, without reading the
+     * tasks of other names where possible. Other tasks stored together with it may be returned too.
+     *
+     * @throws DataConversionException if the stored tasks are not in the correct format.
+     */
+    List<Task> loadTasksNamed(Name name) throws DataConversionException, IOException;
+}
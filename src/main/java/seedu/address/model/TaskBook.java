@@ -2,10 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -13,7 +16,9 @@ import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.day.UniqueDayList;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskReminderIndex;
 import seedu.address.model.task.UniqueTaskList;
 
 /**
@@ -24,8 +29,8 @@ public class TaskBook implements ReadOnlyTaskBook {
 
     private final UniqueTaskList tasks;
     private final UniqueDayList days;
-    private Map<Date, Day> dayMap;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private long fingerprint = 0;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -37,7 +42,6 @@ public class TaskBook implements ReadOnlyTaskBook {
     {
         tasks = new UniqueTaskList();
         days = new UniqueDayList();
-        dayMap = new HashMap<>();
     }
 
     public TaskBook() {}
@@ -53,51 +57,88 @@ public class TaskBook implements ReadOnlyTaskBook {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the task list with {@code tasks}.
+     * Replaces the contents of the task list with {@code tasks} and the day list with {@code days},
+     * which were built from tasks with the fingerprint {@code daysFingerprint}.
+     * The days are rebuilt from {@code tasks} instead if they were built from other tasks.
+     * {@code tasks} must not contain duplicate tasks, and {@code days} must not contain duplicate days.
+     */
+    public void setDatas(List<Task> tasks, List<Day> days, long daysFingerprint) {
+        this.tasks.setTasks(tasks);
+        fingerprint = tasks.stream().mapToLong(TaskBook::fingerprintOf).sum();
+        if (fingerprint == daysFingerprint) {
+            this.days.setDays(days);
+        } else {
+            resetDayMap(tasks);
+        }
+        indicateModified();
+    }
+
+    /**
+     * Replaces the contents of the task list with {@code tasks} and rebuilds the days from them.
      * {@code tasks} must not contain duplicate tasks.
      */
-    public void setDatas(List<Task> tasks, List<Day> days) {
+    public void setTasks(List<Task> tasks) {
         this.tasks.setTasks(tasks);
-        this.days.setDays(days);
-        this.dayMap = new HashMap<>();
+        fingerprint = tasks.stream().mapToLong(TaskBook::fingerprintOf).sum();
         resetDayMap(tasks);
         indicateModified();
     }
 
     /**
-     * Reset the dayMap after reset data
+     * Rebuilds the days from {@code tasks} and replaces the day list in a single change.
      * @param tasks
      */
     public void resetDayMap(List<Task> tasks) {
-        dayMap.clear();
-        days.clear();
-        for (int i = 0; i <= tasks.size() - 1; i++) {
-            Task t = tasks.get(i);
-            String dateS = t.getStartDate().toString();
-            String dateE = t.getEndDate().toString();
-            if (dateS.equalsIgnoreCase(dateE)) {
-                addingDay(t, dateS);
+        Map<Date, Day> dayMap = new HashMap<>();
+        for (Task t : tasks) {
+            if (isSingleDayTask(t)) {
+                Date date = new Date(t.getStartDate().toString());
+                dayMap.computeIfAbsent(date, Day::new).addCategory(t);
             }
         }
+        days.setDays(new ArrayList<>(dayMap.values()));
     }
 
     /**
-     * Adding day into dayMap and days
+     * Adds the time of {@code t} to its day, creating the day if it does not exist yet.
+     * An existing day is updated in place.
      * @param dateS
      */
     public void addingDay(Task t, String dateS) {
         Date date = new Date(dateS);
-        if (!dayMap.containsKey(date)) {
-            dayMap.put(date, new Day(date));
-            Day a = dayMap.get(date);
-            days.add(a);
+        Day d = days.get(date);
+        if (d == null) {
+            d = new Day(date);
+            d.addCategory(t);
+            days.add(d);
+            return;
         }
-        Day d = dayMap.get(date);
-        dayMap.remove(date, d);
-        days.remove(d);
         d.addCategory(t);
-        dayMap.put(date, d);
-        addDay(d);
+        days.refresh(d);
+    }
+
+    /**
+     * Deducts the time of {@code t} from its day, removing the day once it is empty.
+     * An existing day is updated in place.
+     */
+    private void removingDay(Task t, String dateS) {
+        Day d = days.get(new Date(dateS));
+        if (d == null) {
+            return;
+        }
+        d.removeCategory(t);
+        if (d.isDayEmpty()) {
+            days.remove(d);
+        } else {
+            days.refresh(d);
+        }
+    }
+
+    /**
+     * Returns true if {@code t} starts and ends on the same date, which is when it counts towards a day.
+     */
+    private static boolean isSingleDayTask(Task t) {
+        return t.getStartDate().toString().equalsIgnoreCase(t.getEndDate().toString());
     }
 
     /**
@@ -106,7 +147,8 @@ public class TaskBook implements ReadOnlyTaskBook {
     public void resetData(ReadOnlyTaskBook newData) {
         requireNonNull(newData);
 
-        setDatas(newData.getTaskList(), newData.getDayList());
+        // Days are updated in place as tasks change, so they are rebuilt rather than shared with newData.
+        setTasks(newData.getTaskList());
     }
 
     //// task-level operations
@@ -119,27 +161,57 @@ public class TaskBook implements ReadOnlyTaskBook {
         return tasks.contains(task);
     }
 
+    /**
+     * Returns the task in the task book that has the given {@code name}, if any.
+     */
+    public Optional<Task> getTask(Name name) {
+        return tasks.get(name);
+    }
+
+    /**
+     * Returns the position of the task with the same identity as {@code task} in the task list,
+     * or -1 if there is none.
+     */
+    public int indexOfTask(Task task) {
+        requireNonNull(task);
+        return tasks.indexOf(task);
+    }
+
+    /**
+     * Returns the tasks that start from {@code fromDay} to {@code toDay}, both inclusive, as epoch days.
+     */
+    public List<Task> getTasksStartingBetween(int fromDay, int toDay) {
+        return tasks.getTasksStartingBetween(fromDay, toDay);
+    }
+
+    /**
+     * Returns at most {@code limit} tasks of {@code category}, or of every category if {@code category} is null,
+     * first in {@code order}.
+     */
+    public List<Task> getFirstTasks(TaskReminderIndex.Order order, String category, int limit) {
+        return category == null
+                ? tasks.getFirstTasks(order, limit)
+                : tasks.getFirstTasks(order, category, limit);
+    }
+
     /**
      * Adds a task to the task book.
      * The task must not already exist in the task book.
      */
     public void addTask(Task t) {
-        tasks.add(t);
-        String dateS = t.getStartDate().toString();
-        String dateE = t.getEndDate().toString();
-        if (dateS.equalsIgnoreCase(dateE)) {
-            addingDay(t, dateS);
-            return;
-        }
-        indicateModified();
+        addTask(tasks.asUnmodifiableObservableList().size(), t);
     }
 
     /**
-     * Add day into uniqueDayList
-     * @param d
+     * Adds a task to the task book at position {@code index} of the task list.
+     * The task must not already exist in the task book.
      */
-    public void addDay(Day d) {
-        days.add(d);
+    public void addTask(int index, Task t) {
+        tasks.add(index, t);
+        fingerprint += fingerprintOf(t);
+        if (isSingleDayTask(t)) {
+            addingDay(t, t.getStartDate().toString());
+        }
         indicateModified();
     }
 
@@ -150,75 +222,31 @@ public class TaskBook implements ReadOnlyTaskBook {
      */
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
+        Task replaced = tasks.get(target);
         tasks.setTask(target, editedTask);
+        fingerprint += fingerprintOf(editedTask) - fingerprintOf(replaced);
+
+        boolean isTargetSingleDay = isSingleDayTask(target);
+        boolean isEditedSingleDay = isSingleDayTask(editedTask);
         String targetDateS = target.getStartDate().toString();
-        String targetDateE = target.getEndDate().toString();
         String editedDateS = editedTask.getStartDate().toString();
-        String editedDateE = editedTask.getEndDate().toString();
-
-        if (targetDateE.equalsIgnoreCase(targetDateS) && !editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date date = new Date(targetDateS);
-            if (!dayMap.containsKey(date)) {
-            }
-            Day d = dayMap.get(date);
-            days.remove(d);
-            dayMap.remove(date, d);
-            d.removeCategory(target);
-            if (!d.isDayEmpty()) {
-                days.add(d);
-                dayMap.put(date, d);
-            }
-            indicateModified();
-        } else if (!targetDateE.equalsIgnoreCase(targetDateS) && editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date date = new Date(editedDateS);
-            if (!dayMap.containsKey(date)) {
-                dayMap.put(date, new Day(date));
-                Day a = dayMap.get(date);
-                dayMap.remove(date, a);
-                days.add(a);
-                dayMap.put(date, a);
-            }
-            Day d = dayMap.get(date);
-            dayMap.remove(date, d);
-            days.remove(d);
-            d.addCategory(editedTask);
-            addDay(d);
-            dayMap.put(date, d);
-            indicateModified();
-        } else if (targetDateE.equalsIgnoreCase(targetDateS) && editedDateE.equalsIgnoreCase(editedDateS)) {
-            Date targetStartDate = new Date(targetDateS);
-            Date editedStartDate = new Date(editedDateS);
-
-            if (!targetStartDate.equals(editedStartDate)) {
-                if (!dayMap.containsKey(editedStartDate)) {
-                    dayMap.put(editedStartDate, new Day(editedStartDate));
-                }
-                Day eD = dayMap.get(editedStartDate);
-                dayMap.remove(editedStartDate, eD);
-                days.add(eD);
-                days.remove(eD);
-                eD.addCategory(editedTask);
-                days.add(eD);
-                dayMap.put(editedStartDate, eD);
-
-                Day tD = dayMap.get(targetStartDate);
-                dayMap.remove(targetStartDate, tD);
-                days.remove(tD);
-                tD.removeCategory(target);
-                days.add(tD);
-                dayMap.put(targetStartDate, tD);
 
+        if (isTargetSingleDay && isEditedSingleDay && targetDateS.equals(editedDateS)) {
+            Day d = days.get(new Date(targetDateS));
+            if (d != null) {
+                d.editCategory(target, editedTask);
+                days.refresh(d);
                 indicateModified();
                 return;
             }
-            Day tD = dayMap.get(targetStartDate);
-            dayMap.remove(targetStartDate, tD);
-            days.remove(tD);
-            tD.editCategory(target, editedTask);
-            addDay(tD);
-            dayMap.put(targetStartDate, tD);
-            indicateModified();
         }
+        if (isTargetSingleDay) {
+            removingDay(target, targetDateS);
+        }
+        if (isEditedSingleDay) {
+            addingDay(editedTask, editedDateS);
+        }
+        indicateModified();
     }
 
     /**
@@ -226,29 +254,31 @@ public class TaskBook implements ReadOnlyTaskBook {
      * {@code key} must exist in the task book.
      */
     public void removeTask(Task key) {
-        String dateS = key.getStartDate().toString();
-        String dateE = key.getEndDate().toString();
-        if (dateS.equalsIgnoreCase(dateE)) {
-            Date date = new Date(dateS);
-            if (dayMap.containsKey(date)) {
-
-                Day d = dayMap.get(date);
-                dayMap.remove(date, d);
-                days.remove(d);
-                d.removeCategory(key);
-                if (!d.isDayEmpty()) {
-                    days.add(d);
-                    dayMap.put(date, d);
-                }
-                tasks.remove(key);
-                indicateModified();
-                return;
-            }
-        }
+        Task removed = tasks.get(key);
         tasks.remove(key);
+        fingerprint -= fingerprintOf(removed);
+        if (isSingleDayTask(removed)) {
+            removingDay(removed, removed.getStartDate().toString());
+        }
         indicateModified();
     }
 
+    /**
+     * Makes the changes of {@code changes} to the tasks in a single change of the task list and the day list.
+     * Listeners are notified once, and only if a change was made.
+     * Returns true if a change was made.
+     */
+    public boolean batch(Consumer<TaskBookTransaction> changes) {
+        requireNonNull(changes);
+        TaskBookTransaction transaction = new TaskBookTransaction(getTaskList());
+        changes.accept(transaction);
+        if (!transaction.hasChanged()) {
+            return false;
+        }
+        setTasks(transaction.getTasks());
+        return true;
+    }
+
     /**
      * Sort tasks in the storage by given comparator.
      */
@@ -258,6 +288,25 @@ public class TaskBook implements ReadOnlyTaskBook {
     }
 
 
+    /**
+     * Returns the sum of the fingerprints of every task, which is kept up to date as tasks are changed.
+     * Reordering the tasks does not change the fingerprint.
+     */
+    @Override
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns a 64-bit hash of every field of {@code task}.
+     */
+    private static long fingerprintOf(Task task) {
+        long hash = task.hashCode() * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -297,6 +346,7 @@ public class TaskBook implements ReadOnlyTaskBook {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TaskBook // instanceof handles nulls
+                && fingerprint == ((TaskBook) other).fingerprint // fast path for task books with different tasks
                 && tasks.equals(((TaskBook) other).tasks));
     }
 
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * Buffers changes to the tasks of a {@code TaskBook} so that they can be applied all at once.
+ * The task book is left unchanged until the transaction is applied, and is not changed at all
+ * if the changes made in the transaction are invalid.
+ *
+ * @see TaskBook#batch(java.util.function.Consumer)
+ */
+public class TaskBookTransaction {
+
+    /** The tasks of the task book with the buffered changes, where removed tasks are left as nulls. */
+    private final List<Task> tasks;
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private boolean hasChanged = false;
+
+    TaskBookTransaction(List<Task> tasks) {
+        this.tasks = new ArrayList<>(tasks);
+        for (int i = 0; i < this.tasks.size(); i++) {
+            positions.put(this.tasks.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns true if a task with the same identity as {@code task} is in the task book after the buffered changes.
+     */
+    public boolean hasTask(Task task) {
+        requireNonNull(task);
+        return positions.containsKey(task.getName());
+    }
+
+    /**
+     * Returns the task in the task book after the buffered changes that has the given {@code name}, if any.
+     */
+    public Optional<Task> getTask(Name name) {
+        requireNonNull(name);
+        Integer index = positions.get(name);
+        return index == null ? Optional.empty() : Optional.of(tasks.get(index));
+    }
+
+    /**
+     * Adds a task to the end of the task list.
+     * The task must not already exist in the task book.
+     */
+    public void addTask(Task task) {
+        requireNonNull(task);
+        if (hasTask(task)) {
+            throw new DuplicateTaskException();
+        }
+        positions.put(task.getName(), tasks.size());
+        tasks.add(task);
+        hasChanged = true;
+    }
+
+    /**
+     * Replaces the given task {@code target} with {@code editedTask}.
+     * {@code target} must exist in the task book.
+     * The task identity of {@code editedTask} must not be the same as another existing task in the task book.
+     */
+    public void setTask(Task target, Task editedTask) {
+        requireAllNonNull(target, editedTask);
+        Integer index = positions.get(target.getName());
+        if (index == null) {
+            throw new TaskNotFoundException();
+        }
+        if (!target.isSameTask(editedTask) && hasTask(editedTask)) {
+            throw new DuplicateTaskException();
+        }
+        positions.remove(target.getName());
+        positions.put(editedTask.getName(), index);
+        tasks.set(index, editedTask);
+        hasChanged = true;
+    }
+
+    /**
+     * Removes the equivalent task from the task book.
+     * The task must exist in the task book.
+     */
+    public void removeTask(Task key) {
+        requireNonNull(key);
+        Integer index = positions.remove(key.getName());
+        if (index == null) {
+            throw new TaskNotFoundException();
+        }
+        tasks.set(index, null);
+        hasChanged = true;
+    }
+
+    /**
+     * Returns true if any change has been buffered.
+     */
+    public boolean hasChanged() {
+        return hasChanged;
+    }
+
+    /**
+     * Returns the tasks of the task book with the buffered changes.
+     */
+    List<Task> getTasks() {
+        return tasks.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,6 +19,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path daysKeeperFilePath = Paths.get("data" , "dayskeeper.json");
     private Path exportCsvFilePath = Paths.get("data", "tasketch.json");
     private Path accountListFilePath = Paths.get("data" , "AccountList.json");
+    private int undoHistoryLimit = VersionedTaskBook.DEFAULT_HISTORY_LIMIT;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskBookFilePath(newUserPrefs.getTaskBookFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -65,6 +68,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     }
 
 
+    /**
+     * Returns the number of commands that can be undone. A negative limit read from the preferences file
+     * counts as the default limit.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit < 0 ? VersionedTaskBook.DEFAULT_HISTORY_LIMIT : undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit >= 0, "Undo history limit must not be negative.");
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
     public Path getExportCsvFilePath() {
         return exportCsvFilePath;
     }
@@ -90,7 +106,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && taskBookFilePath.equals(o.taskBookFilePath)
                 && daysKeeperFilePath.equals(o.daysKeeperFilePath)
                 && exportCsvFilePath.equals(o.exportCsvFilePath)
-                && taskBookFilePath.equals(o.taskBookFilePath);
+                && taskBookFilePath.equals(o.taskBookFilePath)
+                && getUndoHistoryLimit() == o.getUndoHistoryLimit();
     }
 
     @Override
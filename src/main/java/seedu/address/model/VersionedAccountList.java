@@ -1,41 +1,85 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.model.account.Account;
+
 
 /**
  * {@code AccountList} that keeps track of its own history.
+ * Every commit keeps only the accounts it added, removed or replaced, which undo reverts and redo applies again.
  */
 public class VersionedAccountList extends AccountList {
 
-    private final List<ReadOnlyAccountList> accountListStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final ChangeHistory<AccountList> history;
 
 
     public VersionedAccountList(ReadOnlyAccountList initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
 
-        accountListStateList = new ArrayList<>();
-        accountListStateList.add(new AccountList(initialState));
-        currentStatePointer = 0;
+    /**
+     * Creates a {@code VersionedAccountList} that can undo at most {@code historyLimit} commits.
+     */
+    public VersionedAccountList(ReadOnlyAccountList initialState, int historyLimit) {
+        history = new ChangeHistory<>(historyLimit);
+        super.resetData(initialState);
     }
 
 
+    //// recorded operations
 
-    /**
-     * Saves a copy of the current {@code AccountList} state at the end of the state list.
-     * Undone states are removed from the state list.
-     */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        accountListStateList.add(new AccountList(this));
-        currentStatePointer++;
+
+    @Override
+    public void resetData(ReadOnlyAccountList newData) {
+        requireNonNull(newData);
+        List<Account> previousAccounts = new ArrayList<>(getAccountList());
+        super.resetData(newData);
+        history.record(new AccountListChange(previousAccounts, new ArrayList<>(getAccountList())));
+    }
+
+    @Override
+    public void addAccount(int index, Account p) {
+        super.addAccount(index, p);
+        history.record(new AccountChange(index, null, p));
     }
 
+    @Override
+    public void addAccount(Account p) {
+        addAccount(getAccountList().size(), p);
+    }
 
-    private void removeStatesAfterCurrentPointer() {
-        accountListStateList.subList(currentStatePointer + 1, accountListStateList.size()).clear();
+    @Override
+    public void updateAccount(Account target, Account editedAccount) {
+        int index = indexOfAccount(target);
+        Account previousAccount = index < 0 ? target : getAccountList().get(index);
+        super.updateAccount(target, editedAccount);
+        history.record(new AccountChange(index, previousAccount, editedAccount));
+    }
+
+    @Override
+    public void removeAccount(Account key) {
+        int index = indexOfAccount(key);
+        Account previousAccount = index < 0 ? key : getAccountList().get(index);
+        super.removeAccount(key);
+        history.record(new AccountChange(index, previousAccount, null));
+    }
+
+
+    //// history operations
+
+
+    /**
+     * Saves the changes made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -45,8 +89,7 @@ public class VersionedAccountList extends AccountList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(accountListStateList.get(currentStatePointer));
+        history.undo(this);
     }
 
 
@@ -57,15 +100,14 @@ public class VersionedAccountList extends AccountList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(accountListStateList.get(currentStatePointer));
+        history.redo(this);
     }
 
     /**
      * Returns true if {@code undo()} has account list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
 
@@ -73,7 +115,7 @@ public class VersionedAccountList extends AccountList {
      * Returns true if {@code redo()} has stock list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < accountListStateList.size() - 1;
+        return history.canRedo();
     }
 
 
@@ -93,8 +135,68 @@ public class VersionedAccountList extends AccountList {
 
         // state check
         return super.equals(otherVersionedAccountList)
-                && accountListStateList.equals(otherVersionedAccountList.accountListStateList)
-                && currentStatePointer == otherVersionedAccountList.currentStatePointer;
+                && history.equals(otherVersionedAccountList.history);
+    }
+
+
+    /**
+     * Replaces the account {@code before} at {@code index} of the account list with {@code after}.
+     * {@code before} is null for an added account, and {@code after} is null for a removed account.
+     */
+    private static class AccountChange implements ChangeHistory.Change<AccountList> {
+        private final int index;
+        private final Account before;
+        private final Account after;
+
+        AccountChange(int index, Account before, Account after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(AccountList accountList) {
+            replace(accountList, before, after);
+        }
+
+        @Override
+        public void revert(AccountList accountList) {
+            replace(accountList, after, before);
+        }
+
+        private void replace(AccountList accountList, Account from, Account to) {
+            if (from == null) {
+                accountList.addAccount(index, to);
+            } else if (to == null) {
+                accountList.removeAccount(from);
+            } else {
+                accountList.updateAccount(from, to);
+            }
+        }
+    }
+
+
+    /**
+     * Replaces the whole account list {@code before} with {@code after}.
+     */
+    private static class AccountListChange implements ChangeHistory.Change<AccountList> {
+        private final List<Account> before;
+        private final List<Account> after;
+
+        AccountListChange(List<Account> before, List<Account> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(AccountList accountList) {
+            accountList.setAccounts(after);
+        }
+
+        @Override
+        public void revert(AccountList accountList) {
+            accountList.setAccounts(before);
+        }
     }
 
 
@@ -103,7 +205,7 @@ public class VersionedAccountList extends AccountList {
      */
     public static class NoUndoableStateException extends RuntimeException {
         private NoUndoableStateException() {
-            super("Current state pointer at start of accountListState list, unable to undo.");
+            super("No account list states to undo.");
         }
     }
 
@@ -113,7 +215,7 @@ public class VersionedAccountList extends AccountList {
      */
     public static class NoRedoableStateException extends RuntimeException {
         private NoRedoableStateException() {
-            super("Current state pointer at end of accountListState list, unable to redo.");
+            super("No account list states to redo.");
         }
     }
 }
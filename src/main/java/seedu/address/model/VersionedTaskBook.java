@@ -1,37 +1,211 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
 
 /**
  * {@code TaskBook} that keeps track of its own history.
+ * Every commit keeps only the tasks it added, removed or replaced, which undo reverts and redo applies again.
  */
 public class VersionedTaskBook extends TaskBook {
 
-    private final List<ReadOnlyTaskBook> taskBookStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final ChangeHistory<TaskBook> history;
+    private long committedFingerprint;
+    /** The names of the tasks added, edited or removed since recording started, or null if not recording. */
+    private Set<Name> changedTaskNames = null;
 
     public VersionedTaskBook(ReadOnlyTaskBook initialState) {
-        super(initialState);
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedTaskBook} that can undo at most {@code historyLimit} commits.
+     */
+    public VersionedTaskBook(ReadOnlyTaskBook initialState, int historyLimit) {
+        history = new ChangeHistory<>(historyLimit);
+        super.resetData(initialState);
+        committedFingerprint = getFingerprint();
+    }
+
+    //// recorded operations
+
+    @Override
+    public void resetData(ReadOnlyTaskBook newData) {
+        requireNonNull(newData);
+        List<Task> previousTasks = new ArrayList<>(getTaskList());
+        super.resetData(newData);
+        recordTaskListChange(previousTasks);
+    }
+
+    @Override
+    public void sortTaskByDate(Comparator<Task> comparator) {
+        List<Task> previousTasks = new ArrayList<>(getTaskList());
+        super.sortTaskByDate(comparator);
+        recordTaskListChange(previousTasks);
+    }
+
+    @Override
+    public boolean batch(Consumer<TaskBookTransaction> changes) {
+        List<Task> previousTasks = new ArrayList<>(getTaskList());
+        boolean hasChanged = super.batch(changes);
+        if (hasChanged) {
+            recordTaskListChange(previousTasks);
+        }
+        return hasChanged;
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        if (changedTaskNames == null) {
+            super.setTasks(tasks);
+            return;
+        }
+        Set<Task> previousTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        previousTasks.addAll(getTaskList());
+        super.setTasks(tasks);
+        for (Task task : getTaskList()) {
+            if (!previousTasks.remove(task)) {
+                changedTaskNames.add(task.getName());
+            }
+        }
+        previousTasks.forEach(task -> changedTaskNames.add(task.getName()));
+    }
+
+    @Override
+    public void addTask(int index, Task t) {
+        super.addTask(index, t);
+        history.record(new TaskChange(index, null, t));
+        recordChangedTask(t);
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        int index = indexOfTask(target);
+        Task previousTask = index < 0 ? target : getTaskList().get(index);
+        super.setTask(target, editedTask);
+        history.record(new TaskChange(index, previousTask, editedTask));
+        recordChangedTask(previousTask);
+        recordChangedTask(editedTask);
+    }
+
+    @Override
+    public void removeTask(Task key) {
+        int index = indexOfTask(key);
+        Task previousTask = index < 0 ? key : getTaskList().get(index);
+        super.removeTask(key);
+        history.record(new TaskChange(index, previousTask, null));
+        recordChangedTask(previousTask);
+    }
 
-        taskBookStateList = new ArrayList<>();
-        taskBookStateList.add(new TaskBook(initialState));
-        currentStatePointer = 0;
+    /**
+     * Adds {@code tasks}, which were left in storage until now, to the end of the task list as if they had been in
+     * the task book all along: adding them is not recorded, and undoing or redoing commits keeps them.
+     */
+    public void addArchivedTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        boolean isCommitted = getFingerprint() == committedFingerprint;
+        List<Task> currentTasks = new ArrayList<>(getTaskList());
+        currentTasks.addAll(tasks);
+        super.setTasks(currentTasks);
+        history.forEachChange(change -> {
+            if (change instanceof TaskListChange) {
+                ((TaskListChange) change).addTasks(tasks);
+            }
+        });
+        if (isCommitted) {
+            committedFingerprint = getFingerprint();
+        }
     }
 
+    //// changed task names
+
     /**
-     * Saves a copy of the current {@code TaskBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Starts recording the names of the tasks added, edited or removed from now on, forgetting any recorded so far.
+     * Tasks loaded by {@code addArchivedTasks} are not changes, so they are not recorded.
+     */
+    public void startRecordingChangedTasks() {
+        changedTaskNames = new HashSet<>();
+    }
+
+    /**
+     * Stops recording the names of the changed tasks and returns the names recorded since recording started,
+     * or an empty {@code Optional} if they were not being recorded.
+     */
+    public Optional<Set<Name>> stopRecordingChangedTasks() {
+        Optional<Set<Name>> names = Optional.ofNullable(changedTaskNames);
+        changedTaskNames = null;
+        return names;
+    }
+
+    private void recordChangedTask(Task task) {
+        if (changedTaskNames != null) {
+            changedTaskNames.add(task.getName());
+        }
+    }
+
+    /**
+     * Records the replacement of {@code previousTasks} by the current tasks, unless every task is unchanged.
+     */
+    private void recordTaskListChange(List<Task> previousTasks) {
+        List<Task> currentTasks = new ArrayList<>(getTaskList());
+        if (currentTasks.size() == previousTasks.size()
+                && IntStream.range(0, currentTasks.size()).allMatch(i -> currentTasks.get(i) == previousTasks.get(i))) {
+            return;
+        }
+        history.record(new TaskListChange(previousTasks, currentTasks));
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history.
+     * Nothing is saved if the tasks are the same as in the last saved state, and the changes that cancelled each
+     * other out are forgotten.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        taskBookStateList.add(new TaskBook(this));
-        currentStatePointer++;
-        indicateModified();
+        if (isUnchangedSinceCommit()) {
+            history.discardUncommittedChanges();
+            return;
+        }
+        history.commit();
+        committedFingerprint = getFingerprint();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        taskBookStateList.subList(currentStatePointer + 1, taskBookStateList.size()).clear();
+    /**
+     * Returns true if the tasks are the same as in the last saved state.
+     * Different fingerprints mean different tasks, but equal fingerprints can still come from different tasks,
+     * so the tasks of the last saved state are rebuilt and compared to be sure.
+     */
+    private boolean isUnchangedSinceCommit() {
+        if (!history.hasUncommittedChanges()) {
+            return true;
+        }
+        if (getFingerprint() != committedFingerprint) {
+            return false;
+        }
+        TaskBook committedTaskBook = new TaskBook(this);
+        history.revertUncommittedChangesOn(committedTaskBook);
+        return committedTaskBook.getTaskList().equals(getTaskList());
     }
 
     /**
@@ -41,8 +215,8 @@ public class VersionedTaskBook extends TaskBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(taskBookStateList.get(currentStatePointer));
+        history.undo(this);
+        committedFingerprint = getFingerprint();
     }
 
     /**
@@ -52,22 +226,22 @@ public class VersionedTaskBook extends TaskBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(taskBookStateList.get(currentStatePointer));
+        history.redo(this);
+        committedFingerprint = getFingerprint();
     }
 
     /**
      * Returns true if {@code undo()} has task book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has task book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < taskBookStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -86,8 +260,74 @@ public class VersionedTaskBook extends TaskBook {
 
         // state check
         return super.equals(otherVersionedTaskBook)
-                && taskBookStateList.equals(otherVersionedTaskBook.taskBookStateList)
-                && currentStatePointer == otherVersionedTaskBook.currentStatePointer;
+                && history.equals(otherVersionedTaskBook.history);
+    }
+
+    /**
+     * Replaces the task {@code before} at {@code index} of the task list with {@code after}.
+     * {@code before} is null for an added task, and {@code after} is null for a removed task.
+     */
+    private static class TaskChange implements ChangeHistory.Change<TaskBook> {
+        private final int index;
+        private final Task before;
+        private final Task after;
+
+        TaskChange(int index, Task before, Task after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(TaskBook taskBook) {
+            replace(taskBook, before, after);
+        }
+
+        @Override
+        public void revert(TaskBook taskBook) {
+            replace(taskBook, after, before);
+        }
+
+        private void replace(TaskBook taskBook, Task from, Task to) {
+            if (from == null) {
+                taskBook.addTask(index, to);
+            } else if (to == null) {
+                taskBook.removeTask(from);
+            } else {
+                taskBook.setTask(from, to);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole task list {@code before} with {@code after}.
+     */
+    private static class TaskListChange implements ChangeHistory.Change<TaskBook> {
+        private final List<Task> before;
+        private final List<Task> after;
+
+        TaskListChange(List<Task> before, List<Task> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        /**
+         * Adds {@code tasks} to the end of the task list both before and after the change.
+         */
+        void addTasks(List<Task> tasks) {
+            before.addAll(tasks);
+            after.addAll(tasks);
+        }
+
+        @Override
+        public void apply(TaskBook taskBook) {
+            taskBook.setTasks(after);
+        }
+
+        @Override
+        public void revert(TaskBook taskBook) {
+            taskBook.setTasks(before);
+        }
     }
 
     /**
@@ -95,7 +335,7 @@ public class VersionedTaskBook extends TaskBook {
      */
     public static class NoUndoableStateException extends RuntimeException {
         private NoUndoableStateException() {
-            super("Current state pointer at start of taskBookState list, unable to undo.");
+            super("No task book states to undo.");
         }
     }
 
@@ -104,7 +344,7 @@ public class VersionedTaskBook extends TaskBook {
      */
     public static class NoRedoableStateException extends RuntimeException {
         private NoRedoableStateException() {
-            super("Current state pointer at end of taskBookState list, unable to redo.");
+            super("No task book states to redo.");
         }
     }
 }
@@ -41,11 +41,27 @@ public class UniqueAccountList {
      * The account must not already exist in the list.
      */
     public void add(Account toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds an account to the list at {@code index}.
+     * The account must not already exist in the list.
+     */
+    public void add(int index, Account toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateAccountException();
         }
-        internalList.add(toAdd);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Returns the position of the equivalent account in the list, or -1 if there is none.
+     */
+    public int indexOf(Account account) {
+        requireNonNull(account);
+        return internalList.indexOf(account);
     }
 
     /**
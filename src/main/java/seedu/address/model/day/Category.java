@@ -1,8 +1,57 @@
 package seedu.address.model.day;
 
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * To extend an object to category.
+ * A category holds the total time spent on it in a day, in whole minutes.
  */
 public class Category {
 
+    private static final int MINUTES_PER_HOUR = 60;
+
+    protected final int minutes;
+
+    protected Category(int minutes) {
+        this.minutes = minutes;
+    }
+
+    public int getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Returns the time in "hours.minutes" form, ie: 1.30 for an hour and a half.
+     */
+    public String getTime() {
+        return formatMinutes(minutes);
+    }
+
+    /**
+     * Returns {@code minutes} in "hours.minutes" form, ie: 1.30 for an hour and a half.
+     */
+    public static String formatMinutes(int minutes) {
+        return String.format("%d.%02d", minutes / MINUTES_PER_HOUR, minutes % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Parses a time in "hours.minutes" form into minutes.
+     * Older task books stored the time as a double, so the value is first rounded to two decimal places,
+     * ie: both 1.3 and 1.30 are an hour and a half.
+     */
+    public static int parseMinutes(String time) {
+        requireNonNull(time);
+        BigDecimal hoursAndMinutes = new BigDecimal(time).setScale(2, RoundingMode.HALF_UP);
+        int hours = hoursAndMinutes.intValue();
+        int mins = hoursAndMinutes.subtract(BigDecimal.valueOf(hours)).movePointRight(2).intValue();
+        return hours * MINUTES_PER_HOUR + mins;
+    }
+
+    @Override
+    public String toString() {
+        return getTime();
+    }
 }
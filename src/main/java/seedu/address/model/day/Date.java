@@ -7,7 +7,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents a Day's date in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Date should only contain numbers & -, 2 digits-2 digits-2digits, ie: 12-03-19\n"
@@ -15,6 +15,7 @@ public class Date {
             + "Month should only contain numbers range from 01 to 12";
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
+    private final int chronologicalKey;
 
     /**
      * Constructs a {@code Date}.
@@ -25,6 +26,9 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         value = date;
+        String[] splitDate = date.split("-");
+        chronologicalKey = Integer.parseInt(splitDate[2]) * 10000 + Integer.parseInt(splitDate[1]) * 100
+                + Integer.parseInt(splitDate[0]);
     }
 
     /**
@@ -46,6 +50,14 @@ public class Date {
         return false;
     }
 
+    /**
+     * Orders dates chronologically, from the earliest to the latest.
+     */
+    @Override
+    public int compareTo(Date other) {
+        return Integer.compare(chronologicalKey, other.chronologicalKey);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -2,6 +2,7 @@ package seedu.address.model.day;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import seedu.address.model.task.Categories;
@@ -10,18 +11,22 @@ import seedu.address.model.task.Task;
 /**
  * Represents a day in the task book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The time spent on each category is kept in whole minutes, indexed by {@link Categories#ordinal}.
  */
 public class Day {
 
-    public final String dafault = "0.0";
+    private static final int ACADEMIC = Categories.ordinalOf(Categories.CAT_ACADEMIC);
+    private static final int CCA = Categories.ordinalOf(Categories.CAT_CCA);
+    private static final int ENTERTAINMENT = Categories.ordinalOf(Categories.CAT_ENTERTAINMENT);
+    private static final int ERRAND = Categories.ordinalOf(Categories.CAT_ERRAND);
+    private static final int OTHER = Categories.ordinalOf(Categories.CAT_OTHER);
 
     // Identity fields
     private final Date date;
-    private Academic academic;
-    private Entertainment entertainment;
-    private Cca cca;
-    private Errand errand;
-    private Other other;
+
+    // Data fields
+    private final int[] categoryMinutes = new int[Categories.CATEGORY_COUNT];
 
     /**
      * Every field must be present and not null.
@@ -29,20 +34,16 @@ public class Day {
     public Day(Date date) {
         requireAllNonNull(date);
         this.date = date;
-        this.academic = new Academic(dafault);
-        this.entertainment = new Entertainment(dafault);
-        this.cca = new Cca(dafault);
-        this.errand = new Errand(dafault);
-        this.other = new Other(dafault);
     }
 
     public Day(Date date, Academic academic, Entertainment entertainment, Cca cca, Errand errand, Other other) {
+        requireAllNonNull(date, academic, entertainment, cca, errand, other);
         this.date = date;
-        this.academic = academic;
-        this.entertainment = entertainment;
-        this.cca = cca;
-        this.errand = errand;
-        this.other = other;
+        categoryMinutes[ACADEMIC] = academic.getMinutes();
+        categoryMinutes[CCA] = cca.getMinutes();
+        categoryMinutes[ENTERTAINMENT] = entertainment.getMinutes();
+        categoryMinutes[ERRAND] = errand.getMinutes();
+        categoryMinutes[OTHER] = other.getMinutes();
     }
 
     public Date getDate() {
@@ -50,148 +51,71 @@ public class Day {
     }
 
     public Academic getAcademic() {
-        return academic;
+        return new Academic(categoryMinutes[ACADEMIC]);
     }
 
     public Entertainment getEntertainment() {
-        return entertainment;
+        return new Entertainment(categoryMinutes[ENTERTAINMENT]);
     }
 
     public Cca getCca() {
-        return cca;
+        return new Cca(categoryMinutes[CCA]);
     }
 
     public Errand getErrand() {
-        return errand;
+        return new Errand(categoryMinutes[ERRAND]);
     }
 
     public Other getOther() {
-        return other;
+        return new Other(categoryMinutes[OTHER]);
+    }
+
+    /**
+     * Returns the minutes spent on the category with the given {@link Categories#ordinal}.
+     */
+    public int getMinutes(int categoryOrdinal) {
+        return categoryMinutes[categoryOrdinal];
     }
 
     /**
      * To add a time into the category for each task
      */
     public void addCategory(Task task) {
-
-        String timeStart = task.getStartTime().value;
-        String timeEnd = task.getEndTime().value;
-        String category = task.getCategories().value;
-        switch(category) {
-        case Categories.CAT_ACADEMIC:
-            academic.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_CCA:
-            cca.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ENTERTAINMENT:
-            entertainment.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ERRAND:
-            errand.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_OTHER:
-            other.addTime(calculateTime(timeStart, timeEnd));
-            break;
-        default:
-            break;
-        }
+        categoryMinutes[task.getCategories().ordinal] += calculateMinutes(task);
     }
 
     /**
      * To remove a time into the category for each task
      */
     public void removeCategory(Task task) {
-
-        String timeStart = task.getStartTime().value;
-        String timeEnd = task.getEndTime().value;
-        String category = task.getCategories().value;
-        switch(category) {
-        case Categories.CAT_ACADEMIC:
-            academic.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_CCA:
-            cca.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ENTERTAINMENT:
-            entertainment.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_ERRAND:
-            errand.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        case Categories.CAT_OTHER:
-            other.removeTime(calculateTime(timeStart, timeEnd));
-            break;
-        default:
-            break;
-        }
+        categoryMinutes[task.getCategories().ordinal] -= calculateMinutes(task);
     }
 
     /**
      * To edit a time into the category for each task
      */
     public void editCategory(Task task, Task editedTask) {
-
-        String taskCategory = task.getCategories().value;
-        String editedTaskCategory = editedTask.getCategories().value;
-
-        if (taskCategory.equals(editedTaskCategory)) {
-            removeCategory(task);
-            addCategory(editedTask);
-        } else {
-            removeCategory(task);
-            addCategory(editedTask);
-        }
+        removeCategory(task);
+        addCategory(editedTask);
     }
 
     /**
-     * To calculate time into the category for each task
+     * Returns the minutes between the start time and the end time of {@code task}.
      */
-    public double calculateTime(String start, String end) {
-        String[] splitStart = start.split("\\.");
-        String[] splitEnd = end.split("\\.");
-
-        int startHour = Integer.valueOf(splitStart[0]);
-        int startMinute = Integer.valueOf(splitStart[1]);
-        int endHour = Integer.valueOf(splitEnd[0]);
-        int endMinute = Integer.valueOf(splitEnd[1]);
-
-        int s = startHour * 60 + startMinute;
-        int e = endHour * 60 + endMinute;
-        int duration = e - s;
-        int hours = duration / 60;
-        int mins = duration % 60;
-
-        final StringBuilder builder = new StringBuilder();
-        builder.append(hours)
-                .append(".")
-                .append(mins);
-        String st = builder.toString();
-
-        return Double.valueOf(st);
+    public static int calculateMinutes(Task task) {
+        return task.getEndTime().getMinuteOfDay() - task.getStartTime().getMinuteOfDay();
     }
 
     /**
      * To check whether each categories for a task is empty
      */
     public boolean isDayEmpty() {
-        double academicTime;
-        double ccaTime;
-        double entertainmentTime;
-        double errandTime;
-        double otherTime;
-
-        academicTime = academic.getTimeDouble();
-        ccaTime = cca.getTimeDouble();
-        entertainmentTime = entertainment.getTimeDouble();
-        errandTime = errand.getTimeDouble();
-        otherTime = other.getTimeDouble();
-
-        if (academicTime == 0 && ccaTime == 0 && entertainmentTime == 0 && errandTime == 0 && otherTime == 0) {
-            return true;
+        for (int minutes : categoryMinutes) {
+            if (minutes != 0) {
+                return false;
+            }
         }
-        return false;
-
+        return true;
     }
 
     /**
@@ -207,6 +131,13 @@ public class Day {
                 && otherDay.getDate().equals(getDate());
     }
 
+    /**
+     * Returns true if {@code otherDay} has the same time in every category as this day.
+     */
+    boolean hasSameTotals(Day otherDay) {
+        return Arrays.equals(categoryMinutes, otherDay.categoryMinutes);
+    }
+
     /**
      * Returns true if both days have the same identity and data fields.
      * This defines a stronger notion of equality between two tasks.
@@ -228,7 +159,7 @@ public class Day {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(date, academic, entertainment, cca, errand, other);
+        return Objects.hash(date, Arrays.hashCode(categoryMinutes));
     }
 
     @Override
@@ -1,79 +1,49 @@
 package seedu.address.model.day;
 
-import java.util.Objects;
-
 /**
  * Represents a Day's errand in the task book.
  */
 public class Errand extends Category {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Errand time should only contain numbers & '.', ie: 1.0";
-    public static final String VALIDATION_REGEX = "\\d*" + "\\." + "\\d*";
-    private String value;
+            "Errand time should only contain numbers & '.', ie: 1.30";
+    public static final String VALIDATION_REGEX = "\\d+" + "\\." + "\\d+";
 
     /**
-     * Constructs a {@code Academic}.
+     * Constructs a {@code Errand}.
      *
-     * @param time A valid time.
-     */
-    public Errand(String time) {
-        value = time;
-    }
-
-    /**
-     * Returns true if a given string is a valid start time.
+     * @param minutes Total minutes spent.
      */
-    public static boolean isValidTime(String test) {
-        return test.matches(VALIDATION_REGEX);
+    public Errand(int minutes) {
+        super(minutes);
     }
 
     /**
-     * Adding time after update
-     * @param result
-     * @return value
+     * Constructs a {@code Errand}.
+     *
+     * @param time A valid time.
      */
-    public String addTime(double result) {
-        double t = Double.parseDouble(value);
-        t += result;
-        value = String.valueOf(t);
-        return value;
+    public Errand(String time) {
+        super(parseMinutes(time));
     }
 
     /**
-     * Deducting time after update
-     * @param result
-     * @return value
+     * Returns true if a given string is a valid time.
      */
-    public String removeTime(double result) {
-        double t = Double.parseDouble(value);
-        t -= result;
-        value = String.valueOf(t);
-        return value;
-    }
-
-    public String getTime() {
-        return value;
-    }
-
-    public double getTimeDouble() {
-        double t;
-        double scale = Math.pow(10, 2);
-        t = Double.parseDouble(value);
-
-        return Math.round(t * scale) / scale;
+    public static boolean isValidTime(String test) {
+        return test.matches(VALIDATION_REGEX);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Errand // instanceof handles nulls
-                && value.equals(((Errand) other).value)); // state check
+                && minutes == ((Errand) other).minutes); // state check
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Integer.hashCode(minutes);
     }
 
 }
@@ -3,11 +3,18 @@ package seedu.address.model.day;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListDiffUtil;
 import seedu.address.model.day.exceptions.DayNotFoundException;
 import seedu.address.model.day.exceptions.DuplicateDayException;
 
@@ -18,12 +25,18 @@ import seedu.address.model.day.exceptions.DuplicateDayException;
  * unique in terms of identity in the UniqueDayList. However, the removal of a day uses Day#equals(Day) so
  * as to ensure that the day with exactly the same fields will be removed.
  *
+ * Days are keyed by their {@code Date} in a navigable map, and the observable view is always kept in
+ * chronological order, so listing days needs no sorting.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Day#isSameDay(Day)
  */
 public class UniqueDayList implements Iterable<Day> {
 
+    private static final Comparator<Day> CHRONOLOGICAL_ORDER = Comparator.comparing(Day::getDate);
+
+    private final NavigableMap<Date, Day> dayIndex = new TreeMap<>();
     private final ObservableList<Day> internalList = FXCollections.observableArrayList();
     private final ObservableList<Day> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
@@ -33,11 +46,19 @@ public class UniqueDayList implements Iterable<Day> {
      */
     public boolean contains(Day toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDay);
+        return dayIndex.containsKey(toCheck.getDate());
+    }
+
+    /**
+     * Returns the day on {@code date}, or null if there is no such day in the list.
+     */
+    public Day get(Date date) {
+        requireNonNull(date);
+        return dayIndex.get(date);
     }
 
     /**
-     * Adds a day to the list.
+     * Adds a day to the list at its chronological position.
      * The day must not already exist in the list.
      */
     public void add(Day toAdd) {
@@ -45,7 +66,21 @@ public class UniqueDayList implements Iterable<Day> {
         if (contains(toAdd)) {
             throw new DuplicateDayException();
         }
-        internalList.add(toAdd);
+        dayIndex.put(toAdd.getDate(), toAdd);
+        internalList.add(-(indexOf(toAdd) + 1), toAdd);
+    }
+
+    /**
+     * Notifies observers that the totals of {@code changedDay} were updated in place.
+     * The day must exist in the list. Only the element of {@code changedDay} is reported as changed.
+     */
+    public void refresh(Day changedDay) {
+        requireNonNull(changedDay);
+        int index = indexOf(changedDay);
+        if (index < 0) {
+            throw new DayNotFoundException();
+        }
+        internalList.set(index, changedDay);
     }
 
     /**
@@ -54,34 +89,50 @@ public class UniqueDayList implements Iterable<Day> {
      */
     public void remove(Day toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (dayIndex.remove(toRemove.getDate()) == null) {
             throw new DayNotFoundException();
         }
+        internalList.remove(indexOf(toRemove));
     }
 
     /**
      * Clear all the days in the list.
      */
     public void clear() {
+        dayIndex.clear();
         internalList.clear();
     }
 
     public void setDays(UniqueDayList replacement) {
         requireNonNull(replacement);
+        dayIndex.clear();
+        dayIndex.putAll(replacement.dayIndex);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code days}.
      * {@code days} must not contain duplicate days.
+     * A current day with the same totals as its replacement is kept, so observers only see the days that changed.
      */
     public void setDays(List<Day> days) {
         requireAllNonNull(days);
-        if (!daysAreUnique(days)) {
-            throw new DuplicateDayException();
+        NavigableMap<Date, Day> replacement = new TreeMap<>();
+        for (Day day : days) {
+            if (replacement.put(day.getDate(), day) != null) {
+                throw new DuplicateDayException();
+            }
         }
 
-        internalList.setAll(days);
+        for (Map.Entry<Date, Day> entry : replacement.entrySet()) {
+            Day current = dayIndex.get(entry.getKey());
+            if (current != null && current.hasSameTotals(entry.getValue())) {
+                entry.setValue(current);
+            }
+        }
+        dayIndex.clear();
+        dayIndex.putAll(replacement);
+        ListDiffUtil.setAll(internalList, new ArrayList<>(replacement.values()));
     }
 
     /**
@@ -109,17 +160,10 @@ public class UniqueDayList implements Iterable<Day> {
     }
 
     /**
-     * Returns true if {@code days} contains only unique days.
+     * Returns the position of the day with the same date as {@code day} in {@code internalList},
+     * or {@code -(insertion point) - 1} if there is no such day.
      */
-    private boolean daysAreUnique(List<Day> days) {
-        for (int i = 0; i < days.size() - 1; i++) {
-            for (int j = i + 1; j < days.size(); j++) {
-                if (days.get(i).isSameDay(days.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private int indexOf(Day day) {
+        return Collections.binarySearch(internalList, day, CHRONOLOGICAL_ORDER);
     }
 }
-
@@ -14,6 +14,7 @@ public class Categories {
     public static final String CAT_ENTERTAINMENT = "e";
     public static final String CAT_ERRAND = "r";
     public static final String CAT_OTHER = "o";
+    public static final int CATEGORY_COUNT = 5;
 
     public static final String MESSAGE_CONSTRAINTS =
             "Category should contains 1 alphabet\n"
@@ -21,6 +22,7 @@ public class Categories {
     public static final String VALIDATION_REGEX = "[acero]";
     public final String value;
     public final String fullName;
+    public final int ordinal;
 
     /**
      * Constructs a {@code Categories}.
@@ -28,8 +30,14 @@ public class Categories {
      * @param categories A valid categories.
      */
     public Categories(String categories) {
+        this(categories, false);
+    }
+
+    private Categories(String categories, boolean isTrusted) {
         requireNonNull(categories);
-        checkArgument(isValidCategories(categories), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidCategories(categories), MESSAGE_CONSTRAINTS);
+        }
         value = categories;
         if (value.equalsIgnoreCase(CAT_ACADEMIC)) {
             fullName = "Academic";
@@ -44,6 +52,35 @@ public class Categories {
         } else {
             fullName = "Invalid";
         }
+        ordinal = ordinalOf(value);
+    }
+
+    /**
+     * Returns a {@code Categories} of {@code categories}, which must already be a valid category,
+     * without checking it again.
+     */
+    public static Categories fromTrusted(String categories) {
+        return new Categories(categories, true);
+    }
+
+    /**
+     * Returns the position of {@code category} among the {@code CATEGORY_COUNT} categories.
+     */
+    public static int ordinalOf(String category) {
+        switch (category) {
+        case CAT_ACADEMIC:
+            return 0;
+        case CAT_CCA:
+            return 1;
+        case CAT_ENTERTAINMENT:
+            return 2;
+        case CAT_ERRAND:
+            return 3;
+        case CAT_OTHER:
+            return 4;
+        default:
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
     }
 
     /**
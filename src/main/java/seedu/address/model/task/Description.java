@@ -25,11 +25,25 @@ public class Description {
      * @param description A valid description.
      */
     public Description(String description) {
+        this(description, false);
+    }
+
+    private Description(String description, boolean isTrusted) {
         requireNonNull(description);
-        checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        }
         value = description;
     }
 
+    /**
+     * Returns a {@code Description} of {@code description}, which must already be a valid description,
+     * without checking it again.
+     */
+    public static Description fromTrusted(String description) {
+        return new Description(description, true);
+    }
+
     /**
      * Returns true if a given string is a valid description.
      */
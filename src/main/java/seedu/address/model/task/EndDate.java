@@ -3,11 +3,13 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's endDate in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEndDate(String)}
  */
-public class EndDate {
+public class EndDate implements Comparable<EndDate> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "End date should only contain numbers & -, 2 digits-2 digits-2digits, ie: 12-03-19\n"
@@ -15,6 +17,7 @@ public class EndDate {
             + "Month should only contain numbers range from 01 to 12";
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code StartDate}.
@@ -22,9 +25,23 @@ public class EndDate {
      * @param date A valid date.
      */
     public EndDate(String date) {
+        this(date, false);
+    }
+
+    private EndDate(String date, boolean isTrusted) {
         requireNonNull(date);
-        checkArgument(isValidEndDate(date), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEndDate(date), MESSAGE_CONSTRAINTS);
+        }
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
+    }
+
+    /**
+     * Returns an {@code EndDate} of {@code date}, which must already be a valid end date, without checking it again.
+     */
+    public static EndDate fromTrusted(String date) {
+        return new EndDate(date, true);
     }
 
     /**
@@ -46,6 +63,18 @@ public class EndDate {
         return false;
     }
 
+    /**
+     * Returns the date as a day count from the epoch.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(EndDate other) {
+        return Integer.compare(epochDay, other.epochDay);
+    }
+
     @Override
     public String toString() {
         return value;
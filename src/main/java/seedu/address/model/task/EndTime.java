@@ -3,11 +3,13 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's startTime in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEndTime(String)}
  */
-public class EndTime {
+public class EndTime implements Comparable<EndTime> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Time should only contain numbers & '.', 2 digits'.'2digits, ie: 13.00\n"
@@ -16,6 +18,7 @@ public class EndTime {
     public static final String VALIDATION_REGEX = "\\d{2}" + "\\." + "\\d{2}";
 
     public final String value;
+    private final short minuteOfDay;
 
     /**
      * Constructs a {@code StartTime}.
@@ -23,9 +26,23 @@ public class EndTime {
      * @param time A valid time.
      */
     public EndTime(String time) {
+        this(time, false);
+    }
+
+    private EndTime(String time, boolean isTrusted) {
         requireNonNull(time);
-        checkArgument(isValidEndTime(time), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidEndTime(time), MESSAGE_CONSTRAINTS);
+        }
         value = time;
+        minuteOfDay = (short) DateUtil.toMinuteOfDay(time);
+    }
+
+    /**
+     * Returns an {@code EndTime} of {@code time}, which must already be a valid end time, without checking it again.
+     */
+    public static EndTime fromTrusted(String time) {
+        return new EndTime(time, true);
     }
 
     /**
@@ -58,6 +75,18 @@ public class EndTime {
         return Math.round(t * scale) / scale;
     }
 
+    /**
+     * Returns the time as minutes since midnight.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    @Override
+    public int compareTo(EndTime other) {
+        return Integer.compare(minuteOfDay, other.minuteOfDay);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -3,11 +3,13 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.DateUtil;
+
 /**
  * Represents a Task's startDate in the task book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStartDate(String)}
  */
-public class StartDate {
+public class StartDate implements Comparable<StartDate> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Start date should only contain numbers & -, 2 digits-2 digits-2digits, ie: 12-03-19\n"
@@ -15,6 +17,7 @@ public class StartDate {
             + "Month should only contain numbers range from 01 to 12";
     public static final String VALIDATION_REGEX = "\\d{2}" + "-" + "\\d{2}" + "-" + "\\d{2}";
     public final String value;
+    private final int epochDay;
 
     /**
      * Constructs a {@code StartDate}.
@@ -22,9 +25,23 @@ public class StartDate {
      * @param date A valid date.
      */
     public StartDate(String date) {
+        this(date, false);
+    }
+
+    private StartDate(String date, boolean isTrusted) {
         requireNonNull(date);
-        checkArgument(isValidStartDate(date), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidStartDate(date), MESSAGE_CONSTRAINTS);
+        }
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
+    }
+
+    /**
+     * Returns a {@code StartDate} of {@code date}, which must already be a valid start date, without checking it again.
+     */
+    public static StartDate fromTrusted(String date) {
+        return new StartDate(date, true);
     }
 
     /**
@@ -46,6 +63,18 @@ public class StartDate {
         return false;
     }
 
+    /**
+     * Returns the date as a day count from the epoch.
+     */
+    public int getEpochDay() {
+        return epochDay;
+    }
+
+    @Override
+    public int compareTo(StartDate other) {
+        return Integer.compare(epochDay, other.epochDay);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -94,6 +94,23 @@ public class Task {
                 && otherTask.getName().equals(getName());
     }
 
+    /**
+     * Returns true if both tasks have the same identity and every data field equal, unlike {@link #equals(Object)},
+     * which only compares their identity.
+     */
+    public boolean hasSameDetails(Task otherTask) {
+        return otherTask == this
+                || (otherTask != null
+                && otherTask.getName().equals(getName())
+                && otherTask.getStartDate().equals(getStartDate())
+                && otherTask.getStartTime().equals(getStartTime())
+                && otherTask.getEndDate().equals(getEndDate())
+                && otherTask.getEndTime().equals(getEndTime())
+                && otherTask.getDescription().equals(getDescription())
+                && otherTask.getCategories().equals(getCategories())
+                && otherTask.getTags().equals(getTags()));
+    }
+
     /**
      * Returns true if both tasks have the same identity and data fields.
      * This defines a stronger notion of equality between two tasks.
@@ -0,0 +1,72 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes tasks by the epoch days of their start dates, so that the tasks starting within a range of dates
+ * can be found without going through every task.
+ */
+public class TaskDateIndex {
+
+    private final NavigableMap<Integer, List<Task>> tasksByStart = new TreeMap<>();
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        tasksByStart.computeIfAbsent(startOf(task), unused -> new ArrayList<>()).add(task);
+    }
+
+    /**
+     * Removes {@code task}, which must have been added to the index, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        removeFromBucket(tasksByStart, startOf(task), task);
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        tasksByStart.clear();
+    }
+
+    /**
+     * Returns the tasks that start from {@code fromDay} to {@code toDay}, both inclusive, ordered by start date.
+     */
+    public List<Task> getTasksStartingBetween(int fromDay, int toDay) {
+        if (fromDay > toDay) {
+            return new ArrayList<>();
+        }
+        return flatten(tasksByStart.subMap(fromDay, true, toDay, true));
+    }
+
+    private static int startOf(Task task) {
+        return task.getStartDate().getEpochDay();
+    }
+
+    private static void removeFromBucket(Map<Integer, List<Task>> tasksByDay, int day, Task task) {
+        List<Task> tasks = tasksByDay.get(day);
+        if (tasks == null) {
+            return;
+        }
+        tasks.removeIf(indexed -> indexed == task);
+        if (tasks.isEmpty()) {
+            tasksByDay.remove(day);
+        }
+    }
+
+    private static List<Task> flatten(Map<Integer, List<Task>> tasksByDay) {
+        List<Task> tasks = new ArrayList<>();
+        tasksByDay.values().forEach(tasks::addAll);
+        return tasks;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Keeps tasks ordered by start time and by deadline, both over all tasks and within every category,
+ * so that the first tasks to remind of can be read without sorting every task.
+ *
+ * Every ordering breaks ties by task name, which is unique within a task list.
+ */
+public class TaskReminderIndex {
+
+    /**
+     * The orders in which tasks can be reminded of.
+     */
+    public enum Order {
+        START(Comparator.comparing(Task::getStartDate).thenComparing(Task::getStartTime)),
+        DEADLINE(Comparator.comparing(Task::getEndDate).thenComparing(Task::getStartTime));
+
+        private final Comparator<Task> comparator;
+
+        Order(Comparator<Task> comparator) {
+            this.comparator = comparator.thenComparing(task -> task.getName().fullName);
+        }
+    }
+
+    /** For every order, the tasks of every category, followed by the tasks of all categories. */
+    private final List<List<NavigableSet<Task>>> queues = new ArrayList<>();
+
+    public TaskReminderIndex() {
+        for (Order order : Order.values()) {
+            List<NavigableSet<Task>> queuesOfOrder = new ArrayList<>();
+            for (int i = 0; i <= Categories.CATEGORY_COUNT; i++) {
+                queuesOfOrder.add(new TreeSet<>(order.comparator));
+            }
+            queues.add(queuesOfOrder);
+        }
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    public void add(Task task) {
+        requireNonNull(task);
+        for (List<NavigableSet<Task>> queuesOfOrder : queues) {
+            queuesOfOrder.get(task.getCategories().ordinal).add(task);
+            queuesOfOrder.get(Categories.CATEGORY_COUNT).add(task);
+        }
+    }
+
+    /**
+     * Removes {@code task}, which must have been added to the index, from the index.
+     */
+    public void remove(Task task) {
+        requireNonNull(task);
+        for (List<NavigableSet<Task>> queuesOfOrder : queues) {
+            queuesOfOrder.get(task.getCategories().ordinal).remove(task);
+            queuesOfOrder.get(Categories.CATEGORY_COUNT).remove(task);
+        }
+    }
+
+    /**
+     * Removes every task from the index.
+     */
+    public void clear() {
+        queues.forEach(queuesOfOrder -> queuesOfOrder.forEach(NavigableSet::clear));
+    }
+
+    /**
+     * Returns at most {@code limit} tasks, first in {@code order}.
+     */
+    public List<Task> getFirstTasks(Order order, int limit) {
+        requireNonNull(order);
+        return first(queues.get(order.ordinal()).get(Categories.CATEGORY_COUNT), limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tasks of {@code category}, first in {@code order}.
+     */
+    public List<Task> getFirstTasks(Order order, String category, int limit) {
+        requireNonNull(order);
+        return first(queues.get(order.ordinal()).get(Categories.ordinalOf(category)), limit);
+    }
+
+    private static List<Task> first(NavigableSet<Task> queue, int limit) {
+        checkArgument(limit >= 0, "Limit must not be negative.");
+        List<Task> tasks = new ArrayList<>(Math.min(limit, queue.size()));
+        Iterator<Task> iterator = queue.iterator();
+        while (tasks.size() < limit && iterator.hasNext()) {
+            tasks.add(iterator.next());
+        }
+        return tasks;
+    }
+}
@@ -4,11 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListDiffUtil;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
@@ -19,6 +25,13 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  *
+ * Both notions of equality are decided by the task's {@code Name}, so the list keeps a name-keyed index of
+ * the position of every task in {@code internalList}. The index is only ever updated together with
+ * {@code internalList}, which makes duplicate checks and lookups constant time. Likewise, a
+ * {@code TaskDateIndex} of every task finds the tasks starting within a range of dates, and a
+ * {@code TaskReminderIndex}
+ * gives the first tasks to remind of.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
@@ -28,13 +41,25 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positions = new HashMap<>();
+    private final TaskDateIndex dateIndex = new TaskDateIndex();
+    private final TaskReminderIndex reminderIndex = new TaskReminderIndex();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positions.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the task in the list that has the given {@code name}, if any.
+     */
+    public Optional<Task> get(Name name) {
+        requireNonNull(name);
+        Integer index = positions.get(name);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -42,11 +67,32 @@ public class UniqueTaskList implements Iterable<Task> {
      * The task must not already exist in the list.
      */
     public void add(Task toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a task to the list at {@code index}, shifting the tasks from {@code index} onwards.
+     * The task must not already exist in the list.
+     */
+    public void add(int index, Task toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        dateIndex.add(toAdd);
+        reminderIndex.add(toAdd);
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the position of the task with the same identity as {@code task}, or -1 if there is none.
+     */
+    public int indexOf(Task task) {
+        requireNonNull(task);
+        return positions.getOrDefault(task.getName(), -1);
     }
 
     /**
@@ -57,8 +103,8 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target.getName());
+        if (index == null) {
             throw new TaskNotFoundException();
         }
 
@@ -66,6 +112,12 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        positions.remove(target.getName());
+        positions.put(editedTask.getName(), index);
+        dateIndex.remove(internalList.get(index));
+        dateIndex.add(editedTask);
+        reminderIndex.remove(internalList.get(index));
+        reminderIndex.add(editedTask);
         internalList.set(index, editedTask);
     }
 
@@ -75,19 +127,31 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Integer index = positions.remove(toRemove.getName());
+        if (index == null) {
             throw new TaskNotFoundException();
         }
+
+        Task removed = internalList.remove((int) index);
+        dateIndex.remove(removed);
+        reminderIndex.remove(removed);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        ListDiffUtil.setAll(internalList, replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code tasks}.
      * {@code tasks} must not contain duplicate tasks.
+     * Only the tasks that differ between the current and the new contents are reported to observers as changed.
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
@@ -95,11 +159,44 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        ListDiffUtil.setAll(internalList, tasks);
+        reindex();
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the task in the list with the same identity as {@code task}, or null if there is none.
+     */
+    public Task get(Task task) {
+        requireNonNull(task);
+        Integer index = positions.get(task.getName());
+        return index == null ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the tasks that start from {@code fromDay} to {@code toDay}, both inclusive, as epoch days.
+     */
+    public List<Task> getTasksStartingBetween(int fromDay, int toDay) {
+        return dateIndex.getTasksStartingBetween(fromDay, toDay);
+    }
+
+    /**
+     * Returns at most {@code limit} tasks, first in {@code order}.
+     */
+    public List<Task> getFirstTasks(TaskReminderIndex.Order order, int limit) {
+        return reminderIndex.getFirstTasks(order, limit);
+    }
+
+    /**
+     * Returns at most {@code limit} tasks of {@code category}, first in {@code order}.
+     */
+    public List<Task> getFirstTasks(TaskReminderIndex.Order order, String category, int limit) {
+        return reminderIndex.getFirstTasks(order, category, limit);
     }
 
     public void sortByDate(Comparator<Task> comparator) {
         FXCollections.sort(internalList, comparator);
+        reindex();
     }
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -126,17 +223,35 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Rebuilds the position of every task in {@code internalList}.
+     */
+    private void reindex() {
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Rebuilds the date index and the reminder index from every task in {@code internalList}.
+     */
+    private void rebuildIndexes() {
+        dateIndex.clear();
+        reminderIndex.clear();
+        internalList.forEach(dateIndex::add);
+        internalList.forEach(reminderIndex::add);
+    }
+
+    /**
+     * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Task task : tasks) {
+            if (!names.add(task.getName())) {
+                return false;
             }
         }
         return true;
     }
 }
-
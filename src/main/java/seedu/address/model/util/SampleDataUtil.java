@@ -29,8 +29,8 @@ import seedu.address.model.task.Task;
  */
 public class SampleDataUtil {
 
-    public static final Day SAMPLE_DAYS = new Day(new Date("15-03-19"), new Academic("3.0"),
-            new Entertainment("0.0"), new Cca("0.0"), new Errand("0.0"), new Other("0.0"));
+    public static final Day SAMPLE_DAYS = new Day(new Date("15-03-19"), new Academic(180),
+            new Entertainment(0), new Cca(0), new Errand(0), new Other(0));
 
     public static Task[] getSampleTasks() {
         return new Task[] {
@@ -45,10 +45,10 @@ public class SampleDataUtil {
 
     public static Day[] getSampleDays() {
         return new Day[] {
-            new Day(new Date("15-03-19"), new Academic("3.0"), new Entertainment("0.0"),
-                    new Cca("0.0"), new Errand("0.0"), new Other("0.0")),
-            new Day(new Date("17-03-19"), new Academic("2.0"), new Entertainment("0.0"),
-                    new Cca("0.0"), new Errand("0.00"), new Other("0.0"))
+            new Day(new Date("15-03-19"), new Academic(180), new Entertainment(0),
+                    new Cca(0), new Errand(0), new Other(0)),
+            new Day(new Date("17-03-19"), new Academic(120), new Entertainment(0),
+                    new Cca(0), new Errand(0), new Other(0))
         };
     }
 
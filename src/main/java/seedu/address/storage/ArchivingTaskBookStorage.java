@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskArchive;
+import seedu.address.model.TaskBook;
+
+/**
+ * A {@code TaskBookStorage} that can read part of a task book and leave the other tasks in storage until a command
+ * needs them. Saving a task book that holds only the loaded tasks keeps the tasks that were not loaded.
+ */
+public interface ArchivingTaskBookStorage extends TaskBookStorage, TaskArchive {
+
+    /**
+     * Reads only the tasks that might start, end or last from {@code fromDay} to {@code toDay}, as epoch days.
+     * The other tasks can be loaded later through {@link #loadTasksTouching(int, int)}.
+     *
+     * @throws DataConversionException if the stored tasks are not in the correct format.
+     */
+    Optional<ReadOnlyTaskBook> readTaskBookTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException;
+
+    /**
+     * Returns a copy of {@code taskBook}, which holds the loaded tasks, together with the tasks that were not loaded.
+     */
+    TaskBook withUnloadedTasks(ReadOnlyTaskBook taskBook) throws IOException;
+}
@@ -0,0 +1,377 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+
+/**
+ * Backs up the task book in the background, as gzip-compressed JSON files named by the time they were taken.
+ * Only a few generations of backups are kept: the latest backup of each of the latest hours, days and weeks.
+ *
+ * Recording a snapshot only copies the task list, so commands are never held up by a backup. The backups are
+ * written on a single background thread once per backup interval, and only if the task book changed since the
+ * last backup. The tasks an archiving storage has not loaded are read on that thread too, when the backup is written.
+ * The time and CPU time spent on backups, and the bytes written, are logged and counted.
+ */
+public class BackupManager implements Closeable {
+
+    public static final String BACKUP_DIRECTORY_NAME = "backups";
+    public static final String BACKUP_PREFIX = "taskbook-";
+    public static final String BACKUP_EXTENSION = ".json.gz";
+    public static final int HOURLY_GENERATIONS = 24;
+    public static final int DAILY_GENERATIONS = 7;
+    public static final int WEEKLY_GENERATIONS = 4;
+
+    private static final DateTimeFormatter BACKUP_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int BUFFER_SIZE = 8192;
+    private static final Logger logger = LogsCenter.getLogger(BackupManager.class);
+
+    private final Path backupDirectory;
+    private final Clock clock;
+    private final ScheduledExecutorService backupExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Tasketch backup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    /** The tasks of the latest snapshot that has not been backed up yet, or null if there is none. */
+    private List<Task> pendingTasks;
+    /** The storage holding the tasks left out of the pending snapshot, or null if the snapshot has every task. */
+    private ArchivingTaskBookStorage pendingArchive;
+
+    private final AtomicLong backupCount = new AtomicLong();
+    private final AtomicLong backupNanos = new AtomicLong();
+    private final AtomicLong backupCpuNanos = new AtomicLong();
+    private final AtomicLong backupBytes = new AtomicLong();
+
+    /**
+     * Creates a backup manager that backs up to {@code backupDirectory} every {@code intervalMillis} milliseconds,
+     * or only when {@link #backUpNow()} is called if {@code intervalMillis} is not positive.
+     */
+    public BackupManager(Path backupDirectory, long intervalMillis) {
+        this(backupDirectory, intervalMillis, Clock.systemDefaultZone());
+    }
+
+    BackupManager(Path backupDirectory, long intervalMillis, Clock clock) {
+        requireNonNull(backupDirectory);
+        requireNonNull(clock);
+        this.backupDirectory = backupDirectory;
+        this.clock = clock;
+        if (intervalMillis > 0) {
+            backupExecutor.scheduleWithFixedDelay(this::backUpPendingTasksQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the directory that holds the backups of the task book file at {@code taskBookFilePath}.
+     */
+    public static Path getBackupDirectory(Path taskBookFilePath) {
+        return taskBookFilePath.resolveSibling(BACKUP_DIRECTORY_NAME);
+    }
+
+    public Path getBackupDirectory() {
+        return backupDirectory;
+    }
+
+    /**
+     * Records {@code taskBook} as the task book to back up next, replacing any snapshot not backed up yet.
+     */
+    public void recordSnapshot(ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        recordSnapshot(taskBook.getTaskList(), null);
+    }
+
+    /**
+     * Records {@code taskBook}, which holds only the tasks {@code archive} has loaded, as the task book to back up
+     * next, replacing any snapshot not backed up yet. The tasks {@code archive} has not loaded are added to the
+     * backup when it is written. Tasks loaded after this snapshot are backed up with the snapshot recorded by the
+     * save that follows their loading.
+     */
+    public void recordSnapshot(ReadOnlyTaskBook taskBook, ArchivingTaskBookStorage archive) {
+        requireNonNull(taskBook);
+        requireNonNull(archive);
+        recordSnapshot(taskBook.getTaskList(), archive);
+    }
+
+    private void recordSnapshot(List<Task> taskList, ArchivingTaskBookStorage archive) {
+        List<Task> tasks = new ArrayList<>(taskList);
+        synchronized (lock) {
+            pendingTasks = tasks;
+            pendingArchive = archive;
+        }
+    }
+
+    /**
+     * Backs up the latest snapshot on the backup thread right away, and waits for it to finish.
+     *
+     * @return the backup file, or empty if there was no snapshot to back up.
+     */
+    public Optional<Path> backUpNow() throws IOException {
+        try {
+            return backupExecutor.submit(this::backUpPendingTasks).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void backUpPendingTasksQuietly() {
+        try {
+            backUpPendingTasks();
+        } catch (IOException e) {
+            logger.warning("Failed to back up task book: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the latest snapshot, if any, to a new backup file and deletes the backups of expired generations.
+     * A snapshot that fails to back up stays pending, unless a newer snapshot is recorded by then.
+     */
+    private Optional<Path> backUpPendingTasks() throws IOException {
+        List<Task> tasks;
+        ArchivingTaskBookStorage archive;
+        synchronized (lock) {
+            tasks = pendingTasks;
+            archive = pendingArchive;
+            pendingTasks = null;
+            pendingArchive = null;
+        }
+        if (tasks == null) {
+            return Optional.empty();
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean canMeasureCpu = threads.isCurrentThreadCpuTimeSupported();
+        long startCpuNanos = canMeasureCpu ? threads.getCurrentThreadCpuTime() : 0;
+        long startNanos = System.nanoTime();
+
+        TaskBook snapshot = new TaskBook();
+        snapshot.setTasks(tasks);
+        Path backupPath = backupDirectory.resolve(BACKUP_PREFIX
+                + BACKUP_TIME_FORMAT.format(LocalDateTime.now(clock)) + BACKUP_EXTENSION);
+        Path temporaryPath = backupPath.resolveSibling(backupPath.getFileName() + ".tmp");
+        try {
+            if (archive != null) {
+                snapshot = archive.withUnloadedTasks(snapshot);
+            }
+            Files.createDirectories(backupDirectory);
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(
+                    new GZIPOutputStream(Files.newOutputStream(temporaryPath), BUFFER_SIZE))) {
+                JsonSerializableTaskBook.write(snapshot, generator);
+            }
+            Files.move(temporaryPath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            synchronized (lock) {
+                if (pendingTasks == null) {
+                    pendingTasks = tasks;
+                    pendingArchive = archive;
+                }
+            }
+            throw e;
+        }
+        deleteExpiredBackups();
+
+        long nanos = System.nanoTime() - startNanos;
+        long cpuNanos = canMeasureCpu ? threads.getCurrentThreadCpuTime() - startCpuNanos : 0;
+        long bytes = Files.size(backupPath);
+        backupCount.incrementAndGet();
+        backupNanos.addAndGet(nanos);
+        backupCpuNanos.addAndGet(cpuNanos);
+        backupBytes.addAndGet(bytes);
+        logger.info(String.format("Backed up %d tasks to %s: %d bytes in %.1f ms (%.1f ms CPU)",
+                snapshot.getTaskList().size(), backupPath, bytes, nanos / 1e6, cpuNanos / 1e6));
+        return Optional.of(backupPath);
+    }
+
+    /**
+     * Deletes the backups that are not among the generations kept by {@link #selectGenerations(Collection)}.
+     */
+    private void deleteExpiredBackups() throws IOException {
+        List<Path> backups = listBackups(backupDirectory);
+        List<LocalDateTime> backupTimes = new ArrayList<>();
+        for (Path backup : backups) {
+            backupTimes.add(getBackupTime(backup));
+        }
+        Set<LocalDateTime> kept = selectGenerations(backupTimes);
+        for (Path backup : backups) {
+            if (!kept.contains(getBackupTime(backup))) {
+                Files.deleteIfExists(backup);
+            }
+        }
+    }
+
+    /**
+     * Returns the times out of {@code backupTimes} whose backups are kept: the latest backup of each of the latest
+     * {@link #HOURLY_GENERATIONS} hours, {@link #DAILY_GENERATIONS} days and {@link #WEEKLY_GENERATIONS} weeks
+     * that have backups.
+     */
+    static Set<LocalDateTime> selectGenerations(Collection<LocalDateTime> backupTimes) {
+        List<LocalDateTime> newestFirst = new ArrayList<>(backupTimes);
+        newestFirst.sort(Comparator.reverseOrder());
+        Set<LocalDateTime> kept = new HashSet<>();
+        keepLatestOfEachPeriod(newestFirst, time -> time.truncatedTo(ChronoUnit.HOURS), HOURLY_GENERATIONS, kept);
+        keepLatestOfEachPeriod(newestFirst, LocalDateTime::toLocalDate, DAILY_GENERATIONS, kept);
+        keepLatestOfEachPeriod(newestFirst,
+                time -> time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                WEEKLY_GENERATIONS, kept);
+        return kept;
+    }
+
+    private static void keepLatestOfEachPeriod(List<LocalDateTime> newestFirst,
+            Function<LocalDateTime, Object> periodOf, int periodCount, Set<LocalDateTime> kept) {
+        Set<Object> periods = new HashSet<>();
+        for (LocalDateTime time : newestFirst) {
+            if (periods.add(periodOf.apply(time))) {
+                if (periods.size() > periodCount) {
+                    return;
+                }
+                kept.add(time);
+            }
+        }
+    }
+
+    /**
+     * Returns the backups in {@code backupDirectory}, newest first.
+     */
+    public static List<Path> listBackups(Path backupDirectory) throws IOException {
+        List<Path> backups = new ArrayList<>();
+        if (!Files.isDirectory(backupDirectory)) {
+            return backups;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(backupDirectory,
+                BACKUP_PREFIX + "*" + BACKUP_EXTENSION)) {
+            for (Path file : files) {
+                try {
+                    getBackupTime(file);
+                    backups.add(file);
+                } catch (DateTimeParseException e) {
+                    logger.fine("Ignoring " + file + ", which is not named like a backup");
+                }
+            }
+        }
+        backups.sort(Comparator.comparing(BackupManager::getBackupTime).reversed());
+        return backups;
+    }
+
+    /**
+     * Returns the time the backup at {@code backupPath} was taken, as given by its name.
+     *
+     * @throws DateTimeParseException if the file is not named like a backup.
+     */
+    public static LocalDateTime getBackupTime(Path backupPath) {
+        String fileName = backupPath.getFileName().toString();
+        return LocalDateTime.parse(fileName.substring(BACKUP_PREFIX.length(),
+                fileName.length() - BACKUP_EXTENSION.length()), BACKUP_TIME_FORMAT);
+    }
+
+    /**
+     * Reads the task book backed up at {@code backupPath}, validating every task.
+     *
+     * @throws DataConversionException if the backup is not in the correct format.
+     */
+    public static ReadOnlyTaskBook readBackup(Path backupPath) throws DataConversionException, IOException {
+        requireNonNull(backupPath);
+        try (JsonParser parser = JsonUtil.createJsonParser(
+                new GZIPInputStream(Files.newInputStream(backupPath), BUFFER_SIZE))) {
+            return JsonSerializableTaskBook.read(parser, false);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + backupPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the number of backups written so far.
+     */
+    public long getBackupCount() {
+        return backupCount.get();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent writing backups so far.
+     */
+    public long getBackupNanos() {
+        return backupNanos.get();
+    }
+
+    /**
+     * Returns the total CPU time, in nanoseconds, spent by the backup thread writing backups so far,
+     * or 0 if the JVM cannot measure it.
+     */
+    public long getBackupCpuNanos() {
+        return backupCpuNanos.get();
+    }
+
+    /**
+     * Returns the total size, in bytes, of the backups written so far.
+     */
+    public long getBackupBytes() {
+        return backupBytes.get();
+    }
+
+    /**
+     * Backs up the snapshot not backed up yet, if any, and stops backing up.
+     * A snapshot that fails to back up is logged and dropped.
+     */
+    @Override
+    public void close() {
+        if (backupExecutor.isShutdown()) {
+            return;
+        }
+        try {
+            backUpNow();
+        } catch (IOException e) {
+            logger.warning("Failed to back up task book before closing: " + e.getMessage());
+        } finally {
+            backupExecutor.shutdown();
+        }
+    }
+}
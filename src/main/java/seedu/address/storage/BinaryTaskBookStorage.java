@@ -0,0 +1,280 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a format version, followed by a table of every tag used and then
+ * the tasks. Numbers are written as unsigned varints, strings as a varint byte length followed by UTF-8 bytes,
+ * dates as day-month-year ordinals, times as minutes of the day, categories as their ordinal and tags as their
+ * position in the tag table. Days are not written, as they are computed from the tasks.
+ */
+public class BinaryTaskBookStorage implements TaskBookStorage {
+
+    public static final byte[] MAGIC = {'T', 'S', 'K', 'B'};
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "File is not a binary task book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary task book version: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskBookStorage.class);
+
+    /** The categories, in the order of their ordinals. */
+    private static final String[] CATEGORIES = {Categories.CAT_ACADEMIC, Categories.CAT_CCA,
+        Categories.CAT_ENTERTAINMENT, Categories.CAT_ERRAND, Categories.CAT_OTHER};
+    /** The longest string read, so that a damaged length cannot exhaust the memory. */
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private Path filePath;
+    private Path backupPath;
+
+    public BinaryTaskBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryTaskBookFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            byte[] header = new byte[MAGIC.length];
+            in.readFully(header);
+            return Arrays.equals(header, MAGIC);
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException {
+        return readTaskBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            // Task fields and task books check their constraints with IllegalArgumentException and its subclasses.
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskBook(ReadOnlyTaskBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            write(taskBook, out);
+        }
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(taskBook, backupPath);
+    }
+
+    /**
+     * Does nothing, as every save is written to the file right away.
+     */
+    @Override
+    public void flushTaskBook() {}
+
+    private static void write(ReadOnlyTaskBook taskBook, DataOutputStream out) throws IOException {
+        List<Task> tasks = taskBook.getTaskList();
+        Map<Tag, Integer> tagTable = new LinkedHashMap<>();
+        for (Task task : tasks) {
+            for (Tag tag : task.getTags()) {
+                tagTable.putIfAbsent(tag, tagTable.size());
+            }
+        }
+
+        out.write(MAGIC);
+        writeVarint(out, FORMAT_VERSION);
+        writeVarint(out, tagTable.size());
+        for (Tag tag : tagTable.keySet()) {
+            writeString(out, tag.tagName);
+        }
+
+        writeVarint(out, tasks.size());
+        for (Task task : tasks) {
+            writeString(out, task.getName().fullName);
+            writeVarint(out, DateUtil.toDateOrdinal(task.getStartDate().value));
+            writeVarint(out, task.getStartTime().getMinuteOfDay());
+            writeVarint(out, DateUtil.toDateOrdinal(task.getEndDate().value));
+            writeVarint(out, task.getEndTime().getMinuteOfDay());
+            writeString(out, task.getDescription().value);
+            out.writeByte(task.getCategories().ordinal);
+            writeVarint(out, task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                writeVarint(out, tagTable.get(tag));
+            }
+        }
+    }
+
+    private static TaskBook read(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = readVarint(in);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tagCount = readVarint(in);
+        List<Tag> tagTable = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagTable.add(new Tag(readString(in)));
+        }
+
+        TaskBook taskBook = new TaskBook();
+        int taskCount = readVarint(in);
+        for (int i = 0; i < taskCount; i++) {
+            Name name = new Name(readString(in));
+            StartDate startDate = new StartDate(DateUtil.fromDateOrdinal(readVarint(in)));
+            StartTime startTime = new StartTime(DateUtil.fromMinuteOfDay(readVarint(in)));
+            EndDate endDate = new EndDate(DateUtil.fromDateOrdinal(readVarint(in)));
+            EndTime endTime = new EndTime(DateUtil.fromMinuteOfDay(readVarint(in)));
+            Description description = new Description(readString(in));
+            int category = in.readUnsignedByte();
+            if (category >= CATEGORIES.length) {
+                throw new IllegalValueException(Categories.MESSAGE_CONSTRAINTS);
+            }
+            int taskTagCount = readVarint(in);
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < taskTagCount; j++) {
+                int tag = readVarint(in);
+                if (tag >= tagTable.size()) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(tagTable.get(tag));
+            }
+
+            Task task = new Task(name, startDate, startTime, endDate, endTime, description,
+                    new Categories(CATEGORIES[category]), tags);
+            if (taskBook.hasTask(task)) {
+                throw new IllegalValueException(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+            }
+            taskBook.addTask(task);
+        }
+        return taskBook;
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException, IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException("Malformed number in binary task book.");
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = readVarint(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IllegalValueException("String too long in binary task book.");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
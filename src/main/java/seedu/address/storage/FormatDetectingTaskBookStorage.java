@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+
+/**
+ * A {@code TaskBookStorage} that reads task book files in whichever {@link TaskBookFormat} they are in,
+ * and saves the task book in the format of its file, so that existing JSON files keep working.
+ */
+public class FormatDetectingTaskBookStorage implements TaskBookStorage {
+
+    private final Path filePath;
+    private final TaskBookStorage taskBookStorage;
+
+    /**
+     * Creates a storage for the task book at {@code filePath}, in the format given by the file's header if it exists,
+     * or by its extension otherwise.
+     */
+    public FormatDetectingTaskBookStorage(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.taskBookStorage = TaskBookFormat.of(filePath).createStorage(filePath);
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return taskBookStorage.readTaskBook();
+    }
+
+    /**
+     * Reads the task book at {@code filePath} in the format given by that file's header.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readTaskBook();
+        }
+        return TaskBookFormat.read(filePath);
+    }
+
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        taskBookStorage.saveTaskBook(taskBook);
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code filePath} in the format of the task book file.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        taskBookStorage.saveTaskBook(taskBook, filePath);
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        taskBookStorage.backupTaskBook(taskBook);
+    }
+
+    @Override
+    public void flushTaskBook() throws IOException {
+        taskBookStorage.flushTaskBook();
+    }
+}
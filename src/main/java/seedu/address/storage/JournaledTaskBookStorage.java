@@ -0,0 +1,304 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+
+/**
+ * A {@code TaskBookStorage} that saves the task book as a snapshot followed by a journal of changes.
+ *
+ * Saving appends a record for every added, edited or removed task to the journal, followed by a commit record,
+ * instead of rewriting the snapshot. Reading loads the snapshot and replays the committed records of the journal.
+ * Once the journal holds more than {@code compactionThreshold} records, or the tasks were reordered, the next save
+ * writes a fresh snapshot instead and empties the journal.
+ */
+public class JournaledTaskBookStorage implements TaskBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskBookStorage.class);
+
+    private final TaskBookStorage snapshotStorage;
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    /** The tasks in the snapshot and journal, or null if they are not known yet. */
+    private List<Task> persistedTasks;
+    private int journalRecordCount = 0;
+
+    public JournaledTaskBookStorage(TaskBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledTaskBookStorage} that keeps its snapshots in {@code snapshotStorage} and writes a
+     * fresh snapshot once the journal holds more than {@code compactionThreshold} records.
+     */
+    public JournaledTaskBookStorage(TaskBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold >= 0, "Compaction threshold must not be negative.");
+        this.snapshotStorage = snapshotStorage;
+        this.journalPath = getJournalPath(snapshotStorage.getTaskBookFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalPath(Path snapshotPath) {
+        String fileName = snapshotPath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return snapshotPath.resolveSibling(baseName + ".journal");
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return snapshotStorage.getTaskBookFilePath();
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyTaskBook> snapshot = snapshotStorage.readTaskBook();
+        if (!snapshot.isPresent() && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        UniqueTaskList tasks = new UniqueTaskList();
+        if (snapshot.isPresent()) {
+            tasks.setTasks(snapshot.get().getTaskList());
+        }
+        boolean isJournalComplete = replayJournal(tasks);
+
+        TaskBook taskBook = new TaskBook();
+        taskBook.setTasks(tasks.asUnmodifiableObservableList());
+        // Appending after an incomplete save would leave a broken line in the middle of the journal,
+        // so the next save writes a fresh snapshot instead.
+        persistedTasks = isJournalComplete ? new ArrayList<>(taskBook.getTaskList()) : null;
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, together with its journal only if it is this storage's file.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            return readTaskBook();
+        }
+        return snapshotStorage.readTaskBook(filePath);
+    }
+
+    /**
+     * Appends the changes from the last saved task book to {@code taskBook} to the journal,
+     * or writes a fresh snapshot if the journal is due for compaction.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        List<JsonAdaptedJournalRecord> records = persistedTasks == null ? null : getChanges(persistedTasks, tasks);
+        if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+            compact(taskBook);
+        } else if (!records.isEmpty()) {
+            appendToJournal(records);
+            journalRecordCount += records.size();
+        }
+        persistedTasks = tasks;
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code filePath}, through the journal if it is this storage's file,
+     * or as a snapshot without a journal otherwise.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getTaskBookFilePath())) {
+            saveTaskBook(taskBook);
+            return;
+        }
+        snapshotStorage.saveTaskBook(taskBook, filePath);
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        snapshotStorage.backupTaskBook(taskBook);
+    }
+
+    @Override
+    public void flushTaskBook() throws IOException {
+        snapshotStorage.flushTaskBook();
+    }
+
+    /**
+     * Returns the records that turn {@code oldTasks} into {@code newTasks}: every removal, followed by every
+     * addition and edit. Returns null if tasks kept in both lists are in a different order.
+     */
+    private static List<JsonAdaptedJournalRecord> getChanges(List<Task> oldTasks, List<Task> newTasks) {
+        Map<Name, Integer> oldPositions = new HashMap<>();
+        for (int i = 0; i < oldTasks.size(); i++) {
+            oldPositions.put(oldTasks.get(i).getName(), i);
+        }
+
+        List<JsonAdaptedJournalRecord> puts = new ArrayList<>();
+        boolean[] isKept = new boolean[oldTasks.size()];
+        int lastKeptPosition = -1;
+        for (int i = 0; i < newTasks.size(); i++) {
+            Task task = newTasks.get(i);
+            Integer oldPosition = oldPositions.get(task.getName());
+            if (oldPosition == null) {
+                puts.add(JsonAdaptedJournalRecord.put(i, task));
+                continue;
+            }
+            if (oldPosition < lastKeptPosition) {
+                return null;
+            }
+            lastKeptPosition = oldPosition;
+            isKept[oldPosition] = true;
+            if (oldTasks.get(oldPosition) != task) {
+                puts.add(JsonAdaptedJournalRecord.put(i, task));
+            }
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (int i = 0; i < oldTasks.size(); i++) {
+            if (!isKept[i]) {
+                records.add(JsonAdaptedJournalRecord.remove(oldTasks.get(i)));
+            }
+        }
+        records.addAll(puts);
+        return records;
+    }
+
+    /**
+     * Appends {@code records} and a commit record to the journal in a single write.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.commit())).append('\n');
+
+        Files.createDirectories(journalPath.toAbsolutePath().getParent());
+        try (FileChannel journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code taskBook} and empties the journal.
+     * The snapshot is written to a temporary file first, so that a failed save leaves the old snapshot intact.
+     * The checksum saved with the temporary file, if any, replaces the checksum of the old snapshot. A save cut short
+     * between the two moves leaves a checksum that does not match, so the snapshot is only validated in full.
+     */
+    private void compact(ReadOnlyTaskBook taskBook) throws IOException {
+        Path snapshotPath = getTaskBookFilePath();
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        snapshotStorage.saveTaskBook(taskBook, temporaryPath);
+        moveAtomically(temporaryPath, snapshotPath);
+        Path temporaryChecksumPath = JsonTaskBookStorage.getChecksumPath(temporaryPath);
+        if (Files.exists(temporaryChecksumPath)) {
+            moveAtomically(temporaryChecksumPath, JsonTaskBookStorage.getChecksumPath(snapshotPath));
+        } else {
+            Files.deleteIfExists(JsonTaskBookStorage.getChecksumPath(snapshotPath));
+        }
+        Files.deleteIfExists(journalPath);
+        journalRecordCount = 0;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Applies the committed records of the journal, if any, to {@code tasks}.
+     * An unreadable last line is taken to be a save that was cut short, and ignored with the rest of its save.
+     * Returns false if the journal ends with such an incomplete save.
+     *
+     * @throws DataConversionException if any other line of the journal is unreadable.
+     */
+    private boolean replayJournal(UniqueTaskList tasks) throws DataConversionException, IOException {
+        journalRecordCount = 0;
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        List<JsonAdaptedJournalRecord> uncommitted = new ArrayList<>();
+        boolean isComplete = true;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last line of " + journalPath);
+                        isComplete = false;
+                        break;
+                    }
+                    throw new DataConversionException(e);
+                }
+
+                if (record.isCommit()) {
+                    for (JsonAdaptedJournalRecord change : uncommitted) {
+                        change.applyTo(tasks);
+                    }
+                    journalRecordCount += uncommitted.size();
+                    uncommitted.clear();
+                } else {
+                    uncommitted.add(record);
+                }
+                line = nextLine;
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (!uncommitted.isEmpty()) {
+            logger.warning("Ignoring " + uncommitted.size() + " uncommitted records in " + journalPath);
+            isComplete = false;
+        }
+        return isComplete;
+    }
+}
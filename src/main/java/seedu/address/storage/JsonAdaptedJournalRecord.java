@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+
+/**
+ * Jackson-friendly version of a change to the task book, as recorded in the task book journal.
+ * The records of one save are followed by a commit record, and only committed records are replayed.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Unknown journal operation: %s";
+
+    private static final String OPERATION_PUT = "put";
+    private static final String OPERATION_REMOVE = "remove";
+    private static final String OPERATION_COMMIT = "commit";
+
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+            @JsonProperty("index") Integer index, @JsonProperty("task") JsonAdaptedTask task) {
+        this.operation = operation;
+        this.index = index;
+        this.task = task;
+    }
+
+    /**
+     * Returns a record that replaces the task with the same name as {@code task}, or adds {@code task}
+     * at {@code index} if there is no such task.
+     */
+    public static JsonAdaptedJournalRecord put(int index, Task task) {
+        return new JsonAdaptedJournalRecord(OPERATION_PUT, index, new JsonAdaptedTask(task));
+    }
+
+    /**
+     * Returns a record that removes the task with the same name as {@code task}.
+     */
+    public static JsonAdaptedJournalRecord remove(Task task) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, null, new JsonAdaptedTask(task));
+    }
+
+    /**
+     * Returns a record that ends the records of one save.
+     */
+    public static JsonAdaptedJournalRecord commit() {
+        return new JsonAdaptedJournalRecord(OPERATION_COMMIT, null, null);
+    }
+
+    public boolean isCommit() {
+        return OPERATION_COMMIT.equals(operation);
+    }
+
+    /**
+     * Applies this record to {@code tasks}.
+     * Records can be applied again to tasks they were already applied to without changing them.
+     *
+     * @throws IllegalValueException if the record is not valid.
+     */
+    public void applyTo(UniqueTaskList tasks) throws IllegalValueException {
+        if (OPERATION_PUT.equals(operation) && index != null && task != null) {
+            Task modelTask = task.toModelType();
+            if (tasks.contains(modelTask)) {
+                tasks.setTask(modelTask, modelTask);
+            } else {
+                tasks.add(Math.max(0, Math.min(index, tasks.asUnmodifiableObservableList().size())), modelTask);
+            }
+        } else if (OPERATION_REMOVE.equals(operation) && task != null) {
+            Task modelTask = task.toModelType();
+            if (tasks.contains(modelTask)) {
+                tasks.remove(modelTask);
+            }
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Name;
+
+/**
+ * Jackson-friendly entry of the manifest of a segmented task book, describing the segment of one month.
+ * Every task of the segment starts in its month, and starts and ends from {@code firstDay} to {@code lastDay}.
+ * The names of its tasks are listed too, so that a task can be found by name without reading every segment.
+ */
+class JsonAdaptedSegment {
+
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment %1$s is not valid.";
+
+    private final String month;
+    private final int taskCount;
+    private final int firstDay;
+    private final int lastDay;
+    /** The names of the tasks, or null if the manifest was saved before segments listed them. */
+    private final List<String> taskNames;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegment} with the given segment details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegment(@JsonProperty("month") String month, @JsonProperty("taskCount") int taskCount,
+            @JsonProperty("firstDay") int firstDay, @JsonProperty("lastDay") int lastDay,
+            @JsonProperty("taskNames") List<String> taskNames) {
+        this.month = month;
+        this.taskCount = taskCount;
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.taskNames = taskNames == null ? null : new ArrayList<>(taskNames);
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getFirstDay() {
+        return firstDay;
+    }
+
+    public int getLastDay() {
+        return lastDay;
+    }
+
+    /**
+     * Returns true if tasks of this segment might start, end or last from {@code fromDay} to {@code toDay}.
+     */
+    public boolean isTouching(int fromDay, int toDay) {
+        return firstDay <= toDay && lastDay >= fromDay;
+    }
+
+    /**
+     * Returns true if this segment might hold a task named {@code name}.
+     */
+    public boolean mightHold(Name name) {
+        return taskNames == null || taskNames.contains(name.fullName);
+    }
+
+    /**
+     * Checks that the month of this segment is a {@code yyyy-MM} month, its days are in order, and it lists the
+     * name of every task if it lists task names.
+     *
+     * @throws IllegalValueException if it is not.
+     */
+    public void validate() throws IllegalValueException {
+        try {
+            YearMonth.parse(month);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, month));
+        }
+        if (taskCount < 0 || firstDay > lastDay || (taskNames != null && taskNames.size() != taskCount)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, month));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of one version of a task, as exchanged through a sync folder and remembered in the
+ * sync state of a task book. A record without a hash stands for a deleted task. Records in the sync state leave
+ * out the task itself.
+ */
+public class JsonAdaptedSyncRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Sync record's %s field is missing!";
+    public static final String MESSAGE_NAME_MISMATCH = "Sync record of %s holds a different task";
+
+    private final String name;
+    private final Map<String, Long> versions = new TreeMap<>();
+    private final String hash;
+    private final JsonAdaptedTask task;
+
+    /**
+     * Constructs a {@code JsonAdaptedSyncRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedSyncRecord(@JsonProperty("name") String name,
+            @JsonProperty("versions") Map<String, Long> versions, @JsonProperty("hash") String hash,
+            @JsonProperty("task") JsonAdaptedTask task) {
+        this.name = name;
+        if (versions != null) {
+            this.versions.putAll(versions);
+        }
+        this.hash = hash;
+        this.task = task;
+    }
+
+    /**
+     * Returns a record of {@code task} at the version {@code versions}, with the content hash {@code hash}.
+     */
+    public static JsonAdaptedSyncRecord put(Task task, Map<String, Long> versions, String hash) {
+        return new JsonAdaptedSyncRecord(task.getName().fullName, versions, hash, new JsonAdaptedTask(task));
+    }
+
+    /**
+     * Returns a record of the deletion of the task named {@code name} at the version {@code versions}.
+     */
+    public static JsonAdaptedSyncRecord remove(Name name, Map<String, Long> versions) {
+        return new JsonAdaptedSyncRecord(name.fullName, versions, null, null);
+    }
+
+    /**
+     * Returns a record of the task named {@code name} at the version {@code versions} that leaves out the task,
+     * with the content hash {@code hash}, or none if the task is deleted.
+     */
+    public static JsonAdaptedSyncRecord version(Name name, Map<String, Long> versions, String hash) {
+        return new JsonAdaptedSyncRecord(name.fullName, versions, hash, null);
+    }
+
+    /**
+     * Returns the name of the task this record is about.
+     *
+     * @throws IllegalValueException if the name is missing or invalid.
+     */
+    public Name getName() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "name"));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    public Map<String, Long> getVersions() {
+        return Collections.unmodifiableMap(versions);
+    }
+
+    /**
+     * Returns the content hash of the task, or an empty {@code Optional} if the task is deleted.
+     */
+    public Optional<String> getHash() {
+        return Optional.ofNullable(hash);
+    }
+
+    /**
+     * Converts the task of this record into the model's {@code Task} object, if the record holds one.
+     *
+     * @throws IllegalValueException if the task is invalid or has a name other than this record's.
+     */
+    public Optional<Task> toModelTask() throws IllegalValueException {
+        if (task == null) {
+            return Optional.empty();
+        }
+        Task modelTask = task.toModelType();
+        if (!modelTask.getName().equals(getName())) {
+            throw new IllegalValueException(String.format(MESSAGE_NAME_MISMATCH, name));
+        }
+        return Optional.of(modelTask);
+    }
+}
@@ -151,4 +151,18 @@ class JsonAdaptedTask {
                 modelCategories, modelTags);
     }
 
+    /**
+     * Converts this task into the model's {@code Task} object without validating its fields.
+     * Only for tasks read back from a file whose checksum shows that Tasketch wrote it from valid tasks.
+     */
+    public Task toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(Tag.fromTrusted(tag.getTagName()));
+        }
+        return new Task(Name.fromTrusted(name), StartDate.fromTrusted(startDate), StartTime.fromTrusted(startTime),
+                EndDate.fromTrusted(endDate), EndTime.fromTrusted(endTime), Description.fromTrusted(description),
+                Categories.fromTrusted(categories), modelTags);
+    }
+
 }
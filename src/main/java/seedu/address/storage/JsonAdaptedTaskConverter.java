@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+
+/**
+ * Converts Jackson-friendly tasks into the model's {@code Task} objects in parallel chunks on the common
+ * fork-join pool, and reports every invalid or duplicate task together with its position.
+ *
+ * Tasks are added one at a time, as a reader produces them, and each full chunk is converted while the next one is
+ * read. At most {@link #MAX_PENDING_CHUNKS} chunks are converted at the same time, so only those chunks of
+ * Jackson-friendly tasks are held at once rather than every task of the task book.
+ */
+final class JsonAdaptedTaskConverter {
+
+    public static final String MESSAGE_INVALID_TASK_AT = "Task %1$d: %2$s";
+
+    /** The number of tasks converted by one fork-join task, large enough to outweigh the cost of forking. */
+    static final int CHUNK_SIZE = 512;
+
+    /** The number of chunks converted at the same time, beyond which adding a task waits for the oldest chunk. */
+    static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism() + 1;
+
+    private final boolean isTrusted;
+    private final List<Task> modelTasks = new ArrayList<>();
+    private final Deque<ConvertChunk> pendingChunks = new ArrayDeque<>();
+    private final Map<Name, Integer> firstPositions = new ConcurrentHashMap<>();
+    private final Map<Integer, String> problems = new ConcurrentSkipListMap<>();
+    private List<JsonAdaptedTask> chunk = new ArrayList<>(CHUNK_SIZE);
+    private int chunkStart = 0;
+
+    /**
+     * Creates a converter that validates every task, or that trusts the tasks to be valid if {@code isTrusted}.
+     * Trusted tasks are still checked for duplicates, and a trusted task that cannot be built at all is reported as
+     * invalid, since the tasks may turn out not to be trustworthy once they are all read.
+     */
+    JsonAdaptedTaskConverter(boolean isTrusted) {
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Converts {@code tasks} into the model's {@code Task} objects, in the same order.
+     *
+     * @throws IllegalValueException if any task is invalid or has the same name as an earlier task.
+     *     Its message lists every such task by its position, counting from 1.
+     */
+    public static List<Task> toModelTasks(List<JsonAdaptedTask> tasks) throws IllegalValueException {
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(false);
+        tasks.forEach(converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Adds {@code task} after the tasks added so far.
+     */
+    public void add(JsonAdaptedTask task) {
+        chunk.add(task);
+        if (chunk.size() == CHUNK_SIZE) {
+            convertChunk();
+        }
+    }
+
+    /**
+     * Waits for every added task to be converted, and returns them in the order they were added.
+     *
+     * @throws IllegalValueException if any task is invalid or has the same name as an earlier task.
+     *     Its message lists every such task by its position, counting from 1.
+     */
+    public List<Task> finish() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            convertChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            joinOldestChunk();
+        }
+
+        // The earliest task with a name is kept whichever chunk converted it first, so the duplicates reported
+        // are the same on every run.
+        for (int i = 0; i < modelTasks.size(); i++) {
+            if (modelTasks.get(i) != null && firstPositions.get(modelTasks.get(i).getName()) != i) {
+                problems.put(i, JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+            }
+        }
+        if (!problems.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            problems.forEach((index, message) -> messages.add(String.format(MESSAGE_INVALID_TASK_AT, index + 1,
+                    message)));
+            throw new IllegalValueException(String.join("\n", messages));
+        }
+        return modelTasks;
+    }
+
+    private void convertChunk() {
+        ConvertChunk convertChunk = new ConvertChunk(chunk, chunkStart);
+        convertChunk.fork();
+        pendingChunks.add(convertChunk);
+        chunkStart += chunk.size();
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        if (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+            joinOldestChunk();
+        }
+    }
+
+    private void joinOldestChunk() {
+        modelTasks.addAll(Arrays.asList(pendingChunks.remove().join()));
+    }
+
+    /**
+     * Converts the tasks of a chunk starting at position {@code start}, leaving nulls for invalid tasks.
+     */
+    private class ConvertChunk extends RecursiveTask<Task[]> {
+        private final List<JsonAdaptedTask> tasks;
+        private final int start;
+
+        ConvertChunk(List<JsonAdaptedTask> tasks, int start) {
+            this.tasks = tasks;
+            this.start = start;
+        }
+
+        @Override
+        protected Task[] compute() {
+            Task[] chunkTasks = new Task[tasks.size()];
+            for (int i = 0; i < chunkTasks.length; i++) {
+                try {
+                    Task task = isTrusted ? tasks.get(i).toTrustedModelType() : tasks.get(i).toModelType();
+                    chunkTasks[i] = task;
+                    firstPositions.merge(task.getName(), start + i, Math::min);
+                } catch (IllegalValueException ive) {
+                    problems.put(start + i, ive.getMessage());
+                } catch (RuntimeException re) {
+                    if (!isTrusted) {
+                        throw re;
+                    }
+                    problems.put(start + i, re.toString());
+                }
+            }
+            return chunkTasks;
+        }
+    }
+}
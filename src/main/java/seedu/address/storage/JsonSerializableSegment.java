@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Task;
+
+/**
+ * The tasks that start in one month of a segmented task book, serializable to JSON format,
+ * together with their positions in the task list of the whole task book.
+ */
+class JsonSerializableSegment {
+
+    public static final String MESSAGE_POSITIONS_MISMATCH = "Segment has %1$d tasks but %2$d positions.";
+
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given tasks and positions.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+            @JsonProperty("positions") List<Long> positions) {
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Converts {@code tasks}, and their {@code positions} in the same order, into this class for Jackson use.
+     */
+    public JsonSerializableSegment(List<Task> tasks, long[] positions) {
+        for (int i = 0; i < tasks.size(); i++) {
+            this.tasks.add(new JsonAdaptedTask(tasks.get(i)));
+            this.positions.add(positions[i]);
+        }
+    }
+
+    /**
+     * Converts the tasks of this segment into the model's {@code Task} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Task> toModelType() throws IllegalValueException {
+        if (tasks.size() != positions.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_POSITIONS_MISMATCH, tasks.size(), positions.size()));
+        }
+        return JsonAdaptedTaskConverter.toModelTasks(tasks);
+    }
+
+    public List<Long> getPositions() {
+        return positions;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a segmented task book, serializable to JSON format, which lists the segment of every month.
+ */
+class JsonSerializableSegmentManifest {
+
+    private final List<JsonAdaptedSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("segments") Collection<JsonAdaptedSegment> segments) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public List<JsonAdaptedSegment> getSegments() {
+        return segments;
+    }
+}
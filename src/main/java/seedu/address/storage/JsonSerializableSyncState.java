@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * An entry of the sync state of a task book that is serializable to JSON format: which copy of Tasketch it belongs
+ * to, how far it has read the change log of every sync folder, and the last synced version of the tasks whose
+ * versions changed since the entries before it.
+ */
+public class JsonSerializableSyncState {
+
+    private final String replicaId;
+    private final Map<String, Long> readOffsets = new TreeMap<>();
+    private final List<JsonAdaptedSyncRecord> tasks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSyncState} with the given state.
+     */
+    @JsonCreator
+    public JsonSerializableSyncState(@JsonProperty("replicaId") String replicaId,
+            @JsonProperty("readOffsets") Map<String, Long> readOffsets,
+            @JsonProperty("tasks") List<JsonAdaptedSyncRecord> tasks) {
+        this.replicaId = replicaId;
+        if (readOffsets != null) {
+            this.readOffsets.putAll(readOffsets);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    /**
+     * Returns the number of bytes read from the change log of every sync folder, by the folder's path.
+     */
+    public Map<String, Long> getReadOffsets() {
+        return Collections.unmodifiableMap(readOffsets);
+    }
+
+    /**
+     * Returns the last synced version of the tasks in this entry, without the tasks themselves.
+     */
+    public List<JsonAdaptedSyncRecord> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+}
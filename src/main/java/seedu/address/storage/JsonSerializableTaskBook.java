@@ -1,17 +1,27 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
+import seedu.address.model.day.Date;
+import seedu.address.model.day.Day;
 import seedu.address.model.task.Task;
 
 /**
@@ -23,15 +33,25 @@ public class JsonSerializableTaskBook {
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
     public static final String MESSAGE_DUPLICATE_DAY = "Days list contains duplicate day(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableTaskBook.class);
+
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
     private final List<JsonAdaptedDay> days = new ArrayList<>();
+    /** The fingerprint of the tasks the days were built from, or null if there are no days to trust. */
+    private final Long checksum;
 
     /**
-     * Constructs a {@code JsonSerializableTaskBook} with the given tasks.
+     * Constructs a {@code JsonSerializableTaskBook} with the given tasks, and the days built from tasks
+     * with the fingerprint {@code checksum}.
      */
     @JsonCreator
-    public JsonSerializableTaskBook(@JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+    public JsonSerializableTaskBook(@JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+            @JsonProperty("days") List<JsonAdaptedDay> days, @JsonProperty("checksum") Long checksum) {
         this.tasks.addAll(tasks);
+        if (days != null) {
+            this.days.addAll(days);
+        }
+        this.checksum = checksum;
     }
 
     /**
@@ -42,6 +62,7 @@ public class JsonSerializableTaskBook {
     public JsonSerializableTaskBook(ReadOnlyTaskBook source) {
         tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
         days.addAll(source.getDayList().stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
+        checksum = source.getFingerprint();
     }
 
     /**
@@ -49,24 +70,123 @@ public class JsonSerializableTaskBook {
      */
     public JsonSerializableTaskBook(ObservableList<Task> filteredPersons) {
         tasks.addAll(filteredPersons.stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        checksum = null;
     }
 
     /**
-     * Converts this task book into the model's {@code TaskBook} object.
+     * Converts this task book into the model's {@code TaskBook} object, rebuilding the days from the tasks.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid task.
      */
     public TaskBook toModelType() throws IllegalValueException {
+        return toTaskBook(JsonAdaptedTaskConverter.toModelTasks(tasks), null, null);
+    }
+
+    /**
+     * Returns a task book with {@code tasks}, whose days are taken from {@code days} if they were built from
+     * the same tasks according to {@code checksum}, and rebuilt from the tasks otherwise.
+     * Stored days are only trusted from files that Tasketch wrote, so {@code days} is null for any other file.
+     */
+    private static TaskBook toTaskBook(List<Task> tasks, List<JsonAdaptedDay> days, Long checksum) {
         TaskBook taskBook = new TaskBook();
-        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            taskBook.addTask(task);
+        List<Day> modelDays = days == null || checksum == null ? null : toModelDays(days);
+        if (modelDays == null) {
+            taskBook.setTasks(tasks);
+        } else {
+            taskBook.setDatas(tasks, modelDays, checksum);
+        }
+        if (checksum != null && taskBook.getFingerprint() != checksum) {
+            logger.info("Stored days do not match the stored tasks. Rebuilt the days from the tasks.");
         }
         return taskBook;
     }
+
+    /**
+     * Converts {@code days} into the model's {@code Day} objects, or returns null if they are not valid days
+     * with distinct dates, so that the caller rebuilds them instead.
+     */
+    private static List<Day> toModelDays(List<JsonAdaptedDay> days) {
+        List<Day> modelDays = new ArrayList<>();
+        Set<Date> dates = new HashSet<>();
+        try {
+            for (JsonAdaptedDay jsonAdaptedDay : days) {
+                Day day = jsonAdaptedDay.toModelType();
+                if (!dates.add(day.getDate())) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_DAY);
+                }
+                modelDays.add(day);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Stored days are not valid: " + ive.getMessage() + ". Rebuilt the days from the tasks.");
+            return null;
+        }
+        return modelDays;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a {@code JsonSerializableTaskBook},
+     * converting one task at a time instead of copying every task first.
+     */
+    public static void write(ReadOnlyTaskBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tasks");
+        for (Task task : source.getTaskList()) {
+            generator.writeObject(new JsonAdaptedTask(task));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("days");
+        for (Day day : source.getDayList()) {
+            generator.writeObject(new JsonAdaptedDay(day));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("checksum", source.getFingerprint());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a task book in the format of a {@code JsonSerializableTaskBook} from {@code parser} into the model's
+     * {@code TaskBook} object, one task at a time instead of reading the whole file first. The tasks are converted
+     * in chunks as they are read, so only a few chunks of Jackson-friendly tasks are held at once.
+     * The tasks are not validated and the stored days are used if {@code isTrusted}, which is only for files that
+     * Tasketch wrote. Otherwise, the days are skipped and rebuilt from the tasks.
+     *
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException if the JSON is not a task book, or if any task is invalid or duplicate.
+     */
+    public static TaskBook read(JsonParser parser, boolean isTrusted) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException("Task book is not a JSON object.");
+        }
+
+        JsonAdaptedTaskConverter tasks = new JsonAdaptedTaskConverter(isTrusted);
+        List<JsonAdaptedDay> days = new ArrayList<>();
+        Long checksum = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("checksum".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                checksum = parser.getLongValue();
+                continue;
+            }
+            boolean isWanted = "tasks".equals(field) || ("days".equals(field) && isTrusted);
+            if (!isWanted || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new IllegalValueException("Tasks and days are not JSON arrays.");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if ("tasks".equals(field)) {
+                    tasks.add(parser.readValueAs(JsonAdaptedTask.class));
+                } else {
+                    days.add(parser.readValueAs(JsonAdaptedDay.class));
+                }
+            }
+        }
+        return toTaskBook(tasks.finish(), isTrusted ? days : null, checksum);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,11 +2,21 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -14,12 +24,24 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
 
 /**
  * A class to access TaskBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, so that the whole file is never held in memory at once.
+ *
+ * Every save also writes the CRC32C checksum of the file to a {@code .crc} file next to it. A file that still has
+ * that checksum when it is read was written by Tasketch, so its tasks are loaded without validating them again.
+ * As the checksum is only known once the whole file is read, a file with a saved checksum is first read without
+ * validation, and read again with validation if its checksum turns out not to match.
+ * Files edited by hand, or saved without a checksum, are validated in full.
  */
 public class JsonTaskBookStorage implements TaskBookStorage {
 
+    public static final String CHECKSUM_SUFFIX = ".crc";
+
+    private static final int BUFFER_SIZE = 8192;
+
     private static final Logger logger = LogsCenter.getLogger(JsonTaskBookStorage.class);
 
     private Path filePath;
@@ -48,20 +70,65 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskBook> jsonTaskBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskBook.class);
-        if (!jsonTaskBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        Optional<Long> savedChecksum = readChecksum(filePath);
         try {
-            return Optional.of(jsonTaskBook.get().toModelType());
+            if (savedChecksum.isPresent()) {
+                Optional<TaskBook> taskBook = readTrustedTaskBook(filePath, savedChecksum.get());
+                if (taskBook.isPresent()) {
+                    return Optional.of(taskBook.get());
+                }
+            }
+            logger.info("Checksum of " + filePath + " does not match. Validating every task.");
+            return Optional.of(readTaskBook(filePath, false, new CRC32C()));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the task book file at {@code filePath} without validating its tasks, or returns an empty
+     * {@code Optional} if the file does not have the checksum {@code savedChecksum} after all.
+     */
+    private static Optional<TaskBook> readTrustedTaskBook(Path filePath, long savedChecksum) throws IOException {
+        CRC32C checksum = new CRC32C();
+        TaskBook taskBook;
+        try {
+            taskBook = readTaskBook(filePath, true, checksum);
+        } catch (IllegalValueException ive) {
+            // a file that Tasketch wrote holds no invalid tasks, so its checksum cannot match either
+            return Optional.empty();
+        }
+        return savedChecksum == checksum.getValue() ? Optional.of(taskBook) : Optional.empty();
+    }
+
+    /**
+     * Reads the task book file at {@code filePath}, validating its tasks unless {@code isTrusted}, and updates
+     * {@code checksum} with the whole file.
+     */
+    private static TaskBook readTaskBook(Path filePath, boolean isTrusted, CRC32C checksum)
+            throws IOException, IllegalValueException {
+        try (CheckedInputStream in = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath)), checksum);
+                JsonParser parser = JsonUtil.createJsonParser(in)) {
+            TaskBook taskBook = JsonSerializableTaskBook.read(parser, isTrusted);
+            // The checksum covers the whole file, including anything after the task book that the parser left.
+            byte[] rest = new byte[BUFFER_SIZE];
+            while (in.read(rest) != -1) {
+                continue;
+            }
+            return taskBook;
+        }
+    }
+
     @Override
     public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
         saveTaskBook(taskBook, filePath);
@@ -77,7 +144,31 @@ public class JsonTaskBookStorage implements TaskBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskBook(taskBook), filePath);
+        CRC32C checksum = new CRC32C();
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath)), checksum))) {
+            JsonSerializableTaskBook.write(taskBook, generator);
+        }
+        Files.write(getChecksumPath(filePath), Long.toHexString(checksum.getValue()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the path of the file that holds the checksum of the task book file at {@code filePath}.
+     */
+    public static Path getChecksumPath(Path filePath) {
+        return Paths.get(filePath.toString() + CHECKSUM_SUFFIX);
+    }
+
+    /**
+     * Returns the checksum saved for the task book file at {@code filePath}, if there is a readable one.
+     */
+    private static Optional<Long> readChecksum(Path filePath) {
+        try {
+            String checksum = new String(Files.readAllBytes(getChecksumPath(filePath)), StandardCharsets.UTF_8);
+            return Optional.of(Long.parseUnsignedLong(checksum.trim(), 16));
+        } catch (IOException | NumberFormatException e) {
+            return Optional.empty();
+        }
     }
     /**
      * Similar to {@link #backupTaskBook(ReadOnlyTaskBook)}
@@ -86,4 +177,10 @@ public class JsonTaskBookStorage implements TaskBookStorage {
     public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
         saveTaskBook(taskBook, backupPath);
     }
+
+    /**
+     * Does nothing, as every save is written to the file right away.
+     */
+    @Override
+    public void flushTaskBook() {}
 }
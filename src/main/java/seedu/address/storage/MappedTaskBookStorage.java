@@ -0,0 +1,827 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that keeps every task in a fixed-size record of a memory-mapped file,
+ * so that saving only writes the records of the tasks that changed.
+ *
+ * The record file starts with a header, followed by one record per slot. A record holds the dates, times and
+ * category of a task, the position of the task in the task book, and where its name, description and tags are
+ * in a text heap file next to the record file. Slots of removed tasks are kept on a free list and reused.
+ * Edited text is appended to the heap; both files are rewritten once most of the heap is unused,
+ * or when the tasks are reordered in a way the stored positions cannot express.
+ *
+ * A task book can be read in part, with the records of the other tasks read when a command needs them.
+ * Saves keep the records of the tasks that were not loaded.
+ *
+ * Windows does not let a file be replaced while it is mapped, and Java only unmaps a buffer once it is garbage
+ * collected. So every mapping is unmapped as soon as it is dropped, through the cleaner of the JDK's unsupported
+ * {@code sun.misc.Unsafe}. Where that is not available, the mapping is left to the garbage collector, and a rewrite
+ * on Windows may fail until it is collected, leaving the old files as they were.
+ */
+public class MappedTaskBookStorage implements ArchivingTaskBookStorage, Closeable {
+
+    public static final byte[] MAGIC = {'T', 'S', 'K', 'M'};
+    public static final int FORMAT_VERSION = 1;
+    public static final String HEAP_FILE_SUFFIX = ".text";
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTaskBookStorage.class);
+
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOT_COUNT = 8;
+    private static final int HEADER_FREE_SLOT = 12;
+    private static final int HEADER_HEAP_END = 16;
+    private static final int HEADER_HEAP_GARBAGE = 24;
+
+    private static final int RECORD_SIZE = 64;
+    private static final int RECORD_STATE = 0;
+    private static final int RECORD_CATEGORY = 1;
+    private static final int RECORD_START_MINUTE = 2;
+    private static final int RECORD_END_MINUTE = 4;
+    private static final int RECORD_START_DATE = 8;
+    private static final int RECORD_END_DATE = 12;
+    private static final int RECORD_START_EPOCH_DAY = 16;
+    private static final int RECORD_END_EPOCH_DAY = 20;
+    private static final int RECORD_POSITION = 24;
+    private static final int RECORD_TEXT_OFFSET = 32;
+    private static final int RECORD_TEXT_LENGTH = 40;
+    private static final int RECORD_NEXT_FREE_SLOT = 44;
+
+    private static final byte STATE_FREE = 0;
+    private static final byte STATE_LIVE = 1;
+    private static final int NO_SLOT = -1;
+    private static final int INITIAL_SLOT_CAPACITY = 1024;
+    /** The smallest heap that is compacted, so that small books are not rewritten over a few edits. */
+    private static final long MIN_HEAP_SIZE_TO_COMPACT = 1 << 16;
+
+    /** Unmaps a buffer right away, or null if the platform offers no way to. */
+    private static final BufferUnmapper UNMAPPER = BufferUnmapper.find();
+
+    /** The categories, in the order of their ordinals. */
+    private static final String[] CATEGORIES = {Categories.CAT_ACADEMIC, Categories.CAT_CCA,
+        Categories.CAT_ENTERTAINMENT, Categories.CAT_ERRAND, Categories.CAT_OTHER};
+
+    private final Path filePath;
+    private final Path heapPath;
+    private final Path backupPath;
+
+    private FileChannel recordChannel;
+    private FileChannel heapChannel;
+    private MappedByteBuffer records;
+
+    /** The loaded tasks in the file, in order, or null if the file has not been read or saved yet. */
+    private List<Task> storedTasks;
+    private final Map<Name, Integer> slots = new HashMap<>();
+    /** The live slots of the tasks that were not loaded. */
+    private final Set<Integer> unloadedSlots = new HashSet<>();
+    /** The slots of the tasks that were not loaded by name, or null if their names have not been read yet. */
+    private Map<Name, Integer> unloadedNames;
+
+    public MappedTaskBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.heapPath = Paths.get(filePath.toString() + HEAP_FILE_SUFFIX);
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC}.
+     */
+    public static boolean isMappedTaskBookFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            byte[] header = new byte[MAGIC.length];
+            in.readFully(header);
+            return Arrays.equals(header, MAGIC);
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBookTouching(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads only the tasks that start, end or last from {@code fromDay} to {@code toDay}, as epoch days.
+     * Only the records of those tasks are turned into {@code Task}s.
+     *
+     * @throws DataConversionException if the header or one of those records is not valid.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBookTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        storedTasks = null;
+        slots.clear();
+        unloadedSlots.clear();
+        unloadedNames = null;
+        if (!Files.exists(filePath)) {
+            logger.info("Mapped file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        open();
+        unloadedSlots.addAll(getLiveSlots());
+        storedTasks = new ArrayList<>();
+        TaskBook taskBook = new TaskBook();
+        for (Task task : loadTasksTouching(fromDay, toDay)) {
+            if (taskBook.hasTask(task)) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK));
+            }
+            taskBook.addTask(task);
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, which must be in the same format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readTaskBook();
+        }
+
+        MappedTaskBookStorage storage = new MappedTaskBookStorage(filePath);
+        try {
+            return storage.readTaskBook();
+        } finally {
+            storage.close();
+        }
+    }
+
+    @Override
+    public synchronized boolean isFullyLoaded() {
+        return unloadedSlots.isEmpty();
+    }
+
+    /**
+     * Loads the tasks not loaded yet that start, end or last from {@code fromDay} to {@code toDay}, and returns
+     * them in the order of the task book. Nothing is loaded if any of their records is not valid.
+     */
+    @Override
+    public synchronized List<Task> loadTasksTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        List<Task> tasks = new ArrayList<>();
+        if (unloadedSlots.isEmpty()) {
+            return tasks;
+        }
+
+        open();
+        List<Integer> touchingSlots = new ArrayList<>();
+        for (int slot : unloadedSlots) {
+            int offset = recordOffset(slot);
+            int startDay = records.getInt(offset + RECORD_START_EPOCH_DAY);
+            int endDay = records.getInt(offset + RECORD_END_EPOCH_DAY);
+            if (Math.min(startDay, endDay) <= toDay && Math.max(startDay, endDay) >= fromDay) {
+                touchingSlots.add(slot);
+            }
+        }
+        return loadSlots(touchingSlots);
+    }
+
+    /**
+     * Loads the task not loaded yet that is named {@code name}, if there is one. The names of the tasks not loaded
+     * are read from the text heap the first time, without reading the rest of their records.
+     */
+    @Override
+    public synchronized List<Task> loadTasksNamed(Name name) throws DataConversionException, IOException {
+        requireNonNull(name);
+        if (unloadedSlots.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        open();
+        if (unloadedNames == null) {
+            Map<Name, Integer> readNames = new HashMap<>();
+            for (int slot : unloadedSlots) {
+                readNames.put(readName(slot), slot);
+            }
+            unloadedNames = readNames;
+        }
+        Integer slot = unloadedNames.get(name);
+        return slot == null ? new ArrayList<>() : loadSlots(new ArrayList<>(Collections.singletonList(slot)));
+    }
+
+    /**
+     * Loads the tasks in {@code slotsToLoad}, which are not loaded yet, and returns them in the order of the task
+     * book. Nothing is loaded if any of their records is not valid.
+     */
+    private List<Task> loadSlots(List<Integer> slotsToLoad) throws DataConversionException, IOException {
+        sortByPosition(slotsToLoad);
+        List<Task> tasks = new ArrayList<>();
+        for (int slot : slotsToLoad) {
+            tasks.add(readTask(slot));
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            unloadedSlots.remove(slotsToLoad.get(i));
+            slots.put(tasks.get(i).getName(), slotsToLoad.get(i));
+            if (unloadedNames != null) {
+                unloadedNames.remove(tasks.get(i).getName());
+            }
+        }
+        if (storedTasks != null) {
+            storedTasks.addAll(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a copy of {@code taskBook}, which holds the loaded tasks, together with the tasks that were not loaded.
+     */
+    @Override
+    public synchronized TaskBook withUnloadedTasks(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        TaskBook fullTaskBook = new TaskBook(taskBook);
+        if (!unloadedSlots.isEmpty()) {
+            open();
+            for (int slot : getUnloadedSlotsInOrder()) {
+                fullTaskBook.addTask(readUnloadedTask(slot));
+            }
+        }
+        return fullTaskBook;
+    }
+
+    /**
+     * Saves {@code taskBook} by writing the records of the tasks that were added, edited or removed since the
+     * last read or save, or by rewriting the files if that is not possible or the heap is mostly unused.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        open();
+        List<Task> previousTasks = storedTasks;
+        // A failed save leaves the files partly written, so the next save rewrites them.
+        storedTasks = null;
+        if (previousTasks == null || !saveChanges(previousTasks, tasks)) {
+            rewrite(tasks);
+        } else {
+            long heapEnd = records.getLong(HEADER_HEAP_END);
+            if (heapEnd >= MIN_HEAP_SIZE_TO_COMPACT && records.getLong(HEADER_HEAP_GARBAGE) * 2 > heapEnd) {
+                rewrite(tasks);
+            }
+        }
+        storedTasks = tasks;
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code filePath}, and its text heap next to it, in the same format.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveTaskBook(taskBook);
+            return;
+        }
+
+        MappedTaskBookStorage storage = new MappedTaskBookStorage(filePath);
+        try {
+            storage.open();
+            storage.rewrite(new ArrayList<>(taskBook.getTaskList()));
+            storage.flushTaskBook();
+        } finally {
+            storage.close();
+        }
+    }
+
+    /**
+     * Saves {@code taskBook}, together with the tasks that were not loaded, to the backup file.
+     */
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(withUnloadedTasks(taskBook), backupPath);
+    }
+
+    /**
+     * Writes the changed pages of the record file and the text heap to the disk.
+     */
+    @Override
+    public synchronized void flushTaskBook() throws IOException {
+        if (records != null) {
+            records.force();
+            heapChannel.force(false);
+        }
+    }
+
+    /**
+     * Closes the files. They are opened again by the next read or save.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        storedTasks = null;
+        closeFiles();
+    }
+
+    private void closeFiles() throws IOException {
+        if (records != null) {
+            unmap(records);
+            records = null;
+        }
+        if (recordChannel != null) {
+            recordChannel.close();
+            heapChannel.close();
+            recordChannel = null;
+            heapChannel = null;
+        }
+    }
+
+    private void open() throws IOException {
+        if (records != null) {
+            return;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        recordChannel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        heapChannel = FileChannel.open(heapPath,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Mapping past the end of the file extends it, which is only done to files too short to be valid.
+        long size = recordChannel.size();
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                size < HEADER_SIZE ? HEADER_SIZE + (long) INITIAL_SLOT_CAPACITY * RECORD_SIZE : size);
+    }
+
+    /**
+     * Writes the changes from {@code storedTasks} to {@code tasks}, and returns true.
+     * Returns false without writing anything if the tasks kept in both lists were reordered,
+     * or there is no room between the positions of two tasks for the tasks added between them.
+     */
+    private boolean saveChanges(List<Task> storedTasks, List<Task> tasks) throws IOException {
+        Map<Name, Integer> storedIndexes = new HashMap<>();
+        for (int i = 0; i < storedTasks.size(); i++) {
+            storedIndexes.put(storedTasks.get(i).getName(), i);
+        }
+
+        long[] positions = new long[tasks.size()];
+        boolean[] isAdded = new boolean[tasks.size()];
+        int[] storedIndexOf = new int[tasks.size()];
+        boolean[] isKept = new boolean[storedTasks.size()];
+        int lastStoredIndex = -1;
+        for (int i = 0; i < tasks.size(); i++) {
+            Integer storedIndex = storedIndexes.get(tasks.get(i).getName());
+            storedIndexOf[i] = storedIndex == null ? -1 : storedIndex;
+            if (storedIndex == null) {
+                isAdded[i] = true;
+                continue;
+            }
+            if (storedIndex < lastStoredIndex) {
+                return false;
+            }
+            lastStoredIndex = storedIndex;
+            isKept[storedIndex] = true;
+            positions[i] = getPosition(slots.get(tasks.get(i).getName()));
+        }
+        if (!TaskPositions.assignAdded(positions, isAdded)) {
+            return false;
+        }
+
+        for (int i = 0; i < storedTasks.size(); i++) {
+            if (!isKept[i]) {
+                freeSlot(slots.remove(storedTasks.get(i).getName()));
+            }
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (storedIndexOf[i] < 0) {
+                int slot = allocateSlot();
+                writeRecord(slot, task, positions[i]);
+                slots.put(task.getName(), slot);
+            } else if (storedTasks.get(storedIndexOf[i]) != task) {
+                int slot = slots.get(task.getName());
+                addHeapGarbage(records.getInt(recordOffset(slot) + RECORD_TEXT_LENGTH));
+                writeRecord(slot, task, positions[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces both files with {@code tasks} and the tasks that were not loaded, which keep their places among the
+     * loaded tasks stored around them. The new files are written next to the old ones and then moved over them,
+     * so that a failed rewrite leaves the old files as they were. Only a rewrite cut short between the two moves
+     * leaves the files out of step.
+     */
+    private void rewrite(List<Task> tasks) throws IOException {
+        List<Task> allTasks = new ArrayList<>();
+        Set<Integer> unloadedIndexes = new HashSet<>();
+        List<Integer> unloaded = getUnloadedSlotsInOrder();
+        int nextUnloaded = 0;
+        long previousPosition = Long.MIN_VALUE;
+        for (Task task : tasks) {
+            // An unloaded task goes before the first loaded task stored after it. Added tasks, and tasks moved
+            // before tasks stored ahead of them, count as stored where the task before them is.
+            Integer slot = slots.get(task.getName());
+            if (slot != null) {
+                previousPosition = Math.max(previousPosition, getPosition(slot));
+            }
+            while (nextUnloaded < unloaded.size() && getPosition(unloaded.get(nextUnloaded)) < previousPosition) {
+                unloadedIndexes.add(allTasks.size());
+                allTasks.add(readUnloadedTask(unloaded.get(nextUnloaded++)));
+            }
+            allTasks.add(task);
+        }
+        while (nextUnloaded < unloaded.size()) {
+            unloadedIndexes.add(allTasks.size());
+            allTasks.add(readUnloadedTask(unloaded.get(nextUnloaded++)));
+        }
+
+        Path temporaryPath = Paths.get(filePath.toString() + TEMPORARY_FILE_SUFFIX);
+        MappedTaskBookStorage temporary = new MappedTaskBookStorage(temporaryPath);
+        try {
+            Files.deleteIfExists(temporaryPath);
+            Files.deleteIfExists(temporary.heapPath);
+            temporary.open();
+            temporary.writeAll(allTasks);
+            temporary.flushTaskBook();
+        } finally {
+            temporary.close();
+        }
+        closeFiles();
+        moveAtomically(temporary.heapPath, heapPath);
+        moveAtomically(temporaryPath, filePath);
+        open();
+
+        slots.clear();
+        unloadedSlots.clear();
+        unloadedNames = null;
+        for (int i = 0; i < allTasks.size(); i++) {
+            if (unloadedIndexes.contains(i)) {
+                unloadedSlots.add(i);
+            } else {
+                slots.put(allTasks.get(i).getName(), i);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code tasks} over the contents of both files, which must be open.
+     */
+    private void writeAll(List<Task> tasks) throws IOException {
+        heapChannel.truncate(0);
+        for (int i = 0; i < MAGIC.length; i++) {
+            records.put(i, MAGIC[i]);
+        }
+        records.putInt(HEADER_VERSION, FORMAT_VERSION);
+        records.putLong(HEADER_HEAP_END, 0);
+        records.putLong(HEADER_HEAP_GARBAGE, 0);
+        records.putInt(HEADER_FREE_SLOT, NO_SLOT);
+        records.putInt(HEADER_SLOT_COUNT, 0);
+        ensureSlotCapacity(tasks.size());
+        records.putInt(HEADER_SLOT_COUNT, tasks.size());
+
+        for (int i = 0; i < tasks.size(); i++) {
+            writeRecord(i, tasks.get(i), TaskPositions.ofIndex(i));
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} atomically if the file system supports it.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private int allocateSlot() throws IOException {
+        int slot = records.getInt(HEADER_FREE_SLOT);
+        if (slot != NO_SLOT) {
+            records.putInt(HEADER_FREE_SLOT, records.getInt(recordOffset(slot) + RECORD_NEXT_FREE_SLOT));
+            return slot;
+        }
+
+        slot = records.getInt(HEADER_SLOT_COUNT);
+        ensureSlotCapacity(slot + 1);
+        records.putInt(HEADER_SLOT_COUNT, slot + 1);
+        return slot;
+    }
+
+    private void freeSlot(int slot) {
+        int offset = recordOffset(slot);
+        addHeapGarbage(records.getInt(offset + RECORD_TEXT_LENGTH));
+        records.put(offset + RECORD_STATE, STATE_FREE);
+        records.putInt(offset + RECORD_NEXT_FREE_SLOT, records.getInt(HEADER_FREE_SLOT));
+        records.putInt(HEADER_FREE_SLOT, slot);
+    }
+
+    /**
+     * Maps enough of the record file to hold {@code slotCount} slots, doubling the mapping when it grows.
+     */
+    private void ensureSlotCapacity(int slotCount) throws IOException {
+        long size = HEADER_SIZE + (long) slotCount * RECORD_SIZE;
+        if (size <= records.capacity()) {
+            return;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many tasks to map " + filePath);
+        }
+        records.force();
+        MappedByteBuffer previousRecords = records;
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.min(Integer.MAX_VALUE, Math.max(size, records.capacity() * 2L)));
+        unmap(previousRecords);
+    }
+
+    /**
+     * Unmaps {@code buffer}, which must not be used again, if the platform offers a way to.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (UNMAPPER != null) {
+            UNMAPPER.unmap(buffer);
+        }
+    }
+
+    private void addHeapGarbage(int length) {
+        records.putLong(HEADER_HEAP_GARBAGE, records.getLong(HEADER_HEAP_GARBAGE) + length);
+    }
+
+    private void writeRecord(int slot, Task task, long position) throws IOException {
+        byte[] text = encodeText(task);
+        long textOffset = records.getLong(HEADER_HEAP_END);
+        ByteBuffer buffer = ByteBuffer.wrap(text);
+        while (buffer.hasRemaining()) {
+            heapChannel.write(buffer, textOffset + buffer.position());
+        }
+        records.putLong(HEADER_HEAP_END, textOffset + text.length);
+
+        int offset = recordOffset(slot);
+        records.put(offset + RECORD_STATE, STATE_LIVE);
+        records.put(offset + RECORD_CATEGORY, (byte) task.getCategories().ordinal);
+        records.putShort(offset + RECORD_START_MINUTE, (short) task.getStartTime().getMinuteOfDay());
+        records.putShort(offset + RECORD_END_MINUTE, (short) task.getEndTime().getMinuteOfDay());
+        records.putInt(offset + RECORD_START_DATE, DateUtil.toDateOrdinal(task.getStartDate().value));
+        records.putInt(offset + RECORD_END_DATE, DateUtil.toDateOrdinal(task.getEndDate().value));
+        records.putInt(offset + RECORD_START_EPOCH_DAY, task.getStartDate().getEpochDay());
+        records.putInt(offset + RECORD_END_EPOCH_DAY, task.getEndDate().getEpochDay());
+        records.putLong(offset + RECORD_POSITION, position);
+        records.putLong(offset + RECORD_TEXT_OFFSET, textOffset);
+        records.putInt(offset + RECORD_TEXT_LENGTH, text.length);
+        records.putInt(offset + RECORD_NEXT_FREE_SLOT, NO_SLOT);
+    }
+
+    /**
+     * Returns the live slots of the record file.
+     *
+     * @throws DataConversionException if the header of the record file is not valid.
+     */
+    private List<Integer> getLiveSlots() throws DataConversionException {
+        byte[] magic = new byte[MAGIC.length];
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = records.get(i);
+        }
+        int slotCount = records.getInt(HEADER_SLOT_COUNT);
+        if (!Arrays.equals(magic, MAGIC) || records.getInt(HEADER_VERSION) != FORMAT_VERSION
+                || slotCount < 0 || HEADER_SIZE + (long) slotCount * RECORD_SIZE > records.capacity()) {
+            throw new DataConversionException(new IllegalValueException("File is not a mapped task book."));
+        }
+
+        List<Integer> liveSlots = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (records.get(recordOffset(slot) + RECORD_STATE) == STATE_LIVE) {
+                liveSlots.add(slot);
+            }
+        }
+        return liveSlots;
+    }
+
+    private List<Integer> getUnloadedSlotsInOrder() {
+        List<Integer> unloaded = new ArrayList<>(unloadedSlots);
+        sortByPosition(unloaded);
+        return unloaded;
+    }
+
+    private void sortByPosition(List<Integer> slots) {
+        slots.sort(Comparator.comparingLong(this::getPosition));
+    }
+
+    private long getPosition(int slot) {
+        return records.getLong(recordOffset(slot) + RECORD_POSITION);
+    }
+
+    /**
+     * Reads the task in {@code slot} for a save, which fails if the record is not valid.
+     */
+    private Task readUnloadedTask(int slot) throws IOException {
+        try {
+            return readTask(slot);
+        } catch (DataConversionException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Turns the record in {@code slot} and its text into a {@code Task}.
+     *
+     * @throws DataConversionException if the record is not valid.
+     */
+    private Task readTask(int slot) throws DataConversionException, IOException {
+        int offset = recordOffset(slot);
+        long textOffset = records.getLong(offset + RECORD_TEXT_OFFSET);
+        int textLength = records.getInt(offset + RECORD_TEXT_LENGTH);
+        int category = records.get(offset + RECORD_CATEGORY);
+        try {
+            if (textOffset < 0 || textLength < 0 || textOffset + textLength > heapChannel.size()
+                    || category < 0 || category >= CATEGORIES.length) {
+                throw new IllegalValueException("Record " + slot + " is not valid.");
+            }
+
+            ByteBuffer text = ByteBuffer.allocate(textLength);
+            while (text.hasRemaining()) {
+                heapChannel.read(text, textOffset + text.position());
+            }
+            text.flip();
+            Name name = new Name(readString(text));
+            Description description = new Description(readString(text));
+            Set<Tag> tags = new HashSet<>();
+            for (int i = text.getInt(); i > 0; i--) {
+                tags.add(new Tag(readString(text)));
+            }
+
+            return new Task(name,
+                    new StartDate(DateUtil.fromDateOrdinal(records.getInt(offset + RECORD_START_DATE))),
+                    new StartTime(DateUtil.fromMinuteOfDay(records.getShort(offset + RECORD_START_MINUTE))),
+                    new EndDate(DateUtil.fromDateOrdinal(records.getInt(offset + RECORD_END_DATE))),
+                    new EndTime(DateUtil.fromMinuteOfDay(records.getShort(offset + RECORD_END_MINUTE))),
+                    description, new Categories(CATEGORIES[category]), tags);
+        } catch (IllegalValueException | IllegalArgumentException | BufferUnderflowException e) {
+            // Task fields check their constraints with IllegalArgumentException.
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the name of the task in {@code slot}, which starts its text.
+     *
+     * @throws DataConversionException if the record or the name is not valid.
+     */
+    private Name readName(int slot) throws DataConversionException, IOException {
+        int offset = recordOffset(slot);
+        long textOffset = records.getLong(offset + RECORD_TEXT_OFFSET);
+        int textLength = records.getInt(offset + RECORD_TEXT_LENGTH);
+        try {
+            if (textOffset < 0 || textLength < Integer.BYTES || textOffset + textLength > heapChannel.size()) {
+                throw new IllegalValueException("Record " + slot + " is not valid.");
+            }
+
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            while (length.hasRemaining()) {
+                heapChannel.read(length, textOffset + length.position());
+            }
+            length.flip();
+            int nameLength = length.getInt();
+            if (nameLength < 0 || nameLength > textLength - Integer.BYTES) {
+                throw new IllegalValueException("Text length is not valid.");
+            }
+            ByteBuffer name = ByteBuffer.allocate(nameLength);
+            while (name.hasRemaining()) {
+                heapChannel.read(name, textOffset + Integer.BYTES + name.position());
+            }
+            return new Name(new String(name.array(), StandardCharsets.UTF_8));
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static byte[] encodeText(Task task) {
+        byte[] name = task.getName().fullName.getBytes(StandardCharsets.UTF_8);
+        byte[] description = task.getDescription().value.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> tags = new ArrayList<>();
+        int length = Integer.BYTES * 3 + name.length + description.length;
+        for (Tag tag : task.getTags()) {
+            byte[] tagName = tag.tagName.getBytes(StandardCharsets.UTF_8);
+            tags.add(tagName);
+            length += Integer.BYTES + tagName.length;
+        }
+
+        ByteBuffer text = ByteBuffer.allocate(length);
+        text.putInt(name.length).put(name);
+        text.putInt(description.length).put(description);
+        text.putInt(tags.size());
+        for (byte[] tagName : tags) {
+            text.putInt(tagName.length).put(tagName);
+        }
+        return text.array();
+    }
+
+    private static String readString(ByteBuffer text) throws IllegalValueException {
+        int length = text.getInt();
+        if (length < 0 || length > text.remaining()) {
+            throw new IllegalValueException("Text length is not valid.");
+        }
+        byte[] bytes = new byte[length];
+        text.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the offset of the record in {@code slot}, which is always within a mapping of at most
+     * {@code Integer.MAX_VALUE} bytes once the slot count has been checked against the mapping.
+     */
+    private static int recordOffset(int slot) {
+        return Math.toIntExact(HEADER_SIZE + (long) slot * RECORD_SIZE);
+    }
+
+    /**
+     * Unmaps buffers through {@code sun.misc.Unsafe#invokeCleaner}, which the JDK offers from Java 9.
+     */
+    private static class BufferUnmapper {
+        private final Object unsafe;
+        private final Method invokeCleaner;
+
+        private BufferUnmapper(Object unsafe, Method invokeCleaner) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+        }
+
+        /**
+         * Returns an unmapper, or null if this platform has no {@code invokeCleaner}.
+         */
+        static BufferUnmapper find() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return new BufferUnmapper(theUnsafe.get(null), unsafeClass.getMethod("invokeCleaner",
+                        ByteBuffer.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.info("Mapped files are unmapped once garbage collected: " + e);
+                return null;
+            }
+        }
+
+        void unmap(MappedByteBuffer buffer) {
+            try {
+                invokeCleaner.invoke(unsafe, buffer);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warning("Failed to unmap a mapped file, leaving it to the garbage collector: " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that keeps the tasks that start in each month in a separate JSON segment file,
+ * listed by a small manifest at the task book file path.
+ *
+ * Saving rewrites only the segments of the months whose tasks changed since the last read or save.
+ * The task book can be read a few months at a time: months that were not read are left untouched by saves,
+ * and can be loaded later through {@link #loadTasksTouching(int, int)}.
+ * Every task keeps its position in the task list of the whole task book, so that reading every segment restores
+ * the order of the tasks. Tasks that are out of order with their stored positions, such as tasks loaded after
+ * the others, are given new positions, which rewrites their segments once.
+ */
+public class SegmentedTaskBookStorage implements ArchivingTaskBookStorage {
+
+    public static final String SEGMENT_DIRECTORY_SUFFIX = ".d";
+    public static final String MESSAGE_DUPLICATE_SEGMENT = "Manifest lists month %1$s more than once.";
+    public static final String MESSAGE_MONTH_NOT_LOADED = "Tasks of %1$s cannot be saved before that month is loaded.";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedTaskBookStorage.class);
+
+    private final Path filePath;
+    private final Path segmentDirectory;
+    private final Path backupPath;
+
+    /** The segments listed in the manifest by month, or null if the manifest has not been read yet. */
+    private Map<String, JsonAdaptedSegment> segments;
+    /** The tasks of every loaded month as they were last read or saved, in task list order. */
+    private final Map<String, List<Task>> loadedSegments = new HashMap<>();
+    /** The stored positions of the tasks of the loaded months. */
+    private final Map<Name, Long> positions = new HashMap<>();
+    /** The tasks of the months not loaded, as read for backups. Saves leave those months as they are. */
+    private final Map<String, List<Task>> unloadedSegments = new HashMap<>();
+
+    public SegmentedTaskBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.segmentDirectory = getSegmentDirectory(filePath);
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    /**
+     * Returns the directory that holds the segments of the task book whose manifest is at {@code filePath}.
+     */
+    public static Path getSegmentDirectory(Path filePath) {
+        return Paths.get(filePath.toString() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the month whose segment holds {@code task}, as {@code yyyy-MM}.
+     */
+    public static String getMonth(Task task) {
+        return YearMonth.from(LocalDate.ofEpochDay(task.getStartDate().getEpochDay())).toString();
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBookTouching(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads only the months that might hold tasks that start, end or last from {@code fromDay} to {@code toDay},
+     * as epoch days. The other months can be loaded later through {@link #loadTasksTouching(int, int)}.
+     *
+     * @throws DataConversionException if the manifest or a segment is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBookTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        segments = null;
+        loadedSegments.clear();
+        positions.clear();
+        unloadedSegments.clear();
+        if (!Files.exists(filePath)) {
+            logger.info("Segment manifest " + filePath + " not found");
+            segments = new TreeMap<>();
+            return Optional.empty();
+        }
+
+        TaskBook taskBook = new TaskBook();
+        for (Task task : loadTasksTouching(fromDay, toDay)) {
+            if (taskBook.hasTask(task)) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK));
+            }
+            taskBook.addTask(task);
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, which must be in the same format, with every month.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readTaskBook();
+        }
+        return new SegmentedTaskBookStorage(filePath).readTaskBook();
+    }
+
+    @Override
+    public synchronized boolean isFullyLoaded() {
+        return segments != null && loadedSegments.keySet().containsAll(segments.keySet());
+    }
+
+    /**
+     * Loads the months not loaded yet that might hold tasks that start, end or last from {@code fromDay} to
+     * {@code toDay}, and returns their tasks in the order of their positions.
+     * Nothing is loaded if any of those months cannot be read.
+     */
+    @Override
+    public synchronized List<Task> loadTasksTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        return loadSegments(segment -> segment.isTouching(fromDay, toDay));
+    }
+
+    /**
+     * Loads the months not loaded yet whose manifest entries list {@code name}, which are all of them if the manifest
+     * was saved before it listed task names, and returns their tasks in the order of their positions.
+     */
+    @Override
+    public synchronized List<Task> loadTasksNamed(Name name) throws DataConversionException, IOException {
+        requireNonNull(name);
+        return loadSegments(segment -> segment.mightHold(name));
+    }
+
+    /**
+     * Loads the months not loaded yet whose segments match {@code predicate}, and returns their tasks in the order
+     * of their positions. Nothing is loaded if any of those months cannot be read.
+     */
+    private List<Task> loadSegments(Predicate<JsonAdaptedSegment> predicate) throws DataConversionException {
+        readManifestIfNeeded();
+        Map<String, List<Task>> readSegments = new TreeMap<>();
+        Map<Name, Long> readPositions = new HashMap<>();
+        for (JsonAdaptedSegment segment : segments.values()) {
+            if (!loadedSegments.containsKey(segment.getMonth()) && predicate.test(segment)) {
+                readSegments.put(segment.getMonth(), readSegment(segment.getMonth(), readPositions));
+            }
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        readSegments.values().forEach(tasks::addAll);
+        tasks.sort(Comparator.comparingLong(task -> readPositions.get(task.getName())));
+        loadedSegments.putAll(readSegments);
+        positions.putAll(readPositions);
+        unloadedSegments.keySet().removeAll(readSegments.keySet());
+        return tasks;
+    }
+
+    /**
+     * Saves {@code taskBook}, which holds the tasks of the loaded months, by rewriting only the segments of the
+     * months whose tasks were added, edited, removed or moved since the last read or save.
+     * Months that were not loaded are left as they are.
+     *
+     * @throws IOException if {@code taskBook} has tasks in a month that exists but was not loaded.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        try {
+            readManifestIfNeeded();
+        } catch (DataConversionException e) {
+            throw new IOException(e);
+        }
+
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        long[] taskPositions = assignPositions(tasks);
+        Map<String, List<Integer>> indexesByMonth = new TreeMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            String month = getMonth(tasks.get(i));
+            if (segments.containsKey(month) && !loadedSegments.containsKey(month)) {
+                throw new IOException(String.format(MESSAGE_MONTH_NOT_LOADED, month));
+            }
+            indexesByMonth.computeIfAbsent(month, unused -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, List<Task>> savedSegments = new TreeMap<>();
+        boolean hasChanged = false;
+        for (Map.Entry<String, List<Integer>> month : indexesByMonth.entrySet()) {
+            List<Task> segmentTasks = new ArrayList<>();
+            long[] segmentPositions = new long[month.getValue().size()];
+            for (int i = 0; i < segmentPositions.length; i++) {
+                segmentTasks.add(tasks.get(month.getValue().get(i)));
+                segmentPositions[i] = taskPositions[month.getValue().get(i)];
+            }
+            if (isChanged(loadedSegments.get(month.getKey()), segmentTasks, segmentPositions)) {
+                saveAtomically(new JsonSerializableSegment(segmentTasks, segmentPositions),
+                        getSegmentPath(month.getKey()));
+                segments.put(month.getKey(), describeSegment(month.getKey(), segmentTasks));
+                hasChanged = true;
+            }
+            savedSegments.put(month.getKey(), segmentTasks);
+        }
+
+        List<String> removedMonths = new ArrayList<>(loadedSegments.keySet());
+        removedMonths.removeAll(savedSegments.keySet());
+        removedMonths.forEach(segments::remove);
+        if (!hasChanged && removedMonths.isEmpty()) {
+            return;
+        }
+        // The manifest is saved after the segments it lists, and before the segments it no longer lists are deleted,
+        // so that it never lists a missing segment.
+        saveAtomically(new JsonSerializableSegmentManifest(segments.values()), filePath);
+        for (String month : removedMonths) {
+            Files.deleteIfExists(getSegmentPath(month));
+        }
+
+        loadedSegments.clear();
+        loadedSegments.putAll(savedSegments);
+        positions.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            positions.put(tasks.get(i).getName(), taskPositions[i]);
+        }
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code filePath} in the same format, replacing every month there.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveTaskBook(taskBook);
+            return;
+        }
+        new SegmentedTaskBookStorage(filePath).replaceTaskBook(taskBook);
+    }
+
+    /**
+     * Saves {@code taskBook}, together with the tasks of the months that were not loaded, to the backup file.
+     */
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(withUnloadedTasks(taskBook), backupPath);
+    }
+
+    /**
+     * Returns a copy of {@code taskBook}, which holds the tasks of the loaded months, together with the tasks of the
+     * months that were not loaded. Each month that was not loaded is read only once.
+     */
+    @Override
+    public TaskBook withUnloadedTasks(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        TaskBook fullTaskBook = new TaskBook(taskBook);
+        try {
+            synchronized (this) {
+                readManifestIfNeeded();
+                for (String month : segments.keySet()) {
+                    if (!loadedSegments.containsKey(month)) {
+                        if (!unloadedSegments.containsKey(month)) {
+                            unloadedSegments.put(month, readSegment(month, new HashMap<>()));
+                        }
+                        unloadedSegments.get(month).forEach(fullTaskBook::addTask);
+                    }
+                }
+            }
+        } catch (DataConversionException e) {
+            throw new IOException(e);
+        }
+        return fullTaskBook;
+    }
+
+    /**
+     * Does nothing, as every save is written to the files right away.
+     */
+    @Override
+    public void flushTaskBook() {}
+
+    /**
+     * Saves {@code taskBook} in place of every month of this task book, whether loaded or not.
+     */
+    private synchronized void replaceTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        try {
+            readManifestIfNeeded();
+        } catch (DataConversionException e) {
+            throw new IOException(e);
+        }
+        for (String month : segments.keySet()) {
+            loadedSegments.putIfAbsent(month, Collections.emptyList());
+        }
+        unloadedSegments.clear();
+        saveTaskBook(taskBook);
+    }
+
+    private void readManifestIfNeeded() throws DataConversionException {
+        if (segments != null) {
+            return;
+        }
+
+        Optional<JsonSerializableSegmentManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonSerializableSegmentManifest.class);
+        Map<String, JsonAdaptedSegment> readSegments = new TreeMap<>();
+        if (manifest.isPresent()) {
+            try {
+                for (JsonAdaptedSegment segment : manifest.get().getSegments()) {
+                    segment.validate();
+                    if (readSegments.put(segment.getMonth(), segment) != null) {
+                        throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_SEGMENT, segment.getMonth()));
+                    }
+                }
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        segments = readSegments;
+    }
+
+    /**
+     * Returns the tasks of the segment of {@code month}, and puts their positions into {@code readPositions}.
+     *
+     * @throws DataConversionException if the segment is missing or not in the correct format.
+     */
+    private List<Task> readSegment(String month, Map<Name, Long> readPositions) throws DataConversionException {
+        Path segmentPath = getSegmentPath(month);
+        JsonSerializableSegment segment = JsonUtil.readJsonFile(segmentPath, JsonSerializableSegment.class)
+                .orElseThrow(() -> new DataConversionException(new NoSuchFileException(segmentPath.toString())));
+        try {
+            List<Task> tasks = segment.toModelType();
+            for (int i = 0; i < tasks.size(); i++) {
+                readPositions.put(tasks.get(i).getName(), segment.getPositions().get(i));
+            }
+            return tasks;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + segmentPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the positions of {@code tasks}, keeping the stored positions that are in order,
+     * or new positions for every task if there is no room between the kept positions.
+     */
+    private long[] assignPositions(List<Task> tasks) {
+        long[] taskPositions = new long[tasks.size()];
+        boolean[] needsPosition = new boolean[tasks.size()];
+        long previousPosition = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Long position = positions.get(tasks.get(i).getName());
+            if (position != null && position > previousPosition) {
+                taskPositions[i] = position;
+                previousPosition = position;
+            } else {
+                needsPosition[i] = true;
+            }
+        }
+
+        if (!TaskPositions.assignAdded(taskPositions, needsPosition)) {
+            for (int i = 0; i < tasks.size(); i++) {
+                taskPositions[i] = TaskPositions.ofIndex(i);
+            }
+        }
+        return taskPositions;
+    }
+
+    /**
+     * Returns true if the segment that held {@code savedTasks} now holds {@code tasks} at {@code taskPositions}.
+     */
+    private boolean isChanged(List<Task> savedTasks, List<Task> tasks, long[] taskPositions) {
+        if (savedTasks == null || savedTasks.size() != tasks.size()) {
+            return true;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (savedTasks.get(i) != tasks.get(i) || positions.get(tasks.get(i).getName()) != taskPositions[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static JsonAdaptedSegment describeSegment(String month, List<Task> tasks) {
+        YearMonth yearMonth = YearMonth.parse(month);
+        int firstDay = (int) yearMonth.atDay(1).toEpochDay();
+        int lastDay = (int) yearMonth.atEndOfMonth().toEpochDay();
+        List<String> taskNames = new ArrayList<>();
+        for (Task task : tasks) {
+            taskNames.add(task.getName().fullName);
+            int startDay = task.getStartDate().getEpochDay();
+            int endDay = task.getEndDate().getEpochDay();
+            firstDay = Math.min(firstDay, Math.min(startDay, endDay));
+            lastDay = Math.max(lastDay, Math.max(startDay, endDay));
+        }
+        return new JsonAdaptedSegment(month, tasks.size(), firstDay, lastDay, taskNames);
+    }
+
+    private Path getSegmentPath(String month) {
+        return segmentDirectory.resolve(month + ".json");
+    }
+
+    /**
+     * Saves {@code json} to {@code path} through a temporary file, so that a failed save leaves the old file intact.
+     */
+    private static void saveAtomically(Object json, Path path) throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.createDirectories(temporaryPath.toAbsolutePath().getParent());
+        JsonUtil.saveJsonFile(json, temporaryPath);
+        try {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
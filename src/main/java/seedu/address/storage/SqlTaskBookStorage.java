@@ -0,0 +1,561 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Categories;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.EndDate;
+import seedu.address.model.task.EndTime;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.StartDate;
+import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that keeps the task book in an embedded SQLite database file.
+ *
+ * Every task is a row of the {@code tasks} table, which is indexed on the name of the tasks, their position in the
+ * task book, and the epoch days of their start and end dates. Saving writes only the rows of the tasks that changed
+ * since the last read or save, in a single transaction.
+ *
+ * A task book can be read in part, with the rows of the other tasks queried when a command needs them.
+ * Saves keep the rows of the tasks that were not loaded.
+ */
+public class SqlTaskBookStorage implements ArchivingTaskBookStorage, Closeable {
+
+    /** The header every SQLite database file starts with. */
+    public static final byte[] MAGIC = "SQLite format 3\0".getBytes(StandardCharsets.US_ASCII);
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(SqlTaskBookStorage.class);
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS tasks (name TEXT PRIMARY KEY, position INTEGER NOT NULL, "
+            + "start_date TEXT NOT NULL, start_time TEXT NOT NULL, start_day INTEGER NOT NULL, "
+            + "end_date TEXT NOT NULL, end_time TEXT NOT NULL, end_day INTEGER NOT NULL, "
+            + "description TEXT NOT NULL, category TEXT NOT NULL, tags TEXT NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS tasks_by_position ON tasks (position)",
+        "CREATE INDEX IF NOT EXISTS tasks_by_start_day ON tasks (start_day)",
+        "CREATE INDEX IF NOT EXISTS tasks_by_end_day ON tasks (end_day)",
+        "PRAGMA user_version = " + SCHEMA_VERSION
+    };
+    private static final String COLUMNS = "name, start_date, start_time, end_date, end_time, description, "
+            + "category, tags";
+    private static final String ORDER_BY_POSITION = " ORDER BY position";
+    private static final String SELECT_TASKS = "SELECT " + COLUMNS + ", position FROM tasks";
+    /** Selects the tasks that start, end or last from the first to the second day, whichever date is earlier. */
+    private static final String SELECT_TASKS_TOUCHING = SELECT_TASKS
+            + " WHERE (start_day <= ?2 AND end_day >= ?1) OR (end_day <= ?2 AND start_day >= ?1)" + ORDER_BY_POSITION;
+    private static final String SELECT_TASK_NAMED = SELECT_TASKS + " WHERE name = ?";
+    private static final String INSERT_TASK = "INSERT INTO tasks (" + COLUMNS
+            + ", start_day, end_day, position) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_TASK = "UPDATE tasks SET name = ?, start_date = ?, start_time = ?, "
+            + "end_date = ?, end_time = ?, description = ?, category = ?, tags = ?, start_day = ?, end_day = ?, "
+            + "position = ? WHERE name = ?";
+    private static final String DELETE_TASK = "DELETE FROM tasks WHERE name = ?";
+    private static final String MOVE_TASK = "UPDATE tasks SET position = ? WHERE name = ?";
+
+    /** Tags are kept in one column, separated by a character that tag names cannot contain. */
+    private static final String TAG_SEPARATOR = ",";
+
+    private final Path filePath;
+    private final Path backupPath;
+
+    private Connection connection;
+    /** The loaded tasks in the database, in order, or null if they are not known yet. */
+    private List<Task> storedTasks;
+    /** The positions of the loaded tasks in the database. */
+    private final Map<Name, Long> positions = new HashMap<>();
+    private int unloadedTaskCount = 0;
+
+    public SqlTaskBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.backupPath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the SQLite header.
+     */
+    public static boolean isSqlTaskBookFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            byte[] header = new byte[MAGIC.length];
+            in.readFully(header);
+            return Arrays.equals(header, MAGIC);
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBookTouching(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads only the tasks that start, end or last from {@code fromDay} to {@code toDay}, as epoch days,
+     * which are found through the indexes on the start and end days.
+     *
+     * @throws DataConversionException if one of those rows is not valid.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskBook> readTaskBookTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        storedTasks = null;
+        positions.clear();
+        unloadedTaskCount = 0;
+        if (!Files.exists(filePath)) {
+            logger.info("Database file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (Statement statement = open().createStatement();
+                ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM tasks")) {
+            rows.next();
+            unloadedTaskCount = rows.getInt(1);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        storedTasks = new ArrayList<>();
+        TaskBook taskBook = new TaskBook();
+        for (Task task : loadTasksTouching(fromDay, toDay)) {
+            if (taskBook.hasTask(task)) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK));
+            }
+            taskBook.addTask(task);
+        }
+        return Optional.of(taskBook);
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, which must be in the same format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            return readTaskBook();
+        }
+
+        try (SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath)) {
+            return storage.readTaskBook();
+        }
+    }
+
+    @Override
+    public synchronized boolean isFullyLoaded() {
+        return unloadedTaskCount == 0;
+    }
+
+    /**
+     * Loads the tasks not loaded yet that start, end or last from {@code fromDay} to {@code toDay}, and returns
+     * them in the order of the task book. Nothing is loaded if any of their rows is not valid.
+     */
+    @Override
+    public synchronized List<Task> loadTasksTouching(int fromDay, int toDay)
+            throws DataConversionException, IOException {
+        if (unloadedTaskCount == 0) {
+            return new ArrayList<>();
+        }
+        try (PreparedStatement select = open().prepareStatement(SELECT_TASKS_TOUCHING)) {
+            select.setInt(1, fromDay);
+            select.setInt(2, toDay);
+            return loadRows(select);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Loads the task not loaded yet that is named {@code name}, if there is one, through the index on the names.
+     */
+    @Override
+    public synchronized List<Task> loadTasksNamed(Name name) throws DataConversionException, IOException {
+        requireNonNull(name);
+        if (unloadedTaskCount == 0) {
+            return new ArrayList<>();
+        }
+        try (PreparedStatement select = open().prepareStatement(SELECT_TASK_NAMED)) {
+            select.setString(1, name.fullName);
+            return loadRows(select);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Loads the tasks of the rows {@code select} returns, in the order of the rows, skipping the tasks that are
+     * loaded already. Nothing is loaded if any of the rows is not valid.
+     */
+    private List<Task> loadRows(PreparedStatement select) throws DataConversionException, SQLException {
+        List<Task> tasks = new ArrayList<>();
+        Map<Name, Long> readPositions = new HashMap<>();
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                Task task = toTask(rows);
+                if (!positions.containsKey(task.getName())) {
+                    tasks.add(task);
+                    readPositions.put(task.getName(), rows.getLong("position"));
+                }
+            }
+        }
+
+        positions.putAll(readPositions);
+        unloadedTaskCount -= tasks.size();
+        if (storedTasks != null) {
+            storedTasks.addAll(tasks);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns a copy of {@code taskBook}, which holds the loaded tasks, together with the tasks that were not loaded.
+     */
+    @Override
+    public synchronized TaskBook withUnloadedTasks(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        TaskBook fullTaskBook = new TaskBook(taskBook);
+        if (unloadedTaskCount == 0) {
+            return fullTaskBook;
+        }
+        try (Statement statement = open().createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_TASKS + ORDER_BY_POSITION)) {
+            while (rows.next()) {
+                Task task = toTask(rows);
+                if (!positions.containsKey(task.getName())) {
+                    fullTaskBook.addTask(task);
+                }
+            }
+        } catch (SQLException | DataConversionException e) {
+            throw new IOException(e);
+        }
+        return fullTaskBook;
+    }
+
+    /**
+     * Saves {@code taskBook} by writing the rows of the tasks that were added, edited or removed since the
+     * last read or save in a single transaction, or by replacing every row if the tasks were reordered.
+     */
+    @Override
+    public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        open();
+        List<Task> previousTasks = storedTasks;
+        // Positions are only kept if the transaction commits.
+        storedTasks = null;
+        Map<Name, Long> newPositions = new HashMap<>();
+        try {
+            connection.setAutoCommit(false);
+            try {
+                if (previousTasks == null || !saveChanges(previousTasks, tasks, newPositions)) {
+                    newPositions.clear();
+                    rewrite(tasks, newPositions);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+        positions.clear();
+        positions.putAll(newPositions);
+        storedTasks = tasks;
+    }
+
+    /**
+     * Saves {@code taskBook} to the database at {@code filePath}, replacing its contents.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        requireNonNull(taskBook);
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveTaskBook(taskBook);
+            return;
+        }
+
+        try (SqlTaskBookStorage storage = new SqlTaskBookStorage(filePath)) {
+            storage.saveTaskBook(taskBook);
+        }
+    }
+
+    /**
+     * Saves {@code taskBook}, together with the tasks that were not loaded, to the backup file.
+     */
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        saveTaskBook(withUnloadedTasks(taskBook), backupPath);
+    }
+
+    /**
+     * Does nothing, as every save is committed to the database right away.
+     */
+    @Override
+    public void flushTaskBook() {}
+
+    /**
+     * Closes the connection to the database. It is opened again by the next read or save.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        storedTasks = null;
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private Connection open() throws IOException {
+        if (connection != null) {
+            return connection;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + filePath.toAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : CREATE_SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+        } catch (SQLException e) {
+            close();
+            throw new IOException(e);
+        }
+        return connection;
+    }
+
+    /**
+     * Writes the changes from {@code storedTasks} to {@code tasks} and fills in {@code newPositions}, and returns
+     * true. Returns false without writing anything if the tasks kept in both lists were reordered,
+     * or there is no room between the positions of two tasks for the tasks added between them.
+     */
+    private boolean saveChanges(List<Task> storedTasks, List<Task> tasks, Map<Name, Long> newPositions)
+            throws SQLException {
+        Map<Name, Integer> storedIndexes = new HashMap<>();
+        for (int i = 0; i < storedTasks.size(); i++) {
+            storedIndexes.put(storedTasks.get(i).getName(), i);
+        }
+
+        long[] taskPositions = new long[tasks.size()];
+        boolean[] isAdded = new boolean[tasks.size()];
+        Integer[] storedIndexOf = new Integer[tasks.size()];
+        boolean[] isKept = new boolean[storedTasks.size()];
+        int lastStoredIndex = -1;
+        for (int i = 0; i < tasks.size(); i++) {
+            storedIndexOf[i] = storedIndexes.get(tasks.get(i).getName());
+            if (storedIndexOf[i] == null) {
+                isAdded[i] = true;
+                continue;
+            }
+            if (storedIndexOf[i] < lastStoredIndex) {
+                return false;
+            }
+            lastStoredIndex = storedIndexOf[i];
+            isKept[storedIndexOf[i]] = true;
+            taskPositions[i] = positions.get(tasks.get(i).getName());
+        }
+        if (!TaskPositions.assignAdded(taskPositions, isAdded)) {
+            return false;
+        }
+
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_TASK);
+                PreparedStatement update = connection.prepareStatement(UPDATE_TASK);
+                PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+            for (int i = 0; i < storedTasks.size(); i++) {
+                if (!isKept[i]) {
+                    delete.setString(1, storedTasks.get(i).getName().fullName);
+                    delete.addBatch();
+                }
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                if (isAdded[i]) {
+                    setColumns(insert, task, taskPositions[i]);
+                    insert.addBatch();
+                } else if (storedTasks.get(storedIndexOf[i]) != task) {
+                    setColumns(update, task, taskPositions[i]);
+                    update.setString(12, task.getName().fullName);
+                    update.addBatch();
+                }
+                newPositions.put(task.getName(), taskPositions[i]);
+            }
+            delete.executeBatch();
+            update.executeBatch();
+            insert.executeBatch();
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the rows of the loaded tasks with {@code tasks} and fills in {@code newPositions}. The rows of the
+     * tasks that were not loaded are kept, and moved to keep their places among the loaded tasks stored around them.
+     */
+    private void rewrite(List<Task> tasks, Map<Name, Long> newPositions) throws SQLException {
+        List<String> unloadedNames = new ArrayList<>();
+        List<Long> unloadedPositions = new ArrayList<>();
+        if (unloadedTaskCount > 0) {
+            readUnloadedPositions(unloadedNames, unloadedPositions);
+        }
+
+        try (Statement statement = connection.createStatement();
+                PreparedStatement delete = connection.prepareStatement(DELETE_TASK);
+                PreparedStatement move = connection.prepareStatement(MOVE_TASK);
+                PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+            if (unloadedNames.isEmpty()) {
+                statement.executeUpdate("DELETE FROM tasks");
+            } else {
+                for (Name name : positions.keySet()) {
+                    delete.setString(1, name.fullName);
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+            }
+
+            int index = 0;
+            int nextUnloaded = 0;
+            long previousPosition = Long.MIN_VALUE;
+            for (Task task : tasks) {
+                // An unloaded task goes before the first loaded task stored after it. Added tasks, and tasks moved
+                // before tasks stored ahead of them, count as stored where the task before them is.
+                Long storedPosition = positions.get(task.getName());
+                if (storedPosition != null) {
+                    previousPosition = Math.max(previousPosition, storedPosition);
+                }
+                while (nextUnloaded < unloadedNames.size() && unloadedPositions.get(nextUnloaded) < previousPosition) {
+                    addMove(move, unloadedNames.get(nextUnloaded++), TaskPositions.ofIndex(index++));
+                }
+                long position = TaskPositions.ofIndex(index++);
+                setColumns(insert, task, position);
+                insert.addBatch();
+                newPositions.put(task.getName(), position);
+            }
+            while (nextUnloaded < unloadedNames.size()) {
+                addMove(move, unloadedNames.get(nextUnloaded++), TaskPositions.ofIndex(index++));
+            }
+            move.executeBatch();
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Adds the names and positions of the rows of the tasks that were not loaded, in order, to {@code names} and
+     * {@code positions}. Only those two columns are read.
+     */
+    private void readUnloadedPositions(List<String> names, List<Long> unloadedPositions) throws SQLException {
+        Set<String> loadedNames = new HashSet<>();
+        positions.keySet().forEach(name -> loadedNames.add(name.fullName));
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT name, position FROM tasks" + ORDER_BY_POSITION)) {
+            while (rows.next()) {
+                String name = rows.getString("name");
+                if (!loadedNames.contains(name)) {
+                    names.add(name);
+                    unloadedPositions.add(rows.getLong("position"));
+                }
+            }
+        }
+    }
+
+    private static void addMove(PreparedStatement move, String name, long position) throws SQLException {
+        move.setLong(1, position);
+        move.setString(2, name);
+        move.addBatch();
+    }
+
+    private static void setColumns(PreparedStatement statement, Task task, long position) throws SQLException {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : task.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+
+        statement.setString(1, task.getName().fullName);
+        statement.setString(2, task.getStartDate().value);
+        statement.setString(3, task.getStartTime().value);
+        statement.setString(4, task.getEndDate().value);
+        statement.setString(5, task.getEndTime().value);
+        statement.setString(6, task.getDescription().value);
+        statement.setString(7, task.getCategories().value);
+        statement.setString(8, String.join(TAG_SEPARATOR, tagNames));
+        statement.setInt(9, task.getStartDate().getEpochDay());
+        statement.setInt(10, task.getEndDate().getEpochDay());
+        statement.setLong(11, position);
+    }
+
+    /**
+     * Turns the current row of {@code rows} into a {@code Task}.
+     *
+     * @throws DataConversionException if any column of the row is not valid.
+     */
+    private Task toTask(ResultSet rows) throws DataConversionException, SQLException {
+        try {
+            Set<Tag> tags = new HashSet<>();
+            String tagNames = rows.getString("tags");
+            if (!tagNames.isEmpty()) {
+                for (String tagName : tagNames.split(TAG_SEPARATOR)) {
+                    tags.add(new Tag(tagName));
+                }
+            }
+            return new Task(new Name(rows.getString("name")),
+                    new StartDate(rows.getString("start_date")), new StartTime(rows.getString("start_time")),
+                    new EndDate(rows.getString("end_date")), new EndTime(rows.getString("end_time")),
+                    new Description(rows.getString("description")), new Categories(rows.getString("category")),
+                    tags);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // Task fields check their constraints with IllegalArgumentException, and reject missing values.
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+}
@@ -26,13 +26,24 @@ public class StorageManager implements Storage {
     private TaskBookStorage taskBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private AccountListStorage accountListStorage;
+    private BackupManager backupManager;
 
     public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage, AccountListStorage
             accountListStorage) {
+        this(taskBookStorage, userPrefsStorage, accountListStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that also has {@code backupManager}, if not null, back up every task book
+     * saved to the task book file.
+     */
+    public StorageManager(TaskBookStorage taskBookStorage, UserPrefsStorage userPrefsStorage, AccountListStorage
+            accountListStorage, BackupManager backupManager) {
         super();
         this.taskBookStorage = taskBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.accountListStorage = accountListStorage;
+        this.backupManager = backupManager;
     }
 
     // ================ UserPrefs methods ==============================
@@ -73,7 +84,23 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
-        saveTaskBook(taskBook, taskBookStorage.getTaskBookFilePath());
+        if (backupManager != null) {
+            recordBackupSnapshot(taskBook);
+        }
+        logger.fine("Attempting to write to data file: " + taskBookStorage.getTaskBookFilePath());
+        taskBookStorage.saveTaskBook(taskBook);
+    }
+
+    /**
+     * Records {@code taskBook} for the backup manager to back up. The tasks that an archiving storage has not loaded
+     * are read when the backup is written, so that restoring the backup does not drop them.
+     */
+    private void recordBackupSnapshot(ReadOnlyTaskBook taskBook) {
+        if (taskBookStorage instanceof ArchivingTaskBookStorage) {
+            backupManager.recordSnapshot(taskBook, (ArchivingTaskBookStorage) taskBookStorage);
+        } else {
+            backupManager.recordSnapshot(taskBook);
+        }
     }
 
     @Override
@@ -86,6 +113,11 @@ public class StorageManager implements Storage {
         taskBookStorage.backupTaskBook(taskBook);
     }
 
+    @Override
+    public void flushTaskBook() throws IOException {
+        taskBookStorage.flushTaskBook();
+    }
+
 
     @Override
     @Subscribe
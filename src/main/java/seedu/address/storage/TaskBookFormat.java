@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+
+/**
+ * The file formats a task book can be stored in.
+ */
+public enum TaskBookFormat {
+    JSON(".json", JsonTaskBookStorage::new),
+    BINARY(".bin", BinaryTaskBookStorage::new),
+    MAPPED(".tasks", MappedTaskBookStorage::new),
+    SQL(".db", SqlTaskBookStorage::new),
+    SEGMENTED(".segments", SegmentedTaskBookStorage::new);
+
+    public final String extension;
+    private final Function<Path, TaskBookStorage> storageFactory;
+
+    TaskBookFormat(String extension, Function<Path, TaskBookStorage> storageFactory) {
+        this.extension = extension;
+        this.storageFactory = storageFactory;
+    }
+
+    /**
+     * Returns the format of the task book file at {@code filePath}, which is read from its header if the file exists
+     * and guessed from its extension otherwise. Files without the header of another format are taken to be JSON.
+     * Segmented task books are only told apart by their extension, as their manifest is a JSON file.
+     */
+    public static TaskBookFormat of(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath) || ofExtension(filePath) == SEGMENTED) {
+            return ofExtension(filePath);
+        }
+        if (BinaryTaskBookStorage.isBinaryTaskBookFile(filePath)) {
+            return BINARY;
+        }
+        if (MappedTaskBookStorage.isMappedTaskBookFile(filePath)) {
+            return MAPPED;
+        }
+        return SqlTaskBookStorage.isSqlTaskBookFile(filePath) ? SQL : JSON;
+    }
+
+    /**
+     * Returns the format named by the extension of {@code filePath}, JSON unless it ends with another extension.
+     */
+    public static TaskBookFormat ofExtension(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        for (TaskBookFormat format : values()) {
+            if (fileName.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Returns a storage that reads and writes the task book at {@code filePath} in this format.
+     */
+    public TaskBookStorage createStorage(Path filePath) {
+        requireNonNull(filePath);
+        return storageFactory.apply(filePath);
+    }
+
+    /**
+     * Reads the task book at {@code filePath} in the format given by the file's header.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<ReadOnlyTaskBook> read(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        TaskBookStorage storage = of(filePath).createStorage(filePath);
+        try {
+            return storage.readTaskBook();
+        } finally {
+            closeIfOpen(storage);
+        }
+    }
+
+    /**
+     * Reads the task book at {@code sourcePath} in whichever format it is in,
+     * and saves it to {@code targetPath} in the format named by the extension of {@code targetPath}.
+     *
+     * @return the format of {@code targetPath}.
+     * @throws DataConversionException if the source file is not in the correct format.
+     * @throws IOException if the source file is missing, or there was an error reading or writing the files.
+     */
+    public static TaskBookFormat convert(Path sourcePath, Path targetPath) throws DataConversionException, IOException {
+        requireNonNull(sourcePath);
+        requireNonNull(targetPath);
+        Optional<ReadOnlyTaskBook> taskBook = read(sourcePath);
+        if (!taskBook.isPresent()) {
+            throw new IOException("File not found: " + sourcePath);
+        }
+
+        TaskBookFormat targetFormat = ofExtension(targetPath);
+        TaskBookStorage target = targetFormat.createStorage(targetPath);
+        try {
+            target.saveTaskBook(taskBook.get());
+            target.flushTaskBook();
+        } finally {
+            closeIfOpen(target);
+        }
+        return targetFormat;
+    }
+
+    /**
+     * Closes {@code storage} if it keeps its files open between reads and saves.
+     */
+    private static void closeIfOpen(TaskBookStorage storage) throws IOException {
+        if (storage instanceof Closeable) {
+            ((Closeable) storage).close();
+        }
+    }
+}
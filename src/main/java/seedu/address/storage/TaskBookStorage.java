@@ -49,5 +49,9 @@ public interface TaskBookStorage {
      */
     void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException;
 
-
+    /**
+     * Waits until every change given to {@link #saveTaskBook(ReadOnlyTaskBook)} has been written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTaskBook() throws IOException;
 }
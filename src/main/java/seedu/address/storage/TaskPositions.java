@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+/**
+ * Assigns the positions that storages which save only the changed tasks keep the order of a task book with.
+ * Positions are spaced apart, so that tasks added between two others get a position between theirs
+ * without moving the others.
+ */
+final class TaskPositions {
+
+    /** The gap between the positions of consecutive tasks when the positions are assigned afresh. */
+    static final long SPACING = 1L << 20;
+
+    private TaskPositions() {}
+
+    /**
+     * Returns the position of the task at {@code index} when the positions are assigned afresh.
+     */
+    static long ofIndex(int index) {
+        return (index + 1) * SPACING;
+    }
+
+    /**
+     * Fills in the positions of the added tasks, whose {@code isAdded} is true, between the positions of
+     * the tasks around them. Returns false if there is no room between those positions.
+     */
+    static boolean assignAdded(long[] positions, boolean[] isAdded) {
+        long[] nextKeptPositions = new long[positions.length];
+        long nextKeptPosition = Long.MAX_VALUE;
+        for (int i = positions.length - 1; i >= 0; i--) {
+            nextKeptPositions[i] = nextKeptPosition;
+            if (!isAdded[i]) {
+                nextKeptPosition = positions[i];
+            }
+        }
+
+        long previousPosition = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (isAdded[i]) {
+                long next = nextKeptPositions[i];
+                long position = next == Long.MAX_VALUE
+                        ? previousPosition + SPACING
+                        : previousPosition + (next - previousPosition) / 2;
+                if (position <= previousPosition || position >= next) {
+                    return false;
+                }
+                positions[i] = position;
+            }
+            previousPosition = positions[i];
+        }
+        return true;
+    }
+}
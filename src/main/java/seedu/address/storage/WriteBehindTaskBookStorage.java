@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskBookStorage} that saves the task book to its file on a background thread.
+ *
+ * Saving only takes a copy of the tasks, which are immutable, and returns. The copy is written to the file
+ * by the wrapped storage at most {@code maxStalenessMillis} later; copies taken in the meantime replace it,
+ * so a burst of changes is written once. A failed save is retried on the saver thread until it succeeds,
+ * and the failure is thrown by the next call to {@link #saveTaskBook(ReadOnlyTaskBook)} or
+ * {@link #flushTaskBook()} unless a retry has succeeded by then.
+ */
+public class WriteBehindTaskBookStorage implements TaskBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindTaskBookStorage.class);
+
+    /** The shortest wait before a failed save is retried, so that a failing disk is not written to nonstop. */
+    private static final long MIN_RETRY_DELAY_MILLIS = 1000;
+
+    private final TaskBookStorage taskBookStorage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Task book saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    /** The tasks that have yet to be saved, or null if every change has been saved. */
+    private List<Task> pendingTasks;
+    private boolean isSaveScheduled = false;
+    private IOException saveFailure;
+
+    /**
+     * Creates a {@code WriteBehindTaskBookStorage} that saves through {@code taskBookStorage}, no later than
+     * {@code maxStalenessMillis} after a change.
+     */
+    public WriteBehindTaskBookStorage(TaskBookStorage taskBookStorage, long maxStalenessMillis) {
+        requireNonNull(taskBookStorage);
+        checkArgument(maxStalenessMillis >= 0, "Maximum staleness must not be negative.");
+        this.taskBookStorage = taskBookStorage;
+        this.maxStalenessMillis = maxStalenessMillis;
+    }
+
+    @Override
+    public Path getTaskBookFilePath() {
+        return taskBookStorage.getTaskBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook() throws DataConversionException, IOException {
+        return readTaskBook(getTaskBookFilePath());
+    }
+
+    /**
+     * Reads the task book at {@code filePath}, after saving any pending changes.
+     */
+    @Override
+    public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) throws DataConversionException, IOException {
+        flushTaskBook();
+        return taskBookStorage.readTaskBook(filePath);
+    }
+
+    /**
+     * Schedules {@code taskBook} to be saved to the task book file.
+     *
+     * @throws IOException if the previous save failed. {@code taskBook} is still scheduled to be saved.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        requireNonNull(taskBook);
+        List<Task> tasks = new ArrayList<>(taskBook.getTaskList());
+        IOException failure;
+        synchronized (lock) {
+            if (!isSaveScheduled) {
+                saver.schedule(this::savePendingTasks, maxStalenessMillis, TimeUnit.MILLISECONDS);
+                isSaveScheduled = true;
+            }
+            pendingTasks = tasks;
+            failure = takeSaveFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Saves {@code taskBook} to {@code filePath} right away.
+     */
+    @Override
+    public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) throws IOException {
+        taskBookStorage.saveTaskBook(taskBook, filePath);
+    }
+
+    @Override
+    public void backupTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+        taskBookStorage.backupTaskBook(taskBook);
+    }
+
+    /**
+     * Waits until every scheduled change has been saved.
+     *
+     * @throws IOException if a save failed.
+     */
+    @Override
+    public void flushTaskBook() throws IOException {
+        try {
+            saver.submit(this::savePendingTasks).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving the task book.", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure;
+        synchronized (lock) {
+            failure = takeSaveFailure();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        taskBookStorage.flushTaskBook();
+    }
+
+    /**
+     * Saves the latest pending tasks, if any, on the saver thread.
+     * Tasks that fail to save stay pending, unless newer tasks are pending by then, and are saved again later.
+     */
+    private void savePendingTasks() {
+        List<Task> tasks;
+        synchronized (lock) {
+            tasks = pendingTasks;
+            pendingTasks = null;
+            isSaveScheduled = false;
+        }
+        if (tasks == null) {
+            return;
+        }
+
+        TaskBook snapshot = new TaskBook();
+        snapshot.setTasks(tasks);
+        try {
+            taskBookStorage.saveTaskBook(snapshot);
+            synchronized (lock) {
+                saveFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save task book, will retry: " + e.getMessage());
+            synchronized (lock) {
+                saveFailure = e;
+                if (pendingTasks == null) {
+                    pendingTasks = tasks;
+                }
+                if (!isSaveScheduled) {
+                    saver.schedule(this::savePendingTasks, Math.max(maxStalenessMillis, MIN_RETRY_DELAY_MILLIS),
+                            TimeUnit.MILLISECONDS);
+                    isSaveScheduled = true;
+                }
+            }
+        }
+    }
+
+    private IOException takeSaveFailure() {
+        IOException failure = saveFailure;
+        saveFailure = null;
+        return failure;
+    }
+}
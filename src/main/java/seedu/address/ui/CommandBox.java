@@ -32,6 +32,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddAccountCommand;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteAccountCommand;
@@ -53,7 +54,9 @@ import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.MonthCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.ShowTimeCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.TimelineCommand;
 import seedu.address.logic.commands.UndoCommand;
 
@@ -76,6 +79,7 @@ public class CommandBox extends UiPart<Region> {
             AddCommand.COMMAND_WORD,
             AddAccountCommand.COMMAND_WORD,
             ClearCommand.COMMAND_WORD,
+            ConvertCommand.COMMAND_WORD,
             DeleteCommand.COMMAND_WORD,
             DeleteAccountCommand.COMMAND_WORD,
             EditCommand.COMMAND_WORD,
@@ -94,8 +98,10 @@ public class CommandBox extends UiPart<Region> {
             LogoutCommand.COMMAND_WORD,
             MonthCommand.COMMAND_WORD,
             RemindCommand.COMMAND_WORD,
+            RestoreCommand.COMMAND_WORD,
             RedoCommand.COMMAND_WORD,
             ShowTimeCommand.COMMAND_WORD,
+            SyncCommand.COMMAND_WORD,
             TimelineCommand.COMMAND_WORD,
             UndoCommand.COMMAND_WORD,
         };
@@ -62,7 +62,7 @@ public class DefaultPage extends UiPart<Region> {
 
         //Show the calendar
         calendarAnchorPane.getChildren().add(new Calendar(YearMonth.now(), taskList).getView());
-        timelineAnchorPane.getChildren().add(new TimePane(taskList, day).getView());
+        timelineAnchorPane.getChildren().add(new TimePane(logic.getTasksStartingOn(day)).getView());
         reminderAnchorPane.getChildren().add(new ReminderPane(logic, logic.getRemindTaskList()).getView());
         dayListPane.getChildren().add(dayListPanel.getRoot());
 
@@ -116,7 +116,7 @@ public class DefaultPage extends UiPart<Region> {
         }
         //System.out.println(day);
         timelineAnchorPane.getChildren().clear();
-        timelineAnchorPane.getChildren().add(new TimePane(all, day).getView());
+        timelineAnchorPane.getChildren().add(new TimePane(logic.getTasksStartingOn(day)).getView());
         //System.out.println(day);
     }
 
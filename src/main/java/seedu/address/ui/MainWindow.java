@@ -213,10 +213,6 @@ public class MainWindow extends UiPart<Stage> {
             defaultPage.setMonth(commandResult.getFeedbackToUser());
             defaultPage.setTimeline(commandResult.getFeedbackToUser());
             defaultPage.setReminder(logic);
-            if (!commandText.equals("list")) {
-                logic.reinitializeRemindList();
-                defaultPage.setReminder(logic);
-            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -1,6 +1,6 @@
 package seedu.address.ui.timeline;
 
-import javafx.collections.ObservableList;
+import java.util.List;
 
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
@@ -37,16 +37,15 @@ public class TimePane extends AnchorPane {
                                  CATEGORY_ERRANDS,
                                  CATEGORY_OTHER};
 
-    public TimePane(ObservableList<Task> taskList, String d) {
-        showTimeline(taskList, d);
+    public TimePane(List<Task> tasksOfDay) {
+        showTimeline(tasksOfDay);
     }
 
     /**
      * This update the timeline.
-     * @param taskList
-     * @param d
+     * @param tasksOfDay the tasks starting on the day of the timeline
      */
-    public void showTimeline(ObservableList<Task> taskList, String d) {
+    public void showTimeline(List<Task> tasksOfDay) {
         vbox.setSpacing(0);
         //=========Set up time points==========
         Text[] timePoints = { new Text(" "), new Text("6:00"),
@@ -97,7 +96,7 @@ public class TimePane extends AnchorPane {
                          CATEGORY_ENTERTAINMENT,
                          CATEGORY_ERRANDS,
                          CATEGORY_OTHER};
-        PreTask[] filteredDate = filterDate(taskList, d);
+        PreTask[] filteredDate = toPreTasks(tasksOfDay);
         for (int i = 0; i < 5; i++) {
             PreTask[] filteredCate = filterCate(filteredDate, category[i]);
             Timeline t = new Timeline(filteredCate, cate[i]);
@@ -107,27 +106,22 @@ public class TimePane extends AnchorPane {
     }
 
     /**
-     * This function filters the tasks to desired date.
-     * @param taskList
-     * @param day
+     * This function converts the tasks of the day for the timeline.
+     * @param tasksOfDay
      * @return
      */
-    private PreTask[] filterDate(ObservableList<Task> taskList, String day) {
+    private PreTask[] toPreTasks(List<Task> tasksOfDay) {
         PreTask[] filteredDate = new PreTask[1000];
         int count = 0;
-        for (Task t : taskList) {
-            try {
-                t.getCategories();
-            } catch (NullPointerException ep) {
+        for (Task t : tasksOfDay) {
+            if (count == filteredDate.length) {
                 break;
             }
-            if (t.getStartDate().toString().equals(day)) {
-                filteredDate[count] = new PreTask(t.getName().toString(),
-                        t.getCategories().toString(),
-                        parse(t.getStartTime().toString()),
-                        parse(t.getEndTime().toString()));
-                count++;
-            }
+            filteredDate[count] = new PreTask(t.getName().toString(),
+                    t.getCategories().toString(),
+                    parse(t.getStartTime().toString()),
+                    parse(t.getEndTime().toString()));
+            count++;
         }
         return filteredDate;
     }
@@ -162,7 +156,7 @@ public class TimePane extends AnchorPane {
 
     /**
      * Thie parse a string to a float, representing time.
-     * Called in filteredDate method.
+     * Called in toPreTasks method.
      * @param time
      * @return
      */
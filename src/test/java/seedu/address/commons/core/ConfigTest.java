@@ -15,7 +15,11 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Maximum save staleness : 1000ms\n"
+                + "Flush on exit : true\n"
+                + "Task book journal enabled : false\n"
+                + "Backup interval : 60min";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
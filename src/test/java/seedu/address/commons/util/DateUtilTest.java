@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DateUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toEpochDay_validDate_matchesCalendar() {
+        assertEquals(LocalDate.of(2019, 3, 25).toEpochDay(), DateUtil.toEpochDay("25-03-19"));
+        assertEquals(LocalDate.of(2020, 1, 1).toEpochDay(), DateUtil.toEpochDay("01-01-20"));
+    }
+
+    @Test
+    public void toEpochDay_dayPastEndOfMonth_rollsOver() {
+        assertEquals(DateUtil.toEpochDay("03-03-19"), DateUtil.toEpochDay("31-02-19"));
+    }
+
+    @Test
+    public void toDateOrdinal_dayPastEndOfMonth_roundTrips() {
+        assertEquals("31-02-19", DateUtil.fromDateOrdinal(DateUtil.toDateOrdinal("31-02-19")));
+        assertEquals("01-01-00", DateUtil.fromDateOrdinal(DateUtil.toDateOrdinal("01-01-00")));
+        assertTrue(DateUtil.toDateOrdinal("31-02-19") < DateUtil.toDateOrdinal("01-03-19"));
+    }
+
+    @Test
+    public void isRealDate_dayBeyondMonthLength_false() {
+        assertTrue(DateUtil.isRealDate("28-02-19"));
+        assertTrue(DateUtil.isRealDate("29-02-20"));
+        assertFalse(DateUtil.isRealDate("29-02-19"));
+        assertFalse(DateUtil.isRealDate("31-04-19"));
+        assertFalse(DateUtil.isRealDate("00-01-19"));
+    }
+
+    @Test
+    public void fromMinuteOfDay_validMinute_roundTrips() {
+        assertEquals("00.00", DateUtil.fromMinuteOfDay(DateUtil.toMinuteOfDay("00.00")));
+        assertEquals("23.59", DateUtil.fromMinuteOfDay(DateUtil.toMinuteOfDay("23.59")));
+    }
+
+    @Test
+    public void toEpochDay_acrossYears_ordersChronologically() {
+        assertTrue(DateUtil.toEpochDay("31-12-19") < DateUtil.toEpochDay("01-01-20"));
+        assertTrue(DateUtil.toEpochDay("28-02-19") < DateUtil.toEpochDay("01-03-19"));
+    }
+
+    @Test
+    public void toEpochDay_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        DateUtil.toEpochDay(null);
+    }
+
+    @Test
+    public void toFirstAndLastEpochDay_month_coversWholeMonth() {
+        assertEquals(DateUtil.toEpochDay("01-02-20"), DateUtil.toFirstEpochDay("02-20"));
+        // dates written past the end of the month, such as 31-02-20, are part of the month
+        assertEquals(DateUtil.toEpochDay("31-02-20"), DateUtil.toLastEpochDay("02-20"));
+    }
+
+    @Test
+    public void toFirstAndLastEpochDay_date_coversOneDay() {
+        assertEquals(DateUtil.toEpochDay("25-03-19"), DateUtil.toFirstEpochDay("25-03-19"));
+        assertEquals(DateUtil.toEpochDay("25-03-19"), DateUtil.toLastEpochDay("25-03-19"));
+    }
+
+    @Test
+    public void isWithin_dateRollingOver_onlyWithinWrittenDateAndMonth() {
+        assertTrue(DateUtil.isWithin("31-02-19", "31-02-19"));
+        assertTrue(DateUtil.isWithin("31-02-19", "02-19"));
+        assertFalse(DateUtil.isWithin("31-02-19", "03-03-19"));
+        assertFalse(DateUtil.isWithin("31-02-19", "03-19"));
+    }
+
+    @Test
+    public void toMinuteOfDay_validTime_returnsMinutesSinceMidnight() {
+        assertEquals(0, DateUtil.toMinuteOfDay("00.00"));
+        assertEquals(13 * 60 + 5, DateUtil.toMinuteOfDay("13.05"));
+        assertEquals(23 * 60 + 59, DateUtil.toMinuteOfDay("23.59"));
+    }
+}
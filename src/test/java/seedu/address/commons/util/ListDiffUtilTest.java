@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ListDiffUtilTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void setAll_nullReplacement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        ListDiffUtil.setAll(new ArrayList<String>(), null);
+    }
+
+    @Test
+    public void setAll_oneElementRemoved_onlyThatElementRemoved() {
+        String first = new String("a");
+        String second = new String("b");
+        String third = new String("c");
+        CountingList<String> list = new CountingList<>(Arrays.asList(first, second, third));
+
+        ListDiffUtil.setAll(list, Arrays.asList(first, third));
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertSame(third, list.get(1));
+        assertEquals(1, list.changes);
+    }
+
+    @Test
+    public void setAll_oneElementReplaced_onlyThatElementSet() {
+        String first = new String("a");
+        String third = new String("c");
+        CountingList<String> list = new CountingList<>(Arrays.asList(first, new String("b"), third));
+
+        ListDiffUtil.setAll(list, Arrays.asList(first, new String("x"), third));
+        assertEquals(Arrays.asList("a", "x", "c"), list);
+        assertEquals(1, list.changes);
+    }
+
+    @Test
+    public void setAll_equalButNotIdenticalElements_replaced() {
+        String original = new String("a");
+        String copy = new String("a");
+        List<String> list = new ArrayList<>(Collections.singletonList(original));
+
+        ListDiffUtil.setAll(list, Collections.singletonList(copy));
+        assertSame(copy, list.get(0));
+    }
+
+    @Test
+    public void setAll_randomEdits_matchesReplacement() {
+        Random random = new Random(42);
+        List<Integer> pool = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            pool.add(new Integer(i));
+        }
+
+        for (int round = 0; round < 200; round++) {
+            List<Integer> original = randomSubsequence(pool, random);
+            List<Integer> replacement = randomSubsequence(pool, random);
+            List<Integer> list = new ArrayList<>(original);
+
+            ListDiffUtil.setAll(list, replacement);
+            assertEquals(replacement.size(), list.size());
+            for (int i = 0; i < list.size(); i++) {
+                assertSame(replacement.get(i), list.get(i));
+            }
+        }
+    }
+
+    private static List<Integer> randomSubsequence(List<Integer> pool, Random random) {
+        List<Integer> subsequence = new ArrayList<>();
+        for (Integer element : pool) {
+            if (random.nextBoolean()) {
+                subsequence.add(element);
+            }
+        }
+        if (random.nextBoolean()) {
+            Collections.shuffle(subsequence, random);
+        }
+        return subsequence;
+    }
+
+    /**
+     * A list that counts the calls that change it, like the changes an {@code ObservableList} reports.
+     */
+    private static class CountingList<T> extends ArrayList<T> {
+        private int changes = 0;
+
+        CountingList(List<T> elements) {
+            super(elements);
+        }
+
+        @Override
+        public T set(int index, T element) {
+            changes++;
+            return super.set(index, element);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends T> elements) {
+            changes++;
+            return super.addAll(index, elements);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            changes++;
+            super.removeRange(fromIndex, toIndex);
+        }
+    }
+}
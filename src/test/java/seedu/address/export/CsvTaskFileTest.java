@@ -0,0 +1,81 @@
+package seedu.address.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Task;
+import seedu.address.storage.JsonSerializableTaskBook;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class CsvTaskFileTest {
+
+    @Test
+    public void writeAndRead_allInOrder_sameTasks() throws Exception {
+        List<Task> tasks = new ArrayList<>(getTypicalTaskBook().getTaskList());
+        tasks.add(new TaskBuilder().withName("Quoted").withDescription("Read \"CSV\", then write it")
+                .withTags("first", "second tag").build());
+        StringWriter out = new StringWriter();
+        CsvTaskFile.write(tasks, out);
+
+        List<Task> readBack = read(out.toString()).getTaskList();
+        assertEquals(tasks.size(), readBack.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i).hasSameDetails(readBack.get(i)));
+        }
+    }
+
+    @Test
+    public void read_columnsInAnyOrderWithoutTags_tasksRead() throws Exception {
+        String csv = "Category,Name,Start Date,Start Time,End Date,End Time,Description\n"
+                + "\n"
+                + "a,Revise,01-04-19,10.00,01-04-19,12.00,\"Chapters 1, 2\"\n";
+        Task expected = new TaskBuilder().withName("Revise").withStartDate("01-04-19").withStartTime("10.00")
+                .withEndDate("01-04-19").withEndTime("12.00").withDescription("Chapters 1, 2").withCategory("a")
+                .withTags().build();
+
+        List<Task> tasks = read(csv).getTaskList();
+        assertEquals(1, tasks.size());
+        assertTrue(expected.hasSameDetails(tasks.get(0)));
+    }
+
+    @Test
+    public void read_invalidRecords_everyProblemReportedByLine() {
+        String header = String.join(",", CsvTaskFile.COLUMNS) + "\n";
+        String valid = "Revise,01-04-19,10.00,01-04-19,12.00,Read,a,\n";
+        String csv = header
+                + valid
+                + "Too few,01-04-19\n"
+                + "Spans,01-04-19,10.00,01-04-19,12.00,\"Two\nlines\",a,\n"
+                + valid;
+        String expectedMessage = String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 3,
+                String.format(CsvTaskFile.MESSAGE_WRONG_FIELD_COUNT, 2, CsvTaskFile.COLUMNS.size())) + "\n"
+                + String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 4, Description.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 6,
+                JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> read(csv));
+    }
+
+    @Test
+    public void read_missingColumn_throwsIllegalValueException() {
+        Assert.assertThrows(IllegalValueException.class, String.format(CsvTaskFile.MESSAGE_MISSING_COLUMN,
+                "description"), () -> read("name,start date,start time,end date,end time,category\n"));
+    }
+
+    private static ReadOnlyTaskBook read(String csv) throws Exception {
+        return CsvTaskFile.read(new BufferedReader(new StringReader(csv)));
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.task.Description;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class IcsTaskFileTest {
+
+    private static final String LONG_DESCRIPTION = "Go through the lecture notes; then try every tutorial, "
+            + "past year paper and quiz, and note what went wrong in each of them";
+
+    @Test
+    public void writeAndRead_allInOrder_sameTasks() throws Exception {
+        List<Task> tasks = new ArrayList<>(getTypicalTaskBook().getTaskList());
+        tasks.add(new TaskBuilder().withName("Long").withDescription(LONG_DESCRIPTION)
+                .withTags("first", "second tag").build());
+        StringWriter out = new StringWriter();
+        IcsTaskFile.write(tasks, out);
+
+        for (String line : out.toString().split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        List<Task> readBack = read(out.toString()).getTaskList();
+        assertEquals(tasks.size(), readBack.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertTrue(tasks.get(i).hasSameDetails(readBack.get(i)));
+        }
+    }
+
+    @Test
+    public void write_carriageReturnsInText_escapedAsLineBreaks() throws Exception {
+        Task task = new TaskBuilder().withName("Notes").build();
+        Task withLineBreaks = new Task(task.getName(), task.getStartDate(), task.getStartTime(), task.getEndDate(),
+                task.getEndTime(), Description.fromTrusted("One\r\nTwo\rThree"), task.getCategories(), task.getTags());
+        StringWriter out = new StringWriter();
+        IcsTaskFile.write(Collections.singletonList(withLineBreaks), out);
+
+        assertFalse(out.toString().replace("\r\n", "").contains("\r"));
+        assertTrue(out.toString().contains("DESCRIPTION:One\\nTwo\\nThree\r\n"));
+    }
+
+    @Test
+    public void checkDates_dateNotInCalendar_throwsIllegalValueException() throws Exception {
+        IcsTaskFile.checkDates(getTypicalTaskBook().getTaskList());
+
+        Task task = new TaskBuilder().withName("Leap").withStartDate("29-02-19").withEndDate("29-02-20").build();
+        Assert.assertThrows(IllegalValueException.class,
+                String.format(IcsTaskFile.MESSAGE_DATE_NOT_IN_CALENDAR, "Leap", "29-02-19"), () ->
+                        IcsTaskFile.checkDates(Collections.singletonList(task)));
+    }
+
+    @Test
+    public void read_eventFromAnotherCalendar_defaultsFilledIn() throws Exception {
+        String ics = "BEGIN:VCALENDAR\n"
+                + "BEGIN:VTIMEZONE\nTZID:Asia/Singapore\nEND:VTIMEZONE\n"
+                + "BEGIN:VEVENT\n"
+                + "SUMMARY:Team\n"
+                + "  meeting\n"
+                + "DTSTART;VALUE=DATE:20190401\n"
+                + "CATEGORIES:Work\n"
+                + "CATEGORIES:Weekly recurring\n"
+                + "END:VEVENT\n"
+                + "END:VCALENDAR\n";
+        Task expected = new TaskBuilder().withName("Team meeting").withStartDate("01-04-19").withStartTime("00.00")
+                .withEndDate("01-04-19").withEndTime("23.59").withDescription("Team meeting").withCategory("o")
+                .withTags("Work", "Weekly recurring").build();
+
+        List<Task> tasks = read(ics).getTaskList();
+        assertEquals(1, tasks.size());
+        assertTrue(expected.hasSameDetails(tasks.get(0)));
+    }
+
+    @Test
+    public void read_allDayEventsFromAnotherCalendar_endDateExclusive() throws Exception {
+        // as exported by Google Calendar
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "PRODID:-//Google Inc//Google Calendar 70.9054//EN\r\n"
+                + "VERSION:2.0\r\n"
+                + "CALSCALE:GREGORIAN\r\n"
+                + "METHOD:PUBLISH\r\n"
+                + "X-WR-CALNAME:School\r\n"
+                + "X-WR-TIMEZONE:Asia/Singapore\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;VALUE=DATE:20190310\r\n"
+                + "DTEND;VALUE=DATE:20190311\r\n"
+                + "DTSTAMP:20190301T081512Z\r\n"
+                + "UID:4q8hd0bq6ckk1l3mnsm6f5ev8s@google.com\r\n"
+                + "CREATED:20190301T081455Z\r\n"
+                + "DESCRIPTION:\r\n"
+                + "LAST-MODIFIED:20190301T081455Z\r\n"
+                + "SEQUENCE:0\r\n"
+                + "STATUS:CONFIRMED\r\n"
+                + "SUMMARY:Recess\r\n"
+                + "TRANSP:TRANSPARENT\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;VALUE=DATE:20190422\r\n"
+                + "DTEND;VALUE=DATE:20190505\r\n"
+                + "DTSTAMP:20190301T081512Z\r\n"
+                + "UID:1e7ujv2t0fp3mkgjd7ge0m0r6o@google.com\r\n"
+                + "DESCRIPTION:Reading week and exams\r\n"
+                + "STATUS:CONFIRMED\r\n"
+                + "SUMMARY:Exams\r\n"
+                + "TRANSP:TRANSPARENT\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n";
+        Task recess = new TaskBuilder().withName("Recess").withStartDate("10-03-19").withStartTime("00.00")
+                .withEndDate("10-03-19").withEndTime("23.59").withDescription("Recess").withCategory("o").build();
+        Task exams = new TaskBuilder().withName("Exams").withStartDate("22-04-19").withStartTime("00.00")
+                .withEndDate("04-05-19").withEndTime("23.59").withDescription("Reading week and exams")
+                .withCategory("o").build();
+
+        List<Task> tasks = read(ics).getTaskList();
+        assertEquals(2, tasks.size());
+        assertTrue(recess.hasSameDetails(tasks.get(0)));
+        assertTrue(exams.hasSameDetails(tasks.get(1)));
+
+        // written back as the same all-day events
+        StringWriter out = new StringWriter();
+        IcsTaskFile.write(tasks, out);
+        assertTrue(out.toString().contains("DTSTART;VALUE=DATE:20190310\r\nDTEND;VALUE=DATE:20190311\r\n"));
+        assertTrue(out.toString().contains("DTSTART;VALUE=DATE:20190422\r\nDTEND;VALUE=DATE:20190505\r\n"));
+        List<Task> readBack = read(out.toString()).getTaskList();
+        assertTrue(recess.hasSameDetails(readBack.get(0)));
+        assertTrue(exams.hasSameDetails(readBack.get(1)));
+    }
+
+    @Test
+    public void writeAndRead_wholeDayTaskAtEndOfRange_sameTask() throws Exception {
+        Task task = new TaskBuilder().withName("Last").withStartDate("31-12-99").withStartTime("00.00")
+                .withEndDate("31-12-99").withEndTime("23.59").build();
+        StringWriter out = new StringWriter();
+        IcsTaskFile.write(Collections.singletonList(task), out);
+
+        assertTrue(out.toString().contains("DTEND;VALUE=DATE:21000101\r\n"));
+        assertTrue(task.hasSameDetails(read(out.toString()).getTaskList().get(0)));
+    }
+
+    @Test
+    public void read_invalidEvents_everyProblemReportedByLine() {
+        String ics = "BEGIN:VCALENDAR\n"
+                + "BEGIN:VEVENT\nSUMMARY:No start\nEND:VEVENT\n"
+                + "BEGIN:VEVENT\nSUMMARY:Lunch!\nDTSTART:20190401T120000\nEND:VEVENT\n"
+                + "BEGIN:VEVENT\nSUMMARY:Past\nDTSTART:19990401T120000\nEND:VEVENT\n"
+                + "END:VCALENDAR\n";
+        String expectedMessage = String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 2,
+                String.format(IcsTaskFile.MESSAGE_MISSING_PROPERTY, "DTSTART")) + "\n"
+                + String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 5, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportedTaskCollector.MESSAGE_INVALID_TASK_AT_LINE, 9,
+                IcsTaskFile.MESSAGE_DATE_OUT_OF_RANGE);
+
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> read(ics));
+    }
+
+    private static ReadOnlyTaskBook read(String ics) throws Exception {
+        return IcsTaskFile.read(new BufferedReader(new StringReader(ics)));
+    }
+}
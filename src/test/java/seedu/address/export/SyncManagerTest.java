@@ -0,0 +1,276 @@
+package seedu.address.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.SyncResult;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class SyncManagerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path syncFolder;
+    private Path filePathHere;
+    private Path filePathElsewhere;
+    private TaskBook taskBookHere;
+    private TaskBook taskBookElsewhere;
+
+    @Before
+    public void setUp() throws Exception {
+        syncFolder = testFolder.newFolder("shared").toPath();
+        filePathHere = testFolder.newFolder("here").toPath().resolve("taskbook.json");
+        filePathElsewhere = testFolder.newFolder("elsewhere").toPath().resolve("taskbook.json");
+        taskBookHere = getTypicalTaskBook();
+        taskBookElsewhere = new TaskBook();
+    }
+
+    @Test
+    public void sync_newTasks_sentAndReceived() throws Exception {
+        int taskCount = taskBookHere.getTaskList().size();
+        assertEquals(new SyncResult(0, taskCount, Collections.emptyList()), syncHere());
+        assertEquals(new SyncResult(taskCount, 0, Collections.emptyList()), syncElsewhere());
+        assertEquals(taskBookHere.getTaskList(), taskBookElsewhere.getTaskList());
+
+        // nothing changed since the last sync
+        assertEquals(new SyncResult(0, 0, Collections.emptyList()), syncHere());
+        assertTrue(Files.exists(SyncManager.getStatePath(filePathHere)));
+    }
+
+    @Test
+    public void sync_oneTaskEdited_onlyThatTaskExchanged() throws Exception {
+        syncHere();
+        syncElsewhere();
+        List<String> changeLog = readChangeLog();
+
+        Task editedTask = new TaskBuilder(CS2110).withDescription("Edited here").build();
+        taskBookHere.setTask(CS2110, editedTask);
+        assertEquals(new SyncResult(0, 1, Collections.emptyList()), syncHere());
+        assertEquals(changeLog.size() + 1, readChangeLog().size());
+
+        assertEquals(new SyncResult(1, 0, Collections.emptyList()), syncElsewhere());
+        assertTrue(findTask(taskBookElsewhere, CS2110.getName()).hasSameDetails(editedTask));
+    }
+
+    @Test
+    public void sync_differentTasksChanged_changesMerged() throws Exception {
+        syncHere();
+        syncElsewhere();
+
+        Task editedHere = new TaskBuilder(CS2110).withDescription("Edited here").build();
+        taskBookHere.setTask(CS2110, editedHere);
+        taskBookHere.addTask(HOME);
+        Task editedElsewhere = new TaskBuilder(CS2100).withDescription("Edited elsewhere").build();
+        taskBookElsewhere.setTask(CS2100, editedElsewhere);
+        taskBookElsewhere.removeTask(NEVERSTART);
+
+        syncHere();
+        assertEquals(new SyncResult(2, 2, Collections.emptyList()), syncElsewhere());
+        assertEquals(new SyncResult(2, 0, Collections.emptyList()), syncHere());
+
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+        assertTrue(findTask(taskBookHere, CS2110.getName()).hasSameDetails(editedHere));
+        assertTrue(findTask(taskBookHere, CS2100.getName()).hasSameDetails(editedElsewhere));
+        assertFalse(taskBookHere.hasTask(NEVERSTART));
+        assertTrue(taskBookElsewhere.hasTask(HOME));
+    }
+
+    @Test
+    public void sync_sameChangeMadeOnBoth_noConflict() throws Exception {
+        // both task books were copied from the same file before they were first synced
+        taskBookElsewhere = getTypicalTaskBook();
+        syncHere();
+        assertEquals(new SyncResult(0, taskBookHere.getTaskList().size(), Collections.emptyList()),
+                syncElsewhere());
+        assertEquals(new SyncResult(0, 0, Collections.emptyList()), syncHere());
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    @Test
+    public void sync_sameTaskEditedOnBoth_otherVersionCopied() throws Exception {
+        syncHere();
+        syncElsewhere();
+
+        Task editedHere = new TaskBuilder(CS2110).withDescription("Edited here").build();
+        taskBookHere.setTask(CS2110, editedHere);
+        Task editedElsewhere = new TaskBuilder(CS2110).withDescription("Edited elsewhere").build();
+        taskBookElsewhere.setTask(CS2110, editedElsewhere);
+
+        syncHere();
+        SyncResult result = syncElsewhere();
+        assertEquals(Collections.singletonList(String.format(SyncManager.MESSAGE_CONFLICT_COPIED,
+                CS2110.getName(), CS2110.getName() + " 2")), result.getConflicts());
+        assertTrue(findTask(taskBookElsewhere, CS2110.getName()).hasSameDetails(editedElsewhere));
+        Task copy = new TaskBuilder(editedHere).withName(CS2110.getName() + " 2").build();
+        assertTrue(findTask(taskBookElsewhere, copy.getName()).hasSameDetails(copy));
+
+        // the conflict is resolved the same way here, without being reported again
+        assertEquals(new SyncResult(2, 0, Collections.emptyList()), syncHere());
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    @Test
+    public void sync_taskDeletedHereEditedElsewhere_editKept() throws Exception {
+        syncHere();
+        syncElsewhere();
+
+        taskBookHere.removeTask(CS2110);
+        Task editedElsewhere = new TaskBuilder(CS2110).withDescription("Edited elsewhere").build();
+        taskBookElsewhere.setTask(CS2110, editedElsewhere);
+
+        syncHere();
+        assertEquals(Collections.singletonList(String.format(SyncManager.MESSAGE_CONFLICT_DELETED_ELSEWHERE,
+                CS2110.getName())), syncElsewhere().getConflicts());
+        assertTrue(findTask(taskBookElsewhere, CS2110.getName()).hasSameDetails(editedElsewhere));
+
+        assertEquals(new SyncResult(1, 0, Collections.emptyList()), syncHere());
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    @Test
+    public void sync_changedTasksNamed_onlyNamedTasksSent() throws Exception {
+        syncHere();
+        taskBookHere.setTask(CS2110, new TaskBuilder(CS2110).withDescription("Edited here").build());
+        taskBookHere.removeTask(NEVERSTART);
+
+        SyncManager syncManager = new SyncManager(filePathHere, syncFolder);
+        SyncResult result = syncManager.sync(taskBookHere, Collections.singletonList(NEVERSTART.getName()));
+        syncManager.saveState();
+        assertEquals(new SyncResult(0, 1, Collections.emptyList()), result);
+        syncElsewhere();
+        assertFalse(taskBookElsewhere.hasTask(NEVERSTART));
+        assertFalse(findTask(taskBookElsewhere, CS2110.getName()).hasSameDetails(
+                findTask(taskBookHere, CS2110.getName())));
+    }
+
+    @Test
+    public void saveState_manySyncs_stateAppendedAndRewrittenOnceOutgrown() throws Exception {
+        int taskCount = taskBookHere.getTaskList().size();
+        syncHere();
+        Path statePath = SyncManager.getStatePath(filePathHere);
+        assertEquals(1, Files.readAllLines(statePath).size());
+
+        Task task = CS2110;
+        for (int i = 0; i < 3 * taskCount; i++) {
+            Task editedTask = new TaskBuilder(CS2110).withDescription("Edit " + i).build();
+            taskBookHere.setTask(task, editedTask);
+            task = editedTask;
+            assertEquals(new SyncResult(0, 1, Collections.emptyList()), syncHere());
+            assertTrue(Files.readAllLines(statePath).size() <= taskCount + 2);
+        }
+        assertEquals(new SyncResult(0, 0, Collections.emptyList()), syncHere());
+        syncElsewhere();
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    @Test
+    public void sync_changeLogLockedByAnotherSync_throwsIOException() throws Exception {
+        Files.createDirectories(syncFolder);
+        try (FileChannel changeLog = FileChannel.open(syncFolder.resolve(SyncManager.CHANGE_LOG_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = changeLog.lock()) {
+            Assert.assertThrows(IOException.class, () -> new SyncManager(filePathHere, syncFolder, 100)
+                    .sync(taskBookHere));
+        }
+        assertEquals(taskBookHere.getTaskList().size(), syncHere().getSentCount());
+    }
+
+    @Test
+    public void sync_invalidChange_throwsDataConversionException() throws Exception {
+        syncHere();
+        Files.write(syncFolder.resolve(SyncManager.CHANGE_LOG_FILE_NAME),
+                Arrays.asList("{\"name\": \" \", \"versions\": {\"other\": 1}}"), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        Assert.assertThrows(DataConversionException.class, this::syncElsewhere);
+        assertTrue(taskBookElsewhere.getTaskList().isEmpty());
+    }
+
+    @Test
+    public void sync_incompleteLastChange_replaced() throws Exception {
+        syncHere();
+        Files.write(syncFolder.resolve(SyncManager.CHANGE_LOG_FILE_NAME),
+                "{\"name\": \"Cut sh".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        taskBookHere.addTask(HOME);
+        assertEquals(new SyncResult(0, 1, Collections.emptyList()), syncHere());
+        syncElsewhere();
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    @Test
+    public void sync_taskBookLostBeforeSaved_receivedTasksReceivedAgain() throws Exception {
+        int taskCount = taskBookHere.getTaskList().size();
+        syncHere();
+        // the received tasks never reach the task book file, so the sync state is not saved either
+        new SyncManager(filePathElsewhere, syncFolder).sync(taskBookElsewhere);
+        taskBookElsewhere = new TaskBook();
+
+        assertEquals(new SyncResult(taskCount, 0, Collections.emptyList()), syncElsewhere());
+        assertSameTasks(taskBookHere, taskBookElsewhere);
+    }
+
+    /**
+     * Syncs the task book here, then saves the sync state as if the task book had been saved.
+     */
+    private SyncResult syncHere() throws Exception {
+        return sync(filePathHere, taskBookHere);
+    }
+
+    private SyncResult syncElsewhere() throws Exception {
+        return sync(filePathElsewhere, taskBookElsewhere);
+    }
+
+    private SyncResult sync(Path filePath, TaskBook taskBook) throws Exception {
+        SyncManager syncManager = new SyncManager(filePath, syncFolder);
+        SyncResult result = syncManager.sync(taskBook);
+        syncManager.saveState();
+        return result;
+    }
+
+    private List<String> readChangeLog() throws Exception {
+        return Files.readAllLines(syncFolder.resolve(SyncManager.CHANGE_LOG_FILE_NAME), StandardCharsets.UTF_8);
+    }
+
+    private static Task findTask(TaskBook taskBook, Name name) {
+        return taskBook.getTaskList().stream().filter(task -> task.getName().equals(name)).findFirst().get();
+    }
+
+    /**
+     * Asserts that both task books hold tasks with the same details, in any order.
+     */
+    private static void assertSameTasks(TaskBook expected, TaskBook actual) {
+        assertEquals(expected.getTaskList().size(), actual.getTaskList().size());
+        for (Task task : expected.getTaskList()) {
+            assertTrue(task.hasSameDetails(findTask(actual, task.getName())));
+        }
+    }
+}
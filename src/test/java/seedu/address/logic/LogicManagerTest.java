@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_CS2113;
@@ -11,9 +13,12 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_CS2113;
 import static seedu.address.logic.commands.CommandTestUtil.STARTDATE_DESC_CS2113;
 import static seedu.address.logic.commands.CommandTestUtil.STARTTIME_DESC_CS2113;
 import static seedu.address.testutil.TypicalTasks.CS2113;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -23,15 +28,19 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.export.SyncManager;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.suggestions.WrongCommandSuggestion;
+import seedu.address.model.AccountList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
 import seedu.address.model.task.Task;
@@ -111,6 +120,58 @@ public class LogicManagerTest {
         //assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_syncNotSaved_syncStateNotSaved() throws Exception {
+        Path syncFolder = temporaryFolder.newFolder("shared").toPath();
+        SyncManager otherCopy = new SyncManager(temporaryFolder.newFolder("other").toPath().resolve("taskbook.json"),
+                syncFolder);
+        otherCopy.sync(getTypicalTaskBook());
+        otherCopy.saveState();
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTaskBookFilePath(temporaryFolder.newFolder("here").toPath().resolve("taskbook.json"));
+        model = new ModelManager(new TaskBook(), userPrefs, new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        Path statePath = SyncManager.getStatePath(model.getTaskBookFilePath());
+        String syncCommand = SyncCommand.COMMAND_WORD + " " + syncFolder;
+
+        JsonTaskBookStorage failingStorage =
+                new JsonTaskBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()), null));
+        thrown.expect(CommandException.class);
+        try {
+            logic.execute(syncCommand);
+        } finally {
+            assertFalse(Files.exists(statePath));
+        }
+    }
+
+    @Test
+    public void execute_syncSaved_syncStateSaved() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTaskBookFilePath(temporaryFolder.newFolder("here").toPath().resolve("taskbook.json"));
+        model = new ModelManager(getTypicalTaskBook(), userPrefs, new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        StorageManager storage = new StorageManager(new JsonTaskBookStorage(model.getTaskBookFilePath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()), null);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(SyncCommand.COMMAND_WORD + " " + temporaryFolder.newFolder("shared").toPath());
+        assertTrue(Files.exists(SyncManager.getStatePath(model.getTaskBookFilePath())));
+        assertFalse(model.hasUnsavedSyncState());
+    }
+
+    @Test
+    public void getTasksStartingOn_dateAcceptedByTimeline_tasksOfThatDate() {
+        model.addTask(CS2113);
+        assertEquals(Collections.singletonList(CS2113), logic.getTasksStartingOn(CS2113.getStartDate().value));
+
+        // dates the timeline accepts although no task can start on them
+        assertTrue(logic.getTasksStartingOn("011-1-19").isEmpty());
+        assertTrue(logic.getTasksStartingOn("31-02-19").isEmpty());
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,21 +1,30 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalTasks.CS2100;
 import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART2;
 import static seedu.address.testutil.TypicalTasks.SAMESTARTDATEWITHCS2110;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -27,10 +36,15 @@ import seedu.address.model.TaskBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
 import seedu.address.model.task.Task;
+import seedu.address.storage.SegmentedTaskBookStorage;
+import seedu.address.testutil.TaskBuilder;
 
 
 public class ClearCommandTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private Model model;
     private Model emptyModel;
     private CommandHistory commandHistory = new CommandHistory();
@@ -91,6 +105,27 @@ public class ClearCommandTest {
                 String.format(ClearCommand.MESSAGE_CLEARYD_SUCCESS, 3, specificDate), expectedModel);
     }
 
+    @Test
+    public void clearBeforeAndMonth_tasksInSegmentsNotLoaded_tasksLoadedAndCleared() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("taskbook.segments");
+        new SegmentedTaskBookStorage(filePath).saveTaskBook(getTypicalTaskBook());
+        SegmentedTaskBookStorage storage = new SegmentedTaskBookStorage(filePath);
+        int neverStart2Day = NEVERSTART2.getStartDate().getEpochDay();
+        Model archivedModel = new ModelManager(storage.readTaskBookTouching(neverStart2Day, neverStart2Day).get(),
+                new UserPrefs(), new AccountList(), storage);
+        archivedModel.setLoggedInUser(new Username("admin"));
+
+        CommandResult result = new ClearCommand("03-03").execute(archivedModel, commandHistory);
+        assertEquals(String.format(ClearCommand.MESSAGE_CLEARDATE_SUCCESS, 1, "03-03"), result.feedbackToUser);
+
+        new ClearCommand("before").execute(archivedModel, commandHistory);
+        // the month of neverStart, which starts in the future, is still not loaded
+        assertEquals(Collections.singletonList(NEVERSTART2), archivedModel.getTaskBook().getTaskList());
+        assertFalse(archivedModel.hasTask(CS2110));
+        assertFalse(archivedModel.hasTask(SAMESTARTDATEWITHCS2110));
+        assertFalse(archivedModel.hasTask(CS2100));
+    }
+
     @Test
     public void clearSpecificDate_nonEmptyTaskBook_success()
             throws DataConversionException, IllegalValueException, IOException {
@@ -145,6 +180,47 @@ public class ClearCommandTest {
                 String.format(ClearCommand.MESSAGE_CLEARDATE_SUCCESS, 1, "03-03"), expectedModel);
     }
 
+    @Test
+    public void clearSpecificDate_someTasksNotListed_onlyListedTasksCleared() throws Exception {
+        model.updateFilteredTaskList(task -> task.equals(CS2110));
+
+        CommandResult result = new ClearCommand(CS2110.getStartDate().value).execute(model, commandHistory);
+        assertEquals(String.format(ClearCommand.MESSAGE_CLEARDATE_SUCCESS, 1, CS2110.getStartDate().value),
+                result.feedbackToUser);
+        assertFalse(model.hasTask(CS2110));
+        assertTrue(model.hasTask(SAMESTARTDATEWITHCS2110));
+    }
+
+    @Test
+    public void clearSpecificDate_taskAddedAfterList_taskCleared() throws Exception {
+        new ListCommand(new String[] {CS2110.getStartDate().value}).execute(model, commandHistory);
+        Task addedTask = new TaskBuilder(HOME).withStartDate(CS2110.getStartDate().value)
+                .withEndDate(CS2110.getEndDate().value).build();
+        // added the way sync and import add tasks, which keeps the tasks listed
+        model.batch(transaction -> transaction.addTask(addedTask));
+
+        CommandResult result = new ClearCommand(CS2110.getStartDate().value).execute(model, commandHistory);
+        assertEquals(String.format(ClearCommand.MESSAGE_CLEARDATE_SUCCESS, 3, CS2110.getStartDate().value),
+                result.feedbackToUser);
+        assertFalse(model.hasTask(addedTask));
+        assertTrue(model.hasTask(CS2100));
+    }
+
+    @Test
+    public void clearSpecificDate_taskOnDateRollingOverToIt_taskKept() throws Exception {
+        Task rollingOver = new TaskBuilder(HOME).withStartDate("31-02-19").withEndDate("31-02-19").build();
+        Task onDate = new TaskBuilder().withName("On date").withStartDate("03-03-19").withEndDate("03-03-19").build();
+        model.addTask(rollingOver);
+        model.addTask(onDate);
+
+        new ClearCommand("03-03-19").execute(model, commandHistory);
+        assertFalse(model.hasTask(onDate));
+        assertTrue(model.hasTask(rollingOver));
+
+        new ClearCommand("02-19").execute(model, commandHistory);
+        assertFalse(model.hasTask(rollingOver));
+    }
+
     @Test
     public void dateWithNoTask_nonEmptyTaskBook_success()
             throws DataConversionException, IllegalValueException, IOException {
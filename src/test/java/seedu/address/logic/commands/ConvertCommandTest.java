@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.storage.BinaryTaskBookStorage;
+import seedu.address.storage.JsonTaskBookStorage;
+import seedu.address.storage.TaskBookFormat;
+
+public class ConvertCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model;
+    private Path sourcePath;
+    private Path targetPath;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(new TaskBook(), new UserPrefs(), new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        sourcePath = testFolder.getRoot().toPath().resolve("tasks.json");
+        targetPath = testFolder.getRoot().toPath().resolve("tasks.bin");
+        new JsonTaskBookStorage(sourcePath).saveTaskBook(getTypicalTaskBook());
+    }
+
+    @Test
+    public void execute_jsonToBinary_converted() throws Exception {
+        CommandResult result = new ConvertCommand(sourcePath, targetPath).execute(model, new CommandHistory());
+
+        assertEquals(String.format(ConvertCommand.MESSAGE_CONVERT_SUCCESS, sourcePath, targetPath,
+                TaskBookFormat.BINARY), result.getFeedbackToUser());
+        assertEquals(getTypicalTaskBook(), new TaskBook(new BinaryTaskBookStorage(targetPath).readTaskBook().get()));
+    }
+
+    @Test
+    public void execute_missingSource_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ConvertCommand.MESSAGE_FILE_NOT_FOUND);
+        new ConvertCommand(testFolder.getRoot().toPath().resolve("missing.json"), targetPath)
+                .execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void execute_targetInUse_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ConvertCommand.MESSAGE_TARGET_IN_USE);
+        new ConvertCommand(sourcePath, model.getTaskBookFilePath()).execute(model, new CommandHistory());
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalTasks.ENT;
 import static seedu.address.testutil.TypicalTasks.HOME;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -14,17 +15,21 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AccountList;
+import seedu.address.model.ImportPolicy;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
+import seedu.address.storage.JsonTaskBookStorage;
 import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class ImportCommandTest {
     private static final int TASKS_ADDED = 2;
@@ -32,6 +37,9 @@ public class ImportCommandTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private Model model;
     private Model expectedModel;
     private Path importFilePath;
@@ -66,6 +74,65 @@ public class ImportCommandTest {
         assertEquals(expectedTaskBook.getTaskList(), taskBook.getTaskList());
     }
 
+    @Test
+    public void execute_conflictingTasks_handledByPolicy() throws CommandException {
+        model.addTask(new TaskBuilder(HOME).withDescription("Clean up").build());
+        model.addTask(ENT);
+        CommandResult commandResult = new ImportCommand(importFilePath, ImportPolicy.OVERWRITE)
+                .execute(model, new CommandHistory());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, 1)
+                + String.format(ImportCommand.MESSAGE_IMPORT_DETAILS, 1, 1, "overwritten");
+
+        assertEquals(expectedMessage, commandResult.feedbackToUser);
+        assertEquals(expectedModel.getTaskBook().getTaskList(), model.getTaskBook().getTaskList());
+    }
+
+    @Test
+    public void execute_csvAndIcsFiles_imported() throws Exception {
+        for (String fileName : new String[] {"tasks.csv", "tasks.ics"}) {
+            Path filePath = testFolder.getRoot().toPath().resolve(fileName);
+            expectedModel.exportFilteredTaskBook(filePath);
+            Model model = new ModelManager(new TaskBookBuilder().build(), new UserPrefs(), new AccountList());
+            model.setLoggedInUser(new Username("admin"));
+
+            CommandResult commandResult = new ImportCommand(filePath).execute(model, new CommandHistory());
+            assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, TASKS_ADDED),
+                    commandResult.feedbackToUser);
+            assertEquals(expectedModel.getTaskBook().getTaskList(), model.getTaskBook().getTaskList());
+        }
+    }
+
+    @Test
+    public void execute_folderWithMalformedFile_otherFilesImported() throws Exception {
+        Path folder = testFolder.getRoot().toPath();
+        new JsonTaskBookStorage(folder.resolve("a.json")).saveTaskBook(new TaskBookBuilder().withTask(HOME).build());
+        new JsonTaskBookStorage(folder.resolve("b.json")).saveTaskBook(expectedModel.getTaskBook());
+        Files.write(folder.resolve("c.json"), "{ \"tasks\": [ { \"name\": 1 } ".getBytes());
+        Files.write(folder.resolve("notes.txt"), "not a task book".getBytes());
+
+        CommandResult commandResult = new ImportCommand(folder).execute(model, new CommandHistory());
+        String[] lines = commandResult.feedbackToUser.split("\n");
+
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, TASKS_ADDED)
+                + String.format(ImportCommand.MESSAGE_IMPORT_DETAILS, 1, 0, "skipped"), lines[0]);
+        assertEquals(String.format(ImportCommand.MESSAGE_FILE_READ, "a.json", 1).trim(), lines[1]);
+        assertEquals(String.format(ImportCommand.MESSAGE_FILE_READ, "b.json", 2).trim(), lines[2]);
+        assertTrue(lines[3].startsWith("c.json: not imported"));
+        assertEquals(expectedModel.getTaskBook().getTaskList(), model.getTaskBook().getTaskList());
+
+        // a pattern picks the files to import
+        model.undoTaskBook();
+        commandResult = new ImportCommand(folder.resolve("b*.json")).execute(model, new CommandHistory());
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, TASKS_ADDED)
+                + String.format(ImportCommand.MESSAGE_FILE_READ, "b.json", 2), commandResult.feedbackToUser);
+    }
+
+    @Test
+    public void execute_patternMatchesNoFile_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        new ImportCommand(testFolder.getRoot().toPath().resolve("*.json")).execute(model, new CommandHistory());
+    }
+
     @Test
     public void equals() {
         ImportCommand standardCommand = new ImportCommand(importFilePath);
@@ -81,6 +148,9 @@ public class ImportCommandTest {
         // null value -> returns false
         assertFalse(standardCommand.equals(null));
 
+        // different policy -> returns false
+        assertFalse(standardCommand.equals(new ImportCommand(importFilePath, ImportPolicy.RENAME)));
+
         // different filename -> returns false
         assertFalse(standardCommand.equals(new ImportCommand(differentFilePath)));
     }
@@ -1,8 +1,12 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.ClearCommand.MESSAGE_INVALID_DATE;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.io.IOException;
@@ -19,6 +23,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAccountList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.account.Username;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -51,6 +57,18 @@ public class ListCommandTest {
                 ListCommand.MESSAGE_SUCCESS1, expectedModel);
     }
 
+    @Test
+    public void execute_listDate_taskAddedAfterwardsListed() throws Exception {
+        new ListCommand(new String[] {"01-01-11"}).execute(model, commandHistory);
+        Task addedTask = new TaskBuilder(HOME).withStartDate("01-01-11").withEndDate("02-01-11").build();
+        // added the way sync and import add tasks, which keeps the tasks listed
+        model.batch(transaction -> transaction.addTask(addedTask));
+
+        assertTrue(model.getFilteredTaskList().contains(addedTask));
+        assertTrue(model.getFilteredTaskList().contains(CS2110));
+        assertEquals(3, model.getFilteredTaskList().size());
+    }
+
     /*@Test
     public void execute_listTdTask_success()
             throws IOException, IllegalValueException, DataConversionException {
@@ -36,7 +36,6 @@ public class RemindCommandTest {
     public void remindStart_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("start"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
@@ -46,7 +45,6 @@ public class RemindCommandTest {
     public void remindDdl_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("ddl"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
@@ -56,7 +54,6 @@ public class RemindCommandTest {
     public void remindCategoryStart1_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("a start"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
@@ -66,7 +63,6 @@ public class RemindCommandTest {
     public void remindCategoryStart2_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("c start"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
@@ -76,7 +72,6 @@ public class RemindCommandTest {
     public void remindCategoryDdl1_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("a ddl"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
@@ -86,7 +81,6 @@ public class RemindCommandTest {
     public void remindCategoryDdl2_success() throws DataConversionException, IllegalValueException, IOException {
 
         expectedModel = new ModelManager(model.getTaskBook(), new UserPrefs(), new AccountList());
-        expectedModel.commitTaskBook();
 
         assertCommandSuccess(new RemindCommand("c ddl"), model, commandHistory, RemindCommand.MESSAGE_REMIND_SUCCESS,
                 expectedModel);
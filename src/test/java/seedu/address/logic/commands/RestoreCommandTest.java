@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.storage.BackupManager;
+
+public class RestoreCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Model model;
+    private Path backupDirectory;
+
+    @Before
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTaskBookFilePath(testFolder.getRoot().toPath().resolve("taskbook.json"));
+        model = new ModelManager(new TaskBook(), userPrefs, new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        backupDirectory = BackupManager.getBackupDirectory(model.getTaskBookFilePath());
+    }
+
+    @Test
+    public void execute_noBackups_noBackupsMessage() throws Exception {
+        CommandResult result = new RestoreCommand().execute(model, new CommandHistory());
+        assertEquals(RestoreCommand.MESSAGE_NO_BACKUPS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_backupIndex_taskBookRestored() throws Exception {
+        try (BackupManager backupManager = new BackupManager(backupDirectory, 0)) {
+            backupManager.recordSnapshot(getTypicalTaskBook());
+            backupManager.backUpNow();
+        }
+        model.addTask(HOME);
+        model.commitTaskBook();
+
+        new RestoreCommand(Index.fromOneBased(1)).execute(model, new CommandHistory());
+        assertEquals(getTypicalTaskBook(), model.getTaskBook());
+
+        // the restore can be undone
+        model.undoTaskBook();
+        assertEquals(1, model.getTaskBook().getTaskList().size());
+    }
+
+    @Test
+    public void execute_indexPastBackups_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(RestoreCommand.MESSAGE_INVALID_BACKUP_INDEX);
+        new RestoreCommand(Index.fromOneBased(1)).execute(model, new CommandHistory());
+    }
+
+    @Test
+    public void execute_notLoggedIn_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(RestoreCommand.MESSAGE_LOGIN);
+        new RestoreCommand().execute(new ModelManager(), new CommandHistory());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.model.day.Day;
+import seedu.address.testutil.TaskBuilder;
+
+public class ShowTimeCommandTest {
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        TaskBook taskBook = getTypicalTaskBook();
+        // only tasks that end on the day they start are shown as days
+        taskBook.addTask(new TaskBuilder(HOME).withEndDate("11-11-11").build());
+        taskBook.addTask(new TaskBuilder(ENT).withStartDate("12-11-11").build());
+        model = new ModelManager(taskBook, new UserPrefs(), new AccountList());
+        Username admin = new Username("admin");
+        model.setLoggedInUser(admin);
+    }
+
+    @Test
+    public void execute_date_onlyThatDayShown() throws Exception {
+        CommandResult result = new ShowTimeCommand(new String[] {"11-11-11"}).execute(model, commandHistory);
+
+        assertEquals(String.format(ShowTimeCommand.MESSAGE_SUCCESS2, "11-11-11"), result.feedbackToUser);
+        assertEquals(1, model.getFilteredDayList().size());
+        assertEquals("11-11-11", model.getFilteredDayList().get(0).getDate().value);
+    }
+
+    @Test
+    public void execute_month_dayAddedAfterwardsShown() throws Exception {
+        new ShowTimeCommand(new String[] {"11-11"}).execute(model, commandHistory);
+        // added the way sync and import add tasks, which keeps the days shown
+        model.batch(transaction -> transaction.addTask(
+                new TaskBuilder(HOME).withName("Added task").withStartDate("15-11-11").withEndDate("15-11-11")
+                        .build()));
+
+        List<String> shownDates = model.getFilteredDayList().stream()
+                .map(day -> day.getDate().value).collect(Collectors.toList());
+        assertEquals(3, shownDates.size());
+        assertTrue(shownDates.contains("15-11-11"));
+        assertTrue(model.getFilteredDayList().stream().map(Day::getDate)
+                .allMatch(date -> date.value.endsWith("-11-11")));
+    }
+
+    @Test
+    public void execute_invalidDate_noDayShown() throws Exception {
+        new ShowTimeCommand(new String[] {"32-11-11"}).execute(model, commandHistory);
+        assertTrue(model.getFilteredDayList().isEmpty());
+    }
+}
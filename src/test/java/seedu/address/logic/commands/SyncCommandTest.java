@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.export.SyncManager;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AccountList;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.account.Username;
+import seedu.address.testutil.TaskBuilder;
+
+public class SyncCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path syncFolder;
+
+    @Before
+    public void setUp() {
+        syncFolder = testFolder.getRoot().toPath().resolve("shared");
+    }
+
+    @Test
+    public void execute_tasksChangedOnBoth_changesExchanged() throws Exception {
+        Model modelHere = createModel("here", getTypicalTaskBook());
+        Model modelElsewhere = createModel("elsewhere", new TaskBook());
+        int taskCount = modelHere.getTaskBook().getTaskList().size();
+
+        CommandResult result = sync(modelHere);
+        assertEquals(String.format(SyncCommand.MESSAGE_SYNC_SUCCESS, syncFolder, 0, taskCount),
+                result.getFeedbackToUser());
+        // nothing was received, so there is nothing to undo
+        assertFalse(modelHere.canUndoTaskBook());
+        result = sync(modelElsewhere);
+        assertEquals(String.format(SyncCommand.MESSAGE_SYNC_SUCCESS, syncFolder, taskCount, 0),
+                result.getFeedbackToUser());
+        assertEquals(modelHere.getTaskBook().getTaskList(), modelElsewhere.getTaskBook().getTaskList());
+
+        // the sync can be undone
+        modelElsewhere.undoTaskBook();
+        assertTrue(modelElsewhere.getTaskBook().getTaskList().isEmpty());
+    }
+
+    @Test
+    public void execute_sameTaskEditedOnBoth_conflictReported() throws Exception {
+        Model modelHere = createModel("here", getTypicalTaskBook());
+        Model modelElsewhere = createModel("elsewhere", new TaskBook());
+        sync(modelHere);
+        sync(modelElsewhere);
+
+        modelHere.setTask(CS2110, new TaskBuilder(CS2110).withDescription("Edited here").build());
+        modelElsewhere.setTask(CS2110, new TaskBuilder(CS2110).withDescription("Edited elsewhere").build());
+        sync(modelHere);
+
+        CommandResult result = sync(modelElsewhere);
+        String conflict = String.format(SyncManager.MESSAGE_CONFLICT_COPIED, CS2110.getName(),
+                CS2110.getName() + " 2");
+        assertEquals(String.format(SyncCommand.MESSAGE_SYNC_SUCCESS, syncFolder, 1, 2)
+                + String.format(SyncCommand.MESSAGE_CONFLICT, conflict), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_taskDeletedSinceLastSync_deletionSent() throws Exception {
+        Model modelHere = createModel("here", getTypicalTaskBook());
+        Model modelElsewhere = createModel("elsewhere", new TaskBook());
+        sync(modelHere);
+        sync(modelElsewhere);
+
+        modelHere.deleteTask(CS2110);
+        CommandResult result = sync(modelHere);
+        assertEquals(String.format(SyncCommand.MESSAGE_SYNC_SUCCESS, syncFolder, 0, 1), result.getFeedbackToUser());
+        sync(modelElsewhere);
+        assertFalse(modelElsewhere.hasTask(CS2110));
+    }
+
+    @Test
+    public void execute_notLoggedIn_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(SyncCommand.MESSAGE_LOGIN);
+        new SyncCommand(syncFolder).execute(new ModelManager(), new CommandHistory());
+    }
+
+    @Test
+    public void equals() {
+        SyncCommand syncCommand = new SyncCommand(syncFolder);
+        assertTrue(syncCommand.equals(syncCommand));
+        assertTrue(syncCommand.equals(new SyncCommand(syncFolder)));
+        assertFalse(syncCommand.equals(null));
+        assertFalse(syncCommand.equals(new SyncCommand(syncFolder.resolveSibling("other"))));
+    }
+
+    /**
+     * Executes a {@code SyncCommand} on {@code model}, then saves the sync state as if the task book had been saved.
+     */
+    private CommandResult sync(Model model) throws Exception {
+        CommandResult result = new SyncCommand(syncFolder).execute(model, new CommandHistory());
+        assertTrue(model.hasUnsavedSyncState());
+        model.saveSyncState();
+        return result;
+    }
+
+    /**
+     * Returns a logged in model whose task book, {@code taskBook}, is saved in the folder {@code folderName}.
+     */
+    private Model createModel(String folderName, ReadOnlyTaskBook taskBook) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setTaskBookFilePath(testFolder.getRoot().toPath().resolve(folderName).resolve("taskbook.json"));
+        Model model = new ModelManager(taskBook, userPrefs, new AccountList());
+        model.setLoggedInUser(new Username("admin"));
+        return model;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+    private ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        ConvertCommand expectedCommand = new ConvertCommand(Paths.get("data", "tasks.json"),
+                Paths.get("data", "tasks.bin"));
+
+        assertParseSuccess(parser, " tasks.json tasks.bin", expectedCommand);
+        assertParseSuccess(parser, "  tasks.json    tasks.bin  ", expectedCommand);
+    }
+
+    @Test
+    public void parse_wrongNumberOfFilenames_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tasks.json", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tasks.json tasks.bin more.bin", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidExtension_failure() {
+        assertParseFailure(parser, "tasks.xml tasks.bin", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "tasks.json tasks", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -56,6 +56,11 @@ public class ExportCommandParserTest {
 
         // parse user input with whitespaces
         assertParseSuccess(parser, "  testExportFile.json    ", expectedCommand);
+
+        // CSV and iCalendar files
+        assertParseSuccess(parser, "testExportFile.csv", new ExportCommand(Paths.get("data", "testExportFile.csv")));
+        assertParseSuccess(parser, "testExportFile.ics a",
+                new ExportCommand(Paths.get("data", "testExportFile.ics"), "a"));
     }
 
     @Test
@@ -10,6 +10,7 @@ import java.nio.file.Paths;
 import org.junit.Test;
 
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.model.ImportPolicy;
 
 public class ImportCommandParserTest {
     private static final String MESSAGE_INVALID_FORMAT =
@@ -35,6 +36,32 @@ public class ImportCommandParserTest {
 
         // parse user input with whitespaces
         assertParseSuccess(parser, "  testImportFile.json    ", expectedCommand);
+
+        // CSV and iCalendar files
+        assertParseSuccess(parser, "calendar.ics", new ImportCommand(Paths.get("data", "calendar.ics")));
+        assertParseSuccess(parser, "sheet.csv", new ImportCommand(Paths.get("data", "sheet.csv")));
+    }
+
+    @Test
+    public void parse_validPolicy_success() {
+        ImportCommand expectedCommand = new ImportCommand(Paths.get("data", "testImportFile.json"),
+                ImportPolicy.RENAME);
+
+        assertParseSuccess(parser, " testImportFile.json rename", expectedCommand);
+        assertParseSuccess(parser, " testImportFile.json   RENAME ", expectedCommand);
+    }
+
+    @Test
+    public void parse_folderOrPattern_success() {
+        assertParseSuccess(parser, " exports/", new ImportCommand(Paths.get("data", "exports")));
+        assertParseSuccess(parser, " exports/*.json overwrite",
+                new ImportCommand(Paths.get("data", "exports", "*.json"), ImportPolicy.OVERWRITE));
+    }
+
+    @Test
+    public void parse_invalidPolicy_throwsParseException() {
+        assertParseFailure(parser, "testImportFile.json merge", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "testImportFile.json skip rename", MESSAGE_INVALID_FORMAT);
     }
 
     @Test
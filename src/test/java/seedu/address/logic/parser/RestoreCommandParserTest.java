@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RestoreCommand;
+
+public class RestoreCommandParserTest {
+    private RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_noArgs_listsBackups() {
+        assertParseSuccess(parser, "", new RestoreCommand());
+        assertParseSuccess(parser, "   ", new RestoreCommand());
+    }
+
+    @Test
+    public void parse_index_restoresBackup() {
+        assertParseSuccess(parser, " 2", new RestoreCommand(Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void parse_invalidIndex_failure() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE));
+    }
+}
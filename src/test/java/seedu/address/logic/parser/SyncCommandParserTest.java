@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SyncCommand;
+
+public class SyncCommandParserTest {
+    private SyncCommandParser parser = new SyncCommandParser();
+
+    @Test
+    public void parse_relativeFolder_folderInDataFolder() {
+        assertParseSuccess(parser, " shared ", new SyncCommand(Paths.get("data", "shared")));
+    }
+
+    @Test
+    public void parse_absoluteFolder_folderUnchanged() {
+        String folder = Paths.get("shared").toAbsolutePath().toString();
+        assertParseSuccess(parser, folder, new SyncCommand(Paths.get(folder)));
+    }
+
+    @Test
+    public void parse_noFolder_failure() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE));
+    }
+}
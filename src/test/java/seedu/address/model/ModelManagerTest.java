@@ -7,17 +7,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ENDDATE_CS2101;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static seedu.address.testutil.TypicalTasks.CS2100;
 import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.HOME;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.task.Name;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.TaskContainsKeywordsPredicate;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
@@ -84,6 +88,16 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getTaskBookFilePath());
     }
 
+    @Test
+    public void getRemindTaskList_tasksChanged_keptUpToDate() {
+        modelManager.addTask(CS2100);
+        modelManager.addTask(CS2110);
+        assertEquals(Arrays.asList(CS2100, CS2110), modelManager.getRemindTaskList());
+
+        modelManager.deleteTask(CS2100);
+        assertEquals(Collections.singletonList(CS2110), modelManager.getRemindTaskList());
+    }
+
     @Test
     public void hasTask_nullTask_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -128,6 +142,87 @@ public class ModelManagerTest {
         assertEquals(updatedCS2110, modelManager.getSelectedTask());
     }
 
+    @Test
+    public void getTasksStartingBetween_tasksInArchive_loadedAndKeptOnUndo() {
+        TaskBook taskBook = new TaskBookBuilder().withTask(CS2110).build();
+        ModelManager lazyModelManager = new ModelManager(taskBook, new UserPrefs(), new AccountList(),
+                new TaskArchiveStub(Collections.singletonList(CS2100)));
+        lazyModelManager.addTask(HOME);
+        lazyModelManager.commitTaskBook();
+
+        int cs2100Day = CS2100.getStartDate().getEpochDay();
+        assertEquals(Collections.singletonList(CS2100), lazyModelManager.getTasksStartingBetween(cs2100Day, cs2100Day));
+
+        // loaded tasks are part of every state of the task book, so undoing does not unload them
+        lazyModelManager.undoTaskBook();
+        assertEquals(Arrays.asList(CS2110, CS2100), lazyModelManager.getTaskBook().getTaskList());
+    }
+
+    @Test
+    public void undoTaskBook_moreCommitsThanUndoHistoryLimit_oldestCommitsDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        ModelManager limitedModelManager = new ModelManager(new TaskBook(), userPrefs, new AccountList());
+        limitedModelManager.addTask(CS2110);
+        limitedModelManager.commitTaskBook();
+        limitedModelManager.addTask(CS2100);
+        limitedModelManager.commitTaskBook();
+
+        limitedModelManager.undoTaskBook();
+        assertEquals(Collections.singletonList(CS2110), limitedModelManager.getTaskBook().getTaskList());
+        assertFalse(limitedModelManager.canUndoTaskBook());
+    }
+
+    @Test
+    public void hasTask_taskOfSameNameInArchive_onlyThatTaskLoaded() {
+        ModelManager lazyModelManager = new ModelManager(new TaskBookBuilder().withTask(CS2110).build(),
+                new UserPrefs(), new AccountList(), new TaskArchiveStub(Arrays.asList(CS2100, HOME)));
+
+        assertTrue(lazyModelManager.hasTask(new TaskBuilder(CS2100).withStartDate("01-01-19").build()));
+        assertEquals(Arrays.asList(CS2110, CS2100), lazyModelManager.getTaskBook().getTaskList());
+        assertFalse(lazyModelManager.hasTask(new TaskBuilder(HOME).withName("Not stored").build()));
+        assertEquals(Arrays.asList(CS2110, CS2100), lazyModelManager.getTaskBook().getTaskList());
+    }
+
+    @Test
+    public void addTasksToTaskBook_skipPolicy_onlyNewTasksAdded() {
+        modelManager.addTask(CS2110);
+        modelManager.addTask(HOME);
+        Task editedHome = new TaskBuilder(HOME).withDescription("Clean up").build();
+        TaskBook imported = new TaskBookBuilder().withTask(CS2110).withTask(editedHome).withTask(CS2100).build();
+
+        ImportResult result = modelManager.addTasksToTaskBook(imported, ImportPolicy.SKIP);
+        assertEquals(new ImportResult(1, 1, 1, ImportPolicy.SKIP), result);
+        assertEquals(Arrays.asList(CS2110, HOME, CS2100), modelManager.getTaskBook().getTaskList());
+    }
+
+    @Test
+    public void addTasksToTaskBook_overwritePolicy_conflictingTasksReplaced() {
+        modelManager.addTask(CS2110);
+        modelManager.addTask(HOME);
+        Task editedHome = new TaskBuilder(HOME).withDescription("Clean up").build();
+        TaskBook imported = new TaskBookBuilder().withTask(editedHome).withTask(CS2100).build();
+
+        ImportResult result = modelManager.addTasksToTaskBook(imported, ImportPolicy.OVERWRITE);
+        assertEquals(2, result.getImportedCount());
+        assertEquals(Arrays.asList(CS2110, editedHome, CS2100), modelManager.getTaskBook().getTaskList());
+        assertTrue(editedHome.hasSameDetails(modelManager.getTaskBook().getTaskList().get(1)));
+    }
+
+    @Test
+    public void addTasksToTaskBook_renamePolicy_conflictingTasksAddedUnderUnusedNames() {
+        modelManager.addTask(HOME);
+        modelManager.addTask(new TaskBuilder(CS2110).withName(HOME.getName() + " 2").build());
+        Task editedHome = new TaskBuilder(HOME).withDescription("Clean up").build();
+        TaskBook imported = new TaskBookBuilder().withTask(editedHome).build();
+
+        ImportResult result = modelManager.addTasksToTaskBook(imported, ImportPolicy.RENAME);
+        assertEquals(new ImportResult(0, 0, 1, ImportPolicy.RENAME), result);
+        assertEquals(3, modelManager.getTaskBook().getTaskList().size());
+        assertTrue(new TaskBuilder(editedHome).withName(HOME.getName() + " 3").build()
+                .hasSameDetails(modelManager.getTaskBook().getTaskList().get(2)));
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -185,4 +280,34 @@ public class ModelManagerTest {
         differentUserPrefs.setTaskBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(taskBook, differentUserPrefs, accountList)));
     }
+
+    /**
+     * A task archive that holds the given tasks, which are all loaded together unless they are loaded by name.
+     */
+    private static class TaskArchiveStub implements TaskArchive {
+        private final List<Task> tasks;
+
+        TaskArchiveStub(List<Task> tasks) {
+            this.tasks = new ArrayList<>(tasks);
+        }
+
+        @Override
+        public boolean isFullyLoaded() {
+            return tasks.isEmpty();
+        }
+
+        @Override
+        public List<Task> loadTasksTouching(int fromDay, int toDay) {
+            List<Task> loaded = new ArrayList<>(tasks);
+            tasks.clear();
+            return loaded;
+        }
+
+        @Override
+        public List<Task> loadTasksNamed(Name name) {
+            List<Task> loaded = new ArrayList<>();
+            tasks.removeIf(task -> task.getName().equals(name) && loaded.add(task));
+            return loaded;
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ENDDATE_CS2101;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS2101;
@@ -12,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,6 +23,7 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.day.Date;
 import seedu.address.model.day.Day;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
@@ -113,6 +116,107 @@ public class TaskBookTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void addTask_tasksOnSameDay_singleDayUpdatedInPlace() {
+        Task first = new TaskBuilder().withName("First").build();
+        Task second = new TaskBuilder().withName("Second").build();
+        taskBook.addTask(first);
+        Day day = taskBook.getDayList().get(0);
+        taskBook.addTask(second);
+        assertEquals(1, taskBook.getDayList().size());
+        assertSame(day, taskBook.getDayList().get(0));
+    }
+
+    @Test
+    public void addTask_tasksOnDifferentDays_daysInChronologicalOrder() {
+        taskBook.addTask(new TaskBuilder().withName("Later").withStartDate("02-01-20").withEndDate("02-01-20")
+                .build());
+        taskBook.addTask(new TaskBuilder().withName("Earlier").withStartDate("31-12-19").withEndDate("31-12-19")
+                .build());
+        taskBook.addTask(new TaskBuilder().withName("Middle").withStartDate("01-01-20").withEndDate("01-01-20")
+                .build());
+        assertEquals(Arrays.asList(new Date("31-12-19"), new Date("01-01-20"), new Date("02-01-20")),
+                taskBook.getDayList().stream().map(Day::getDate).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void removeTask_lastTaskOfDay_dayRemoved() {
+        Task task = new TaskBuilder().build();
+        taskBook.addTask(task);
+        taskBook.removeTask(task);
+        assertEquals(Collections.emptyList(), taskBook.getDayList());
+    }
+
+    @Test
+    public void setTask_taskMovedToAnotherDay_dayTotalsMoved() {
+        Task task = new TaskBuilder().build();
+        Task movedTask = new TaskBuilder().withStartDate("15-04-19").withEndDate("15-04-19").build();
+        taskBook.addTask(task);
+        taskBook.setTask(task, movedTask);
+        assertEquals(Collections.singletonList(new Date("15-04-19")),
+                taskBook.getDayList().stream().map(Day::getDate).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void setTasks_unchangedTasksAndDays_kept() {
+        Task first = new TaskBuilder().withName("First").build();
+        Task second = new TaskBuilder().withName("Second").withStartDate("15-04-19").withEndDate("15-04-19").build();
+        taskBook.setTasks(Arrays.asList(first, second));
+        Day firstDay = taskBook.getDayList().get(0);
+
+        taskBook.setTasks(Collections.singletonList(first));
+        assertSame(first, taskBook.getTaskList().get(0));
+        assertEquals(Collections.singletonList(firstDay), taskBook.getDayList());
+        assertSame(firstDay, taskBook.getDayList().get(0));
+    }
+
+    @Test
+    public void batch_multipleChanges_appliedWithSingleNotification() {
+        Task first = new TaskBuilder().withName("First").build();
+        Task second = new TaskBuilder().withName("Second").build();
+        Task third = new TaskBuilder().withName("Third").build();
+        Task editedSecond = new TaskBuilder(second).withStartDate("15-04-19").withEndDate("15-04-19").build();
+        taskBook.addTask(first);
+        taskBook.addTask(second);
+
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        taskBook.addListener(observable -> counter.set(counter.get() + 1));
+        assertTrue(taskBook.batch(transaction -> {
+            transaction.removeTask(first);
+            transaction.addTask(third);
+            transaction.setTask(second, editedSecond);
+        }));
+
+        assertEquals(1, counter.get());
+        assertEquals(Arrays.asList(editedSecond, third), taskBook.getTaskList());
+        assertEquals(Arrays.asList(new Date("14-04-19"), new Date("15-04-19")),
+                taskBook.getDayList().stream().map(Day::getDate).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void batch_noChanges_returnsFalse() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        taskBook.addListener(observable -> counter.set(counter.get() + 1));
+        assertFalse(taskBook.batch(transaction -> transaction.hasTask(CS2110)));
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void batch_duplicateTask_taskBookUnchanged() {
+        taskBook.addTask(CS2110);
+        try {
+            taskBook.batch(transaction -> {
+                transaction.removeTask(CS2110);
+                transaction.addTask(new TaskBuilder().withName("Other").build());
+                transaction.addTask(new TaskBuilder().withName("Other").build());
+            });
+        } catch (DuplicateTaskException e) {
+            assertEquals(Collections.singletonList(CS2110), taskBook.getTaskList());
+            return;
+        }
+        throw new AssertionError("DuplicateTaskException was not thrown.");
+    }
+
     /**
      * A stub ReadOnlyTaskBook whose tasks list can violate interface constraints.
      */
@@ -133,6 +237,11 @@ public class TaskBookTest {
             return null;
         }
 
+        @Override
+        public long getFingerprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             throw new AssertionError("This method should not be called.");
@@ -8,13 +8,18 @@ import static seedu.address.testutil.TypicalTasks.CS2100;
 import static seedu.address.testutil.TypicalTasks.CS2110;
 import static seedu.address.testutil.TypicalTasks.CS2113;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Test;
 
+import seedu.address.model.task.Task;
 import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class VersionedTaskBookTest {
 
@@ -27,22 +32,78 @@ public class VersionedTaskBookTest {
     public void commit_singleTaskBook_noStatesRemovedCurrentStateSaved() {
         VersionedTaskBook versionedTaskBook = prepareTaskBookList(emptyTaskBook);
 
+        versionedTaskBook.addTask(CS2110);
         versionedTaskBook.commit();
         assertTaskBookListStatus(versionedTaskBook,
                 Collections.singletonList(emptyTaskBook),
-                emptyTaskBook,
+                taskBookWithCS2110,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_unchangedTaskBook_noStateSaved() {
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(emptyTaskBook, taskBookWithCS2110);
+
+        versionedTaskBook.commit();
+        assertTaskBookListStatus(versionedTaskBook,
+                Collections.singletonList(emptyTaskBook),
+                taskBookWithCS2110,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_changesReverted_noStateSaved() {
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(emptyTaskBook, taskBookWithCS2110);
+
+        versionedTaskBook.addTask(CS2100);
+        versionedTaskBook.removeTask(CS2100);
+        versionedTaskBook.commit();
+        assertTaskBookListStatus(versionedTaskBook,
+                Collections.singletonList(emptyTaskBook),
+                taskBookWithCS2110,
                 Collections.emptyList());
     }
 
+    @Test
+    public void commit_changedTasksWithSameFingerprint_stateSaved() {
+        // "Ab" and "BC" have the same hash code
+        Task before = new TaskBuilder(CS2110).withName("Ab").build();
+        Task after = new TaskBuilder(CS2110).withName("BC").build();
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(new TaskBookBuilder().withTask(before).build());
+        versionedTaskBook.setTask(before, after);
+        assertEquals(before.hashCode(), after.hashCode());
+
+        versionedTaskBook.commit();
+        assertTrue(versionedTaskBook.canUndo());
+        versionedTaskBook.undo();
+        assertEquals(Collections.singletonList(before), versionedTaskBook.getTaskList());
+    }
+
+    @Test
+    public void stopRecordingChangedTasks_tasksChangedAndLoaded_onlyChangedTasksRecorded() {
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(taskBookWithCS2110);
+        assertFalse(versionedTaskBook.stopRecordingChangedTasks().isPresent());
+
+        versionedTaskBook.startRecordingChangedTasks();
+        versionedTaskBook.addArchivedTasks(new ArrayList<>(Arrays.asList(CS2100)));
+        versionedTaskBook.batch(transaction -> transaction.addTask(CS2113));
+        versionedTaskBook.commit();
+        versionedTaskBook.undo();
+        versionedTaskBook.removeTask(CS2110);
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(CS2113.getName(), CS2110.getName()))),
+                versionedTaskBook.stopRecordingChangedTasks());
+    }
+
     @Test
     public void commit_multipleTaskBookPointerAtEndOfStateList_noStatesRemovedCurrentStateSaved() {
         VersionedTaskBook versionedTaskBook = prepareTaskBookList(
                 emptyTaskBook, taskBookWithCS2110, taskBookWithCS2100);
 
+        versionedTaskBook.resetData(taskBookWithCS2113);
         versionedTaskBook.commit();
         assertTaskBookListStatus(versionedTaskBook,
                 Arrays.asList(emptyTaskBook, taskBookWithCS2110, taskBookWithCS2100),
-                taskBookWithCS2100,
+                taskBookWithCS2113,
                 Collections.emptyList());
     }
 
@@ -52,10 +113,11 @@ public class VersionedTaskBookTest {
                 emptyTaskBook, taskBookWithCS2110, taskBookWithCS2100);
         shiftCurrentStatePointerLeftwards(versionedTaskBook, 2);
 
+        versionedTaskBook.resetData(taskBookWithCS2113);
         versionedTaskBook.commit();
         assertTaskBookListStatus(versionedTaskBook,
                 Collections.singletonList(emptyTaskBook),
-                emptyTaskBook,
+                taskBookWithCS2113,
                 Collections.emptyList());
     }
 
@@ -207,6 +269,34 @@ public class VersionedTaskBookTest {
         assertThrows(VersionedTaskBook.NoRedoableStateException.class, versionedTaskBook::redo);
     }
 
+    @Test
+    public void undo_removedTask_restoredAtSamePosition() {
+        VersionedTaskBook versionedTaskBook = prepareTaskBookList(
+                new TaskBookBuilder().withTask(CS2110).withTask(CS2100).withTask(CS2113).build());
+        ReadOnlyTaskBook original = new TaskBook(versionedTaskBook);
+
+        versionedTaskBook.removeTask(CS2100);
+        versionedTaskBook.commit();
+        versionedTaskBook.undo();
+        assertEquals(original.getTaskList(), versionedTaskBook.getTaskList());
+
+        versionedTaskBook.redo();
+        assertEquals(Arrays.asList(CS2110, CS2113), versionedTaskBook.getTaskList());
+    }
+
+    @Test
+    public void undo_moreCommitsThanHistoryLimit_oldestCommitsDropped() {
+        VersionedTaskBook versionedTaskBook = new VersionedTaskBook(emptyTaskBook, 1);
+        versionedTaskBook.addTask(CS2110);
+        versionedTaskBook.commit();
+        versionedTaskBook.addTask(CS2100);
+        versionedTaskBook.commit();
+
+        versionedTaskBook.undo();
+        assertEquals(taskBookWithCS2110, new TaskBook(versionedTaskBook));
+        assertFalse(versionedTaskBook.canUndo());
+    }
+
     @Test
     public void equals() {
         VersionedTaskBook versionedTaskBook = prepareTaskBookList(taskBookWithCS2110, taskBookWithCS2100);
@@ -0,0 +1,64 @@
+package seedu.address.model.day;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class DayTest {
+
+    private static final Task NINETY_MINUTE_TASK = new TaskBuilder().withName("Lecture")
+            .withStartTime("10.00").withEndTime("11.30").withCategory("a").build();
+    private static final Task ERRAND_TASK = new TaskBuilder().withName("Groceries")
+            .withStartTime("18.15").withEndTime("19.00").withCategory("r").build();
+
+    private final Day day = new Day(new Date("14-04-19"));
+
+    @Test
+    public void addCategory_ninetyMinuteSpans_accumulatesExactly() {
+        day.addCategory(NINETY_MINUTE_TASK);
+        day.addCategory(new TaskBuilder(NINETY_MINUTE_TASK).withName("Tutorial").build());
+        assertEquals(180, day.getAcademic().getMinutes());
+        assertEquals("3.00", day.getAcademic().getTime());
+        assertEquals(0, day.getCca().getMinutes());
+    }
+
+    @Test
+    public void removeCategory_allTasksRemoved_dayEmpty() {
+        day.addCategory(NINETY_MINUTE_TASK);
+        day.addCategory(ERRAND_TASK);
+        assertEquals("0.45", day.getErrand().getTime());
+
+        day.removeCategory(NINETY_MINUTE_TASK);
+        assertFalse(day.isDayEmpty());
+        day.removeCategory(ERRAND_TASK);
+        assertTrue(day.isDayEmpty());
+    }
+
+    @Test
+    public void editCategory_categoryChanged_movesMinutes() {
+        day.addCategory(NINETY_MINUTE_TASK);
+        day.editCategory(NINETY_MINUTE_TASK, new TaskBuilder(NINETY_MINUTE_TASK).withCategory("o").build());
+        assertEquals(0, day.getAcademic().getMinutes());
+        assertEquals(90, day.getOther().getMinutes());
+    }
+
+    @Test
+    public void parseMinutes_legacyDoubleValues_roundedToMinutes() {
+        assertEquals(180, Category.parseMinutes("3.0"));
+        assertEquals(90, Category.parseMinutes("1.3"));
+        assertEquals(90, Category.parseMinutes("1.30"));
+        assertEquals(180, Category.parseMinutes("2.5999999999999996"));
+        assertEquals(0, Category.parseMinutes("0.0"));
+    }
+
+    @Test
+    public void formatMinutes_roundTrip() {
+        assertEquals("12.05", Category.formatMinutes(725));
+        assertEquals(725, Category.parseMinutes(Category.formatMinutes(725)));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskDateIndexTest {
+
+    private static final Task FIRST_OF_APRIL = new TaskBuilder().withName("First")
+            .withStartDate("01-04-19").withEndDate("01-04-19").build();
+    private static final Task TENTH_OF_APRIL = new TaskBuilder().withName("Tenth")
+            .withStartDate("10-04-19").withEndDate("10-04-19").build();
+    private static final Task END_OF_MARCH_TO_APRIL = new TaskBuilder().withName("Camp")
+            .withStartDate("28-03-19").withEndDate("05-04-19").build();
+
+    private final TaskDateIndex index = new TaskDateIndex();
+
+    @Test
+    public void getTasksStartingBetween_tasksInRange_returnsInStartOrder() {
+        index.add(TENTH_OF_APRIL);
+        index.add(FIRST_OF_APRIL);
+        index.add(END_OF_MARCH_TO_APRIL);
+        assertEquals(Arrays.asList(FIRST_OF_APRIL, TENTH_OF_APRIL),
+                index.getTasksStartingBetween(day("01-04-19"), day("30-04-19")));
+        assertEquals(Collections.singletonList(FIRST_OF_APRIL),
+                index.getTasksStartingBetween(day("01-04-19"), day("01-04-19")));
+    }
+
+    @Test
+    public void getTasksStartingBetween_emptyRange_returnsEmptyList() {
+        index.add(FIRST_OF_APRIL);
+        assertTrue(index.getTasksStartingBetween(day("02-04-19"), day("01-04-19")).isEmpty());
+    }
+
+    @Test
+    public void remove_taskRemoved_noLongerFound() {
+        index.add(FIRST_OF_APRIL);
+        index.add(END_OF_MARCH_TO_APRIL);
+        index.remove(END_OF_MARCH_TO_APRIL);
+        assertEquals(Collections.singletonList(FIRST_OF_APRIL),
+                index.getTasksStartingBetween(day("28-03-19"), day("05-04-19")));
+    }
+
+    private static int day(String date) {
+        return DateUtil.toEpochDay(date);
+    }
+}
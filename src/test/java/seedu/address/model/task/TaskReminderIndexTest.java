@@ -0,0 +1,68 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskReminderIndexTest {
+
+    private static final Task EARLY_START_LATE_END = new TaskBuilder().withName("Project").withCategory("a")
+            .withStartDate("01-04-19").withEndDate("30-04-19").build();
+    private static final Task LATE_START_EARLY_END = new TaskBuilder().withName("Groceries").withCategory("r")
+            .withStartDate("10-04-19").withEndDate("10-04-19").build();
+    private static final Task MIDDLE = new TaskBuilder().withName("Lecture").withCategory("a")
+            .withStartDate("05-04-19").withEndDate("05-04-19").build();
+
+    private final TaskReminderIndex index = new TaskReminderIndex();
+
+    @Test
+    public void getFirstTasks_byStart_returnsEarliestStartsFirst() {
+        index.add(LATE_START_EARLY_END);
+        index.add(EARLY_START_LATE_END);
+        index.add(MIDDLE);
+        assertEquals(Arrays.asList(EARLY_START_LATE_END, MIDDLE),
+                index.getFirstTasks(TaskReminderIndex.Order.START, 2));
+    }
+
+    @Test
+    public void getFirstTasks_byDeadline_returnsEarliestDeadlinesFirst() {
+        index.add(LATE_START_EARLY_END);
+        index.add(EARLY_START_LATE_END);
+        index.add(MIDDLE);
+        assertEquals(Arrays.asList(MIDDLE, LATE_START_EARLY_END, EARLY_START_LATE_END),
+                index.getFirstTasks(TaskReminderIndex.Order.DEADLINE, 5));
+    }
+
+    @Test
+    public void getFirstTasks_ofCategory_returnsOnlyThatCategory() {
+        index.add(LATE_START_EARLY_END);
+        index.add(EARLY_START_LATE_END);
+        index.add(MIDDLE);
+        assertEquals(Arrays.asList(MIDDLE, EARLY_START_LATE_END),
+                index.getFirstTasks(TaskReminderIndex.Order.DEADLINE, "a", 5));
+        assertTrue(index.getFirstTasks(TaskReminderIndex.Order.START, "c", 5).isEmpty());
+    }
+
+    @Test
+    public void getFirstTasks_sameStart_orderedByName() {
+        Task sameStartAsMiddle = new TaskBuilder(MIDDLE).withName("Assignment").build();
+        index.add(MIDDLE);
+        index.add(sameStartAsMiddle);
+        assertEquals(Arrays.asList(sameStartAsMiddle, MIDDLE), index.getFirstTasks(TaskReminderIndex.Order.START, 2));
+    }
+
+    @Test
+    public void remove_task_noLongerReminded() {
+        index.add(EARLY_START_LATE_END);
+        index.add(MIDDLE);
+        index.remove(EARLY_START_LATE_END);
+        assertEquals(Collections.singletonList(MIDDLE), index.getFirstTasks(TaskReminderIndex.Order.START, 5));
+        assertEquals(Collections.singletonList(MIDDLE), index.getFirstTasks(TaskReminderIndex.Order.START, "a", 5));
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ENDDATE_CS2101;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CS2101;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2101;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.task.exceptions.DuplicateTaskException;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.testutil.TaskBuilder;
+
+public class UniqueTaskListTest {
+
+    private static final int LARGE_LIST_SIZE = 100000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void contains_taskNotInList_returnsFalse() {
+        assertFalse(uniqueTaskList.contains(CS2110));
+    }
+
+    @Test
+    public void contains_taskWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueTaskList.add(CS2110);
+        Task editedCS2110 = new TaskBuilder(CS2110).withEndDate(VALID_ENDDATE_CS2101).withTags(VALID_TAG_CS2101)
+                .build();
+        assertTrue(uniqueTaskList.contains(editedCS2110));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        uniqueTaskList.add(CS2110);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.add(CS2110);
+    }
+
+    @Test
+    public void setTask_targetNotInList_throwsTaskNotFoundException() {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.setTask(CS2110, CS2110);
+    }
+
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_success() {
+        uniqueTaskList.add(CS2110);
+        uniqueTaskList.add(CS2100);
+        uniqueTaskList.setTask(CS2110, CS2101);
+        assertEquals(Arrays.asList(CS2101, CS2100), uniqueTaskList.asUnmodifiableObservableList());
+        assertFalse(uniqueTaskList.contains(CS2110));
+        assertTrue(uniqueTaskList.contains(CS2101));
+    }
+
+    @Test
+    public void setTask_editedTaskHasNonUniqueIdentity_throwsDuplicateTaskException() {
+        uniqueTaskList.add(CS2110);
+        uniqueTaskList.add(CS2100);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTask(CS2110, CS2100);
+    }
+
+    @Test
+    public void remove_taskDoesNotExist_throwsTaskNotFoundException() {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(CS2110);
+    }
+
+    @Test
+    public void remove_existingTask_laterTasksStillFound() {
+        uniqueTaskList.add(CS2110);
+        uniqueTaskList.add(CS2100);
+        uniqueTaskList.add(CS2101);
+        uniqueTaskList.remove(CS2110);
+        uniqueTaskList.setTask(CS2101, CS2110);
+        assertEquals(Arrays.asList(CS2100, CS2110), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() {
+        List<Task> listWithDuplicateTasks = Arrays.asList(CS2110, CS2110);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(listWithDuplicateTasks);
+    }
+
+    @Test
+    public void setTasks_list_replacesOwnListWithProvidedList() {
+        uniqueTaskList.add(CS2110);
+        uniqueTaskList.setTasks(Collections.singletonList(CS2100));
+        assertFalse(uniqueTaskList.contains(CS2110));
+        assertEquals(CS2100, uniqueTaskList.get(CS2100));
+    }
+
+    @Test
+    public void sortByDate_tasksReordered_lookupsStillValid() {
+        uniqueTaskList.add(CS2100);
+        uniqueTaskList.add(CS2110);
+        uniqueTaskList.sortByDate((first, second) -> first.getName().fullName.compareTo(second.getName().fullName));
+        uniqueTaskList.remove(CS2110);
+        assertEquals(Collections.singletonList(CS2100), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test(timeout = 10000)
+    public void largeList_bulkOperations_scaleLinearly() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).build());
+        }
+
+        uniqueTaskList.setTasks(tasks);
+        for (Task task : tasks) {
+            assertTrue(uniqueTaskList.contains(task));
+        }
+
+        Task last = tasks.get(LARGE_LIST_SIZE - 1);
+        Task renamed = new TaskBuilder(last).withName("Renamed").build();
+        uniqueTaskList.setTask(last, renamed);
+        uniqueTaskList.remove(tasks.get(LARGE_LIST_SIZE / 2));
+        uniqueTaskList.add(last);
+
+        assertEquals(LARGE_LIST_SIZE, uniqueTaskList.asUnmodifiableObservableList().size());
+        assertEquals(renamed, uniqueTaskList.get(renamed));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskBook;
+
+public class BackupManagerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2018, 11, 5, 9, 30);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private SettableClock clock;
+    private BackupManager backupManager;
+
+    @Before
+    public void setUp() {
+        clock = new SettableClock(START);
+        backupManager = new BackupManager(testFolder.getRoot().toPath().resolve(BackupManager.BACKUP_DIRECTORY_NAME),
+                0, clock);
+    }
+
+    @After
+    public void tearDown() {
+        backupManager.close();
+    }
+
+    @Test
+    public void backUpNow_noSnapshot_noBackup() throws Exception {
+        assertFalse(backupManager.backUpNow().isPresent());
+        assertEquals(0, backupManager.getBackupCount());
+    }
+
+    @Test
+    public void backUpNow_snapshotRecorded_readBackSame() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        backupManager.recordSnapshot(taskBook);
+        // later changes to the task book are not part of the snapshot
+        TaskBook original = new TaskBook(taskBook);
+        taskBook.addTask(HOME);
+
+        Optional<Path> backup = backupManager.backUpNow();
+        assertTrue(backup.isPresent());
+        assertEquals(START, BackupManager.getBackupTime(backup.get()));
+        assertEquals(original, new TaskBook(BackupManager.readBackup(backup.get())));
+        assertEquals(1, backupManager.getBackupCount());
+        assertEquals(Files.size(backup.get()), backupManager.getBackupBytes());
+
+        // a snapshot is backed up only once
+        assertFalse(backupManager.backUpNow().isPresent());
+    }
+
+    @Test
+    public void close_snapshotNotBackedUp_backedUpBeforeClosing() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        backupManager.recordSnapshot(taskBook);
+        backupManager.close();
+
+        List<Path> backups = BackupManager.listBackups(backupManager.getBackupDirectory());
+        assertEquals(1, backups.size());
+        assertEquals(taskBook, new TaskBook(BackupManager.readBackup(backups.get(0))));
+    }
+
+    @Test
+    public void backUpNow_manyBackups_expiredGenerationsDeleted() throws Exception {
+        for (int i = 0; i < 3 * 24; i++) {
+            backupManager.recordSnapshot(getTypicalTaskBook());
+            backupManager.backUpNow();
+            clock.setTime(START.plusHours(i + 1));
+        }
+
+        List<Path> backups = BackupManager.listBackups(backupManager.getBackupDirectory());
+        // the last 24 hours, plus the last backup of each of the 2 days before
+        assertEquals(BackupManager.HOURLY_GENERATIONS + 2, backups.size());
+        assertEquals(START.plusHours(3 * 24 - 1), BackupManager.getBackupTime(backups.get(0)));
+    }
+
+    @Test
+    public void selectGenerations_twoBackupsEveryDay_latestOfEachHourWithBackupsKept() {
+        List<LocalDateTime> backupTimes = new ArrayList<>();
+        for (int day = 0; day < 60; day++) {
+            backupTimes.add(START.minusDays(day));
+            backupTimes.add(START.minusDays(day).minusMinutes(10));
+        }
+
+        // the generations count periods that have backups, so the hours kept span 24 days,
+        // which covers the days and weeks kept too
+        Set<LocalDateTime> kept = BackupManager.selectGenerations(backupTimes);
+        assertEquals(BackupManager.HOURLY_GENERATIONS, kept.size());
+        assertTrue(kept.contains(START));
+        assertTrue(kept.contains(START.minusDays(BackupManager.HOURLY_GENERATIONS - 1)));
+        assertFalse(kept.contains(START.minusDays(BackupManager.HOURLY_GENERATIONS)));
+        assertFalse(kept.contains(START.minusMinutes(10)));
+    }
+
+    /**
+     * A clock whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDateTime time) {
+            setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
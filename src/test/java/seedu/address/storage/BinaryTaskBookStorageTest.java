@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TaskBook;
+import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class BinaryTaskBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryTaskBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("taskbook.bin");
+        storage = new BinaryTaskBookStorage(filePath);
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        assertTrue(BinaryTaskBookStorage.isBinaryTaskBookFile(filePath));
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        original.addTask(HOME);
+        original.removeTask(CS2110);
+        original.addTask(ENT);
+        storage.saveTaskBook(original);
+        TaskBook readBack = new TaskBook(storage.readTaskBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void readTaskBook_dayPastEndOfMonth_dateKept() throws Exception {
+        TaskBook original = new TaskBookBuilder().withTask(new TaskBuilder(HOME).withStartDate("31-02-19")
+                .withEndDate("31-12-99").withStartTime("00.00").withEndTime("23.59").build()).build();
+        storage.saveTaskBook(original);
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_typicalTaskBook_smallerThanJson() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        Path jsonPath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        new JsonTaskBookStorage(jsonPath).saveTaskBook(original);
+        storage.saveTaskBook(original);
+        assertTrue(Files.size(filePath) * 3 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readTaskBook_jsonFile_throwsDataConversionException() throws Exception {
+        Path jsonPath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        new JsonTaskBookStorage(jsonPath).saveTaskBook(getTypicalTaskBook());
+        assertFalse(BinaryTaskBookStorage.isBinaryTaskBookFile(jsonPath));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskBook(jsonPath);
+    }
+
+    @Test
+    public void readTaskBook_truncatedFile_throwsDataConversionException() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskBook();
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameTaskBook() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        Path jsonPath = testFolder.getRoot().toPath().resolve("original.json");
+        Path convertedPath = testFolder.getRoot().toPath().resolve("converted.json");
+        new JsonTaskBookStorage(jsonPath).saveTaskBook(original);
+
+        assertEquals(TaskBookFormat.BINARY, TaskBookFormat.convert(jsonPath, filePath));
+        assertEquals(TaskBookFormat.BINARY, TaskBookFormat.of(filePath));
+        assertEquals(TaskBookFormat.JSON, TaskBookFormat.convert(filePath, convertedPath));
+        assertEquals(TaskBookFormat.JSON, TaskBookFormat.of(convertedPath));
+        assertEquals(original, new TaskBook(new FormatDetectingTaskBookStorage(convertedPath).readTaskBook().get()));
+    }
+
+    @Test
+    public void formatDetectingStorage_binaryFileWithJsonExtension_savedAsBinary() throws Exception {
+        Path misnamedPath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        storage.saveTaskBook(new TaskBook(), misnamedPath);
+
+        FormatDetectingTaskBookStorage detectingStorage = new FormatDetectingTaskBookStorage(misnamedPath);
+        TaskBook original = getTypicalTaskBook();
+        detectingStorage.saveTaskBook(original);
+        assertTrue(BinaryTaskBookStorage.isBinaryTaskBookFile(misnamedPath));
+        assertEquals(original, new TaskBook(detectingStorage.readTaskBook().get()));
+    }
+}
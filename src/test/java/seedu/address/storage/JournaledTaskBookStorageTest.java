@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskBook;
+import seedu.address.testutil.TaskBuilder;
+
+public class JournaledTaskBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path snapshotPath;
+    private Path journalPath;
+
+    @Before
+    public void setUp() {
+        snapshotPath = testFolder.getRoot().toPath().resolve("taskbook.json");
+        journalPath = JournaledTaskBookStorage.getJournalPath(snapshotPath);
+    }
+
+    @Test
+    public void getJournalPath_snapshotWithExtension_extensionReplaced() {
+        assertEquals(snapshotPath.resolveSibling("taskbook.journal"), journalPath);
+    }
+
+    @Test
+    public void readTaskBook_nothingSaved_emptyResult() throws Exception {
+        assertFalse(new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath)).readTaskBook().isPresent());
+    }
+
+    @Test
+    public void saveTaskBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath));
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        assertFalse(Files.exists(journalPath));
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+
+        taskBook.removeTask(CS2100);
+        taskBook.setTask(CS2110, new TaskBuilder(CS2110).withDescription("Edited").build());
+        taskBook.addTask(new TaskBuilder().withName("New task").build());
+        storage.saveTaskBook(taskBook);
+        assertTrue(Files.exists(journalPath));
+        assertEquals(new String(snapshot, StandardCharsets.UTF_8),
+                new String(Files.readAllBytes(snapshotPath), StandardCharsets.UTF_8));
+
+        TaskBook read = new TaskBook(new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath))
+                .readTaskBook().get());
+        assertEquals(taskBook, read);
+        assertEquals(taskBook.getTaskList(), read.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_ownFilePathAfterJournaledSave_journalNotReplayedOverSave() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath));
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        taskBook.removeTask(CS2100);
+        storage.saveTaskBook(taskBook);
+
+        taskBook.addTask(CS2100);
+        storage.saveTaskBook(taskBook, snapshotPath);
+        TaskBook read = new TaskBook(new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath))
+                .readTaskBook().get());
+        assertEquals(taskBook, read);
+    }
+
+    @Test
+    public void saveTaskBook_tasksReordered_snapshotRewritten() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath));
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(HOME);
+        taskBook.addTask(ENT);
+        storage.saveTaskBook(taskBook);
+
+        TaskBook reordered = new TaskBook();
+        reordered.addTask(ENT);
+        reordered.addTask(HOME);
+        storage.saveTaskBook(reordered);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(reordered.getTaskList(), new JsonTaskBookStorage(snapshotPath).readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_journalPastThreshold_compacted() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath), 1);
+        TaskBook taskBook = new TaskBook();
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        assertTrue(Files.exists(journalPath));
+
+        taskBook.addTask(ENT);
+        storage.saveTaskBook(taskBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(taskBook, new JsonTaskBookStorage(snapshotPath).readTaskBook().get());
+    }
+
+    @Test
+    public void saveTaskBook_compacted_checksumMovedWithSnapshot() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath), 0);
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(ENT);
+        storage.saveTaskBook(taskBook);
+
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        assertFalse(Files.exists(temporaryPath));
+        assertFalse(Files.exists(JsonTaskBookStorage.getChecksumPath(temporaryPath)));
+        CRC32C checksum = new CRC32C();
+        byte[] snapshot = Files.readAllBytes(snapshotPath);
+        checksum.update(snapshot, 0, snapshot.length);
+        assertEquals(Long.toHexString(checksum.getValue()), new String(
+                Files.readAllBytes(JsonTaskBookStorage.getChecksumPath(snapshotPath)), StandardCharsets.UTF_8));
+
+        TaskBook read = new TaskBook(new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath))
+                .readTaskBook().get());
+        assertEquals(taskBook, read);
+    }
+
+    @Test
+    public void readTaskBook_incompleteLastSave_ignored() throws Exception {
+        JournaledTaskBookStorage storage = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath));
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(CS2110);
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(CS2100);
+        storage.saveTaskBook(taskBook);
+        Files.write(journalPath, "{\"operation\":\"put\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledTaskBookStorage reopened = new JournaledTaskBookStorage(new JsonTaskBookStorage(snapshotPath));
+        assertEquals(taskBook, reopened.readTaskBook().get());
+
+        // the next save starts over from a fresh snapshot rather than appending after the broken line
+        taskBook.addTask(ENT);
+        reopened.saveTaskBook(taskBook);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(taskBook, reopened.readTaskBook().get());
+    }
+}
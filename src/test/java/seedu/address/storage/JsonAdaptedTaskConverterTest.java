@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.storage.JsonAdaptedTaskConverter.MESSAGE_INVALID_TASK_AT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.TaskBuilder;
+
+public class JsonAdaptedTaskConverterTest {
+
+    private static final int TASK_COUNT = JsonAdaptedTaskConverter.CHUNK_SIZE * 3 + 1;
+
+    @Test
+    public void toModelTasks_validTasksInManyChunks_tasksInOrder() throws Exception {
+        List<Task> tasks = buildTasks(TASK_COUNT);
+        List<JsonAdaptedTask> jsonAdaptedTasks = new ArrayList<>();
+        tasks.forEach(task -> jsonAdaptedTasks.add(new JsonAdaptedTask(task)));
+        assertEquals(tasks, JsonAdaptedTaskConverter.toModelTasks(jsonAdaptedTasks));
+    }
+
+    @Test
+    public void toModelTasks_noTasks_emptyList() throws Exception {
+        assertEquals(Collections.emptyList(), JsonAdaptedTaskConverter.toModelTasks(Collections.emptyList()));
+    }
+
+    @Test
+    public void toModelTasks_invalidAndDuplicateTasks_everyProblemReported() {
+        List<JsonAdaptedTask> jsonAdaptedTasks = new ArrayList<>();
+        buildTasks(TASK_COUNT).forEach(task -> jsonAdaptedTasks.add(new JsonAdaptedTask(task)));
+        Task invalidTask = new TaskBuilder().withName("Task 0").build();
+        jsonAdaptedTasks.set(1, new JsonAdaptedTask(" ", invalidTask.getStartDate().toString(),
+                invalidTask.getStartTime().toString(), invalidTask.getEndDate().toString(),
+                invalidTask.getEndTime().toString(), invalidTask.getDescription().toString(),
+                invalidTask.getCategories().toString(), Collections.emptyList()));
+        // the later task of the same name is the duplicate, wherever the chunks are
+        jsonAdaptedTasks.set(TASK_COUNT - 1, new JsonAdaptedTask(invalidTask));
+
+        String expectedMessage = String.format(MESSAGE_INVALID_TASK_AT, 2, Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(MESSAGE_INVALID_TASK_AT, TASK_COUNT, JsonSerializableTaskBook.MESSAGE_DUPLICATE_TASK);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAdaptedTaskConverter.toModelTasks(jsonAdaptedTasks));
+    }
+
+    @Test
+    public void finish_trustedTasksAddedOneAtATime_unbuildableTaskReported() {
+        int taskCount = JsonAdaptedTaskConverter.CHUNK_SIZE * (JsonAdaptedTaskConverter.MAX_PENDING_CHUNKS + 2);
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(true);
+        List<Task> tasks = buildTasks(taskCount);
+        for (int i = 0; i < taskCount - 1; i++) {
+            converter.add(new JsonAdaptedTask(tasks.get(i)));
+        }
+        Task lastTask = tasks.get(taskCount - 1);
+        converter.add(new JsonAdaptedTask(null, lastTask.getStartDate().toString(),
+                lastTask.getStartTime().toString(), lastTask.getEndDate().toString(),
+                lastTask.getEndTime().toString(), lastTask.getDescription().toString(),
+                lastTask.getCategories().toString(), Collections.emptyList()));
+
+        String expectedMessage = String.format(MESSAGE_INVALID_TASK_AT, taskCount, new NullPointerException());
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, converter::finish);
+    }
+
+    @Test
+    public void finish_trustedTasksAddedOneAtATime_tasksInOrder() throws Exception {
+        List<Task> tasks = buildTasks(JsonAdaptedTaskConverter.CHUNK_SIZE
+                * (JsonAdaptedTaskConverter.MAX_PENDING_CHUNKS + 2) + 1);
+        JsonAdaptedTaskConverter converter = new JsonAdaptedTaskConverter(true);
+        tasks.forEach(task -> converter.add(new JsonAdaptedTask(task)));
+        assertEquals(tasks, converter.finish());
+    }
+
+    private static List<Task> buildTasks(int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).build());
+        }
+        return tasks;
+    }
+}
@@ -18,6 +18,7 @@ import seedu.address.model.task.EndTime;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.StartDate;
 import seedu.address.model.task.StartTime;
+import seedu.address.model.task.Task;
 import seedu.address.testutil.Assert;
 
 public class JsonAdaptedTaskTest {
@@ -47,6 +48,13 @@ public class JsonAdaptedTaskTest {
         assertEquals(CS2100, task.toModelType());
     }
 
+    @Test
+    public void toTrustedModelType_validTaskDetails_returnsTask() {
+        Task task = new JsonAdaptedTask(CS2100).toTrustedModelType();
+        assertEquals(CS2100, task);
+        assertEquals(CS2100.hashCode(), task.hashCode());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTask task =
@@ -1,14 +1,27 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TaskBook;
+import seedu.address.model.day.Day;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 public class JsonSerializableAddressBookTest {
 
@@ -17,10 +30,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskTaskBook.json");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskTaskBook.json");
 
+    private static final Task FIRST = new TaskBuilder().withName("First").build();
+    private static final Task SECOND = new TaskBuilder().withName("Second").build();
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
-
     @Test
     public void toModelType_invalidTaskFile_throwsIllegalValueException() throws Exception {
         JsonSerializableTaskBook dataFromFile = JsonUtil.readJsonFile(INVALID_TASK_FILE,
@@ -38,4 +53,61 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void read_trustedChecksumMatchesTasks_storedDaysUsed() throws Exception {
+        TaskBook taskBook = new TaskBookBuilder().withTask(FIRST).build();
+        TaskBook otherTaskBook = new TaskBookBuilder().withTask(FIRST).withTask(SECOND).build();
+
+        // the days of otherTaskBook are trusted as they are, so they show that no days were rebuilt
+        TaskBook fromStoredDays = read(toSerializable(taskBook, otherTaskBook, taskBook.getFingerprint()), true);
+        assertEquals(taskBook.getTaskList(), fromStoredDays.getTaskList());
+        assertEquals(toJson(otherTaskBook.getDayList()), toJson(fromStoredDays.getDayList()));
+    }
+
+    @Test
+    public void read_trustedChecksumDiffersFromTasks_daysRebuilt() throws Exception {
+        TaskBook taskBook = new TaskBookBuilder().withTask(FIRST).build();
+        TaskBook otherTaskBook = new TaskBookBuilder().withTask(FIRST).withTask(SECOND).build();
+
+        TaskBook rebuilt = read(toSerializable(taskBook, otherTaskBook, otherTaskBook.getFingerprint()), true);
+        assertEquals(toJson(taskBook.getDayList()), toJson(rebuilt.getDayList()));
+
+        // task books saved without a checksum have their days rebuilt too
+        rebuilt = read(toSerializable(taskBook, otherTaskBook, null), true);
+        assertEquals(toJson(taskBook.getDayList()), toJson(rebuilt.getDayList()));
+    }
+
+    @Test
+    public void readAndToModelType_notTrusted_daysRebuiltEvenIfChecksumMatches() throws Exception {
+        TaskBook taskBook = new TaskBookBuilder().withTask(FIRST).build();
+        TaskBook otherTaskBook = new TaskBookBuilder().withTask(FIRST).withTask(SECOND).build();
+        JsonSerializableTaskBook serializable = toSerializable(taskBook, otherTaskBook, taskBook.getFingerprint());
+
+        assertEquals(toJson(taskBook.getDayList()), toJson(read(serializable, false).getDayList()));
+        assertEquals(toJson(taskBook.getDayList()), toJson(serializable.toModelType().getDayList()));
+    }
+
+    /**
+     * Writes {@code taskBook} as JSON and reads it back with {@code JsonSerializableTaskBook#read}.
+     */
+    private static TaskBook read(JsonSerializableTaskBook taskBook, boolean isTrusted) throws Exception {
+        byte[] json = JsonUtil.toJsonString(taskBook).getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = JsonUtil.createJsonParser(new ByteArrayInputStream(json))) {
+            return JsonSerializableTaskBook.read(parser, isTrusted);
+        }
+    }
+
+    /**
+     * Returns the tasks of {@code taskBook} with the days of {@code daysTaskBook} and the given checksum.
+     */
+    private static JsonSerializableTaskBook toSerializable(TaskBook taskBook, TaskBook daysTaskBook, Long checksum) {
+        return new JsonSerializableTaskBook(
+                taskBook.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()),
+                daysTaskBook.getDayList().stream().map(JsonAdaptedDay::new).collect(Collectors.toList()),
+                checksum);
+    }
+
+    private static String toJson(List<Day> days) throws Exception {
+        return JsonUtil.toJsonString(days.stream().map(JsonAdaptedDay::new).collect(Collectors.toList()));
+    }
 }
@@ -2,14 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalTasks.CS2110;
 import static seedu.address.testutil.TypicalTasks.ENT;
 import static seedu.address.testutil.TypicalTasks.HOME;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.CRC32C;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,6 +21,8 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
 
@@ -98,6 +104,46 @@ public class JsonTaskBookStorageTest {
 
     }
 
+    @Test
+    public void saveTaskBook_typicalTaskBook_sameFormatAsJsonSerializableTaskBook() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        TaskBook original = getTypicalTaskBook();
+        new JsonTaskBookStorage(filePath).saveTaskBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTaskBook(original)), FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readTaskBook_checksumMatches_tasksNotValidatedAgain() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        JsonTaskBookStorage jsonTaskBookStorage = new JsonTaskBookStorage(filePath);
+        jsonTaskBookStorage.saveTaskBook(getTypicalTaskBook());
+        assertTrue(Files.exists(JsonTaskBookStorage.getChecksumPath(filePath)));
+
+        // an invalid description is only caught when the task is validated
+        byte[] invalidFile = FileUtil.readFromFile(filePath).replaceFirst("\"description\" : \"",
+                "\"description\" : \" ").getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, invalidFile);
+        CRC32C checksum = new CRC32C();
+        checksum.update(invalidFile, 0, invalidFile.length);
+        Files.write(JsonTaskBookStorage.getChecksumPath(filePath),
+                Long.toHexString(checksum.getValue()).getBytes(StandardCharsets.UTF_8));
+        assertEquals(getTypicalTaskBook().getTaskList().size(),
+                jsonTaskBookStorage.readTaskBook().get().getTaskList().size());
+    }
+
+    @Test
+    public void readTaskBook_checksumDoesNotMatch_tasksValidated() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskBook.json");
+        JsonTaskBookStorage jsonTaskBookStorage = new JsonTaskBookStorage(filePath);
+        jsonTaskBookStorage.saveTaskBook(getTypicalTaskBook());
+
+        // the file is edited by hand after it was saved
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replaceFirst("\"description\" : \"",
+                "\"description\" : \" "));
+        thrown.expect(DataConversionException.class);
+        jsonTaskBookStorage.readTaskBook();
+    }
+
     @Test
     public void saveTaskBook_nullTaskBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
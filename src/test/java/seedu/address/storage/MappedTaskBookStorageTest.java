@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class MappedTaskBookStorageTest {
+
+    private static final int HEADER_SLOT_COUNT = 8;
+
+    private static final Task EARLY = new TaskBuilder().withName("Early").withStartDate("01-01-19")
+            .withEndDate("02-01-19").build();
+    private static final Task MIDDLE = new TaskBuilder().withName("Middle").withStartDate("10-01-19")
+            .withEndDate("11-01-19").build();
+    private static final Task LATE = new TaskBuilder().withName("Late").withStartDate("20-01-19")
+            .withEndDate("21-01-19").build();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private MappedTaskBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("taskbook.tasks");
+        storage = new MappedTaskBookStorage(filePath);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        assertTrue(MappedTaskBookStorage.isMappedTaskBookFile(filePath));
+        assertEquals(original, new TaskBook(storage.readTaskBook().get()));
+
+        // a new instance reads the same task book from the files
+        storage.close();
+        TaskBook readBack = new TaskBook(new MappedTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_taskEdited_recordUpdatedInPlace() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        int slotCount = readSlotCount();
+
+        Task edited = new TaskBuilder(CS2110).withDescription("Edited").withTags("urgent").build();
+        taskBook.setTask(CS2110, edited);
+        storage.saveTaskBook(taskBook);
+        assertEquals(slotCount, readSlotCount());
+        assertEquals(taskBook, reopen());
+    }
+
+    @Test
+    public void saveTaskBook_taskRemovedThenAdded_slotReused() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        int slotCount = readSlotCount();
+
+        taskBook.removeTask(CS2100);
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        assertEquals(slotCount, readSlotCount());
+        TaskBook readBack = reopen();
+        assertEquals(taskBook, readBack);
+        assertEquals(taskBook.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_taskInsertedBetweenTasks_orderKept() throws Exception {
+        TaskBook taskBook = new TaskBookBuilder().withTask(CS2110).withTask(CS2100).build();
+        storage.saveTaskBook(taskBook);
+
+        TaskBook inserted = new TaskBookBuilder().withTask(CS2110).withTask(HOME).withTask(CS2100).withTask(ENT)
+                .build();
+        storage.saveTaskBook(inserted);
+        assertEquals(4, readSlotCount());
+        assertEquals(inserted.getTaskList(), reopen().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_tasksReordered_filesRewritten() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(CS2110).withTask(CS2100).withTask(HOME).build());
+
+        TaskBook reordered = new TaskBookBuilder().withTask(HOME).withTask(CS2110).build();
+        storage.saveTaskBook(reordered);
+        assertEquals(2, readSlotCount());
+        assertEquals(reordered.getTaskList(), reopen().getTaskList());
+    }
+
+    @Test
+    public void readTaskBookTouching_someTasksInRange_othersLoadedLater() throws Exception {
+        Task spanning = new TaskBuilder().withName("Spanning").withStartDate("01-01-19").withEndDate("31-01-19")
+                .build();
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(spanning)
+                .withTask(MIDDLE).build());
+        storage.close();
+
+        int middleDay = MIDDLE.getStartDate().getEpochDay();
+        TaskBook taskBook = new TaskBook(storage.readTaskBookTouching(middleDay, middleDay).get());
+        assertEquals(Arrays.asList(spanning, MIDDLE), taskBook.getTaskList());
+        assertFalse(storage.isFullyLoaded());
+
+        assertEquals(Collections.singletonList(LATE),
+                storage.loadTasksTouching(LATE.getStartDate().getEpochDay(), Integer.MAX_VALUE));
+        assertEquals(Collections.singletonList(EARLY), storage.loadTasksTouching(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertTrue(storage.isFullyLoaded());
+    }
+
+    @Test
+    public void loadTasksNamed_taskNotLoaded_onlyThatTaskLoaded() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(MIDDLE).build());
+        storage.close();
+        storage.readTaskBookTouching(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+        assertEquals(Collections.singletonList(MIDDLE), storage.loadTasksNamed(MIDDLE.getName()));
+        assertTrue(storage.loadTasksNamed(MIDDLE.getName()).isEmpty());
+        assertTrue(storage.loadTasksNamed(HOME.getName()).isEmpty());
+        assertEquals(Arrays.asList(LATE, EARLY), storage.loadTasksTouching(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void saveTaskBook_partlyRead_unloadedTasksKept() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(MIDDLE).build());
+        storage.close();
+        int middleDay = MIDDLE.getStartDate().getEpochDay();
+        TaskBook taskBook = new TaskBook(storage.readTaskBookTouching(middleDay, middleDay).get());
+
+        Task edited = new TaskBuilder(MIDDLE).withDescription("Edited").build();
+        taskBook.setTask(MIDDLE, edited);
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        assertEquals(Arrays.asList(LATE, EARLY, edited, HOME), reopen().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_partlyReadThenReordered_filesReplacedWithUnloadedTasksKept() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(EARLY).withTask(MIDDLE).withTask(LATE).build());
+        storage.close();
+        storage.readTaskBookTouching(MIDDLE.getStartDate().getEpochDay(), LATE.getStartDate().getEpochDay());
+
+        TaskBook reordered = new TaskBookBuilder().withTask(LATE).withTask(MIDDLE).build();
+        storage.saveTaskBook(reordered);
+        assertEquals(Arrays.asList(EARLY, LATE, MIDDLE), reopen().getTaskList());
+        assertFalse(Files.exists(Paths.get(filePath + MappedTaskBookStorage.TEMPORARY_FILE_SUFFIX)));
+        assertFalse(Files.exists(Paths.get(filePath + MappedTaskBookStorage.TEMPORARY_FILE_SUFFIX
+                + MappedTaskBookStorage.HEAP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveTaskBook_rewrittenAfterRead_newFilesUsedFromThenOn() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(EARLY).withTask(MIDDLE).withTask(LATE).build());
+        storage.close();
+        int middleDay = MIDDLE.getStartDate().getEpochDay();
+        storage.readTaskBookTouching(middleDay, middleDay);
+
+        // the reordered tasks cannot keep their positions, so the files are replaced while mapped
+        TaskBook taskBook = new TaskBookBuilder().withTask(MIDDLE).withTask(HOME).build();
+        storage.saveTaskBook(taskBook);
+        assertEquals(Collections.singletonList(EARLY), storage.loadTasksNamed(EARLY.getName()));
+        taskBook.addTask(EARLY);
+
+        Task edited = new TaskBuilder(MIDDLE).withDescription("Edited").build();
+        taskBook.setTask(MIDDLE, edited);
+        storage.saveTaskBook(taskBook);
+        TaskBook readBack = new TaskBook(new MappedTaskBookStorage(filePath).readTaskBook().get());
+        assertTrue(readBack.getTaskList().contains(edited));
+        assertTrue(readBack.getTaskList().containsAll(Arrays.asList(EARLY, LATE, HOME)));
+    }
+
+    @Test
+    public void saveTaskBook_moreTasksThanMapped_mappingGrown() throws Exception {
+        TaskBookBuilder builder = new TaskBookBuilder();
+        for (int i = 0; i < 1100; i++) {
+            builder.withTask(new TaskBuilder().withName("Task " + i).build());
+        }
+        TaskBook taskBook = builder.build();
+        storage.saveTaskBook(new TaskBook());
+        storage.saveTaskBook(taskBook);
+        assertEquals(taskBook.getTaskList(), reopen().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_otherPath_readBySeparateStorage() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        Path otherPath = testFolder.getRoot().toPath().resolve("other.tasks");
+        storage.saveTaskBook(original, otherPath);
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, storage.readTaskBook(otherPath).get());
+    }
+
+    @Test
+    public void readTaskBook_notMappedFile_throwsDataConversionException() throws Exception {
+        Files.write(filePath, new byte[1 << 12]);
+        thrown.expect(DataConversionException.class);
+        storage.readTaskBook();
+    }
+
+    private TaskBook reopen() throws Exception {
+        storage.close();
+        return new TaskBook(storage.readTaskBook().get());
+    }
+
+    private int readSlotCount() throws IOException {
+        storage.flushTaskBook();
+        return ByteBuffer.wrap(Files.readAllBytes(filePath)).getInt(HEADER_SLOT_COUNT);
+    }
+}
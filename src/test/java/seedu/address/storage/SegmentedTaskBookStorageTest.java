@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.NEVERSTART;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class SegmentedTaskBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path segmentDirectory;
+    private SegmentedTaskBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("taskbook.segments");
+        segmentDirectory = SegmentedTaskBookStorage.getSegmentDirectory(filePath);
+        storage = new SegmentedTaskBookStorage(filePath);
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskBook().isPresent());
+        assertTrue(storage.isFullyLoaded());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        assertTrue(Files.exists(segmentDirectory.resolve(SegmentedTaskBookStorage.getMonth(CS2110) + ".json")));
+        assertTrue(Files.exists(segmentDirectory.resolve(SegmentedTaskBookStorage.getMonth(CS2100) + ".json")));
+
+        TaskBook readBack = new TaskBook(new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_taskAdded_onlyItsSegmentRewritten() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        Path untouchedSegment = segmentDirectory.resolve(SegmentedTaskBookStorage.getMonth(CS2100) + ".json");
+        byte[] untouchedBytes = Files.readAllBytes(untouchedSegment);
+        FileTime untouchedModifiedTime = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(untouchedSegment, untouchedModifiedTime);
+
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        assertEquals(untouchedModifiedTime, Files.getLastModifiedTime(untouchedSegment));
+        assertTrue(Arrays.equals(untouchedBytes, Files.readAllBytes(untouchedSegment)));
+        assertTrue(Files.exists(segmentDirectory.resolve(SegmentedTaskBookStorage.getMonth(HOME) + ".json")));
+        assertEquals(taskBook.getTaskList(), new SegmentedTaskBookStorage(filePath).readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void readTaskBookTouching_someMonths_othersLoadedLater() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+
+        SegmentedTaskBookStorage partialStorage = new SegmentedTaskBookStorage(filePath);
+        int cs2110Day = DateUtil.toEpochDay("01-01-11");
+        TaskBook partial = new TaskBook(partialStorage.readTaskBookTouching(cs2110Day, cs2110Day).get());
+        assertEquals(2, partial.getTaskList().size());
+        assertTrue(partial.hasTask(CS2110));
+        assertFalse(partialStorage.isFullyLoaded());
+
+        // CS2100 starts in March 2003 and ends in March 2004, so its month touches a day in between
+        List<Task> loaded = partialStorage.loadTasksTouching(DateUtil.toEpochDay("01-01-04"),
+                DateUtil.toEpochDay("01-01-04"));
+        assertEquals(1, loaded.size());
+        assertEquals(CS2100, loaded.get(0));
+
+        // months are loaded only once
+        assertTrue(partialStorage.loadTasksTouching(Integer.MIN_VALUE, cs2110Day).stream()
+                .noneMatch(task -> task.equals(CS2110) || task.equals(CS2100)));
+    }
+
+    @Test
+    public void loadTasksNamed_taskInMonthNotLoaded_onlyItsMonthLoaded() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+
+        SegmentedTaskBookStorage partialStorage = new SegmentedTaskBookStorage(filePath);
+        partialStorage.readTaskBookTouching(Integer.MIN_VALUE, Integer.MIN_VALUE);
+        assertEquals(Collections.singletonList(CS2100), partialStorage.loadTasksNamed(CS2100.getName()));
+        assertTrue(partialStorage.loadTasksNamed(HOME.getName()).isEmpty());
+        assertFalse(partialStorage.isFullyLoaded());
+    }
+
+    @Test
+    public void saveTaskBook_someMonthsLoaded_otherMonthsKept() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+
+        SegmentedTaskBookStorage partialStorage = new SegmentedTaskBookStorage(filePath);
+        int cs2110Day = DateUtil.toEpochDay("01-01-11");
+        TaskBook partial = new TaskBook(partialStorage.readTaskBookTouching(cs2110Day, cs2110Day).get());
+        partial.addTask(ENT);
+        partialStorage.saveTaskBook(partial);
+
+        // ENT is stored right after the loaded tasks it was added after, ahead of the months that were not loaded
+        TaskBook readBack = new TaskBook(new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+        original.addTask(ENT);
+        assertEquals(original.getTaskList().size(), readBack.getTaskList().size());
+        assertTrue(original.getTaskList().stream().allMatch(readBack::hasTask));
+    }
+
+    @Test
+    public void saveTaskBook_lastTaskOfMonthRemoved_segmentDeleted() throws Exception {
+        TaskBook taskBook = getTypicalTaskBook();
+        storage.saveTaskBook(taskBook);
+        Path segment = segmentDirectory.resolve(SegmentedTaskBookStorage.getMonth(NEVERSTART) + ".json");
+        assertTrue(Files.exists(segment));
+
+        taskBook.removeTask(NEVERSTART);
+        storage.saveTaskBook(taskBook);
+        assertFalse(Files.exists(segment));
+        assertEquals(taskBook, new TaskBook(new SegmentedTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
+    @Test
+    public void saveTaskBook_taskInMonthNotLoaded_throwsIoException() throws Exception {
+        storage.saveTaskBook(getTypicalTaskBook());
+
+        SegmentedTaskBookStorage partialStorage = new SegmentedTaskBookStorage(filePath);
+        int cs2110Day = DateUtil.toEpochDay("01-01-11");
+        TaskBook partial = new TaskBook(partialStorage.readTaskBookTouching(cs2110Day, cs2110Day).get());
+        partial.addTask(new TaskBuilder(CS2100).withName("Another task").build());
+
+        thrown.expect(IOException.class);
+        partialStorage.saveTaskBook(partial);
+    }
+}
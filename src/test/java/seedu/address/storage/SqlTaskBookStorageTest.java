@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+import static seedu.address.testutil.TypicalTasks.ENT;
+import static seedu.address.testutil.TypicalTasks.HOME;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class SqlTaskBookStorageTest {
+
+    private static final Task EARLY = new TaskBuilder().withName("Early").withStartDate("01-01-19")
+            .withEndDate("02-01-19").build();
+    private static final Task MIDDLE = new TaskBuilder().withName("Middle").withStartDate("10-01-19")
+            .withEndDate("11-01-19").build();
+    private static final Task LATE = new TaskBuilder().withName("Late").withStartDate("20-01-19")
+            .withEndDate("21-01-19").build();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private SqlTaskBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("taskbook.db");
+        storage = new SqlTaskBookStorage(filePath);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        storage.close();
+    }
+
+    @Test
+    public void readTaskBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskBook_allInOrder_success() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        storage.saveTaskBook(original);
+        assertTrue(SqlTaskBookStorage.isSqlTaskBookFile(filePath));
+        assertEquals(TaskBookFormat.SQL, TaskBookFormat.of(filePath));
+
+        storage.close();
+        TaskBook readBack = new TaskBook(storage.readTaskBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_tasksChanged_onlyChangesWritten() throws Exception {
+        TaskBook taskBook = new TaskBookBuilder().withTask(CS2110).withTask(CS2100).build();
+        storage.saveTaskBook(taskBook);
+
+        TaskBook changed = new TaskBookBuilder().withTask(HOME)
+                .withTask(new TaskBuilder(CS2110).withDescription("Edited").withTags("urgent", "exam prep").build())
+                .withTask(ENT).build();
+        storage.saveTaskBook(changed);
+        storage.close();
+        TaskBook readBack = new TaskBook(storage.readTaskBook().get());
+        assertEquals(changed, readBack);
+        assertEquals(changed.getTaskList(), readBack.getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_tasksReordered_orderKept() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(CS2110).withTask(CS2100).withTask(HOME).build());
+
+        TaskBook reordered = new TaskBookBuilder().withTask(HOME).withTask(CS2110).build();
+        storage.saveTaskBook(reordered);
+        storage.close();
+        assertEquals(reordered.getTaskList(), storage.readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void readTaskBookTouching_someTasksInRange_othersLoadedLater() throws Exception {
+        Task spanning = new TaskBuilder().withName("Spanning").withStartDate("01-01-19").withEndDate("31-01-19")
+                .build();
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(spanning)
+                .withTask(MIDDLE).build());
+        storage.close();
+
+        int middleDay = MIDDLE.getStartDate().getEpochDay();
+        TaskBook taskBook = new TaskBook(storage.readTaskBookTouching(middleDay, middleDay).get());
+        assertEquals(Arrays.asList(spanning, MIDDLE), taskBook.getTaskList());
+        assertFalse(storage.isFullyLoaded());
+
+        assertEquals(Collections.singletonList(LATE),
+                storage.loadTasksTouching(LATE.getStartDate().getEpochDay(), Integer.MAX_VALUE));
+        assertEquals(Collections.singletonList(EARLY), storage.loadTasksTouching(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertTrue(storage.isFullyLoaded());
+    }
+
+    @Test
+    public void loadTasksNamed_taskNotLoaded_onlyThatTaskLoaded() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(MIDDLE).build());
+        storage.close();
+        storage.readTaskBookTouching(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+        assertEquals(Collections.singletonList(MIDDLE), storage.loadTasksNamed(MIDDLE.getName()));
+        assertTrue(storage.loadTasksNamed(MIDDLE.getName()).isEmpty());
+        assertTrue(storage.loadTasksNamed(HOME.getName()).isEmpty());
+        assertEquals(Arrays.asList(LATE, EARLY), storage.loadTasksTouching(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void saveTaskBook_partlyRead_unloadedTasksKept() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(EARLY).withTask(MIDDLE).build());
+        storage.close();
+        int middleDay = MIDDLE.getStartDate().getEpochDay();
+        TaskBook taskBook = new TaskBook(storage.readTaskBookTouching(middleDay, middleDay).get());
+
+        Task edited = new TaskBuilder(MIDDLE).withDescription("Edited").build();
+        taskBook.setTask(MIDDLE, edited);
+        taskBook.addTask(HOME);
+        storage.saveTaskBook(taskBook);
+        storage.close();
+        assertEquals(Arrays.asList(LATE, EARLY, edited, HOME), storage.readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_partlyReadThenReordered_unloadedTasksKeptInPlace() throws Exception {
+        storage.saveTaskBook(new TaskBookBuilder().withTask(EARLY).withTask(MIDDLE).withTask(LATE).build());
+        storage.close();
+        storage.readTaskBookTouching(MIDDLE.getStartDate().getEpochDay(), LATE.getStartDate().getEpochDay());
+
+        storage.saveTaskBook(new TaskBookBuilder().withTask(LATE).withTask(MIDDLE).build());
+        storage.close();
+        assertEquals(Arrays.asList(EARLY, LATE, MIDDLE), storage.readTaskBook().get().getTaskList());
+    }
+
+    @Test
+    public void saveTaskBook_otherPath_readBySeparateStorage() throws Exception {
+        TaskBook original = getTypicalTaskBook();
+        Path otherPath = testFolder.getRoot().toPath().resolve("other.db");
+        storage.saveTaskBook(original, otherPath);
+        assertEquals(original, storage.readTaskBook(otherPath).get());
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ENT;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -12,6 +16,9 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.AccountList;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
 import seedu.address.model.UserPrefs;
@@ -63,6 +70,50 @@ public class StorageManagerTest {
         assertEquals(original, new TaskBook(retrieved));
     }
 
+    @Test
+    public void saveTaskBook_segmentedWithMonthsNotLoaded_backupRestoresEveryMonth() throws Exception {
+        Path filePath = getTempFilePath("taskbook.segments");
+        TaskBook original = getTypicalTaskBook();
+        new SegmentedTaskBookStorage(filePath).saveTaskBook(original);
+
+        SegmentedTaskBookStorage segmentedStorage = new SegmentedTaskBookStorage(filePath);
+        BackupManager backupManager = new BackupManager(getTempFilePath("backups"), 0);
+        StorageManager segmentedStorageManager = new StorageManager(segmentedStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonAccountListStorage(getTempFilePath("al")),
+                backupManager);
+        int cs2110Day = DateUtil.toEpochDay("01-01-11");
+        ModelManager model = new ModelManager(segmentedStorage.readTaskBookTouching(cs2110Day, cs2110Day).get(),
+                new UserPrefs(), new AccountList(), segmentedStorage);
+        model.addTask(ENT);
+        segmentedStorageManager.saveTaskBook(model.getTaskBook());
+        Path backup = backupManager.backUpNow().get();
+        backupManager.close();
+
+        // restoring loads the months not loaded yet, then replaces every month with the backup
+        model.setTaskBook(BackupManager.readBackup(backup));
+        segmentedStorageManager.saveTaskBook(model.getTaskBook());
+
+        original.addTask(ENT);
+        TaskBook readBack = new TaskBook(new SegmentedTaskBookStorage(filePath).readTaskBook().get());
+        assertEquals(original.getTaskList().size(), readBack.getTaskList().size());
+        assertTrue(original.getTaskList().stream().allMatch(readBack::hasTask));
+    }
+
+    @Test
+    public void saveTaskBook_writeBehindStorage_saveDeferredUntilFlush() throws Exception {
+        Path filePath = getTempFilePath("deferred.json");
+        WriteBehindTaskBookStorage taskBookStorage =
+                new WriteBehindTaskBookStorage(new JsonTaskBookStorage(filePath), 60_000);
+        StorageManager writeBehindStorageManager = new StorageManager(taskBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonAccountListStorage(getTempFilePath("al")));
+        TaskBook original = getTypicalTaskBook();
+        writeBehindStorageManager.saveTaskBook(original);
+        assertFalse(Files.exists(filePath));
+
+        writeBehindStorageManager.flushTaskBook();
+        assertEquals(original, new TaskBook(new JsonTaskBookStorage(filePath).readTaskBook().get()));
+    }
+
     @Test
     public void getTaskBookFilePath() {
         assertNotNull(storageManager.getTaskBookFilePath());
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Compares the time to save and load a large task book, and the size of its file, in every {@code TaskBookFormat}.
+ * Also times loading the JSON file with full validation, as when its checksum does not match.
+ * Run with {@code gradlew benchmark}, optionally passing the number of tasks with {@code -Ptasks=N}.
+ */
+public class TaskBookStorageBenchmark {
+
+    private static final int DEFAULT_TASK_COUNT = 50_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final String[] CATEGORIES = {"a", "c", "e", "r", "o"};
+    private static final List<String> TAGS = Arrays.asList("CS2113", "CS2101", "CS2100", "urgent", "weekly");
+
+    public static void main(String[] args) throws Exception {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASK_COUNT;
+        TaskBook taskBook = createTaskBook(taskCount);
+        Path folder = Files.createTempDirectory("taskbook-benchmark");
+
+        System.out.println(String.format("%,d tasks", taskCount));
+        System.out.println(String.format("%-8s %12s %12s %12s", "Format", "Save (ms)", "Load (ms)", "Size (KB)"));
+        for (TaskBookFormat format : TaskBookFormat.values()) {
+            Path filePath = folder.resolve("taskbook" + format.extension);
+            TaskBookStorage storage = format.createStorage(filePath);
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                storage.saveTaskBook(taskBook);
+                storage.readTaskBook();
+            }
+
+            long saveNanos = 0;
+            long loadNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                storage.saveTaskBook(taskBook);
+                saveNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                ReadOnlyTaskBook loaded = storage.readTaskBook().get();
+                loadNanos += System.nanoTime() - start;
+                if (loaded.getTaskList().size() != taskCount) {
+                    throw new AssertionError(format + " loaded " + loaded.getTaskList().size() + " tasks");
+                }
+            }
+
+            if (storage instanceof Closeable) {
+                ((Closeable) storage).close();
+            }
+
+            // Formats may keep more than one file, such as the text heap of the mapped format.
+            long size = deleteContents(folder);
+            System.out.println(String.format("%-8s %12.1f %12.1f %12d", format,
+                    saveNanos / 1e6 / MEASURED_ROUNDS, loadNanos / 1e6 / MEASURED_ROUNDS, size / 1024));
+        }
+
+        // A JSON file without its checksum has every task validated, as for a file edited by hand.
+        Path jsonPath = folder.resolve("taskbook" + TaskBookFormat.JSON.extension);
+        JsonTaskBookStorage jsonStorage = new JsonTaskBookStorage(jsonPath);
+        jsonStorage.saveTaskBook(taskBook);
+        Files.delete(JsonTaskBookStorage.getChecksumPath(jsonPath));
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            jsonStorage.readTaskBook();
+        }
+        long validatedLoadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            jsonStorage.readTaskBook();
+            validatedLoadNanos += System.nanoTime() - start;
+        }
+        long size = deleteContents(folder);
+        System.out.println(String.format("%-8s %12s %12.1f %12d", "JSON*", "-",
+                validatedLoadNanos / 1e6 / MEASURED_ROUNDS, size / 1024));
+        System.out.println("* JSON without its checksum, so every task is validated");
+        Files.delete(folder);
+    }
+
+    /**
+     * Deletes everything in {@code folder} and returns the total size of the deleted files.
+     */
+    private static long deleteContents(Path folder) throws IOException {
+        long size = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                if (Files.isDirectory(file)) {
+                    size += deleteContents(file);
+                } else {
+                    size += Files.size(file);
+                }
+                Files.delete(file);
+            }
+        }
+        return size;
+    }
+
+    private static TaskBook createTaskBook(int taskCount) {
+        TaskBook taskBook = new TaskBook();
+        for (int i = 0; i < taskCount; i++) {
+            int day = i % 28 + 1;
+            int month = i / 28 % 12 + 1;
+            String date = String.format("%02d-%02d-%02d", day, month, 19 + i / 336 % 10);
+            taskBook.addTask(new TaskBuilder()
+                    .withName("Task " + i)
+                    .withStartDate(date)
+                    .withStartTime(String.format("%02d.%02d", i % 12, i % 60))
+                    .withEndDate(date)
+                    .withEndTime(String.format("%02d.%02d", 12 + i % 12, i % 60))
+                    .withDescription("Description of task " + i)
+                    .withCategory(CATEGORIES[i % CATEGORIES.length])
+                    .withTags(TAGS.get(i % TAGS.size()), TAGS.get((i + 1) % TAGS.size()))
+                    .build());
+        }
+        return taskBook;
+    }
+}
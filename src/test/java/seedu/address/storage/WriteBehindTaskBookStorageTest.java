@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2110;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBookBuilder;
+
+public class WriteBehindTaskBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TaskBookStorageStub stub = new TaskBookStorageStub();
+
+    @Test
+    public void saveTaskBook_burstOfChanges_savedOnce() throws Exception {
+        WriteBehindTaskBookStorage storage = new WriteBehindTaskBookStorage(stub, 60_000);
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(CS2110);
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(CS2100);
+        storage.saveTaskBook(taskBook);
+        taskBook.removeTask(CS2110);
+        storage.saveTaskBook(taskBook);
+
+        storage.flushTaskBook();
+        assertEquals(1, stub.savedTasks.size());
+        assertEquals(Collections.singletonList(CS2100), stub.savedTasks.get(0));
+    }
+
+    @Test
+    public void saveTaskBook_changedAfterSave_savedCopyUnchanged() throws Exception {
+        WriteBehindTaskBookStorage storage = new WriteBehindTaskBookStorage(stub, 60_000);
+        TaskBook taskBook = new TaskBookBuilder().withTask(CS2110).build();
+        storage.saveTaskBook(taskBook);
+        taskBook.addTask(CS2100);
+
+        storage.flushTaskBook();
+        assertEquals(Collections.singletonList(CS2110), stub.savedTasks.get(0));
+    }
+
+    @Test
+    public void flushTaskBook_nothingToSave_nothingSaved() throws Exception {
+        new WriteBehindTaskBookStorage(stub, 0).flushTaskBook();
+        assertEquals(0, stub.savedTasks.size());
+    }
+
+    @Test
+    public void flushTaskBook_saveFailed_throwsIoExceptionAndRetriesOnNextFlush() throws Exception {
+        WriteBehindTaskBookStorage storage = new WriteBehindTaskBookStorage(stub, 60_000);
+        stub.failuresLeft = 1;
+        storage.saveTaskBook(new TaskBookBuilder().withTask(CS2110).build());
+        try {
+            storage.flushTaskBook();
+            throw new AssertionError("IOException was not thrown.");
+        } catch (IOException e) {
+            assertEquals(TaskBookStorageStub.FAILURE_MESSAGE, e.getMessage());
+        }
+
+        storage.flushTaskBook();
+        assertEquals(Collections.singletonList(Collections.singletonList(CS2110)), stub.savedTasks);
+    }
+
+    @Test
+    public void saveTaskBook_saveFailed_retriedWithoutAnotherSave() throws Exception {
+        WriteBehindTaskBookStorage storage = new WriteBehindTaskBookStorage(stub, 0);
+        stub.failuresLeft = 1;
+        storage.saveTaskBook(new TaskBookBuilder().withTask(CS2110).build());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (stub.getSaveCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(1, stub.getSaveCount());
+        // the retry succeeded, so the failure is not reported
+        storage.flushTaskBook();
+        assertEquals(Collections.singletonList(Collections.singletonList(CS2110)), stub.savedTasks);
+    }
+
+    @Test
+    public void constructor_negativeStaleness_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new WriteBehindTaskBookStorage(stub, -1);
+    }
+
+    /**
+     * A {@code TaskBookStorage} that keeps the tasks of every task book saved to it.
+     */
+    private static class TaskBookStorageStub implements TaskBookStorage {
+        private static final String FAILURE_MESSAGE = "dummy exception";
+
+        private final List<List<Task>> savedTasks = new ArrayList<>();
+        private int failuresLeft = 0;
+
+        @Override
+        public Path getTaskBookFilePath() {
+            return Paths.get("taskbook.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskBook> readTaskBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        synchronized int getSaveCount() {
+            return savedTasks.size();
+        }
+
+        @Override
+        public synchronized void saveTaskBook(ReadOnlyTaskBook taskBook) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException(FAILURE_MESSAGE);
+            }
+            savedTasks.add(new ArrayList<>(taskBook.getTaskList()));
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void backupTaskBook(ReadOnlyTaskBook taskBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flushTaskBook() {}
+    }
+}